@@ -38,11 +38,12 @@ public class GroupBy {
     @Setup
     public void setUp() {
 
-        df = DataFrame.byColumn("e0", "c0", "c1", "c2").of(
+        df = DataFrame.byColumn("e0", "c0", "c1", "c2", "p0").of(
                 ValueMaker.randomIntSeq(groups).series(rows),
                 ValueMaker.intSeq().series(rows),
                 ValueMaker.intSeq().series(rows),
-                ValueMaker.reverseIntSeq().series(rows)
+                ValueMaker.reverseIntSeq().series(rows),
+                ValueMaker.randomIntSeq(groups).intSeries(rows)
         );
         gb = df.group("e0");
     }
@@ -52,6 +53,11 @@ public class GroupBy {
         return df.group("e0");
     }
 
+    @Benchmark
+    public Object groupByIntColumn() {
+        return df.group("p0");
+    }
+
     @Benchmark
     public Object aggSumByName() {
         return gb.agg($int("e0").sum())
@@ -0,0 +1,84 @@
+package org.dflib.benchmark.speed;
+
+import org.dflib.DataFrame;
+import org.dflib.Environment;
+import org.dflib.benchmark.ValueMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.dflib.Exp.$int;
+
+/**
+ * Measures how "GroupBy.agg" with many expressions scales with the number of threads. Uses aggregations that are
+ * calculated per group DataFrame, so that the parallel tasks share the lazily materialized group columns.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class GroupByAggParallel {
+
+    @Param("1000000")
+    public int rows;
+
+    @Param("500")
+    public int groups;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private org.dflib.GroupBy gb;
+
+    @Setup
+    public void setUp() {
+
+        pool = new ForkJoinPool(threads);
+        Environment.setThreadPool(pool);
+
+        DataFrame df = DataFrame.byColumn("e0", "c0", "c1", "c2").of(
+                ValueMaker.randomIntSeq(groups).series(rows),
+                ValueMaker.intSeq().series(rows),
+                ValueMaker.randomIntSeq(1000).series(rows),
+                ValueMaker.reverseIntSeq().series(rows)
+        );
+        gb = df.group("e0");
+    }
+
+    @TearDown
+    public void tearDown() {
+        Environment.setThreadPool(ForkJoinPool.commonPool());
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Object agg8() {
+
+        // a fresh GroupBy for each run, as the group DataFrames are cached
+        return gb.head(rows).agg(
+                $int("c0").median(),
+                $int("c1").median(),
+                $int("c2").median(),
+                $int("c0").quantile(0.9),
+                $int("c1").quantile(0.9),
+                $int("c2").quantile(0.9),
+                $int("c0").sum($int("c1").gt(500)),
+                $int("c2").sum($int("c1").lt(500))
+        ).materialize().iterator();
+    }
+}
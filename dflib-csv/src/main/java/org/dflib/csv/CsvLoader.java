@@ -4,6 +4,7 @@ import org.apache.commons.csv.CSVFormat;
 import org.dflib.ByteSource;
 import org.dflib.ByteSources;
 import org.dflib.DataFrame;
+import org.dflib.Environment;
 import org.dflib.RowPredicate;
 import org.dflib.ValueMapper;
 import org.dflib.codec.Codec;
@@ -265,6 +266,52 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Configures a CSV column to be loaded without conversion (as a String), and stored dictionary-encoded as a
+     * {@link org.dflib.series.DictionarySeries}. Saves more memory than {@link #compactCol(int)} for low-cardinality
+     * columns, and speeds up grouping, joins and comparisons on the column.
+     *
+     * @since 2.0.0
+     */
+    public CsvLoader dictionaryCol(int column) {
+        this.configBuilder.column(CsvColumnMapping.column(column).dictionary());
+        return this;
+    }
+
+    /**
+     * Configures a CSV column to be loaded without conversion (as a String), and stored dictionary-encoded as a
+     * {@link org.dflib.series.DictionarySeries}. Saves more memory than {@link #compactCol(String)} for
+     * low-cardinality columns, and speeds up grouping, joins and comparisons on the column.
+     *
+     * @since 2.0.0
+     */
+    public CsvLoader dictionaryCol(String column) {
+        this.configBuilder.column(CsvColumnMapping.column(column).dictionary());
+        return this;
+    }
+
+    /**
+     * Configures a CSV column to be loaded with the specified conversion, and with converted values stored
+     * dictionary-encoded as a {@link org.dflib.series.DictionarySeries}.
+     *
+     * @since 2.0.0
+     */
+    public CsvLoader dictionaryCol(int column, ValueMapper<String, ?> mapper) {
+        this.configBuilder.column(CsvColumnMapping.column(column).mapper(mapper).dictionary());
+        return this;
+    }
+
+    /**
+     * Configures a CSV column to be loaded with the specified conversion, and with converted values stored
+     * dictionary-encoded as a {@link org.dflib.series.DictionarySeries}.
+     *
+     * @since 2.0.0
+     */
+    public CsvLoader dictionaryCol(String column, ValueMapper<String, ?> mapper) {
+        this.configBuilder.column(CsvColumnMapping.column(column).mapper(mapper).dictionary());
+        return this;
+    }
+
     /**
      * Set format override for the column
      * @see CsvFormat#columnFormat()
@@ -415,19 +462,33 @@ public class CsvLoader {
 
     /**
      * Instructs the loader to convert values in the specified column to numbers of the specified type. This method will
-     * result in "object" columns (and hence can store nulls). If you want a column with primitive numbers, use methods
-     * like {@link #intCol(int)}, etc. instead.
+     * result in "object" columns (and hence can store nulls). Integer, Long and Double columns are stored as primitives
+     * with a bitmap of nulls (see {@link org.dflib.series.IntNullableSeries}, etc.). If you want a column with primitive
+     * numbers and no nulls, use methods like {@link #intCol(int)}, etc. instead.
      */
     public CsvLoader numCol(int column, Class<? extends Number> type) {
+        CsvColumnType primitiveType = nullablePrimitiveType(type);
+        if (primitiveType != null) {
+            this.configBuilder.column(CsvColumnMapping.column(column).type(primitiveType).nullable(true).keepNulls());
+            return this;
+        }
+
         return col(column, numericMapper(type));
     }
 
     /**
      * Instructs the loader to convert values in the specified column to numbers of the specified type. This method will
-     * result in "object" columns (and hence can store nulls). If you want a column with primitive numbers, use methods
-     * like {@link #intCol(String)}, etc. instead.
+     * result in "object" columns (and hence can store nulls). Integer, Long and Double columns are stored as primitives
+     * with a bitmap of nulls (see {@link org.dflib.series.IntNullableSeries}, etc.). If you want a column with primitive
+     * numbers and no nulls, use methods like {@link #intCol(String)}, etc. instead.
      */
     public CsvLoader numCol(String column, Class<? extends Number> type) {
+        CsvColumnType primitiveType = nullablePrimitiveType(type);
+        if (primitiveType != null) {
+            this.configBuilder.column(CsvColumnMapping.column(column).type(primitiveType).nullable(true).keepNulls());
+            return this;
+        }
+
         return col(column, numericMapper(type));
     }
 
@@ -534,6 +595,31 @@ public class CsvLoader {
         return this;
     }
 
+    /**
+     * Enables parallel loading of large local files, with the parallelism matching the size of the {@link Environment}
+     * thread pool.
+     *
+     * @see #parallel(int)
+     * @since 2.0.0
+     */
+    public CsvLoader parallel() {
+        return parallel(Environment.commonEnv().threadPoolParallelism());
+    }
+
+    /**
+     * Enables parallel loading of large local files. A file is split into up to "parallelism" byte ranges aligned on
+     * line breaks, that are parsed in the {@link Environment} thread pool, and then combined in a single DataFrame.
+     * This mode assumes that the CSV values do not contain line breaks (e.g., multi-line quoted values), and should
+     * not be used otherwise. Compressed files, non-file sources, small files and the loaders configured with an
+     * offset, a limit or a sampling, are loaded sequentially regardless of this setting.
+     *
+     * @since 2.0.0
+     */
+    public CsvLoader parallel(int parallelism) {
+        this.configBuilder.parallelism(parallelism);
+        return this;
+    }
+
     public DataFrame load(Path filePath) {
         return load(ByteSource.ofPath(filePath));
     }
@@ -564,6 +650,19 @@ public class CsvLoader {
         return srcs.process((name, src) -> load(src));
     }
 
+    private static CsvColumnType nullablePrimitiveType(Class<? extends Number> type) {
+        if (Integer.class.equals(type)) {
+            return CsvColumnType.INTEGER;
+        }
+        if (Long.class.equals(type)) {
+            return CsvColumnType.LONG;
+        }
+        if (Double.class.equals(type)) {
+            return CsvColumnType.DOUBLE;
+        }
+        return null;
+    }
+
     private ValueMapper<String, ?> numericMapper(Class<? extends Number> type) {
         if (Integer.class.equals(type)) {
             return ValueMapper.stringToInt();
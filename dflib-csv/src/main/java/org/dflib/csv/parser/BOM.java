@@ -8,6 +8,8 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
 
 class BOM {
@@ -43,6 +45,18 @@ class BOM {
         return new InputStreamReader(finalIn, encoding);
     }
 
+    /**
+     * Returns the number of BOM bytes at the start of the file, or zero if the file doesn't start with a BOM.
+     *
+     * @since 2.0.0
+     */
+    static int length(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            BOM bom = check(in);
+            return bom.isBom ? bom.len : 0;
+        }
+    }
+
     public static BOM check(InputStream in) throws IOException {
 
         byte[] bytes = new byte[MAX_BYTES];
@@ -0,0 +1,307 @@
+package org.dflib.csv.parser;
+
+import org.dflib.DataFrame;
+import org.dflib.Environment;
+import org.dflib.Series;
+import org.dflib.csv.parser.format.CsvColumnMapping;
+import org.dflib.csv.parser.format.CsvParserConfig;
+import org.dflib.csv.parser.format.LineBreak;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A parser of large local CSV files that splits a file into byte ranges aligned on line breaks, parses each range in
+ * the {@link Environment} thread pool with its own context and DataFrame builder, and concatenates the resulting
+ * columns. The columns are resolved upfront from the first CSV row, so the chunks other than the first one are
+ * parsed as pure data. This only produces correct results if the CSV values do not contain line breaks.
+ *
+ * @since 2.0.0
+ */
+class ChunkedCsvParser {
+
+    /**
+     * Minimal size of a chunk. Smaller files are parsed sequentially.
+     */
+    static final long MIN_CHUNK_SIZE = 1024 * 1024; // 1mb
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final CsvParserConfig config;
+    private final long minChunkSize;
+
+    ChunkedCsvParser(CsvParserConfig config) {
+        this(config, MIN_CHUNK_SIZE);
+    }
+
+    ChunkedCsvParser(CsvParserConfig config, long minChunkSize) {
+        this.config = config;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /**
+     * Parses the file in parallel chunks, returning null if the file can not be split, and needs to be parsed
+     * sequentially.
+     */
+    DataFrame parse(Path file) {
+
+        if (!canSplit()) {
+            return null;
+        }
+
+        try {
+            int chunks = (int) Math.min(config.parallelism(), Files.size(file) / minChunkSize);
+            return chunks > 1 ? parse(file, chunks) : null;
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading source: " + file, e);
+        }
+    }
+
+    private boolean canSplit() {
+
+        // offset, limit and sampling are defined relative to the whole file row sequence
+        if (config.offset() > 0 || config.limit() >= 0 || config.rowSampleSize() > 0) {
+            return false;
+        }
+
+        if (config.csvFormat().lineBreak() == LineBreak.CR) {
+            return false;
+        }
+
+        // "\n" byte must never be a part of a multibyte char
+        Charset encoding = config.encoding();
+        return StandardCharsets.UTF_8.equals(encoding) || encoding.newEncoder().maxBytesPerChar() == 1f;
+    }
+
+    private DataFrame parse(Path path, int chunks) throws IOException {
+
+        long[] bounds = splitAtLineBreaks(path, chunks);
+        int len = bounds.length - 1;
+        if (len < 2) {
+            return null;
+        }
+
+        CsvParser headerParser = new CsvParser(config);
+        List<CsvColumnMapping> columns;
+        try (Reader in = reader(path, 0, bounds[1])) {
+            columns = headerParser.parseColumns(in);
+        }
+
+        if (columns == null) {
+            return null;
+        }
+
+        int csvWidth = headerParser.csvWidth;
+
+        ExecutorService pool = Environment.commonEnv().threadPool();
+        Future<DataFrame>[] tasks = new Future[len];
+
+        // the first chunk includes the header and is parsed as a regular CSV
+        tasks[0] = pool.submit(() -> parseFirstChunk(path, bounds[1]));
+        for (int i = 1; i < len; i++) {
+            long from = bounds[i];
+            long to = bounds[i + 1];
+            tasks[i] = pool.submit(() -> parseChunk(path, from, to, columns, csvWidth));
+        }
+
+        DataFrame[] parts = new DataFrame[len];
+        for (int i = 0; i < len; i++) {
+            parts[i] = get(tasks[i]);
+        }
+
+        return concat(parts);
+    }
+
+    private DataFrame parseFirstChunk(Path path, long to) throws IOException {
+        CsvParser parser = new CsvParser(config);
+        try (Reader in = reader(path, 0, to)) {
+            return parser.parse(in);
+        }
+    }
+
+    private DataFrame parseChunk(Path path, long from, long to, List<CsvColumnMapping> columns, int csvWidth)
+            throws IOException {
+
+        CsvParser parser = new CsvParser(config);
+        try (Reader in = reader(path, from, to)) {
+            return parser.parseRows(in, columns, csvWidth);
+        }
+    }
+
+    private static DataFrame concat(DataFrame[] parts) {
+
+        int w = parts[0].width();
+        int len = parts.length;
+
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+
+            Series[] chunkColumns = new Series[len];
+            for (int j = 0; j < len; j++) {
+                chunkColumns[j] = parts[j].getColumn(i);
+            }
+
+            columns[i] = Series.union(chunkColumns);
+        }
+
+        return DataFrame.byColumn(parts[0].getColumnsIndex()).of(columns);
+    }
+
+    /**
+     * Returns chunk boundaries as an array of byte offsets, starting with 0 and ending with the file size. Each
+     * internal boundary is located right after a "\n" byte. May return fewer chunks than requested, if the file
+     * contains too few lines.
+     */
+    private static long[] splitAtLineBreaks(Path path, int chunks) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+            long[] bounds = new long[chunks + 1];
+            int len = 1;
+
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            for (int i = 1; i < chunks; i++) {
+
+                long target = Math.max(size * i / chunks, bounds[len - 1]);
+                long bound = nextLineStart(channel, buffer, target);
+                if (bound >= size) {
+                    break;
+                }
+
+                if (bound > bounds[len - 1]) {
+                    bounds[len++] = bound;
+                }
+            }
+
+            bounds[len++] = size;
+
+            long[] result = new long[len];
+            System.arraycopy(bounds, 0, result, 0, len);
+            return result;
+        }
+    }
+
+    /**
+     * Creates a reader of a byte range of the file. If the range starts at the beginning of the file, skips the byte
+     * order mark, if configured to check for it.
+     */
+    private Reader reader(Path path, long from, long to) throws IOException {
+        long start = from == 0 && config.checkByteOrderMark() ? BOM.length(path) : from;
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            channel.position(start);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        return new InputStreamReader(new RangeInputStream(Channels.newInputStream(channel), to - start), config.encoding());
+    }
+
+    private static long nextLineStart(FileChannel channel, ByteBuffer buffer, long from) throws IOException {
+
+        long position = from;
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < read; i++) {
+                if (bytes[i] == '\n') {
+                    return position + i + 1;
+                }
+            }
+
+            position += read;
+        }
+    }
+
+    private static <T> T get(Future<T> task) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            // rethrow parsing exceptions as is, to be consistent with the sequential parser
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * An InputStream that reads no more than the specified number of bytes from the underlying stream.
+     */
+    private static class RangeInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        RangeInputStream(InputStream in, long len) {
+            super(in);
+            this.remaining = len;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
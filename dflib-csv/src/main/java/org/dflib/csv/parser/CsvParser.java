@@ -38,6 +38,10 @@ public class CsvParser {
     DataFrameBuilder dfBuilder;
     CsvColumnsBuilder columnsBuilder;
 
+    // columns resolved from the first CSV row and the actual CSV width
+    List<CsvColumnMapping> columns;
+    int csvWidth;
+
     /**
      * Creates a new parser with the default format.
      */
@@ -71,6 +75,15 @@ public class CsvParser {
                 ? config.compressionCodec()
                 : Codec.ofUri(src.uri().orElse("")).orElse(null);
 
+        // only uncompressed files can be split in chunks at arbitrary positions
+        Path file = codec == null ? localFile(src) : null;
+        if (file != null && config.parallelism() > 1) {
+            DataFrame df = new ChunkedCsvParser(config).parse(file);
+            if (df != null) {
+                return df;
+            }
+        }
+
         ByteSource plainSrc = codec != null ? src.decompress(codec) : src;
 
         try (Reader in = createReader(plainSrc)) {
@@ -80,6 +93,10 @@ public class CsvParser {
         }
     }
 
+    private static Path localFile(ByteSource src) {
+        return src.uri().map(File::new).filter(File::isFile).map(File::toPath).orElse(null);
+    }
+
     private Reader createReader(ByteSource src) throws IOException {
         return config.checkByteOrderMark()
                 ? BOM.reader(src, config.encoding())
@@ -107,6 +124,35 @@ public class CsvParser {
         return dfBuilder.buildDataFrame();
     }
 
+    /**
+     * Parses the CSV up to and including the first row, only resolving the columns. Returns the resolved columns, or
+     * null if the CSV is empty.
+     */
+    List<CsvColumnMapping> parseColumns(Reader reader) {
+        this.columnsBuilder = new CsvColumnsBuilder();
+        this.context = new ParserContext();
+        this.ruleFlow = new ParserRuleFlow(config, context);
+        this.dfBuilder = new DataFrameBuilder(config);
+        this.context.setCallback(new ColumnDetectionCallback(
+                buildListener().andThen(slices -> context.requestStop()),
+                config.csvFormat().trailingDelimiter()));
+        new CsvScanner(context, ruleFlow).scan(reader);
+        return columns;
+    }
+
+    /**
+     * Parses CSV data rows using the previously resolved columns. The reader must be positioned at the start of a row,
+     * and the CSV header (if any) is not expected in it.
+     */
+    DataFrame parseRows(Reader reader, List<CsvColumnMapping> columns, int csvWidth) {
+        this.context = new ParserContext();
+        this.ruleFlow = new ParserRuleFlow(config, context);
+        this.dfBuilder = new DataFrameBuilder(config);
+        initColumns(columns, csvWidth);
+        new CsvScanner(context, ruleFlow).scan(reader);
+        return dfBuilder.buildDataFrame();
+    }
+
     /**
      * Builds column detection listener.
      * @return listener based on the format settings.
@@ -148,7 +194,13 @@ public class CsvParser {
                 }
             }
         }
-        List<CsvColumnMapping> fullWidthColumns = columnsBuilder.build(config);
+        initColumns(columnsBuilder.build(config), csvWidth);
+    }
+
+    private void initColumns(List<CsvColumnMapping> fullWidthColumns, int csvWidth) {
+        this.columns = fullWidthColumns;
+        this.csvWidth = csvWidth;
+
         List<CsvColumnMapping> trimmedToWidthColumns = fullWidthColumns.subList(0, csvWidth);
         this.ruleFlow.initColumns(trimmedToWidthColumns);
         this.context.initRowBuffer(csvWidth, config.csvFormat().allowEmptyColumns());
@@ -58,6 +58,15 @@ public class ParserContext implements RuleContext {
         return stopRequested;
     }
 
+    /**
+     * Requests the scanner to stop reading further input after the current rule.
+     *
+     * @since 2.0.0
+     */
+    public void requestStop() {
+        this.stopRequested = true;
+    }
+
     public void initRowBuffer(int columnCount, boolean allowEmptyColumns) {
         this.rowSlices = new DataSlice[columnCount];
         for (int i = 0; i < columnCount; i++) {
@@ -9,10 +9,12 @@ public class CsvColumnMapping {
     String name;
     boolean skip;
     boolean compact;
+    boolean dictionary;
     CsvColumnType type;
     boolean typeDefined;
     boolean nullable;
     boolean nullableDefined;
+    boolean keepNulls;
     Object defaultValue;
     ValueMapper<String, ?> mapper;
 
@@ -22,11 +24,13 @@ public class CsvColumnMapping {
         this.name = builder.name;
         this.skip = builder.skip;
         this.compact = builder.compact;
+        this.dictionary = builder.dictionary;
         this.type = builder.type;
         this.typeDefined = builder.typeDefined;
         this.mapper = builder.mapper;
         this.nullable = builder.nullable;
         this.nullableDefined = builder.nullableDefined;
+        this.keepNulls = builder.keepNulls;
         this.defaultValue = builder.defaultValue;
     }
 
@@ -76,6 +80,25 @@ public class CsvColumnMapping {
         return compact;
     }
 
+    /**
+     * Returns whether the column values are stored dictionary-encoded.
+     *
+     * @since 2.0.0
+     */
+    public boolean dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns whether nulls in a primitive column with no default value should be stored as nulls (in a nullable
+     * primitive Series) instead of causing an error.
+     *
+     * @since 2.0.0
+     */
+    public boolean keepNulls() {
+        return keepNulls;
+    }
+
     /**
      * Returns target column type.
      */
@@ -109,11 +132,13 @@ public class CsvColumnMapping {
         String name;
         boolean skip;
         boolean compact;
+        boolean dictionary;
         CsvColumnType type;
         boolean typeDefined;
         ValueMapper<String, ?> mapper;
         boolean nullableDefined;
         boolean nullable;
+        boolean keepNulls;
         Object defaultValue;
 
         Builder() {
@@ -151,6 +176,9 @@ public class CsvColumnMapping {
             if (with.compact) {
                 compact();
             }
+            if (with.dictionary) {
+                dictionary();
+            }
             if (with.typeDefined) {
                 type(with.type);
             }
@@ -160,6 +188,9 @@ public class CsvColumnMapping {
             if (with.nullableDefined) {
                 nullableWithDefault(with.nullable, with.defaultValue);
             }
+            if (with.keepNulls) {
+                keepNulls();
+            }
 
             return this;
         }
@@ -214,6 +245,16 @@ public class CsvColumnMapping {
             return this;
         }
 
+        /**
+         * Enables dictionary encoding of the column values.
+         *
+         * @since 2.0.0
+         */
+        public Builder dictionary() {
+            this.dictionary = true;
+            return this;
+        }
+
         public Builder format(CsvColumnFormat format) {
             this.format = format;
             return this;
@@ -240,6 +281,16 @@ public class CsvColumnMapping {
             return nullable(nullable);
         }
 
+        /**
+         * Enables storing nulls of a primitive column with no default value in a nullable primitive Series.
+         *
+         * @since 2.0.0
+         */
+        public Builder keepNulls() {
+            this.keepNulls = true;
+            return this;
+        }
+
         /**
          * Builds immutable {@link CsvColumnFormat}.
          */
@@ -37,6 +37,8 @@ public class CsvParserConfig {
     final int rowSampleSize;
     final Random rowsSampleRandom;
 
+    // execution options
+    final int parallelism;
 
     CsvParserConfig(Builder builder, CsvFormat format, List<CsvColumnMapping> columnFormats) {
         this.csvFormat = format;
@@ -56,6 +58,8 @@ public class CsvParserConfig {
         this.rowCondition = builder.rowCondition;
         this.rowSampleSize = builder.rowSampleSize;
         this.rowsSampleRandom = builder.rowsSampleRandom;
+
+        this.parallelism = builder.parallelism;
     }
 
     /**
@@ -154,6 +158,16 @@ public class CsvParserConfig {
         return mappings;
     }
 
+    /**
+     * Returns the max number of chunks of a file that can be parsed in parallel. "1" means the file is always parsed
+     * sequentially.
+     *
+     * @since 2.0.0
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
     public static class Builder {
         CsvFormat.Builder csvFormatBuilder;
         Charset encoding;
@@ -169,6 +183,7 @@ public class CsvParserConfig {
         boolean autoColumns;
         boolean excludeHeaderValues;
         boolean explicitAutoColumns;
+        int parallelism;
         List<CsvColumnMapping.Builder> columnBuilders;
 
         Builder() {
@@ -185,6 +200,7 @@ public class CsvParserConfig {
             this.nullable = false;
             this.excludeHeaderValues = true;
             this.autoColumns = true;
+            this.parallelism = 1;
             this.columnBuilders = new ArrayList<>();
         }
 
@@ -325,6 +341,16 @@ public class CsvParserConfig {
             return this;
         }
 
+        /**
+         * Sets the max number of chunks of a file that can be parsed in parallel.
+         *
+         * @since 2.0.0
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Builds immutable {@link CsvParserConfig}.
          */
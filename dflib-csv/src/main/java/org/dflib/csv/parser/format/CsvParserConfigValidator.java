@@ -22,6 +22,7 @@ class CsvParserConfigValidator {
     void validate() {
         validateLimitAndOffset();
         validateColumns();
+        validateParallelism();
     }
 
     private void validateLimitAndOffset() {
@@ -33,6 +34,12 @@ class CsvParserConfigValidator {
         }
     }
 
+    private void validateParallelism() {
+        if (config.parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + config.parallelism);
+        }
+    }
+
     private void validateColumns() {
         if (config.explicitAutoColumns
                 && !config.autoColumns
@@ -52,10 +52,16 @@ public class ExtractorBuilder {
 
         Extractor<DataSlice[], ?> extractor = switch (columnFormat.type()) {
             case BOOLEAN -> $bool(forBool(sliceMapper, columnFormat));
-            case INTEGER -> $int(forInt(sliceMapper, columnFormat));
-            case LONG -> $long(forLong(sliceMapper, columnFormat));
+            case INTEGER -> nullsAsNulls(columnFormat)
+                    ? $nullableInt(forNullableInt(sliceMapper), forNullCheck(sliceMapper))
+                    : $int(forInt(sliceMapper, columnFormat));
+            case LONG -> nullsAsNulls(columnFormat)
+                    ? $nullableLong(forNullableLong(sliceMapper), forNullCheck(sliceMapper))
+                    : $long(forLong(sliceMapper, columnFormat));
             case FLOAT -> $float(forFloat(sliceMapper, columnFormat));
-            case DOUBLE -> $double(forDouble(sliceMapper, columnFormat));
+            case DOUBLE -> nullsAsNulls(columnFormat)
+                    ? $nullableDouble(forNullableDouble(sliceMapper), forNullCheck(sliceMapper))
+                    : $double(forDouble(sliceMapper, columnFormat));
             case BIG_INTEGER -> $col(forObject(sliceMapper, BigIntegerParser::parse, columnFormat));
             case BIG_DECIMAL -> $col(forObject(sliceMapper, BigDecimalParser::parse, columnFormat));
             case OTHER ->
@@ -63,12 +69,23 @@ public class ExtractorBuilder {
             default ->
                     $col(forObject(sliceMapper, unescapeFunction(format, columnFormat), columnFormat));
         };
+        if (columnFormat.dictionary()) {
+            return extractor.compactDictionary();
+        }
         if (columnFormat.compact()) {
             return extractor.compact();
         }
         return extractor;
     }
 
+    /**
+     * Returns true if a nullable primitive column has no default value to replace nulls, and was configured to store
+     * them in a nullable primitive Series.
+     */
+    private static boolean nullsAsNulls(CsvColumnMapping columnFormat) {
+        return columnFormat.keepNulls() && columnFormat.nullable() && columnFormat.defaultValue() == null;
+    }
+
     private static Function<DataSlice[], DataSlice> buildSliceMapper(CsvColumnMapping columnFormat) {
         int idx = columnFormat.index();
         Function<DataSlice[], DataSlice> sliceMapper = ss -> ss[idx];
@@ -97,6 +97,36 @@ class ValueMappers {
         };
     }
 
+    // Nullable primitive mappers (used for nullable columns with no default value). Return "0" for nulls, that should
+    // be paired with the "forNullCheck" mapper to tell them apart from real zeros, so that the values are never boxed
+    static IntValueMapper<DataSlice[]> forNullableInt(Function<DataSlice[], DataSlice> sliceMapper) {
+        return row -> {
+            DataSlice s = sliceMapper.apply(row);
+            return s.empty() || isNull(s) ? 0 : IntParser.parse(s);
+        };
+    }
+
+    static LongValueMapper<DataSlice[]> forNullableLong(Function<DataSlice[], DataSlice> sliceMapper) {
+        return row -> {
+            DataSlice s = sliceMapper.apply(row);
+            return s.empty() || isNull(s) ? 0L : LongParser.parse(s);
+        };
+    }
+
+    static DoubleValueMapper<DataSlice[]> forNullableDouble(Function<DataSlice[], DataSlice> sliceMapper) {
+        return row -> {
+            DataSlice s = sliceMapper.apply(row);
+            return s.empty() || isNull(s) ? 0. : DoubleParser.parse(s);
+        };
+    }
+
+    static BoolValueMapper<DataSlice[]> forNullCheck(Function<DataSlice[], DataSlice> sliceMapper) {
+        return row -> {
+            DataSlice s = sliceMapper.apply(row);
+            return s.empty() || isNull(s);
+        };
+    }
+
     // Object mapper (generic, covers String/BigInteger/BigDecimal/OTHER)
     static <T> ValueMapper<DataSlice[], T> forObject(
             Function<DataSlice[], DataSlice> sliceMapper,
@@ -3,10 +3,12 @@ package org.dflib.csv;
 import org.dflib.ByteSource;
 import org.dflib.DataFrame;
 import org.dflib.junit5.DataFrameAsserts;
+import org.dflib.series.DictionarySeries;
 import org.junit.jupiter.api.Test;
 
 import static org.dflib.Exp.$col;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 public class CsvLoader_CardinalityTest {
 
@@ -92,4 +94,27 @@ public class CsvLoader_CardinalityTest {
         assertEquals(4, idCardinality.getColumn(0).unique().size());
         assertEquals(3, idCardinality.getColumn(1).unique().size());
     }
+
+    @Test
+    public void dictionaryCol() {
+        DataFrame df = new CsvLoader()
+                .dictionaryCol("A", s -> s != null ? Integer.parseInt(s) : null)
+                .dictionaryCol(1)
+                .emptyStringIsNull()
+                .load(CSV);
+
+        new DataFrameAsserts(df, "A", "B")
+                .expectHeight(6)
+                .expectRow(0, 1, "ab")
+                .expectRow(1, 40000, "ab")
+                .expectRow(2, 40000, "bc")
+                .expectRow(3, 30000, "bc")
+                .expectRow(4, 30000, null)
+                .expectRow(5, null, "bc");
+
+        DictionarySeries<?> a = assertInstanceOf(DictionarySeries.class, df.getColumn("A"));
+        DictionarySeries<?> b = assertInstanceOf(DictionarySeries.class, df.getColumn("B"));
+        assertEquals(3, a.getDictionarySize());
+        assertEquals(2, b.getDictionarySize());
+    }
 }
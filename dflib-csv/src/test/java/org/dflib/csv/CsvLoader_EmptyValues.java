@@ -3,11 +3,15 @@ package org.dflib.csv;
 import org.dflib.ByteSource;
 import org.dflib.DataFrame;
 import org.dflib.junit5.DataFrameAsserts;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.LongNullableSeries;
 import org.junit.jupiter.api.Test;
 
 import java.io.StringReader;
 import java.math.BigDecimal;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CsvLoader_EmptyValues {
@@ -157,4 +161,53 @@ public class CsvLoader_EmptyValues {
                 .expectRow(1, new BigDecimal("5.2002"), null);
     }
 
+    @Test
+    public void numCol_Nulls() {
+        DataFrame df = new CsvLoader()
+                .numCol(0, Integer.class)
+                .numCol(1, Long.class)
+                .load(EMPTY_WHOLES);
+
+        new DataFrameAsserts(df, "One", "Two")
+                .expectHeight(2)
+                .expectRow(0, null, 3L)
+                .expectRow(1, 5, null);
+
+        assertInstanceOf(IntNullableSeries.class, df.getColumn(0));
+        assertInstanceOf(LongNullableSeries.class, df.getColumn(1));
+    }
+
+    @Test
+    public void numCol_Nulls_Double() {
+        DataFrame df = new CsvLoader()
+                .numCol(0, Double.class)
+                .numCol(1, Double.class)
+                .load(EMPTY_DECIMALS);
+
+        new DataFrameAsserts(df, "One", "Two")
+                .expectHeight(2)
+                .expectRow(0, null, 3.1)
+                .expectRow(1, 5.2002, null);
+
+        assertInstanceOf(DoubleNullableSeries.class, df.getColumn(0));
+    }
+
+    @Test
+    public void numCol_NullsAndZeros() {
+        DataFrame df = new CsvLoader()
+                .numCol(0, Integer.class)
+                .numCol(1, Double.class)
+                .load(ByteSource.of("""
+                        One,Two
+                        ,0
+                        0,""".getBytes()));
+
+        new DataFrameAsserts(df, "One", "Two")
+                .expectHeight(2)
+                .expectRow(0, null, 0.)
+                .expectRow(1, 0, null);
+
+        assertInstanceOf(IntNullableSeries.class, df.getColumn(0));
+        assertInstanceOf(DoubleNullableSeries.class, df.getColumn(1));
+    }
 }
@@ -0,0 +1,60 @@
+package org.dflib.csv;
+
+import org.dflib.DataFrame;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CsvLoader_ParallelTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void load() throws IOException {
+
+        int h = 200_000;
+        Path file = bigFile(h);
+
+        DataFrame sequential = Csv.loader().intCol("A").load(file);
+        DataFrame parallel = Csv.loader().intCol("A").parallel(4).load(file);
+
+        new DataFrameAsserts(parallel, "A", "B", "C")
+                .expectIntColumns("A")
+                .expectHeight(h)
+                .expectRow(0, 0, "s0", "")
+                .expectRow(h - 1, h - 1, "s" + (h - 1), "x");
+
+        assertSameData(sequential, parallel);
+    }
+
+    // big enough to be split in multiple chunks
+    private Path bigFile(int h) throws IOException {
+        Path file = dir.resolve("parallel.csv");
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("A,B,C\n");
+            for (int i = 0; i < h; i++) {
+                out.write(i + ",\"s" + i + "\"," + (i % 3 == 0 ? "" : "x") + "\n");
+            }
+        }
+
+        return file;
+    }
+
+    private static void assertSameData(DataFrame expected, DataFrame actual) {
+        int w = expected.width();
+        int h = expected.height();
+        for (int i = 0; i < w; i++) {
+            for (int j = 0; j < h; j++) {
+                assertEquals(expected.getColumn(i).get(j), actual.getColumn(i).get(j));
+            }
+        }
+    }
+}
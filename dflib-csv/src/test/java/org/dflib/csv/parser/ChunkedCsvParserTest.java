@@ -0,0 +1,132 @@
+package org.dflib.csv.parser;
+
+import org.dflib.DataFrame;
+import org.dflib.csv.parser.format.CsvColumnMapping;
+import org.dflib.csv.parser.format.CsvColumnType;
+import org.dflib.csv.parser.format.CsvParserConfig;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChunkedCsvParserTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void parse() throws IOException {
+        String csv = """
+                id,name
+                1,Name1
+                2,Name2
+                3,Name3
+                4,Name4
+                5,Name5
+                """;
+
+        CsvParserConfig config = CsvParserConfig.builder()
+                .parallelism(3)
+                .column(CsvColumnMapping.column("id").type(CsvColumnType.INTEGER))
+                .build();
+
+        DataFrame df = new ChunkedCsvParser(config, 8).parse(file(csv));
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectIntColumns("id")
+                .expectHeight(5)
+                .expectRow(0, 1, "Name1")
+                .expectRow(1, 2, "Name2")
+                .expectRow(2, 3, "Name3")
+                .expectRow(3, 4, "Name4")
+                .expectRow(4, 5, "Name5");
+    }
+
+    @Test
+    void parse_CRLF_NoTrailingLineBreak() throws IOException {
+        String csv = "id,name\r\n1,Name1\r\n2,Name2\r\n3,Name3\r\n4,Name4";
+
+        CsvParserConfig config = CsvParserConfig.builder().parallelism(4).build();
+        DataFrame df = new ChunkedCsvParser(config, 4).parse(file(csv));
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(4)
+                .expectRow(0, "1", "Name1")
+                .expectRow(1, "2", "Name2")
+                .expectRow(2, "3", "Name3")
+                .expectRow(3, "4", "Name4");
+    }
+
+    @Test
+    void parse_HeaderAsData() throws IOException {
+        String csv = """
+                1,Name1
+                2,Name2
+                3,Name3
+                """;
+
+        CsvParserConfig config = CsvParserConfig.builder()
+                .parallelism(3)
+                .autoColumns(true)
+                .excludeHeaderValues(false)
+                .build();
+
+        DataFrame df = new ChunkedCsvParser(config, 4).parse(file(csv));
+
+        new DataFrameAsserts(df, "c0", "c1")
+                .expectHeight(3)
+                .expectRow(0, "1", "Name1")
+                .expectRow(1, "2", "Name2")
+                .expectRow(2, "3", "Name3");
+    }
+
+    @Test
+    void parse_RowCondition() throws IOException {
+        String csv = """
+                id,name
+                1,Name1
+                2,Name2
+                3,Name3
+                4,Name4
+                """;
+
+        CsvParserConfig config = CsvParserConfig.builder()
+                .parallelism(4)
+                .rowCondition(r -> !r.get("name").equals("Name2"))
+                .build();
+
+        DataFrame df = new ChunkedCsvParser(config, 4).parse(file(csv));
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(3)
+                .expectRow(0, "1", "Name1")
+                .expectRow(1, "3", "Name3")
+                .expectRow(2, "4", "Name4");
+    }
+
+    @Test
+    void parse_NotSplittable() throws IOException {
+        String csv = """
+                id,name
+                1,Name1
+                2,Name2
+                """;
+
+        Path src = file(csv);
+
+        assertNull(new ChunkedCsvParser(CsvParserConfig.builder().parallelism(4).limit(1).build(), 4).parse(src));
+        assertNull(new ChunkedCsvParser(CsvParserConfig.builder().parallelism(4).offset(1).build(), 4).parse(src));
+        assertNull(new ChunkedCsvParser(CsvParserConfig.builder().parallelism(4).build(), 1024).parse(src));
+    }
+
+    private Path file(String csv) throws IOException {
+        Path file = dir.resolve("chunked.csv");
+        Files.writeString(file, csv);
+        return file;
+    }
+}
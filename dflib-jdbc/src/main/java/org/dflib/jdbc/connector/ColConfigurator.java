@@ -12,6 +12,7 @@ class ColConfigurator {
     int srcColPos;
     String srcColName;
     boolean compact;
+    boolean dictionary;
 
     private ColConfigurator() {
         srcColPos = -1;
@@ -31,12 +32,30 @@ class ColConfigurator {
         return config;
     }
 
+    static ColConfigurator dictionaryCol(int pos) {
+        ColConfigurator config = new ColConfigurator();
+        config.srcColPos = pos;
+        config.dictionary = true;
+        return config;
+    }
+
+    static ColConfigurator dictionaryCol(String name) {
+        ColConfigurator config = new ColConfigurator();
+        config.srcColName = name;
+        config.dictionary = true;
+        return config;
+    }
+
     int srcPos(Index header) {
         return srcColPos >= 0 ? srcColPos : header.position(srcColName);
     }
 
     Extractor<ResultSet, ?> extractor(int srcPos, JdbcConnector connector, ResultSetMetaData schema) throws SQLException {
         Extractor<ResultSet, ?> e = sparseExtractor(srcPos, connector, schema);
+        if (dictionary) {
+            return e.compactDictionary();
+        }
+
         return compact ? e.compact() : e;
     }
 
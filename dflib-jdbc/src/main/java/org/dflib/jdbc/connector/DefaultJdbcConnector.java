@@ -24,6 +24,7 @@ public class DefaultJdbcConnector implements JdbcConnector {
 
     private final JdbcExtractorFactory defaultExtractorFactory;
     private final Map<Integer, JdbcExtractorFactory> primitiveExtractorFactories;
+    private final Map<Integer, JdbcExtractorFactory> nullablePrimitiveExtractorFactories;
     private final Map<Integer, JdbcExtractorFactory> extractorFactories;
 
     private final ValueConverterFactory preBindConverterFactory;
@@ -43,14 +44,26 @@ public class DefaultJdbcConnector implements JdbcConnector {
         this.primitiveExtractorFactories = new HashMap<>();
         this.primitiveExtractorFactories.put(Types.BOOLEAN, JdbcExtractorFactory::$bool);
         this.primitiveExtractorFactories.put(Types.INTEGER, JdbcExtractorFactory::$int);
+        this.primitiveExtractorFactories.put(Types.SMALLINT, JdbcExtractorFactory::$int);
+        this.primitiveExtractorFactories.put(Types.TINYINT, JdbcExtractorFactory::$int);
         this.primitiveExtractorFactories.put(Types.DOUBLE, JdbcExtractorFactory::$double);
         this.primitiveExtractorFactories.put(Types.FLOAT, JdbcExtractorFactory::$double);
+        this.primitiveExtractorFactories.put(Types.REAL, JdbcExtractorFactory::$float);
         this.primitiveExtractorFactories.put(Types.BIGINT, JdbcExtractorFactory::$long);
         // mysql return bit with code -7 instead boolean -16 type
         this.primitiveExtractorFactories.put(Types.BIT, JdbcExtractorFactory::$bool);
 
         // Types.DECIMAL should presumably be mapped to BigDecimal, so not attempting to map to a primitive double
 
+        // use primitives with a bitmap of nulls for the nullable numeric columns, unless a custom factory is provided
+        this.nullablePrimitiveExtractorFactories = new HashMap<>();
+        this.nullablePrimitiveExtractorFactories.put(Types.INTEGER, JdbcExtractorFactory::$nullableInt);
+        this.nullablePrimitiveExtractorFactories.put(Types.SMALLINT, JdbcExtractorFactory::$nullableInt);
+        this.nullablePrimitiveExtractorFactories.put(Types.TINYINT, JdbcExtractorFactory::$nullableInt);
+        this.nullablePrimitiveExtractorFactories.put(Types.DOUBLE, JdbcExtractorFactory::$nullableDouble);
+        this.nullablePrimitiveExtractorFactories.put(Types.FLOAT, JdbcExtractorFactory::$nullableDouble);
+        this.nullablePrimitiveExtractorFactories.put(Types.BIGINT, JdbcExtractorFactory::$nullableLong);
+
         this.extractorFactories = extractorFactories;
         this.preBindConverterFactory = createPreBindConverterFactory();
 
@@ -136,7 +149,11 @@ public class DefaultJdbcConnector implements JdbcConnector {
         }
 
         if (factory == null) {
-            factory = extractorFactories.getOrDefault(type, defaultExtractorFactory);
+            factory = extractorFactories.get(type);
+        }
+
+        if (factory == null) {
+            factory = nullablePrimitiveExtractorFactories.getOrDefault(type, defaultExtractorFactory);
         }
 
         return factory.createExtractor(resultSetPosition);
@@ -0,0 +1,81 @@
+package org.dflib.jdbc.connector;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Splits a range of key values into sub-ranges for the partitioned table loading.
+ *
+ * @since 2.0.0
+ */
+class KeyRanges {
+
+    /**
+     * Returns boundaries splitting the [min, max] range into at most "partitions" sub-ranges of about the same width.
+     * Each boundary is the inclusive start of the next sub-range.
+     */
+    static Object[] split(Object min, Object max, int partitions) {
+
+        if (min == null || max == null || partitions <= 1) {
+            return new Object[0];
+        }
+
+        if (min instanceof Integer || min instanceof Long || min instanceof Short || min instanceof Byte || min instanceof BigInteger) {
+            return splitLongs(((Number) min).longValue(), ((Number) max).longValue(), partitions, v -> v);
+        } else if (min instanceof Number n) {
+            return splitDoubles(n.doubleValue(), ((Number) max).doubleValue(), partitions);
+        } else if (min instanceof LocalDate d) {
+            return splitLongs(d.toEpochDay(), ((LocalDate) max).toEpochDay(), partitions, LocalDate::ofEpochDay);
+        } else if (min instanceof LocalDateTime dt) {
+            return splitLongs(
+                    dt.toEpochSecond(ZoneOffset.UTC),
+                    ((LocalDateTime) max).toEpochSecond(ZoneOffset.UTC),
+                    partitions,
+                    s -> LocalDateTime.ofEpochSecond(s, 0, ZoneOffset.UTC));
+        }
+
+        throw new IllegalArgumentException("Can't split a range of " + min.getClass().getName()
+                + " values. Use 'partitionBoundaries(..)' to specify the boundaries explicitly");
+    }
+
+    private static Object[] splitLongs(long min, long max, int partitions, LongFunction<Object> converter) {
+
+        // a double step avoids overflows for the ranges close to the full "long" span
+        double step = ((double) max - min + 1) / partitions;
+
+        List<Object> boundaries = new ArrayList<>(partitions - 1);
+        long prev = min;
+        for (int i = 1; i < partitions; i++) {
+            double offset = step * i;
+            long b = offset < Long.MAX_VALUE ? min + (long) offset : (long) (min + offset);
+            if (b > prev && b <= max) {
+                boundaries.add(converter.apply(b));
+                prev = b;
+            }
+        }
+
+        return boundaries.toArray();
+    }
+
+    private static Object[] splitDoubles(double min, double max, int partitions) {
+
+        double step = (max - min) / partitions;
+
+        List<Object> boundaries = new ArrayList<>(partitions - 1);
+        double prev = min;
+        for (int i = 1; i < partitions; i++) {
+            double b = min + step * i;
+            if (b > prev && b <= max) {
+                boundaries.add(b);
+                prev = b;
+            }
+        }
+
+        return boundaries.toArray();
+    }
+}
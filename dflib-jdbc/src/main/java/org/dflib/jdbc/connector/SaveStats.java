@@ -1,6 +1,7 @@
 package org.dflib.jdbc.connector;
 
 import org.dflib.DataFrame;
+import org.dflib.LongSeries;
 import org.dflib.Series;
 import org.dflib.SeriesGroupBy;
 import org.dflib.jdbc.SaveOp;
@@ -17,12 +18,21 @@ import java.util.function.Supplier;
 public class SaveStats {
 
     private Supplier<Series<SaveOp>> statsSupplier;
+    private LongSeries batchLatencies;
 
     private volatile Series<SaveOp> rowSaveStatuses;
     private volatile SeriesGroupBy<SaveOp> rowSaveStatusesByOp;
 
     public SaveStats(Supplier<Series<SaveOp>> statsSupplier) {
+        this(statsSupplier, Series.ofLong());
+    }
+
+    /**
+     * @since 2.0.0
+     */
+    public SaveStats(Supplier<Series<SaveOp>> statsSupplier, LongSeries batchLatencies) {
         this.statsSupplier = statsSupplier;
+        this.batchLatencies = batchLatencies;
     }
 
     public DataFrame changedRows(DataFrame savedDf) {
@@ -39,6 +49,16 @@ public class SaveStats {
         return rowSaveStatuses;
     }
 
+    /**
+     * Returns the time in nanoseconds it took to save each batch of rows, in the order of batches. When the data was
+     * saved without batching, the Series has a single element. If there was nothing to save, it is empty.
+     *
+     * @since 2.0.0
+     */
+    public LongSeries getBatchLatencies() {
+        return batchLatencies;
+    }
+
     public int getInsertCount() {
         return getOpCount(SaveOp.insert);
     }
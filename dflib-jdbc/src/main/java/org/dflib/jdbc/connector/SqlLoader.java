@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Loads DB data from DB as a DataFrame via custom SQL. Instances of this class can be reused for different sets of
@@ -31,6 +32,7 @@ public class SqlLoader {
     private final List<ColConfigurator> colConfigurators;
 
     protected int limit;
+    private int fetchSize;
     private int rowSampleSize;
     private Random rowsSampleRandom;
 
@@ -44,6 +46,7 @@ public class SqlLoader {
     protected SqlLoader copy() {
         SqlLoader copy = new SqlLoader(connector, sql);
         copy.limit = this.limit;
+        copy.fetchSize = this.fetchSize;
         copy.rowSampleSize = this.rowSampleSize;
         copy.rowsSampleRandom = this.rowsSampleRandom;
         copy.colConfigurators.addAll(this.colConfigurators);
@@ -72,6 +75,30 @@ public class SqlLoader {
         return this;
     }
 
+    /**
+     * Configures a column to be loaded with values stored dictionary-encoded as a
+     * {@link org.dflib.series.DictionarySeries}. Saves more memory than {@link #compactCol(int)} for low-cardinality
+     * columns, and speeds up grouping, joins and comparisons on the column.
+     *
+     * @since 2.0.0
+     */
+    public SqlLoader dictionaryCol(int column) {
+        colConfigurators.add(ColConfigurator.dictionaryCol(column));
+        return this;
+    }
+
+    /**
+     * Configures a column to be loaded with values stored dictionary-encoded as a
+     * {@link org.dflib.series.DictionarySeries}. Saves more memory than {@link #compactCol(String)} for
+     * low-cardinality columns, and speeds up grouping, joins and comparisons on the column.
+     *
+     * @since 2.0.0
+     */
+    public SqlLoader dictionaryCol(String column) {
+        colConfigurators.add(ColConfigurator.dictionaryCol(column));
+        return this;
+    }
+
     public SqlLoader limit(int limit) {
         if (this.limit == limit) {
             return this;
@@ -82,6 +109,23 @@ public class SqlLoader {
         return copy;
     }
 
+    /**
+     * Sets a JDBC fetch size hint, i.e. the number of rows the driver would read from the DB in one round trip. By
+     * default, the driver setting is used. {@link #loadChunks(int, Consumer, Series)} sets a DB-specific fetch size
+     * on its own, unless it was set explicitly via this method.
+     *
+     * @since 2.0.0
+     */
+    public SqlLoader fetchSize(int fetchSize) {
+        if (this.fetchSize == fetchSize) {
+            return this;
+        }
+
+        SqlLoader copy = copy();
+        copy.fetchSize = fetchSize;
+        return copy;
+    }
+
     /**
      * Configures the loader to select a sample of the rows from the ResultSet. Unlike
      * {@link DataFrame#rowsSample(int, Random)}, this method can be used on potentially very large
@@ -129,9 +173,54 @@ public class SqlLoader {
         return connector
                 .createStatementBuilder(sql)
                 .bind(params)
+                .fetchSize(fetchSize)
                 .select(this::loadDataFrame);
     }
 
+    /**
+     * Loads the data as a sequence of DataFrames of at most "chunkSize" rows each, passing each one to the consumer
+     * as soon as it is read. The driver is configured to stream the ResultSet, so only one chunk at a time is kept in
+     * memory, allowing to process results of any size.
+     *
+     * @since 2.0.0
+     */
+    public void loadChunks(int chunkSize, Consumer<DataFrame> consumer, Object... params) {
+        loadChunks(chunkSize, consumer, Series.of(params));
+    }
+
+    /**
+     * Loads the data as a sequence of DataFrames of at most "chunkSize" rows each, passing each one to the consumer
+     * as soon as it is read. The driver is configured to stream the ResultSet, so only one chunk at a time is kept in
+     * memory, allowing to process results of any size.
+     *
+     * @since 2.0.0
+     */
+    public void loadChunks(int chunkSize, Consumer<DataFrame> consumer, Series<?> params) {
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        if (rowSampleSize > 0) {
+            throw new IllegalStateException("Row sampling can't be combined with loading in chunks");
+        }
+
+        LOGGER.debug("loading DataFrame chunks...");
+
+        int fetchSize = this.fetchSize != 0
+                ? this.fetchSize
+                : connector.getMetadata().getFlavor().streamingFetchSize(chunkSize);
+
+        connector
+                .createStatementBuilder(sql)
+                .bind(params)
+                .fetchSize(fetchSize)
+                .select(rs -> {
+                    loadDataFrameChunks(rs, chunkSize, consumer);
+                    return null;
+                });
+    }
+
     protected DataFrame loadDataFrame(ResultSet rs) throws SQLException {
         Index index = createIndex(rs);
 
@@ -147,6 +236,41 @@ public class SqlLoader {
         return new SqlLoaderWorker(appender, limit).load(rs);
     }
 
+    protected void loadDataFrameChunks(ResultSet rs, int chunkSize, Consumer<DataFrame> consumer) throws SQLException {
+        Index index = createIndex(rs);
+
+        Extractor<ResultSet, ?>[] extractors = extractors(index, rs);
+
+        int limit = this.limit < 0 ? Integer.MAX_VALUE : this.limit;
+        int size = 0;
+        int chunkRows = 0;
+        DataFrameAppender<ResultSet> appender = null;
+
+        while (size < limit && rs.next()) {
+
+            if (appender == null) {
+                appender = DataFrame
+                        .byRow(extractors)
+                        .columnIndex(index)
+                        .capacity(chunkSize)
+                        .appender();
+            }
+
+            appender.append(rs);
+            size++;
+
+            if (++chunkRows == chunkSize) {
+                consumer.accept(appender.toDataFrame());
+                appender = null;
+                chunkRows = 0;
+            }
+        }
+
+        if (appender != null) {
+            consumer.accept(appender.toDataFrame());
+        }
+    }
+
     protected Index createIndex(ResultSet rs) throws SQLException {
 
         ResultSetMetaData rsmd = rs.getMetaData();
@@ -29,6 +29,7 @@ public class StatementBuilder {
     private DbColumnMetadata[] paramDescriptors;
     private Series<?> params;
     private DataFrame batchParams;
+    private int fetchSize;
 
     public StatementBuilder(JdbcConnector connector) {
         this.connector = connector;
@@ -60,6 +61,16 @@ public class StatementBuilder {
         return bind(Series.of(params));
     }
 
+    /**
+     * Sets a JDBC fetch size hint for the "select" statements. Zero (the default) means the driver default.
+     *
+     * @since 2.0.0
+     */
+    public StatementBuilder fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     public <T> T select(JdbcFunction<ResultSet, T> resultReader) {
         try (Connection c = connector.getConnection()) {
             return select(c, resultReader);
@@ -112,8 +123,8 @@ public class StatementBuilder {
         }
 
         return (params == null || params.size() == 0)
-                ? new SelectStatementNoParams(sql, connector.getSqlLogger())
-                : new SelectStatementWithParams(sql, params, createBinderFactory(), connector.getSqlLogger());
+                ? new SelectStatementNoParams(sql, connector.getSqlLogger(), fetchSize)
+                : new SelectStatementWithParams(sql, params, createBinderFactory(), connector.getSqlLogger(), fetchSize);
     }
 
     protected UpdateStatement createUpdateStatement() {
@@ -1,25 +1,43 @@
 package org.dflib.jdbc.connector;
 
 import org.dflib.DataFrame;
+import org.dflib.Series;
 import org.dflib.jdbc.connector.condition.ConditionBuilder;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.tx.TxJdbcConnector;
 import org.dflib.sample.Sampler;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 
 public class TableLoader {
 
+    // the max number of partitions loaded at the same time, unless a custom executor is provided
+    private static final int DEFAULT_MAX_PARTITION_THREADS = 8;
+
     protected JdbcConnector connector;
     protected int limit = -1;
+    private int fetchSize;
     private TableFQName tableName;
     private String[] columns;
     private ConditionBuilder condition;
     private int rowSampleSize;
     private Random rowsSampleRandom;
     private final List<ColConfigurator> colConfigurators;
+    private String partitionColumn;
+    private int partitions;
+    private Object[] partitionBoundaries;
+    private Executor partitionsExecutor;
 
     public TableLoader(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
@@ -49,6 +67,30 @@ public class TableLoader {
         return this;
     }
 
+    /**
+     * Configures a column to be loaded with values stored dictionary-encoded as a
+     * {@link org.dflib.series.DictionarySeries}. Saves more memory than {@link #compactCol(int)} for low-cardinality
+     * columns, and speeds up grouping, joins and comparisons on the column.
+     *
+     * @since 2.0.0
+     */
+    public TableLoader dictionaryCol(int column) {
+        colConfigurators.add(ColConfigurator.dictionaryCol(column));
+        return this;
+    }
+
+    /**
+     * Configures a column to be loaded with values stored dictionary-encoded as a
+     * {@link org.dflib.series.DictionarySeries}. Saves more memory than {@link #compactCol(String)} for
+     * low-cardinality columns, and speeds up grouping, joins and comparisons on the column.
+     *
+     * @since 2.0.0
+     */
+    public TableLoader dictionaryCol(String column) {
+        colConfigurators.add(ColConfigurator.dictionaryCol(column));
+        return this;
+    }
+
     /**
      * Configures TableLoader to retrieve rows that match rows in the provided "condition" DataFrame. Condition
      * DataFrame must contain columns with names that are present in the DB table. Often it would contain PK columns
@@ -81,6 +123,17 @@ public class TableLoader {
         return this;
     }
 
+    /**
+     * Sets a JDBC fetch size hint, i.e. the number of rows the driver would read from the DB in one round trip. By
+     * default, the driver setting is used.
+     *
+     * @since 2.0.0
+     */
+    public TableLoader fetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
     /**
      * Configures the loader to select a sample of the rows from the ResultSet. Unlike
      * {@link DataFrame#rowsSample(int, Random)}, this method can be used on potentially very large
@@ -108,11 +161,89 @@ public class TableLoader {
         return this;
     }
 
+    /**
+     * Configures the loader to split the table into a number of ranges of the key column values, and to load the
+     * ranges in parallel, each over its own connection. The ranges are of about the same width between the min and
+     * max key values, so the key column should be numeric or a date, and ideally, indexed and evenly distributed.
+     * Rows with null keys are loaded as a separate partition. Can't be combined with "limit" or "rowsSample".
+     *
+     * <p>Each range is read by a separate query in its own transaction, so unlike a regular load, the result is not a
+     * consistent snapshot of the table if it is modified while being loaded. Unless a custom
+     * {@link #partitionsExecutor(Executor)} is set, no more than 8 ranges are loaded at the same time.</p>
+     *
+     * @param keyColumn  a numeric or a date column to split the table by
+     * @param partitions the number of ranges to split the table into
+     * @return this TableLoader
+     * @since 2.0.0
+     */
+    public TableLoader partitions(String keyColumn, int partitions) {
+
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Number of partitions must be positive: " + partitions);
+        }
+
+        this.partitionColumn = Objects.requireNonNull(keyColumn);
+        this.partitions = partitions;
+        this.partitionBoundaries = null;
+        return this;
+    }
+
+    /**
+     * Configures the loader to split the table into ranges of the key column values at the specified boundaries, and
+     * to load the ranges in parallel, each over its own connection. Each boundary is the inclusive start of a range,
+     * and the first range is open-ended. Rows with null keys are loaded as a separate partition. Can't be combined
+     * with "limit" or "rowsSample". Same as with {@link #partitions(String, int)}, each range is read in its own
+     * transaction, so the result is not a consistent snapshot of a table modified while being loaded.
+     *
+     * @param keyColumn  a column to split the table by
+     * @param boundaries ascending key values to split the table at
+     * @return this TableLoader
+     * @since 2.0.0
+     */
+    public TableLoader partitionBoundaries(String keyColumn, Object... boundaries) {
+        this.partitionColumn = Objects.requireNonNull(keyColumn);
+        this.partitions = boundaries.length + 1;
+        this.partitionBoundaries = boundaries;
+        return this;
+    }
+
+    /**
+     * Sets an executor to load the partitions configured via {@link #partitions(String, int)} or
+     * {@link #partitionBoundaries(String, Object...)}. Each partition task blocks on its own JDBC connection for the
+     * duration of the query, so the executor threads should not be shared with the CPU-bound work. The caller is
+     * responsible for shutting down the executor. If not set, a thread pool with a thread per partition, but no more
+     * than 8 threads, is created for each load and shut down once the load is done.
+     *
+     * @return this TableLoader
+     * @since 2.0.0
+     */
+    public TableLoader partitionsExecutor(Executor executor) {
+        this.partitionsExecutor = Objects.requireNonNull(executor);
+        return this;
+    }
+
     public DataFrame load() {
         // "no condition" means return all rows; "empty condition" means return no rows
-        return condition.noCondition() || condition.nonEmptyCondition()
-                ? fetchDataFrame()
-                : createEmptyDataFrame();
+        if (!condition.noCondition() && !condition.nonEmptyCondition()) {
+            return createEmptyDataFrame();
+        }
+
+        return partitionColumn != null ? fetchPartitionedDataFrame() : fetchDataFrame();
+    }
+
+    /**
+     * Loads the table data as a sequence of DataFrames of at most "chunkSize" rows each, passing each one to the
+     * consumer as soon as it is read. Only one chunk at a time is kept in memory, allowing to extract tables of any
+     * size.
+     *
+     * @since 2.0.0
+     */
+    public void loadChunks(int chunkSize, Consumer<DataFrame> consumer) {
+
+        // "empty condition" means there's nothing to load
+        if (condition.noCondition() || condition.nonEmptyCondition()) {
+            createSqlLoader().loadChunks(chunkSize, consumer, condition.bindingParams());
+        }
     }
 
     protected DataFrame createEmptyDataFrame() {
@@ -124,11 +255,167 @@ public class TableLoader {
     }
 
     protected DataFrame fetchDataFrame() {
+        return createSqlLoader().load(condition.bindingParams());
+    }
+
+    protected DataFrame fetchPartitionedDataFrame() {
+
+        if (limit >= 0 || rowSampleSize > 0) {
+            throw new IllegalStateException("Partitioned loading can't be combined with 'limit' or 'rowsSample'");
+        }
+
+        Object[] boundaries = partitionBoundaries != null ? partitionBoundaries : splitKeyRange();
+
+        // ranges between the boundaries, with the open-ended first and last ranges, plus the null keys
+        int len = boundaries.length;
+        List<Callable<DataFrame>> tasks = new ArrayList<>(len + 2);
+        for (int i = 0; i <= len; i++) {
+            Object from = i > 0 ? boundaries[i - 1] : null;
+            Object to = i < len ? boundaries[i] : null;
+            tasks.add(() -> fetchRange(from, to, false));
+        }
+        tasks.add(() -> fetchRange(null, null, true));
+
+        return DataFrame.union(runTasks(tasks));
+    }
+
+    protected List<DataFrame> runTasks(List<Callable<DataFrame>> tasks) {
+
+        // a transactional connector has a single connection, so the ranges can't be loaded in parallel
+        if (connector instanceof TxJdbcConnector) {
+            List<DataFrame> results = new ArrayList<>(tasks.size());
+            for (Callable<DataFrame> t : tasks) {
+                try {
+                    results.add(t.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            return results;
+        }
+
+        // the tasks spend most of their time waiting on the DB, so they are not run on the shared compute pool
+        if (partitionsExecutor != null) {
+            return runTasks(tasks, partitionsExecutor);
+        }
+
+        // each thread holds a DB connection, so the pool is capped to avoid exhausting the connection pool or the DB
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(tasks.size(), DEFAULT_MAX_PARTITION_THREADS));
+        try {
+            return runTasks(tasks, pool);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static List<DataFrame> runTasks(List<Callable<DataFrame>> tasks, Executor executor) {
+
+        List<FutureTask<DataFrame>> futures = new ArrayList<>(tasks.size());
+        for (Callable<DataFrame> t : tasks) {
+            FutureTask<DataFrame> f = new FutureTask<>(t);
+            futures.add(f);
+            executor.execute(f);
+        }
+
+        List<DataFrame> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<DataFrame> f : futures) {
+                results.add(f.get());
+            }
+        } catch (ExecutionException e) {
+            cancel(futures);
+
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error er) {
+                throw er;
+            }
+
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading table partitions", e);
+        }
+
+        return results;
+    }
+
+    // the results of the remaining tasks will be discarded, so there's no point in waiting for the DB to return them
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (Future<?> f : futures) {
+            f.cancel(true);
+        }
+    }
+
+    protected Object[] splitKeyRange() {
+
+        String key = connector.quoteIdentifier(partitionColumn);
+
+        StringBuilder sql = new StringBuilder("select min(").append(key).append("), max(").append(key).append(")");
+        sql.append(" from ").append(connector.quoteTableName(tableName));
+        appendWhereSql(sql);
+
+        DataFrame minMax = new SqlLoader(connector, sql.toString()).load(condition.bindingParams());
+        return KeyRanges.split(minMax.get(0, 0), minMax.get(1, 0), partitions);
+    }
+
+    protected DataFrame fetchRange(Object from, Object to, boolean nullKeys) {
+
+        String key = connector.quoteIdentifier(partitionColumn);
+
+        StringBuilder sql = new StringBuilder("select ");
+        appendColumnsSql(sql);
+        sql.append(" from ").append(connector.quoteTableName(tableName));
+
+        Series<?> conditionParams = condition.bindingParams();
+        int cpLen = conditionParams.size();
+        List<Object> params = new ArrayList<>(cpLen + 2);
+        for (int i = 0; i < cpLen; i++) {
+            params.add(conditionParams.get(i));
+        }
+
+        String separator = " where ";
+        if (condition.nonEmptyCondition()) {
+            sql.append(" where (");
+            condition.toSqlCondition(sql);
+            sql.append(")");
+            separator = " and ";
+        }
+
+        if (nullKeys) {
+            sql.append(separator).append(key).append(" is null");
+        } else if (from == null && to == null) {
+            sql.append(separator).append(key).append(" is not null");
+        } else {
+            if (from != null) {
+                sql.append(separator).append(key).append(" >= ?");
+                params.add(from);
+                separator = " and ";
+            }
+
+            if (to != null) {
+                sql.append(separator).append(key).append(" < ?");
+                params.add(to);
+            }
+        }
+
+        return new SqlLoader(connector, sql.toString())
+                .colConfigurators(colConfigurators)
+                .fetchSize(fetchSize)
+                .load(Series.of(params.toArray()));
+    }
+
+    protected SqlLoader createSqlLoader() {
         return new SqlLoader(connector, buildSql())
                 .colConfigurators(colConfigurators)
                 .limit(limit)
-                .rowsSample(rowSampleSize, rowsSampleRandom)
-                .load(condition.bindingParams());
+                .fetchSize(fetchSize)
+                .rowsSample(rowSampleSize, rowsSampleRandom);
     }
 
     protected String buildSql() {
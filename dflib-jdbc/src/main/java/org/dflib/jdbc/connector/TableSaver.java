@@ -3,11 +3,15 @@ package org.dflib.jdbc.connector;
 import org.dflib.DataFrame;
 import org.dflib.jdbc.connector.metadata.DbColumnMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.saver.BulkInserter;
 import org.dflib.jdbc.connector.saver.SaveViaDeleteThenUpsert;
 import org.dflib.jdbc.connector.saver.SaveViaDeleteThenInsert;
 import org.dflib.jdbc.connector.saver.SaveViaInsert;
+import org.dflib.jdbc.connector.saver.SaveViaParallelInsert;
 import org.dflib.jdbc.connector.saver.SaveViaUpsert;
+import org.dflib.jdbc.connector.saver.TableSaveResult;
 import org.dflib.jdbc.connector.saver.TableSaveStrategy;
+import org.dflib.jdbc.connector.tx.TxJdbcConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +30,8 @@ public class TableSaver {
     private boolean mergeByPk;
     private String[] mergeByColumns;
     private int batchSize;
+    private BulkInserter inserter;
+    private int pipelineConnections;
 
     public TableSaver(JdbcConnector connector, TableFQName tableName) {
         this.connector = connector;
@@ -44,6 +50,63 @@ public class TableSaver {
         return this;
     }
 
+    /**
+     * Configures the saver to insert rows with the fastest method available for the DB, such as "COPY" for
+     * PostgreSQL or multi-row "INSERT" statements for MySQL, instead of a JDBC batch of single-row INSERTs.
+     *
+     * @return this saver instance
+     * @since 2.0.0
+     */
+    public TableSaver bulkInsert() {
+        return bulkInsert(BulkInserter.auto());
+    }
+
+    /**
+     * Configures the saver to insert rows with the specified inserter, instead of a JDBC batch of single-row INSERTs.
+     *
+     * @return this saver instance
+     * @since 2.0.0
+     */
+    public TableSaver bulkInsert(BulkInserter inserter) {
+        this.inserter = Objects.requireNonNull(inserter);
+        return this;
+    }
+
+    /**
+     * Configures the saver to slice each batch of rows from the DataFrame while the previous batch is being saved. All
+     * batches are still saved over a single connection in a single transaction, and the statement parameters of each
+     * batch are bound on the saving thread, so this only helps when slicing the DataFrame is expensive (e.g., it has
+     * lazily-evaluated columns). Use {@link #pipelined(int)} with multiple connections to overlap the DB work of the
+     * batches. Requires {@link #batchSize(int)} to be set.
+     *
+     * @return this saver instance
+     * @since 2.0.0
+     */
+    public TableSaver pipelined() {
+        return pipelined(1);
+    }
+
+    /**
+     * Configures the saver to prepare each batch of rows while the previous batches are being saved, with up to
+     * "connections" batches saved at the same time over separate DB connections. Each batch is committed in its own
+     * transaction, so the save is not atomic. Multiple connections are only used by the insert-only saves (i.e.
+     * without "deleteTableData" or "merge"), and outside of an explicit transaction. Otherwise, the batches are
+     * pipelined over a single connection. The batches are saved on a dedicated pool of "connections" threads.
+     * Requires {@link #batchSize(int)} to be set.
+     *
+     * @return this saver instance
+     * @since 2.0.0
+     */
+    public TableSaver pipelined(int connections) {
+
+        if (connections < 1) {
+            throw new IllegalArgumentException("Number of connections must be positive: " + connections);
+        }
+
+        this.pipelineConnections = connections;
+        return this;
+    }
+
     /**
      * Configures saver to delete all table rows before performing insert operation.
      *
@@ -101,18 +164,53 @@ public class TableSaver {
 
     public SaveStats save(DataFrame df) {
         LOGGER.debug("saving DataFrame...");
-        return new SaveStats(createSaveStrategy().save(df));
+        TableSaveResult result = createSaveStrategy().saveWithLatencies(df);
+        return new SaveStats(result.getRowSaveStatuses(), result.getBatchLatencies());
     }
 
     protected TableSaveStrategy createSaveStrategy() {
 
+        TableSaveStrategy strategy = createUnpipelinedSaveStrategy();
+        if (pipelineConnections <= 0) {
+            return strategy;
+        }
+
+        if (batchSize <= 0) {
+            LOGGER.warn("'pipelined' will be ignored, as 'batchSize' is not set");
+            return strategy;
+        }
+
+        if (pipelineConnections > 1) {
+            if (strategy.supportsParallelInsert() && !(connector instanceof TxJdbcConnector)) {
+                return new SaveViaParallelInsert(
+                        connector,
+                        tableName,
+                        batchSize,
+                        inserter != null ? inserter : BulkInserter.batch(),
+                        pipelineConnections);
+            }
+
+            LOGGER.warn("Will use a single connection for 'pipelined' save, as it is not an insert-only save, " +
+                    "or it is running in a transaction");
+        }
+
+        return strategy.pipelined();
+    }
+
+    /**
+     * @since 2.0.0
+     */
+    protected TableSaveStrategy createUnpipelinedSaveStrategy() {
+
+        BulkInserter inserter = this.inserter != null ? this.inserter : BulkInserter.batch();
+
         // if delete is in effect, we don't need the UPDATE part of "UPSERT"
         if (deleteTableData) {
-            return new SaveViaDeleteThenInsert(connector, tableName, batchSize);
+            return new SaveViaDeleteThenInsert(connector, tableName, batchSize, inserter);
         }
 
         if (!mergeByPk && mergeByColumns == null) {
-            return new SaveViaInsert(connector, tableName, batchSize);
+            return new SaveViaInsert(connector, tableName, batchSize, inserter);
         }
 
         String[] keyColumns = mergeByPk ? getPkColumns() : mergeByColumns;
@@ -122,8 +220,8 @@ public class TableSaver {
         }
 
         return deleteUnmatchedRows
-                ? new SaveViaDeleteThenUpsert(connector, tableName, keyColumns)
-                : new SaveViaUpsert(connector, tableName, keyColumns, batchSize);
+                ? new SaveViaDeleteThenUpsert(connector, tableName, keyColumns, inserter)
+                : new SaveViaUpsert(connector, tableName, keyColumns, batchSize, inserter);
     }
 
     protected String[] getPkColumns() {
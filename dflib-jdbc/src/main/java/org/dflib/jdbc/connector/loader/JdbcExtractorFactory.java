@@ -85,6 +85,57 @@ public interface JdbcExtractorFactory<T> {
         return Extractor.$double(mapper);
     }
 
+    /**
+     * Returns an extractor for a nullable int column that stores the values as primitives with a bitmap of nulls.
+     *
+     * @since 2.0.0
+     */
+    static Extractor<ResultSet, Integer> $nullableInt(int pos) {
+        IntValueMapper<ResultSet> mapper = rs -> {
+            try {
+                return rs.getInt(pos);
+            } catch (SQLException e) {
+                throw new RuntimeException("Error performing SQL operation", e);
+            }
+        };
+
+        return Extractor.$nullableInt(mapper, JdbcExtractorFactory::wasNull);
+    }
+
+    /**
+     * Returns an extractor for a nullable long column that stores the values as primitives with a bitmap of nulls.
+     *
+     * @since 2.0.0
+     */
+    static Extractor<ResultSet, Long> $nullableLong(int pos) {
+        LongValueMapper<ResultSet> mapper = rs -> {
+            try {
+                return rs.getLong(pos);
+            } catch (SQLException e) {
+                throw new RuntimeException("Error performing SQL operation", e);
+            }
+        };
+
+        return Extractor.$nullableLong(mapper, JdbcExtractorFactory::wasNull);
+    }
+
+    /**
+     * Returns an extractor for a nullable double column that stores the values as primitives with a bitmap of nulls.
+     *
+     * @since 2.0.0
+     */
+    static Extractor<ResultSet, Double> $nullableDouble(int pos) {
+        DoubleValueMapper<ResultSet> mapper = rs -> {
+            try {
+                return rs.getDouble(pos);
+            } catch (SQLException e) {
+                throw new RuntimeException("Error performing SQL operation", e);
+            }
+        };
+
+        return Extractor.$nullableDouble(mapper, JdbcExtractorFactory::wasNull);
+    }
+
     static Extractor<ResultSet, Object> $col(int pos) {
         return fromJdbcFunction(rs -> rs.getObject(pos));
     }
@@ -110,6 +161,14 @@ public interface JdbcExtractorFactory<T> {
         });
     }
 
+    private static boolean wasNull(ResultSet rs) {
+        try {
+            return rs.wasNull();
+        } catch (SQLException e) {
+            throw new RuntimeException("Error performing SQL operation", e);
+        }
+    }
+
     static <T> Extractor<ResultSet, T> fromJdbcFunction(JdbcFunction<ResultSet, T> f) {
 
         ValueMapper<ResultSet, T> mapper = rs -> {
@@ -43,4 +43,24 @@ public interface DbFlavor {
     boolean supportsSchemas();
 
     int columnType(int jdbcType, String nativeType);
+
+    /**
+     * Returns a JDBC fetch size that would make the driver stream a large ResultSet instead of reading it in memory
+     * upfront, given the number of rows the caller intends to process at once.
+     *
+     * @since 2.0.0
+     */
+    default int streamingFetchSize(int rows) {
+        return rows;
+    }
+
+    /**
+     * Returns the max number of bound parameters allowed in a single statement, or zero if the limit is unknown.
+     * Used to size multi-row INSERT statements.
+     *
+     * @since 2.0.0
+     */
+    default int maxStatementParams() {
+        return 0;
+    }
 }
@@ -48,4 +48,17 @@ public record MySQLFlavor(String identifierQuote, boolean supportsBatchUpdates)
     public int columnType(int jdbcType, String nativeType) {
         return jdbcType;
     }
+
+    @Override
+    public int streamingFetchSize(int rows) {
+        // Connector/J reads the entire ResultSet in memory for any positive fetch size, unless "useCursorFetch=true"
+        // is set on the connection. Integer.MIN_VALUE is its special marker for row-by-row streaming
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public int maxStatementParams() {
+        // the protocol encodes the parameter count as an unsigned 16-bit value
+        return 65535;
+    }
 }
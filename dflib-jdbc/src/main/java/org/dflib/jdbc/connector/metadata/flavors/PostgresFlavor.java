@@ -53,4 +53,17 @@ public record PostgresFlavor(String identifierQuote, boolean supportsBatchUpdate
             default -> jdbcType;
         };
     }
+
+    @Override
+    public int streamingFetchSize(int rows) {
+        // the driver only uses a cursor with a positive fetch size and auto-commit off, and DFLib connections are
+        // opened with auto-commit off
+        return Math.max(rows, 1);
+    }
+
+    @Override
+    public int maxStatementParams() {
+        // the protocol encodes the parameter count as a signed 16-bit value in the older driver versions
+        return 32767;
+    }
 }
@@ -0,0 +1,87 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.DataFrame;
+import org.dflib.Index;
+import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.StatementBuilder;
+import org.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import org.dflib.jdbc.connector.metadata.DbTableMetadata;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Inserts DataFrame rows via a JDBC batch of single-row INSERT statements.
+ *
+ * @since 2.0.0
+ */
+public class BatchInserter implements BulkInserter {
+
+    @Override
+    public void insert(JdbcConnector connector, TableFQName tableName, DataFrame df) {
+
+        Index index = df.getColumnsIndex();
+        StatementBuilder builder = connector.createStatementBuilder(insertSql(connector, tableName, index, 1))
+
+                // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
+                // metadata in PreparedStatements. See e.g. https://github.com/dflib/dflib/issues/49
+
+                .paramDescriptors(params(connector, tableName, index))
+                .bindBatch(df);
+
+        try (Connection c = connector.getConnection()) {
+            builder.update(c);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error closing DB connection", e);
+        }
+    }
+
+    static DbColumnMetadata[] params(JdbcConnector connector, TableFQName tableName, Index index) {
+        DbTableMetadata tableMetadata = connector.getMetadata().getTable(tableName);
+
+        DbColumnMetadata[] params = new DbColumnMetadata[index.size()];
+        for (int i = 0; i < index.size(); i++) {
+            params[i] = tableMetadata.getColumn(index.get(i));
+        }
+
+        return params;
+    }
+
+    static String insertSql(JdbcConnector connector, TableFQName tableName, Index index, int rows) {
+
+        StringBuilder sql = new StringBuilder("insert into ")
+                .append(connector.quoteTableName(tableName))
+                .append(" (");
+
+        // append columns
+        int len = index.size();
+
+        for (int i = 0; i < len; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(connector.quoteIdentifier(index.get(i)));
+        }
+
+        // append value placeholders
+        sql.append(") values ");
+
+        for (int r = 0; r < rows; r++) {
+            sql.append(r > 0 ? ", (" : "(");
+
+            for (int i = 0; i < len; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+
+                sql.append("?");
+            }
+
+            sql.append(")");
+        }
+
+        return sql.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.metadata.flavors.PostgresFlavor;
+
+/**
+ * A strategy to insert DataFrame rows into a DB table. DataFrame column labels must match the table column names.
+ *
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface BulkInserter {
+
+    /**
+     * Returns the default inserter that binds each row as a separate set of parameters of a JDBC batch.
+     */
+    static BulkInserter batch() {
+        return new BatchInserter();
+    }
+
+    /**
+     * Returns an inserter that generates "INSERT ... VALUES (...), (...)" statements, each with as many rows as allowed
+     * by the DB limit on the number of statement parameters. If the DB flavor doesn't define such limit, falls back to
+     * {@link #batch()}.
+     */
+    static BulkInserter multiRowValues() {
+        return new MultiRowInserter(0);
+    }
+
+    /**
+     * Returns an inserter that generates "INSERT ... VALUES (...), (...)" statements with no more than "maxParams"
+     * parameters each.
+     */
+    static BulkInserter multiRowValues(int maxParams) {
+        return new MultiRowInserter(maxParams);
+    }
+
+    /**
+     * Returns a PostgreSQL inserter that streams the rows as CSV via "COPY ... FROM STDIN". If the connection is not
+     * provided by the PostgreSQL JDBC driver, falls back to {@link #multiRowValues()}.
+     */
+    static BulkInserter postgresCopy() {
+        return new PostgresCopyInserter(multiRowValues());
+    }
+
+    /**
+     * Returns an inserter that picks the fastest insert method available for the DB flavor.
+     */
+    static BulkInserter auto() {
+        return (connector, tableName, df) -> {
+            BulkInserter inserter = connector.getMetadata().getFlavor() instanceof PostgresFlavor
+                    ? postgresCopy()
+                    : multiRowValues();
+
+            inserter.insert(connector, tableName, df);
+        };
+    }
+
+    void insert(JdbcConnector connector, TableFQName tableName, DataFrame df);
+}
@@ -0,0 +1,113 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.metadata.DbColumnMetadata;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.statement.FixedParamsBinderFactory;
+import org.dflib.jdbc.connector.statement.StatementBinder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Inserts DataFrame rows via "INSERT ... VALUES (...), (...)" statements, each inserting as many rows as fits in the
+ * limit on the number of statement parameters. Makes a single round trip per statement, instead of a round trip per
+ * row that some drivers make when executing JDBC batches.
+ *
+ * @since 2.0.0
+ */
+public class MultiRowInserter implements BulkInserter {
+
+    private final int maxParams;
+
+    /**
+     * @param maxParams max number of parameters in a statement. If zero or negative, the limit of the DB flavor
+     *                  is used.
+     */
+    public MultiRowInserter(int maxParams) {
+        this.maxParams = maxParams;
+    }
+
+    @Override
+    public void insert(JdbcConnector connector, TableFQName tableName, DataFrame df) {
+
+        int maxParams = this.maxParams > 0 ? this.maxParams : connector.getMetadata().getFlavor().maxStatementParams();
+        if (maxParams <= 0) {
+            new BatchInserter().insert(connector, tableName, df);
+            return;
+        }
+
+        int h = df.height();
+        int w = df.width();
+        int rowsPerStatement = Math.max(1, Math.min(h, maxParams / Math.max(w, 1)));
+        DbColumnMetadata[] rowParams = BatchInserter.params(connector, tableName, df.getColumnsIndex());
+
+        int fullStatements = h / rowsPerStatement;
+        int lastStatementRows = h % rowsPerStatement;
+
+        try (Connection c = connector.getConnection()) {
+
+            if (fullStatements > 0) {
+                insert(c, connector, tableName, df, rowParams, 0, fullStatements, rowsPerStatement);
+            }
+
+            if (lastStatementRows > 0) {
+                insert(c, connector, tableName, df, rowParams, fullStatements * rowsPerStatement, 1, lastStatementRows);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error updating data in DB: " + e.getMessage(), e);
+        }
+    }
+
+    private void insert(
+            Connection c,
+            JdbcConnector connector,
+            TableFQName tableName,
+            DataFrame df,
+            DbColumnMetadata[] rowParams,
+            int fromRow,
+            int statements,
+            int rowsPerStatement) throws SQLException {
+
+        int w = rowParams.length;
+        DbColumnMetadata[] params = new DbColumnMetadata[w * rowsPerStatement];
+        for (int r = 0; r < rowsPerStatement; r++) {
+            System.arraycopy(rowParams, 0, params, r * w, w);
+        }
+
+        Series<?>[] columns = new Series[w];
+        for (int j = 0; j < w; j++) {
+            columns[j] = df.getColumn(j);
+        }
+
+        String sql = BatchInserter.insertSql(connector, tableName, df.getColumnsIndex(), rowsPerStatement);
+        connector.getSqlLogger().log(sql);
+
+        try (PreparedStatement st = c.prepareStatement(sql)) {
+
+            StatementBinder binder = new FixedParamsBinderFactory(connector.getBindConverterFactory(), params)
+                    .createBinder(st);
+
+            // the array is reused between the statements, as the binder reads the values right away
+            Object[] values = new Object[params.length];
+            Series<Object> valuesSeries = Series.of(values);
+
+            for (int s = 0; s < statements; s++) {
+                int start = fromRow + s * rowsPerStatement;
+
+                for (int r = 0; r < rowsPerStatement; r++) {
+                    for (int j = 0; j < w; j++) {
+                        values[r * w + j] = columns[j].get(start + r);
+                    }
+                }
+
+                binder.bind(valuesSeries);
+                st.executeUpdate();
+            }
+        }
+    }
+}
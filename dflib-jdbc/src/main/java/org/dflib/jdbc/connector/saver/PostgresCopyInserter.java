@@ -0,0 +1,203 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.DataFrame;
+import org.dflib.Index;
+import org.dflib.Series;
+import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Inserts DataFrame rows into a PostgreSQL table via "COPY ... FROM STDIN", streaming the data as CSV, which is the
+ * fastest way to load large amounts of data into PostgreSQL. The PostgreSQL driver API is invoked reflectively, as
+ * DFLib doesn't depend on the driver. If the connection doesn't come from the PostgreSQL driver, delegates to the
+ * fallback inserter.
+ *
+ * @since 2.0.0
+ */
+public class PostgresCopyInserter implements BulkInserter {
+
+    private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+
+    private final BulkInserter fallback;
+    private final Class<?> pgConnectionType;
+
+    public PostgresCopyInserter(BulkInserter fallback) {
+        this(fallback, pgConnectionType());
+    }
+
+    PostgresCopyInserter(BulkInserter fallback, Class<?> pgConnectionType) {
+        this.fallback = Objects.requireNonNull(fallback);
+        this.pgConnectionType = pgConnectionType;
+    }
+
+    @Override
+    public void insert(JdbcConnector connector, TableFQName tableName, DataFrame df) {
+
+        if (pgConnectionType == null) {
+            fallback.insert(connector, tableName, df);
+            return;
+        }
+
+        String sql = copySql(connector, tableName, df.getColumnsIndex());
+
+        try (Connection c = connector.getConnection()) {
+
+            if (c.isWrapperFor(pgConnectionType)) {
+                connector.getSqlLogger().log(sql);
+
+                Object pgConnection = c.unwrap(pgConnectionType);
+                Object copyApi = pgConnectionType.getMethod("getCopyAPI").invoke(pgConnection);
+                Method copyIn = copyApi.getClass().getMethod("copyIn", String.class, Reader.class);
+                copyIn.invoke(copyApi, sql, new CsvReader(df));
+                return;
+            }
+
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            throw new RuntimeException("Error copying data to DB: " + cause.getMessage(), cause);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Error invoking PostgreSQL COPY API: " + e.getMessage(), e);
+        } catch (SQLException e) {
+            throw new RuntimeException("Error updating data in DB: " + e.getMessage(), e);
+        }
+
+        fallback.insert(connector, tableName, df);
+    }
+
+    private static Class<?> pgConnectionType() {
+        try {
+            return Class.forName(PG_CONNECTION_CLASS);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static String copySql(JdbcConnector connector, TableFQName tableName, Index index) {
+
+        StringBuilder sql = new StringBuilder("COPY ")
+                .append(connector.quoteTableName(tableName))
+                .append(" (");
+
+        int len = index.size();
+        for (int i = 0; i < len; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+
+            sql.append(connector.quoteIdentifier(index.get(i)));
+        }
+
+        return sql.append(") FROM STDIN WITH (FORMAT csv)").toString();
+    }
+
+    /**
+     * Generates CSV from the DataFrame rows on demand, so that the COPY data is never fully materialized in memory.
+     * Nulls are written as unquoted empty values, and all other non-numeric values are quoted, as PostgreSQL CSV format
+     * requires to tell nulls from empty strings.
+     */
+    static class CsvReader extends Reader {
+
+        private static final int BUFFER_SIZE = 8192;
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private final Series<?>[] columns;
+        private final int height;
+        private final StringBuilder buffer;
+        private int bufferPos;
+        private int row;
+
+        CsvReader(DataFrame df) {
+            int w = df.width();
+            this.columns = new Series[w];
+            for (int i = 0; i < w; i++) {
+                columns[i] = df.getColumn(i);
+            }
+
+            this.height = df.height();
+            this.buffer = new StringBuilder(BUFFER_SIZE + 256);
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+
+            if (len == 0) {
+                return 0;
+            }
+
+            if (bufferPos == buffer.length()) {
+                if (row == height) {
+                    return -1;
+                }
+
+                fill();
+            }
+
+            int n = Math.min(len, buffer.length() - bufferPos);
+            buffer.getChars(bufferPos, bufferPos + n, cbuf, off);
+            bufferPos += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        private void fill() {
+            buffer.setLength(0);
+            bufferPos = 0;
+
+            while (row < height && buffer.length() < BUFFER_SIZE) {
+                appendRow(row++);
+            }
+        }
+
+        private void appendRow(int row) {
+            int w = columns.length;
+            for (int j = 0; j < w; j++) {
+                if (j > 0) {
+                    buffer.append(',');
+                }
+
+                appendValue(columns[j].get(row));
+            }
+
+            buffer.append('\n');
+        }
+
+        private void appendValue(Object value) {
+
+            if (value == null) {
+                return;
+            }
+
+            if (value instanceof Number || value instanceof Boolean) {
+                buffer.append(value);
+            } else if (value instanceof byte[] bytes) {
+                // "bytea" hex format
+                buffer.append("\\x");
+                for (byte b : bytes) {
+                    buffer.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+                }
+            } else {
+                String s = value.toString();
+                buffer.append('"');
+                for (int i = 0; i < s.length(); i++) {
+                    char c = s.charAt(i);
+                    if (c == '"') {
+                        buffer.append('"');
+                    }
+                    buffer.append(c);
+                }
+                buffer.append('"');
+            }
+        }
+    }
+}
@@ -11,6 +11,19 @@ public class SaveViaDeleteThenInsert extends SaveViaInsert {
         super(connector, tableName, batchSize);
     }
 
+    /**
+     * @since 2.0.0
+     */
+    public SaveViaDeleteThenInsert(JdbcConnector connector, TableFQName tableName, int batchSize, BulkInserter inserter) {
+        super(connector, tableName, batchSize, inserter);
+    }
+
+    // the delete and the inserts must be committed together
+    @Override
+    public boolean supportsParallelInsert() {
+        return false;
+    }
+
     @Override
     protected boolean shouldDelete(DataFrame df) {
         return true;
@@ -12,6 +12,14 @@ public class SaveViaDeleteThenUpsert extends SaveViaUpsert {
         super(connector, tableName, keyColumns, -1);
     }
 
+    /**
+     * @since 2.0.0
+     */
+    public SaveViaDeleteThenUpsert(JdbcConnector connector, TableFQName tableName, String[] keyColumns, BulkInserter inserter) {
+        // TODO: support batch size for full-sync operations
+        super(connector, tableName, keyColumns, -1, inserter);
+    }
+
     @Override
     protected boolean shouldDelete(DataFrame df) {
         return true;
@@ -15,6 +15,18 @@ public class SaveViaInsert extends TableSaveStrategy {
         super(connector, tableName, batchSize);
     }
 
+    /**
+     * @since 2.0.0
+     */
+    public SaveViaInsert(JdbcConnector connector, TableFQName tableName, int batchSize, BulkInserter inserter) {
+        super(connector, tableName, batchSize, inserter);
+    }
+
+    @Override
+    public boolean supportsParallelInsert() {
+        return true;
+    }
+
     @Override
     protected Supplier<Series<SaveOp>> doInsertOrUpdate(JdbcConnector connector, DataFrame df) {
         doInsert(connector, df);
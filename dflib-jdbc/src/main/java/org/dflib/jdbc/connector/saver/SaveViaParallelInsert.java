@@ -0,0 +1,56 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.jdbc.SaveOp;
+import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.tx.Tx;
+import org.dflib.series.SingleValueSeries;
+
+/**
+ * An insert strategy that saves the DataFrame batches over multiple DB connections at the same time, with each batch
+ * committed in its own transaction. Unlike other strategies, the save is not atomic. If one of the batches fails, the
+ * batches committed before that remain in the DB.
+ *
+ * @since 2.0.0
+ */
+public class SaveViaParallelInsert extends SaveViaInsert {
+
+    private final int connections;
+
+    public SaveViaParallelInsert(
+            JdbcConnector connector,
+            TableFQName tableName,
+            int batchSize,
+            BulkInserter inserter,
+            int connections) {
+
+        super(connector, tableName, batchSize, inserter);
+
+        if (connections < 1) {
+            throw new IllegalArgumentException("Number of connections must be positive: " + connections);
+        }
+
+        this.connections = connections;
+    }
+
+    @Override
+    public boolean supportsParallelInsert() {
+        return true;
+    }
+
+    @Override
+    public TableSaveResult saveWithLatencies(DataFrame df) {
+
+        if (!shouldInsertOrUpdate(df)) {
+            log("Nothing to save");
+            return new TableSaveResult(() -> new SingleValueSeries<>(SaveOp.skip, df.height()), Series.ofLong());
+        }
+
+        return savePipelined(
+                df,
+                connections,
+                b -> Tx.newTransaction(connector).call(c -> doInsertOrUpdate(c, b)));
+    }
+}
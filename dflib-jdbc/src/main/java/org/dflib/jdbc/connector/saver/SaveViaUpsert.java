@@ -34,6 +34,20 @@ public class SaveViaUpsert extends TableSaveStrategy {
         this.keyColumns = keyColumns;
     }
 
+    /**
+     * @since 2.0.0
+     */
+    public SaveViaUpsert(
+            JdbcConnector connector,
+            TableFQName tableName,
+            String[] keyColumns,
+            int batchSize,
+            BulkInserter inserter) {
+
+        super(connector, tableName, batchSize, inserter);
+        this.keyColumns = keyColumns;
+    }
+
     @Override
     protected Supplier<Series<SaveOp>> doInsertOrUpdate(JdbcConnector connector, DataFrame df) {
         DataFrame keyDf = keyValues(df);
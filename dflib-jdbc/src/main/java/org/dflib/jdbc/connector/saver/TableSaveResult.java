@@ -0,0 +1,36 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.jdbc.SaveOp;
+
+import java.util.function.Supplier;
+
+/**
+ * An outcome of a single {@link TableSaveStrategy} save, that includes the per-row save statuses and the time it took
+ * to save each batch of rows.
+ *
+ * @since 2.0.0
+ */
+public class TableSaveResult {
+
+    private final Supplier<Series<SaveOp>> rowSaveStatuses;
+    private final LongSeries batchLatencies;
+
+    public TableSaveResult(Supplier<Series<SaveOp>> rowSaveStatuses, LongSeries batchLatencies) {
+        this.rowSaveStatuses = rowSaveStatuses;
+        this.batchLatencies = batchLatencies;
+    }
+
+    public Supplier<Series<SaveOp>> getRowSaveStatuses() {
+        return rowSaveStatuses;
+    }
+
+    /**
+     * Returns the time in nanoseconds it took to save each batch of rows, in the order of batches. When the data was
+     * saved all at once, the Series has a single element. If there was nothing to save, it is empty.
+     */
+    public LongSeries getBatchLatencies() {
+        return batchLatencies;
+    }
+}
@@ -6,19 +6,21 @@ import org.dflib.Series;
 import org.dflib.union.SeriesUnion;
 import org.dflib.jdbc.SaveOp;
 import org.dflib.jdbc.connector.JdbcConnector;
-import org.dflib.jdbc.connector.StatementBuilder;
 import org.dflib.jdbc.connector.metadata.DbColumnMetadata;
-import org.dflib.jdbc.connector.metadata.DbTableMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
 import org.dflib.jdbc.connector.tx.Tx;
 import org.dflib.series.SingleValueSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public abstract class TableSaveStrategy {
@@ -28,21 +30,67 @@ public abstract class TableSaveStrategy {
     protected final JdbcConnector connector;
     protected final TableFQName tableName;
     private final int batchSize;
+    private final BulkInserter inserter;
+
+    private boolean pipelined;
 
     public TableSaveStrategy(JdbcConnector connector, TableFQName tableName, int batchSize) {
+        this(connector, tableName, batchSize, BulkInserter.batch());
+    }
+
+    /**
+     * @since 2.0.0
+     */
+    public TableSaveStrategy(JdbcConnector connector, TableFQName tableName, int batchSize, BulkInserter inserter) {
         this.connector = connector;
         this.tableName = tableName;
         this.batchSize = batchSize;
+        this.inserter = Objects.requireNonNull(inserter);
+    }
+
+    /**
+     * Configures the strategy to prepare each batch of rows on the calling thread, while the previous batch is being
+     * saved on a separate thread. Has no effect unless the "batchSize" is set. Note that "preparing" a batch only means
+     * slicing its rows from the DataFrame. Binding the row values to the statement parameters happens together with
+     * the DB round trip on the saving thread, as the statement belongs to the single connection used by the strategy.
+     * So pipelining only pays off when the source DataFrame is expensive to slice (e.g., has lazily-evaluated columns).
+     * To overlap the actual DB work of multiple batches, use {@link SaveViaParallelInsert}.
+     *
+     * @return this strategy instance
+     * @since 2.0.0
+     */
+    public TableSaveStrategy pipelined() {
+        this.pipelined = true;
+        return this;
+    }
+
+    /**
+     * Returns whether the batches saved by this strategy are independent of each other, so that they can be saved
+     * over multiple connections, each in its own transaction, by {@link SaveViaParallelInsert}.
+     *
+     * @since 2.0.0
+     */
+    public boolean supportsParallelInsert() {
+        return false;
     }
 
     public Supplier<Series<SaveOp>> save(DataFrame df) {
+        return saveWithLatencies(df).getRowSaveStatuses();
+    }
+
+    /**
+     * Saves the DataFrame, returning the per-row save statuses together with the time it took to save each batch.
+     *
+     * @since 2.0.0
+     */
+    public TableSaveResult saveWithLatencies(DataFrame df) {
 
         boolean shouldDelete = shouldDelete(df);
         boolean shouldInsertOrUpdate = shouldInsertOrUpdate(df);
 
         if (!shouldDelete && !shouldInsertOrUpdate) {
             log("Nothing to save");
-            return () -> new SingleValueSeries<>(SaveOp.skip, df.height());
+            return new TableSaveResult(() -> new SingleValueSeries<>(SaveOp.skip, df.height()), Series.ofLong());
         }
 
         return Tx.newTransaction(connector).call(c -> {
@@ -51,46 +99,149 @@ public abstract class TableSaveStrategy {
             }
 
             if (!shouldInsertOrUpdate) {
-                return () -> new SingleValueSeries<>(SaveOp.skip, df.height());
+                return new TableSaveResult(() -> new SingleValueSeries<>(SaveOp.skip, df.height()), Series.ofLong());
             }
 
             if (batchSize <= 0) {
-                return doInsertOrUpdate(c, df);
-            }
-
-            List<DataFrame> splits = split(df);
-            List<Supplier<Series<SaveOp>>> results = new ArrayList<>(splits.size());
-            for (DataFrame sdf : splits) {
-                results.add(doInsertOrUpdate(c, sdf));
+                long t0 = System.nanoTime();
+                Supplier<Series<SaveOp>> result = doInsertOrUpdate(c, df);
+                return new TableSaveResult(result, Series.ofLong(System.nanoTime() - t0));
             }
 
-            return () -> SeriesUnion.of(results.stream().map(Supplier::get).toArray(Series[]::new));
+            return pipelined
+                    ? savePipelined(df, 1, b -> doInsertOrUpdate(c, b))
+                    : saveBatches(df, b -> doInsertOrUpdate(c, b));
         });
     }
 
-    protected List<DataFrame> split(DataFrame df) {
-        int h = df.height();
-        if (batchSize < 1 || batchSize >= h) {
-            return List.of(df);
+    /**
+     * Saves the DataFrame batches one by one on the calling thread.
+     *
+     * @since 2.0.0
+     */
+    protected TableSaveResult saveBatches(DataFrame df, Function<DataFrame, Supplier<Series<SaveOp>>> op) {
+
+        int len = batchCount(df);
+        List<Supplier<Series<SaveOp>>> results = new ArrayList<>(len);
+        long[] latencies = new long[len];
+
+        for (int i = 0; i < len; i++) {
+            DataFrame batch = batch(df, i);
+            long t0 = System.nanoTime();
+            results.add(op.apply(batch));
+            latencies[i] = System.nanoTime() - t0;
         }
 
-        int fullSlots = h / batchSize;
-        int partialSlotSize = h % batchSize;
-        List<DataFrame> split = new ArrayList<>(partialSlotSize > 0 ? fullSlots + 1 : fullSlots);
+        return result(results, latencies);
+    }
+
+    /**
+     * Saves the DataFrame batches on a dedicated pool of "maxInFlight" threads, with up to "maxInFlight" batches saved
+     * at the same time. The next batch is prepared on the calling thread while the previous batches are being saved.
+     * The operation must be thread-safe if "maxInFlight" is greater than 1.
+     *
+     * @since 2.0.0
+     */
+    protected TableSaveResult savePipelined(
+            DataFrame df,
+            int maxInFlight,
+            Function<DataFrame, Supplier<Series<SaveOp>>> op) {
+
+        // the batches spend most of their time waiting on the DB, so they are not saved on the shared compute pool
+        ExecutorService pool = Executors.newFixedThreadPool(maxInFlight);
+
+        int len = batchCount(df);
+        List<Future<Supplier<Series<SaveOp>>>> futures = new ArrayList<>(len);
+        long[] latencies = new long[len];
+
+        try {
+            for (int i = 0; i < len; i++) {
+                DataFrame batch = batch(df, i);
+
+                // bound the number of batches in flight, and the memory taken by the prepared batches
+                if (i >= maxInFlight) {
+                    await(futures.get(i - maxInFlight));
+                }
+
+                int pos = i;
+                futures.add(pool.submit(() -> {
+                    long t0 = System.nanoTime();
+                    Supplier<Series<SaveOp>> result = op.apply(batch);
+                    latencies[pos] = System.nanoTime() - t0;
+                    return result;
+                }));
+            }
+
+            List<Supplier<Series<SaveOp>>> results = new ArrayList<>(len);
+            for (Future<Supplier<Series<SaveOp>>> f : futures) {
+                results.add(await(f));
+            }
 
-        for (int i = 0; i < fullSlots; i++) {
-            int start = i * batchSize;
-            split.add(df.rowsRange(start, start + batchSize).select());
+            // Future.get() guarantees the visibility of the latencies written by the pool threads
+            return result(results, latencies);
+        } catch (RuntimeException e) {
+
+            // the batches still queued or in flight may be using the connection the caller is about to roll back or close
+            cancel(futures);
+            throw e;
+        } finally {
+            pool.shutdown();
         }
+    }
+
+    private static TableSaveResult result(List<Supplier<Series<SaveOp>>> results, long[] latencies) {
+        return new TableSaveResult(
+                () -> SeriesUnion.of(results.stream().map(Supplier::get).toArray(Series[]::new)),
+                Series.ofLong(latencies));
+    }
 
-        if (partialSlotSize > 0) {
-            int start = fullSlots * batchSize;
-            split.add(df.rowsRange(start, start + partialSlotSize).select());
+    private static <T> T await(Future<T> f) {
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while saving DataFrame batches", e);
+        }
+    }
+
+    private static void cancel(List<? extends Future<?>> futures) {
+        for (Future<?> f : futures) {
+            f.cancel(true);
+        }
+    }
+
+    /**
+     * @deprecated the strategy no longer calls this method, and saves the DataFrame batch by batch instead of splitting
+     * it upfront. Overriding it has no effect.
+     */
+    @Deprecated(since = "2.0.0", forRemoval = true)
+    protected List<DataFrame> split(DataFrame df) {
+        int len = batchCount(df);
+        List<DataFrame> split = new ArrayList<>(len);
+        for (int i = 0; i < len; i++) {
+            split.add(batch(df, i));
         }
 
         return split;
     }
 
+    private int batchCount(DataFrame df) {
+        int h = df.height();
+        return batchSize < 1 || batchSize >= h ? 1 : (h + batchSize - 1) / batchSize;
+    }
+
+    private DataFrame batch(DataFrame df, int i) {
+        int h = df.height();
+        if (batchSize < 1 || batchSize >= h) {
+            return df;
+        }
+
+        int start = i * batchSize;
+        return df.rowsRange(start, Math.min(start + batchSize, h)).select();
+    }
+
     protected boolean shouldDelete(DataFrame df) {
         return false;
     }
@@ -106,33 +257,12 @@ public abstract class TableSaveStrategy {
     }
 
     protected int doInsert(JdbcConnector connector, DataFrame df) {
-
-        StatementBuilder builder = connector.createStatementBuilder(createInsertStatement(df))
-
-                // use param descriptors from metadata, as (1) we can and (b) some DBs don't support real
-                // metadata in PreparedStatements. See e.g. https://github.com/dflib/dflib/issues/49
-
-                .paramDescriptors(fixedParams(df.getColumnsIndex()))
-                .bindBatch(df);
-
-        try (Connection c = connector.getConnection()) {
-            builder.update(c);
-        } catch (SQLException e) {
-            throw new RuntimeException("Error closing DB connection", e);
-        }
-
+        inserter.insert(connector, tableName, df);
         return df.height();
     }
 
     protected DbColumnMetadata[] fixedParams(Index index) {
-        DbTableMetadata tableMetadata = connector.getMetadata().getTable(tableName);
-
-        DbColumnMetadata[] params = new DbColumnMetadata[index.size()];
-        for (int i = 0; i < index.size(); i++) {
-            params[i] = tableMetadata.getColumn(index.get(i));
-        }
-
-        return params;
+        return BatchInserter.params(connector, tableName, index);
     }
 
     protected void log(String line, Object... messageParams) {
@@ -140,38 +270,4 @@ public abstract class TableSaveStrategy {
             LOGGER.info(line, messageParams);
         }
     }
-
-    private String createInsertStatement(DataFrame df) {
-
-        StringBuilder sql = new StringBuilder("insert into ")
-                .append(connector.quoteTableName(tableName))
-                .append(" (");
-
-        // append columns
-        Index index = df.getColumnsIndex();
-        int len = index.size();
-
-        for (int i = 0; i < len; i++) {
-            if (i > 0) {
-                sql.append(", ");
-            }
-
-            sql.append(connector.quoteIdentifier(index.get(i)));
-        }
-
-        // append value placeholders
-        sql.append(") values (");
-
-        for (int i = 0; i < len; i++) {
-            if (i > 0) {
-                sql.append(", ");
-            }
-
-            sql.append("?");
-        }
-
-        sql.append(")");
-
-        return sql.toString();
-    }
 }
@@ -12,10 +12,20 @@ public class SelectStatementNoParams implements SelectStatement {
 
     private final String sql;
     private final SqlLogger logger;
+    private final int fetchSize;
 
     public SelectStatementNoParams(String sql, SqlLogger logger) {
+        this(sql, logger, 0);
+    }
+
+    /**
+     * @param fetchSize JDBC fetch size hint for the driver. Zero means the driver default.
+     * @since 2.0.0
+     */
+    public SelectStatementNoParams(String sql, SqlLogger logger, int fetchSize) {
         this.logger = logger;
         this.sql = sql;
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -23,7 +33,11 @@ public class SelectStatementNoParams implements SelectStatement {
 
         logger.log(sql);
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            if (fetchSize != 0) {
+                ps.setFetchSize(fetchSize);
+            }
 
             try (ResultSet rs = ps.executeQuery()) {
 
@@ -15,6 +15,7 @@ public class SelectStatementWithParams implements SelectStatement {
     private final Series<?> params;
     private final StatementBinderFactory binderFactory;
     private final SqlLogger logger;
+    private final int fetchSize;
 
     public SelectStatementWithParams(
             String sql,
@@ -22,10 +23,25 @@ public class SelectStatementWithParams implements SelectStatement {
             StatementBinderFactory binderFactory,
             SqlLogger logger) {
 
+        this(sql, params, binderFactory, logger, 0);
+    }
+
+    /**
+     * @param fetchSize JDBC fetch size hint for the driver. Zero means the driver default.
+     * @since 2.0.0
+     */
+    public SelectStatementWithParams(
+            String sql,
+            Series<?> params,
+            StatementBinderFactory binderFactory,
+            SqlLogger logger,
+            int fetchSize) {
+
         this.sql = sql;
         this.params = params;
         this.binderFactory = binderFactory;
         this.logger = logger;
+        this.fetchSize = fetchSize;
     }
 
     @Override
@@ -33,7 +49,11 @@ public class SelectStatementWithParams implements SelectStatement {
 
         logger.log(sql, params);
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        try (PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            if (fetchSize != 0) {
+                ps.setFetchSize(fetchSize);
+            }
 
             bind(ps);
 
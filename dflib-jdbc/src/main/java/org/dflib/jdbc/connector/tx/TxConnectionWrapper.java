@@ -294,15 +294,12 @@ public class TxConnectionWrapper implements Connection {
 
     @Override
     public <T> T unwrap(Class<T> iface) throws SQLException {
-        try {
-            return iface.cast(delegate);
-        } catch (ClassCastException e) {
-            return delegate.unwrap(iface);
-        }
+        return iface.isInstance(delegate) ? iface.cast(delegate) : delegate.unwrap(iface);
     }
 
     @Override
-    public boolean isWrapperFor(Class<?> iface) {
-        return iface.isAssignableFrom(delegate.getClass());
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        // the delegate may itself be a wrapper (e.g., a pooled connection proxy)
+        return iface.isInstance(delegate) || delegate.isWrapperFor(iface);
     }
 }
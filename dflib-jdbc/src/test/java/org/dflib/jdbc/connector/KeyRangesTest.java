@@ -0,0 +1,51 @@
+package org.dflib.jdbc.connector;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyRangesTest {
+
+    @Test
+    public void split_Longs() {
+        assertArrayEquals(new Object[]{6L}, KeyRanges.split(1L, 10L, 2));
+        assertArrayEquals(new Object[]{4L, 7L}, KeyRanges.split(1, 9, 3));
+    }
+
+    @Test
+    public void split_Longs_NarrowRange() {
+        assertArrayEquals(new Object[]{2L, 3L}, KeyRanges.split(1L, 3L, 10));
+        assertArrayEquals(new Object[0], KeyRanges.split(5L, 5L, 4));
+    }
+
+    @Test
+    public void split_Longs_FullSpan() {
+        Object[] boundaries = KeyRanges.split(Long.MIN_VALUE, Long.MAX_VALUE, 4);
+        assertEquals(3, boundaries.length);
+        assertEquals(0L, boundaries[1]);
+    }
+
+    @Test
+    public void split_Doubles() {
+        assertArrayEquals(new Object[]{2.5, 5.0, 7.5}, KeyRanges.split(0., 10., 4));
+    }
+
+    @Test
+    public void split_Dates() {
+        assertArrayEquals(
+                new Object[]{LocalDate.of(2024, 1, 3)},
+                KeyRanges.split(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 4), 2));
+    }
+
+    @Test
+    public void split_Nulls() {
+        assertArrayEquals(new Object[0], KeyRanges.split(null, null, 4));
+    }
+
+    @Test
+    public void split_Unsupported() {
+        assertThrows(IllegalArgumentException.class, () -> KeyRanges.split("a", "z", 4));
+    }
+}
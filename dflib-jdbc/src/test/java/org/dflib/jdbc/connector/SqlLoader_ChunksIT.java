@@ -0,0 +1,84 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SqlLoader_ChunksIT extends BaseDbTest {
+
+    private JdbcConnector connector;
+    private String sql;
+
+    @BeforeEach
+    void insertRows() {
+        adapter.delete("t1");
+        connector = adapter.createConnector();
+        sql = adapter.toNativeSql("SELECT \"id\", \"name\" from \"t1\" WHERE \"id\" > ? ORDER BY \"id\"");
+
+        adapter.getTable("t1")
+                .insertColumns("id", "name")
+                .values(1L, "n1")
+                .values(2L, "n2")
+                .values(3L, "n3")
+                .values(4L, "n4")
+                .values(5L, "n5")
+                .values(6L, "n6")
+                .exec();
+    }
+
+    @Test
+    public void loadChunks() {
+
+        List<DataFrame> chunks = new ArrayList<>();
+        connector.sqlLoader(sql).loadChunks(2, chunks::add, 1L);
+
+        assertEquals(3, chunks.size());
+
+        new DataFrameAsserts(chunks.get(0), "id", "name")
+                .expectHeight(2)
+                .expectRow(0, 2L, "n2")
+                .expectRow(1, 3L, "n3");
+
+        new DataFrameAsserts(chunks.get(1), "id", "name")
+                .expectHeight(2)
+                .expectRow(0, 4L, "n4")
+                .expectRow(1, 5L, "n5");
+
+        new DataFrameAsserts(chunks.get(2), "id", "name")
+                .expectHeight(1)
+                .expectRow(0, 6L, "n6");
+    }
+
+    @Test
+    public void loadChunks_Limit() {
+
+        List<DataFrame> chunks = new ArrayList<>();
+        connector.sqlLoader(sql).limit(3).fetchSize(1).loadChunks(2, chunks::add, 0L);
+
+        assertEquals(2, chunks.size());
+        new DataFrameAsserts(chunks.get(0), "id", "name").expectHeight(2);
+        new DataFrameAsserts(chunks.get(1), "id", "name")
+                .expectHeight(1)
+                .expectRow(0, 3L, "n3");
+    }
+
+    @Test
+    public void loadChunks_Empty() {
+        List<DataFrame> chunks = new ArrayList<>();
+        connector.sqlLoader(sql).loadChunks(2, chunks::add, 6L);
+        assertEquals(0, chunks.size());
+    }
+
+    @Test
+    public void loadChunks_Sampling() {
+        assertThrows(IllegalStateException.class, () -> connector.sqlLoader(sql).rowsSample(2).loadChunks(2, df -> {}, 0L));
+    }
+}
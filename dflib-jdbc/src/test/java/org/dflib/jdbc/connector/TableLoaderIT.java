@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.dflib.Exp.$col;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -31,6 +33,25 @@ public class TableLoaderIT extends BaseDbTest {
                 .expectRow(1, 2L, "n2", 120_000.);
     }
 
+    @Test
+    public void loadChunks() {
+
+        adapter.getTable("t1")
+                .insert(1L, "n1", 50_000.01)
+                .insert(2L, "n2", 120_000.)
+                .insert(3L, "n3", 20_000.);
+
+        List<DataFrame> chunks = new ArrayList<>();
+        adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id")
+                .loadChunks(2, chunks::add);
+
+        assertEquals(2, chunks.size());
+        new DataFrameAsserts(chunks.get(0), "id").expectHeight(2);
+        new DataFrameAsserts(chunks.get(1), "id").expectHeight(1);
+    }
+
     @Test
     public void valueCardinality() {
 
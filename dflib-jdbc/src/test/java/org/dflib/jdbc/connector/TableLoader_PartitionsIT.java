@@ -0,0 +1,111 @@
+package org.dflib.jdbc.connector;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.jdbc.unit.BaseDbTest;
+import org.dflib.junit5.DataFrameAsserts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TableLoader_PartitionsIT extends BaseDbTest {
+
+    @BeforeEach
+    void insertRows() {
+        adapter.getTable("t1")
+                .insert(1L, "n1", 10.)
+                .insert(2L, "n2", null)
+                .insert(3L, "n3", 30.)
+                .insert(4L, "n4", 40.)
+                .insert(5L, "n5", 50.)
+                .insert(6L, "n6", null)
+                .insert(7L, "n7", 70.);
+    }
+
+    @Test
+    public void partitions() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .partitions("id", 3)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, adapter.getColumnNames("t1"))
+                .expectHeight(7)
+                .expectRow(0, 1L, "n1", 10.)
+                .expectRow(1, 2L, "n2", null)
+                .expectRow(6, 7L, "n7", 70.);
+    }
+
+    @Test
+    public void partitions_Executor() {
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            DataFrame df = adapter.createConnector()
+                    .tableLoader("t1")
+                    .partitions("id", 3)
+                    .partitionsExecutor(executor)
+                    .load()
+                    .sort("id", true);
+
+            new DataFrameAsserts(df, adapter.getColumnNames("t1"))
+                    .expectHeight(7)
+                    .expectRow(0, 1L, "n1", 10.)
+                    .expectRow(6, 7L, "n7", 70.);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void partitions_NullKeys() {
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "salary")
+                .partitions("salary", 4)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "salary")
+                .expectHeight(7)
+                .expectRow(1, 2L, null)
+                .expectRow(5, 6L, null);
+    }
+
+    @Test
+    public void partitionBoundaries_Condition() {
+
+        DataFrame condition = DataFrame.byColumn("name").of(Series.of("n1", "n3", "n5", "n7"));
+
+        DataFrame df = adapter.createConnector()
+                .tableLoader("t1")
+                .cols("id", "name")
+                .eq(condition)
+                .partitionBoundaries("id", 2L, 5L)
+                .load()
+                .sort("id", true);
+
+        new DataFrameAsserts(df, "id", "name")
+                .expectHeight(4)
+                .expectRow(0, 1L, "n1")
+                .expectRow(1, 3L, "n3")
+                .expectRow(2, 5L, "n5")
+                .expectRow(3, 7L, "n7");
+    }
+
+    @Test
+    public void partitions_Limit() {
+        assertThrows(IllegalStateException.class, () -> adapter.createConnector()
+                .tableLoader("t1")
+                .partitions("id", 3)
+                .limit(2)
+                .load());
+    }
+}
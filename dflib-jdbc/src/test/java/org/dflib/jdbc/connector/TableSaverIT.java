@@ -2,6 +2,7 @@ package org.dflib.jdbc.connector;
 
 import org.dflib.DataFrame;
 import org.dflib.jdbc.SaveOp;
+import org.dflib.jdbc.connector.saver.BulkInserter;
 import org.dflib.jdbc.unit.BaseDbTest;
 import org.dflib.junit5.DataFrameAsserts;
 import org.dflib.junit5.SeriesAsserts;
@@ -9,6 +10,8 @@ import org.junit.jupiter.api.Test;
 
 import java.time.*;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public class TableSaverIT extends BaseDbTest {
 
     @Test
@@ -27,6 +30,49 @@ public class TableSaverIT extends BaseDbTest {
                 .expectRow(1, 2L, "n2", 120_000.);
     }
 
+    @Test
+    public void bulkInsert_MultiRowValues() {
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, "n1", 50_000.01,
+                2L, "n2", null,
+                3L, null, 10_000.,
+                4L, "n4", 20_000.,
+                5L, "n5", 30_000.);
+
+        // 7 params allow 2 rows per statement, leaving 1 row for the last statement
+        JdbcConnector connector = adapter.createConnector();
+        connector.tableSaver("t1")
+                .bulkInsert(BulkInserter.multiRowValues(7))
+                .save(df);
+
+        assertT1Contents()
+                .expectHeight(5)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", null)
+                .expectRow(2, 3L, null, 10_000.)
+                .expectRow(3, 4L, "n4", 20_000.)
+                .expectRow(4, 5L, "n5", 30_000.);
+    }
+
+    @Test
+    public void bulkInsert_Auto() {
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, "n1", 50_000.01,
+                2L, "n,\"2\"", 120_000.);
+
+        JdbcConnector connector = adapter.createConnector();
+        connector.tableSaver("t1")
+                .bulkInsert()
+                .save(df);
+
+        assertT1Contents()
+                .expectHeight(2)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n,\"2\"", 120_000.);
+    }
+
     @Test
     public void empty() {
 
@@ -398,6 +444,100 @@ public class TableSaverIT extends BaseDbTest {
                 .expectRow(3, 4L, "n4", 320_000.);
     }
 
+    @Test
+    public void saveInsert_Batches_Pipelined() {
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, "n1", 50_000.01,
+                2L, "n2", 120_000.,
+                3L, "n3", 220_000.,
+                4L, "n4", 320_000.,
+                5L, "n5", 420_000.);
+
+        JdbcConnector connector = adapter.createConnector();
+        SaveStats info = connector
+                .tableSaver("t1")
+                .batchSize(2)
+                .pipelined()
+                .save(df);
+
+        new SeriesAsserts(info.getRowSaveStatuses())
+                .expectData(SaveOp.insert, SaveOp.insert, SaveOp.insert, SaveOp.insert, SaveOp.insert);
+        assertEquals(3, info.getBatchLatencies().size());
+
+        assertT1Contents()
+                .expectHeight(5)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 220_000.)
+                .expectRow(3, 4L, "n4", 320_000.)
+                .expectRow(4, 5L, "n5", 420_000.);
+    }
+
+    @Test
+    public void saveInsert_Batches_PipelinedConnections() {
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, "n1", 50_000.01,
+                2L, "n2", 120_000.,
+                3L, "n3", 220_000.,
+                4L, "n4", 320_000.,
+                5L, "n5", 420_000.);
+
+        JdbcConnector connector = adapter.createConnector();
+        SaveStats info = connector
+                .tableSaver("t1")
+                .batchSize(1)
+                .pipelined(3)
+                .save(df);
+
+        new SeriesAsserts(info.getRowSaveStatuses())
+                .expectData(SaveOp.insert, SaveOp.insert, SaveOp.insert, SaveOp.insert, SaveOp.insert);
+        assertEquals(5, info.getBatchLatencies().size());
+
+        assertT1Contents()
+                .expectHeight(5)
+                .expectRow(0, 1L, "n1", 50_000.01)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 220_000.)
+                .expectRow(3, 4L, "n4", 320_000.)
+                .expectRow(4, 5L, "n5", 420_000.);
+    }
+
+    @Test
+    public void save_MergeByPk_Batches_Pipelined() {
+
+        adapter.getTable("t1").insertColumns("id", "name", "salary")
+                .values(1L, "n1", 50_000.01)
+                .values(2L, "n2", 120_000.)
+                .exec();
+
+        DataFrame df = DataFrame.foldByRow("id", "name", "salary").of(
+                1L, "n1_x", 50_000.02,
+                3L, "n3", 60_000.01,
+                4L, "n4", 20_000.,
+                5L, "n5", 40_000.);
+
+        JdbcConnector connector = adapter.createConnector();
+        SaveStats info = connector
+                .tableSaver("t1")
+                .mergeByPk()
+                .batchSize(3)
+                .pipelined(2)
+                .save(df);
+
+        new SeriesAsserts(info.getRowSaveStatuses()).expectData(SaveOp.update, SaveOp.insert, SaveOp.insert, SaveOp.insert);
+        assertEquals(2, info.getBatchLatencies().size());
+
+        assertT1Contents()
+                .expectHeight(5)
+                .expectRow(0, 1L, "n1_x", 50_000.02)
+                .expectRow(1, 2L, "n2", 120_000.)
+                .expectRow(2, 3L, "n3", 60_000.01)
+                .expectRow(3, 4L, "n4", 20_000.)
+                .expectRow(4, 5L, "n5", 40_000.);
+    }
+
     @Test
     public void saveInsert_MultipleDfs() {
 
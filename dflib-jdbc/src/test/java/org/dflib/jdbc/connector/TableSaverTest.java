@@ -5,6 +5,7 @@ import org.dflib.jdbc.connector.metadata.DbMetadata;
 import org.dflib.jdbc.connector.metadata.TableFQName;
 import org.dflib.jdbc.connector.saver.SaveViaDeleteThenInsert;
 import org.dflib.jdbc.connector.saver.SaveViaInsert;
+import org.dflib.jdbc.connector.saver.SaveViaParallelInsert;
 import org.dflib.jdbc.connector.saver.SaveViaUpsert;
 import org.dflib.jdbc.connector.statement.ValueConverterFactory;
 import org.junit.jupiter.api.Test;
@@ -64,6 +65,26 @@ public class TableSaverTest {
         assertEquals(SaveViaUpsert.class, saver.createSaveStrategy().getClass());
     }
 
+    @Test
+    public void createSaveStrategy_PipelinedConnections() {
+        TableSaver saver = new TableSaver(new TestJdbcConnector(), TableFQName.forName("xt"))
+                .batchSize(10)
+                .pipelined(3);
+
+        assertEquals(SaveViaParallelInsert.class, saver.createSaveStrategy().getClass());
+    }
+
+    @Test
+    public void createSaveStrategy_DeleteInsert_PipelinedConnections() {
+        TableSaver saver = new TableSaver(new TestJdbcConnector(), TableFQName.forName("xt"))
+                .deleteTableData()
+                .batchSize(10)
+                .pipelined(3);
+
+        assertEquals(SaveViaDeleteThenInsert.class, saver.createSaveStrategy().getClass(),
+                "DELETE and INSERT must be saved in a single transaction");
+    }
+
     static class TestJdbcConnector implements JdbcConnector {
         @Override
         public Extractor<ResultSet, ?> createExtractor(int resultSetPosition, int type, boolean mandatory) {
@@ -0,0 +1,123 @@
+package org.dflib.jdbc.connector.saver;
+
+import org.dflib.DataFrame;
+import org.dflib.Printers;
+import org.dflib.jdbc.connector.JdbcConnector;
+import org.dflib.jdbc.connector.SqlLogger;
+import org.dflib.jdbc.connector.metadata.TableFQName;
+import org.dflib.jdbc.connector.tx.TxConnectionWrapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class PostgresCopyInserterTest {
+
+    private static String read(Reader reader, int bufferSize) throws IOException {
+        StringBuilder out = new StringBuilder();
+        char[] buffer = new char[bufferSize];
+        int n;
+        while ((n = reader.read(buffer, 0, bufferSize)) >= 0) {
+            out.append(buffer, 0, n);
+        }
+        return out.toString();
+    }
+
+    @Test
+    public void csvReader() throws IOException {
+        DataFrame df = DataFrame.foldByRow("a", "b", "c", "d").of(
+                1, "x", true, LocalDate.of(2024, 1, 5),
+                null, "", null, null,
+                3L, "say \"hi\", bye", 2.5, new byte[]{1, (byte) 0xAB});
+
+        String expected = "1,\"x\",true,\"2024-01-05\"\n"
+                + ",\"\",,\n"
+                + "3,\"say \"\"hi\"\", bye\",2.5,\\x01ab\n";
+
+        assertEquals(expected, read(new PostgresCopyInserter.CsvReader(df), 1024));
+        assertEquals(expected, read(new PostgresCopyInserter.CsvReader(df), 3));
+    }
+
+    @Test
+    public void csvReader_Empty() throws IOException {
+        DataFrame df = DataFrame.empty("a", "b");
+        assertEquals("", read(new PostgresCopyInserter.CsvReader(df), 16));
+    }
+
+    @Test
+    public void insert_TxWrappedPooledConnection() {
+
+        CopyApi copyApi = new CopyApi();
+
+        // a driver connection, hidden behind a pool proxy, hidden behind a transaction wrapper
+        Connection driverConnection = (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class[]{Connection.class, PGConnection.class},
+                (p, m, args) -> switch (m.getName()) {
+                    case "getCopyAPI" -> copyApi;
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(m.getName());
+                });
+
+        Connection pooledConnection = (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class[]{Connection.class},
+                (p, m, args) -> switch (m.getName()) {
+                    case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(driverConnection);
+                    case "unwrap" -> ((Class<?>) args[0]).cast(driverConnection);
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(m.getName());
+                });
+
+        Connection txConnection = new TxConnectionWrapper(pooledConnection);
+
+        JdbcConnector connector = (JdbcConnector) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class[]{JdbcConnector.class},
+                (p, m, args) -> switch (m.getName()) {
+                    case "getConnection" -> txConnection;
+                    case "getSqlLogger" -> new SqlLogger(Printers.inline);
+                    case "quoteIdentifier" -> "\"" + args[0] + "\"";
+                    case "quoteTableName" -> "\"" + ((TableFQName) args[0]).getTable() + "\"";
+                    default -> throw new UnsupportedOperationException(m.getName());
+                });
+
+        DataFrame df = DataFrame.foldByRow("a", "b").of(1, "x", 2, "y");
+
+        new PostgresCopyInserter((c, t, d) -> fail("Unexpected fallback"), PGConnection.class)
+                .insert(connector, TableFQName.forName("t1"), df);
+
+        assertEquals("COPY \"t1\" (\"a\", \"b\") FROM STDIN WITH (FORMAT csv)", copyApi.sql);
+        assertEquals("1,\"x\"\n2,\"y\"\n", copyApi.data);
+    }
+
+    /**
+     * Stands in for "org.postgresql.PGConnection" that is not on the test classpath.
+     */
+    public interface PGConnection {
+        CopyApi getCopyAPI();
+    }
+
+    public static class CopyApi {
+
+        String sql;
+        String data;
+
+        public long copyIn(String sql, Reader reader) {
+            this.sql = sql;
+            try {
+                this.data = read(reader, 16);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return 0;
+        }
+    }
+}
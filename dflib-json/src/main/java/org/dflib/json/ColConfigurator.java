@@ -26,6 +26,16 @@ class ColConfigurator {
         return maybeCompact(Extractor.$col(map -> mapper.map(value(map, name))), compact);
     }
 
+    public static Extractor<Map<String, Object>, ?> dictionaryCol(String name) {
+        Extractor<Map<String, Object>, ?> extractor = Extractor.$col(map -> value(map, name));
+        return extractor.compactDictionary();
+    }
+
+    public static Extractor<Map<String, Object>, ?> dictionaryCol(String name, ValueMapper<Object, ?> mapper) {
+        Extractor<Map<String, Object>, ?> extractor = Extractor.$col(map -> mapper.map(value(map, name)));
+        return extractor.compactDictionary();
+    }
+
     public static Extractor<Map<String, Object>, ?> intCol(String name) {
         IntValueMapper mapper = IntValueMapper.of();
         return Extractor.$int(map -> mapper.map(value(map, name)));
@@ -25,7 +25,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -35,6 +37,13 @@ import java.util.stream.Stream;
 public class ParquetLoader {
 
     private SchemaProjector schemaProjector;
+    private final Set<String> dictionaryColNames;
+    private final Set<Integer> dictionaryColPositions;
+
+    public ParquetLoader() {
+        this.dictionaryColNames = new HashSet<>();
+        this.dictionaryColPositions = new HashSet<>();
+    }
 
     /**
      * Configures the loader to only process the specified columns, and include them in the DataFrame in the specified
@@ -87,6 +96,32 @@ public class ParquetLoader {
         return this;
     }
 
+    /**
+     * Configures a string or enum column at the given position of the loaded DataFrame to be stored dictionary-encoded
+     * as a {@link org.dflib.series.DictionarySeries}. The values from the Parquet dictionary pages are translated to
+     * the Series codes once per page, without decoding each value. Saves memory for low-cardinality columns, and
+     * speeds up grouping, joins and comparisons on the column. Has no effect on columns of other types.
+     *
+     * @since 2.0.0
+     */
+    public ParquetLoader dictionaryCol(int column) {
+        dictionaryColPositions.add(column);
+        return this;
+    }
+
+    /**
+     * Configures a string or enum column to be stored dictionary-encoded as a
+     * {@link org.dflib.series.DictionarySeries}. The values from the Parquet dictionary pages are translated to the
+     * Series codes once per page, without decoding each value. Saves memory for low-cardinality columns, and speeds up
+     * grouping, joins and comparisons on the column. Has no effect on columns of other types.
+     *
+     * @since 2.0.0
+     */
+    public ParquetLoader dictionaryCol(String column) {
+        dictionaryColNames.add(column);
+        return this;
+    }
+
     public DataFrame load(File file) {
         return load(file.toPath());
     }
@@ -171,9 +206,13 @@ public class ParquetLoader {
         StoringConverter[] converters = new StoringConverter[w];
         for (int i = 0; i < w; i++) {
 
+            Type field = schema.getFields().get(i);
+
             // Use compaction (aka "dictionarySupport") by default. ".parquet" files are already compact, so this doesn't
             // result in any performance overhead, and in fact is usually faster than ignoring dictionaries
-            converters[i] = StoringConverter.ofAccum(schema.getFields().get(i), capacity, true);
+            converters[i] = dictionaryColPositions.contains(i) || dictionaryColNames.contains(field.getName())
+                    ? StoringConverter.ofDictionaryAccum(field, capacity)
+                    : StoringConverter.ofAccum(field, capacity, true);
         }
 
         return converters;
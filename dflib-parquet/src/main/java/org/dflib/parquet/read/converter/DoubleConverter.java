@@ -3,6 +3,7 @@ package org.dflib.parquet.read.converter;
 import org.apache.parquet.column.Dictionary;
 import org.dflib.builder.DoubleAccum;
 import org.dflib.builder.DoubleHolder;
+import org.dflib.builder.DoubleNullableAccum;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.builder.ObjectHolder;
 import org.dflib.builder.ValueStore;
@@ -11,12 +12,16 @@ class DoubleConverter extends StoringPrimitiveConverter<Double> {
 
     public static DoubleConverter of(boolean accum, int accumCapacity, boolean dictionarySupport, boolean allowsNulls) {
         ValueStore<Double> store = allowsNulls
-                ? (accum ? new ObjectAccum<>(accumCapacity) : new ObjectHolder<>())
+                ? (accum ? nullableAccum(accumCapacity, dictionarySupport) : new ObjectHolder<>())
                 : (accum ? new DoubleAccum(accumCapacity) : new DoubleHolder());
 
         return new DoubleConverter(store, dictionarySupport, allowsNulls);
     }
 
+    private static ValueStore<Double> nullableAccum(int accumCapacity, boolean dictionarySupport) {
+        return dictionarySupport ? new ObjectAccum<>(accumCapacity) : new DoubleNullableAccum(accumCapacity);
+    }
+
     private Double[] dict;
 
     protected DoubleConverter(ValueStore<Double> store, boolean dictionarySupport, boolean allowsNulls) {
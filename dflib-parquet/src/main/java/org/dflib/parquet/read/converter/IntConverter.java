@@ -3,22 +3,26 @@ package org.dflib.parquet.read.converter;
 import org.apache.parquet.column.Dictionary;
 import org.dflib.builder.IntAccum;
 import org.dflib.builder.IntHolder;
+import org.dflib.builder.IntNullableAccum;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.builder.ObjectHolder;
 import org.dflib.builder.ValueStore;
 
 class IntConverter extends StoringPrimitiveConverter<Integer> {
 
-    // TODO: support dictionary when nulls are allowed?
-
     public static IntConverter of(boolean accum, int accumCapacity, boolean dictionarySupport, boolean allowsNulls) {
+        // with the dictionary, nullable values are boxed anyway, and sharing the dictionary's boxed values saves memory
         ValueStore<Integer> store = allowsNulls
-                ? (accum ? new ObjectAccum<>(accumCapacity) : new ObjectHolder<>())
+                ? (accum ? nullableAccum(accumCapacity, dictionarySupport) : new ObjectHolder<>())
                 : (accum ? new IntAccum(accumCapacity) : new IntHolder());
 
         return new IntConverter(store, dictionarySupport, allowsNulls);
     }
 
+    private static ValueStore<Integer> nullableAccum(int accumCapacity, boolean dictionarySupport) {
+        return dictionarySupport ? new ObjectAccum<>(accumCapacity) : new IntNullableAccum(accumCapacity);
+    }
+
     private Integer[] dict;
 
     protected IntConverter(ValueStore<Integer> store, boolean dictionarySupport, boolean allowsNulls) {
@@ -3,6 +3,7 @@ package org.dflib.parquet.read.converter;
 import org.apache.parquet.column.Dictionary;
 import org.dflib.builder.LongAccum;
 import org.dflib.builder.LongHolder;
+import org.dflib.builder.LongNullableAccum;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.builder.ObjectHolder;
 import org.dflib.builder.ValueStore;
@@ -11,12 +12,16 @@ class LongConverter extends StoringPrimitiveConverter<Long> {
 
     public static LongConverter of(boolean accum, int accumCapacity, boolean dictionarySupport, boolean allowsNulls) {
         ValueStore<Long> store = allowsNulls
-                ? (accum ? new ObjectAccum<>(accumCapacity) : new ObjectHolder<>())
+                ? (accum ? nullableAccum(accumCapacity, dictionarySupport) : new ObjectHolder<>())
                 : (accum ? new LongAccum(accumCapacity) : new LongHolder());
 
         return new LongConverter(store, dictionarySupport, allowsNulls);
     }
 
+    private static ValueStore<Long> nullableAccum(int accumCapacity, boolean dictionarySupport) {
+        return dictionarySupport ? new ObjectAccum<>(accumCapacity) : new LongNullableAccum(accumCapacity);
+    }
+
     private Long[] dict;
 
     protected LongConverter(ValueStore<Long> store, boolean dictionarySupport, boolean allowsNulls) {
@@ -42,6 +42,25 @@ public interface StoringConverter {
         return of(colSchema, false, -1, dictionarySupport);
     }
 
+    /**
+     * Creates a converter that stores string and enum column values in a dictionary-encoded
+     * {@link org.dflib.series.DictionarySeries}. For other column types, returns the same converter as
+     * {@link #ofAccum(Type, int, boolean)} with the dictionary support.
+     *
+     * @since 2.0.0
+     */
+    static StoringConverter ofDictionaryAccum(Type colSchema, int capacity) {
+
+        if (colSchema.isPrimitive()) {
+            LogicalTypeAnnotation lt = colSchema.getLogicalTypeAnnotation();
+            if (LogicalTypeAnnotation.stringType().equals(lt) || LogicalTypeAnnotation.enumType().equals(lt)) {
+                return StringConverter.ofDictionaryAccum(capacity, colSchema.getRepetition() == Type.Repetition.OPTIONAL);
+            }
+        }
+
+        return ofAccum(colSchema, capacity, true);
+    }
+
     private static StoringConverter of(Type colSchema, boolean accum, int accumCapacity, boolean dictionarySupport) {
 
         boolean allowsNulls = colSchema.getRepetition() == Type.Repetition.OPTIONAL;
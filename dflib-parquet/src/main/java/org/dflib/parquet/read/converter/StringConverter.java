@@ -2,6 +2,7 @@ package org.dflib.parquet.read.converter;
 
 import org.apache.parquet.column.Dictionary;
 import org.apache.parquet.io.api.Binary;
+import org.dflib.builder.DictionaryAccum;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.builder.ObjectHolder;
 import org.dflib.builder.ValueStore;
@@ -13,8 +14,22 @@ class StringConverter extends StoringPrimitiveConverter<String> {
         return new StringConverter(store, dictionarySupport, allowsNulls);
     }
 
+    /**
+     * Creates a converter storing the strings dictionary-encoded. Values from the Parquet dictionary pages are
+     * translated to the accum codes once per page, so the dictionary-encoded column chunks are loaded without decoding
+     * or hashing each value.
+     *
+     * @since 2.0.0
+     */
+    public static StringConverter ofDictionaryAccum(int accumCapacity, boolean allowsNulls) {
+        return new StringConverter(new DictionaryAccum<>(accumCapacity), true, allowsNulls);
+    }
+
     private String[] dict;
 
+    // accum codes for the Parquet dictionary ids, when storing in a DictionaryAccum
+    private int[] dictCodes;
+
     protected StringConverter(ValueStore<String> store, boolean dictionarySupport, boolean allowsNulls) {
         super(store, dictionarySupport, allowsNulls);
     }
@@ -35,10 +50,21 @@ class StringConverter extends StoringPrimitiveConverter<String> {
         for (int i = 0; i <= maxId; i++) {
             dict[i] = convert(dictionary.decodeToBinary(i));
         }
+
+        if (store instanceof DictionaryAccum<String> da) {
+            dictCodes = new int[maxId + 1];
+            for (int i = 0; i <= maxId; i++) {
+                dictCodes[i] = da.encode(dict[i]);
+            }
+        }
     }
 
     @Override
     public void addValueFromDictionary(int dictionaryId) {
-        store.push(dict[dictionaryId]);
+        if (dictCodes != null) {
+            ((DictionaryAccum<String>) store).pushCode(dictCodes[dictionaryId]);
+        } else {
+            store.push(dict[dictionaryId]);
+        }
     }
 }
\ No newline at end of file
@@ -45,6 +45,16 @@ public interface BooleanSeries extends Series<Boolean> {
         return this;
     }
 
+    /**
+     * Returns this Series, as primitive values are already stored compactly.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    default BooleanSeries compactDictionary() {
+        return this;
+    }
+
     @Override
     default BooleanSeries compactBool() {
         return this;
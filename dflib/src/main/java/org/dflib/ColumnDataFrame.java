@@ -5,6 +5,7 @@ import org.dflib.row.ColumnsRowProxy;
 import org.dflib.row.RowProxy;
 import org.dflib.series.EmptySeries;
 import org.dflib.series.IntSequenceSeries;
+import org.dflib.series.OffHeapArena;
 import org.dflib.series.SingleValueSeries;
 import org.dflib.slice.AllRowSet;
 import org.dflib.slice.ConditionalRowSet;
@@ -137,6 +138,18 @@ public class ColumnDataFrame implements DataFrame {
         return new ColumnDataFrame(null, columnsIndex, newColumnsData);
     }
 
+    @Override
+    public DataFrame materializeOffHeap(OffHeapArena arena) {
+
+        int width = width();
+        Series<?>[] newColumnsData = new Series[width];
+        for (int i = 0; i < width; i++) {
+            newColumnsData[i] = arena.copy(dataColumns[i]);
+        }
+
+        return new ColumnDataFrame(null, columnsIndex, newColumnsData);
+    }
+
     @Override
     public DataFrame addRow(Map<String, Object> row) {
 
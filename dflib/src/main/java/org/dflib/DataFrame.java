@@ -13,7 +13,9 @@ import org.dflib.pivot.PivotBuilder;
 import org.dflib.row.RowProxy;
 import org.dflib.sample.Sampler;
 import org.dflib.select.RowIndexer;
+import org.dflib.series.OffHeapArena;
 import org.dflib.slice.FixedColumnSet;
+import org.dflib.sort.IntComparator;
 import org.dflib.stack.StackBuilder;
 import org.dflib.union.DataFrameUnion;
 import org.dflib.window.Window;
@@ -258,6 +260,14 @@ public interface DataFrame extends Iterable<RowProxy> {
      */
     DataFrame materialize();
 
+    /**
+     * Materializes this DataFrame, moving its int, long and double columns to the native memory allocated by the
+     * provided arena. The returned DataFrame can only be used until the arena is closed.
+     *
+     * @since 2.0.0
+     */
+    DataFrame materializeOffHeap(OffHeapArena arena);
+
     /**
      * Applies an operation to the entire DataFrame. This is a convenience shortcut that allows to chain multiple
      * transformation methods for a given DataFrame.
@@ -352,6 +362,28 @@ public interface DataFrame extends Iterable<RowProxy> {
         return rows().sort(columns, ascending).merge();
     }
 
+    /**
+     * Parses the provided String into sorters and calls {@link #top(int, Sorter...)}.
+     *
+     * @since 2.0.0
+     */
+    default DataFrame top(int k, String sortSpec, Object... params) {
+        return top(k, Sorter.parseSorters(sortSpec, params));
+    }
+
+    /**
+     * Returns a DataFrame with the first <code>k</code> rows of this DataFrame in the order defined by the sorters.
+     * The result is the same as "sort(sorters).head(k)", but for a <code>k</code> that is small compared to the
+     * DataFrame height, only the top rows are selected and sorted, instead of sorting the entire DataFrame.
+     *
+     * @since 2.0.0
+     */
+    default DataFrame top(int k, Sorter... sorters) {
+        return sorters.length == 0
+                ? head(k)
+                : rows(IntComparator.of(this, sorters).topIndex(height(), k)).select();
+    }
+
     /**
      * Horizontally concatenates a DataFrame with another DataFrame, producing a "wider" DataFrame. If the heights of
      * the DataFrames are not the same, the behavior is governed by the "how" parameter. Rows on the left or right sides
@@ -41,6 +41,16 @@ public interface DoubleSeries extends Series<Double> {
         return this;
     }
 
+    /**
+     * Returns this Series, as primitive values are already stored compactly.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    default DoubleSeries compactDictionary() {
+        return this;
+    }
+
     @Override
     default DoubleSeries compactDouble(double forNull) {
         return this;
@@ -25,6 +25,7 @@ public class Environment {
         Environment defaultEnv = new Environment(
                 ForkJoinPool.commonPool(),
                 5000,
+                null,
                 new InlineClassExposingPrinter(),
                 createDefaultHttpClientSupplier());
 
@@ -33,6 +34,11 @@ public class Environment {
 
     private final ExecutorService threadPool;
     private final int parallelExecThreshold;
+
+    // an explicitly set policy, or null to use the default policy based on "parallelExecThreshold"
+    private final ParallelismPolicy customParallelismPolicy;
+    private final ParallelismPolicy parallelismPolicy;
+
     private final Printer printer;
 
     // HttpClient creates at least 2 threads active until it is garbage collected. So create it lazily.
@@ -60,6 +66,7 @@ public class Environment {
         resetEnv(old -> new Environment(
                 threadPool,
                 old.parallelExecThreshold,
+                old.customParallelismPolicy,
                 old.printer,
                 old.lazyHttpClient));
     }
@@ -71,6 +78,22 @@ public class Environment {
         resetEnv(old -> new Environment(
                 old.threadPool,
                 parallelExecThreshold,
+                old.customParallelismPolicy,
+                old.printer,
+                old.lazyHttpClient));
+    }
+
+    /**
+     * Sets a policy that decides whether to run parallelizable operations in parallel. Passing null restores the
+     * default cost-based policy that uses {@link #parallelExecThreshold()}.
+     *
+     * @since 2.0.0
+     */
+    public static void setParallelismPolicy(ParallelismPolicy policy) {
+        resetEnv(old -> new Environment(
+                old.threadPool,
+                old.parallelExecThreshold,
+                policy,
                 old.printer,
                 old.lazyHttpClient));
     }
@@ -82,6 +105,7 @@ public class Environment {
         resetEnv(old -> new Environment(
                 old.threadPool,
                 old.parallelExecThreshold,
+                old.customParallelismPolicy,
                 printer,
                 old.lazyHttpClient));
     }
@@ -95,6 +119,7 @@ public class Environment {
         resetEnv(old -> new Environment(
                 old.threadPool,
                 old.parallelExecThreshold,
+                old.customParallelismPolicy,
                 old.printer,
                 supplier));
     }
@@ -106,6 +131,7 @@ public class Environment {
         resetEnv(old -> new Environment(
                 old.threadPool,
                 old.parallelExecThreshold,
+                old.customParallelismPolicy,
                 old.printer,
                 new CachingSupplier<>(clientSupplier)));
     }
@@ -124,8 +150,24 @@ public class Environment {
             int parallelExecThreshold,
             Printer printer,
             Supplier<HttpClient> lazyHttpClient) {
+        this(threadPool, parallelExecThreshold, null, printer, lazyHttpClient);
+    }
+
+    /**
+     * @since 2.0.0
+     */
+    protected Environment(
+            ExecutorService threadPool,
+            int parallelExecThreshold,
+            ParallelismPolicy customParallelismPolicy,
+            Printer printer,
+            Supplier<HttpClient> lazyHttpClient) {
         this.threadPool = threadPool;
         this.parallelExecThreshold = parallelExecThreshold;
+        this.customParallelismPolicy = customParallelismPolicy;
+        this.parallelismPolicy = customParallelismPolicy != null
+                ? customParallelismPolicy
+                : ParallelismPolicy.ofCost(parallelExecThreshold);
         this.printer = printer;
         this.lazyHttpClient = lazyHttpClient;
     }
@@ -134,13 +176,35 @@ public class Environment {
         return threadPool;
     }
 
-    // TODO: Parallelization threshold is dependent on the type of data we are aggregating. E.g. concatenating
-    //  Strings is going to be much slower than summing integers. Need to be smarter about it.
+    /**
+     * Returns the number of tasks that the thread pool can run concurrently.
+     *
+     * @since 2.0.0
+     */
+    public int threadPoolParallelism() {
+        return threadPool instanceof ForkJoinPool fjp
+                ? fjp.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
 
+    /**
+     * Returns a minimal size of operations that can be split and run in parallel. Depending on the operation, this is
+     * either a number of rows, or an estimated cost of processing those rows, as calculated by the
+     * {@link #parallelismPolicy()}.
+     */
     public int parallelExecThreshold() {
         return parallelExecThreshold;
     }
 
+    /**
+     * Returns a policy that decides whether to run parallelizable operations in parallel.
+     *
+     * @since 2.0.0
+     */
+    public ParallelismPolicy parallelismPolicy() {
+        return parallelismPolicy;
+    }
+
     public Printer printer() {
         return printer;
     }
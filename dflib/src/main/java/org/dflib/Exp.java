@@ -715,6 +715,28 @@ public interface Exp<T> {
      */
     T reduce(Series<?> s);
 
+    /**
+     * Evaluates self as an "aggregating" expression against the DataFrame rows at the specified positions, returning
+     * a single value. The result is the same as calling {@link #reduce(DataFrame)} on a DataFrame of those rows, but
+     * many expressions can calculate it directly from the source columns, without creating such a DataFrame.
+     *
+     * @since 2.0.0
+     */
+    default T reduce(DataFrame df, IntSeries positions) {
+        return reduce(df.rows(positions).select());
+    }
+
+    /**
+     * Evaluates self as an "aggregating" expression against a range of the DataFrame rows, returning a single value.
+     * The result is the same as calling {@link #reduce(DataFrame)} on a DataFrame of those rows, but many expressions
+     * can calculate it directly from the source columns, without creating such a DataFrame.
+     *
+     * @since 2.0.0
+     */
+    default T reduce(DataFrame df, int fromInclusive, int toExclusive) {
+        return reduce(df.rowsRange(fromInclusive, toExclusive).select());
+    }
+
     /**
      * Returns a sorter that will use this expression for an ascending sort.
      */
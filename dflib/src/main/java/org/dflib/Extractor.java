@@ -2,9 +2,15 @@ package org.dflib;
 
 import org.dflib.builder.BoolExtractor;
 import org.dflib.builder.DoubleExtractor;
+import org.dflib.builder.DoubleNullCheckExtractor;
+import org.dflib.builder.DoubleNullableExtractor;
 import org.dflib.builder.FloatExtractor;
 import org.dflib.builder.IntExtractor;
+import org.dflib.builder.IntNullCheckExtractor;
+import org.dflib.builder.IntNullableExtractor;
 import org.dflib.builder.LongExtractor;
+import org.dflib.builder.LongNullCheckExtractor;
+import org.dflib.builder.LongNullableExtractor;
 import org.dflib.builder.ObjectExtractor;
 import org.dflib.builder.SelfExtractor;
 import org.dflib.builder.SingleValueExtractor;
@@ -38,6 +44,20 @@ public interface Extractor<F, T> {
      */
     Extractor<F, T> compact();
 
+    /**
+     * Returns a version of this extractor that would store extracted values as int codes referencing a dictionary of
+     * distinct values, producing a {@link org.dflib.series.DictionarySeries}. For low cardinality columns, it saves
+     * even more memory than {@link #compact()}, and speeds up grouping, joins and comparisons. Extractors of
+     * primitive values return the result of {@link #compact()}, as the primitives are already stored compactly.
+     * If some of the extracted values are equal, but of different classes (e.g., {@link java.util.Date} and
+     * {@link java.sql.Date}), the column is stored as a regular Series instead.
+     *
+     * @since 2.0.0
+     */
+    default Extractor<F, T> compactDictionary() {
+        return compact();
+    }
+
     /**
      * Returns an extractor that generates a column filled with a constant value that is known upfront and is not
      * extracted from the source object.
@@ -73,6 +93,72 @@ public interface Extractor<F, T> {
         return new DoubleExtractor<>(mapper);
     }
 
+    /**
+     * Returns an extractor of Integers that may contain nulls. The values are stored as primitive ints with a bitmap of
+     * nulls, producing either an {@link org.dflib.series.IntNullableSeries} or an {@link IntSeries}, if there are no
+     * nulls.
+     *
+     * @since 2.0.0
+     */
+    static <F> IntNullableExtractor<F> $nullableInt(ValueMapper<F, Integer> mapper) {
+        return new IntNullableExtractor<>(mapper);
+    }
+
+    /**
+     * Returns an extractor of Integers that may contain nulls, that reads each value as a primitive int, and then calls
+     * "nullCheck" to find out whether the value was null, as in the JDBC "ResultSet.wasNull()" protocol. Produces the
+     * same Series as {@link #$nullableInt(ValueMapper)} without boxing the values.
+     *
+     * @since 2.0.0
+     */
+    static <F> IntNullCheckExtractor<F> $nullableInt(IntValueMapper<F> mapper, BoolValueMapper<F> nullCheck) {
+        return new IntNullCheckExtractor<>(mapper, nullCheck);
+    }
+
+    /**
+     * Returns an extractor of Longs that may contain nulls. The values are stored as primitive longs with a bitmap of
+     * nulls, producing either an {@link org.dflib.series.LongNullableSeries} or a {@link LongSeries}, if there are no
+     * nulls.
+     *
+     * @since 2.0.0
+     */
+    static <F> LongNullableExtractor<F> $nullableLong(ValueMapper<F, Long> mapper) {
+        return new LongNullableExtractor<>(mapper);
+    }
+
+    /**
+     * Returns an extractor of Longs that may contain nulls, that reads each value as a primitive long, and then calls
+     * "nullCheck" to find out whether the value was null, as in the JDBC "ResultSet.wasNull()" protocol. Produces the
+     * same Series as {@link #$nullableLong(ValueMapper)} without boxing the values.
+     *
+     * @since 2.0.0
+     */
+    static <F> LongNullCheckExtractor<F> $nullableLong(LongValueMapper<F> mapper, BoolValueMapper<F> nullCheck) {
+        return new LongNullCheckExtractor<>(mapper, nullCheck);
+    }
+
+    /**
+     * Returns an extractor of Doubles that may contain nulls. The values are stored as primitive doubles with a bitmap
+     * of nulls, producing either an {@link org.dflib.series.DoubleNullableSeries} or a {@link DoubleSeries}, if there
+     * are no nulls.
+     *
+     * @since 2.0.0
+     */
+    static <F> DoubleNullableExtractor<F> $nullableDouble(ValueMapper<F, Double> mapper) {
+        return new DoubleNullableExtractor<>(mapper);
+    }
+
+    /**
+     * Returns an extractor of Doubles that may contain nulls, that reads each value as a primitive double, and then calls
+     * "nullCheck" to find out whether the value was null, as in the JDBC "ResultSet.wasNull()" protocol. Produces the
+     * same Series as {@link #$nullableDouble(ValueMapper)} without boxing the values.
+     *
+     * @since 2.0.0
+     */
+    static <F> DoubleNullCheckExtractor<F> $nullableDouble(DoubleValueMapper<F> mapper, BoolValueMapper<F> nullCheck) {
+        return new DoubleNullCheckExtractor<>(mapper, nullCheck);
+    }
+
     static <F> BoolExtractor<F> $bool(BoolValueMapper<F> mapper) {
         return new BoolExtractor<>(mapper);
     }
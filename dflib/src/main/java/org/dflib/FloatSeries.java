@@ -43,6 +43,16 @@ public interface FloatSeries extends Series<Float> {
         return this;
     }
 
+    /**
+     * Returns this Series, as primitive values are already stored compactly.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    default FloatSeries compactDictionary() {
+        return this;
+    }
+
     @Override
     default FloatSeries compactFloat(float forNull) {
         return this;
@@ -4,6 +4,7 @@ import org.dflib.exp.ExpEvaluator;
 import org.dflib.exp.Exps;
 import org.dflib.series.EmptySeries;
 import org.dflib.slice.FixedColumnSetIndex;
+import org.dflib.sort.IndexSorter;
 import org.dflib.sort.IntComparator;
 import org.dflib.union.SeriesUnion;
 import org.dflib.window.DenseRanker;
@@ -107,7 +108,22 @@ public class GroupBy {
 
     public DataFrame getGroup(Object key) {
         // TODO: nulls will blow up on read... check for nulls and do something right here..
-        return groupsCache.computeIfAbsent(key, this::resolveGroup);
+
+        // not using "computeIfAbsent", as it would block concurrent readers of the same key while the group is
+        // being resolved. Instead, concurrent readers may resolve the group more than once, but only the first
+        // result is cached
+        DataFrame group = groupsCache.get(key);
+        if (group != null) {
+            return group;
+        }
+
+        DataFrame resolved = resolveGroup(key);
+        if (resolved == null) {
+            return null;
+        }
+
+        DataFrame existing = groupsCache.putIfAbsent(key, resolved);
+        return existing != null ? existing : resolved;
     }
 
     /**
@@ -285,6 +301,39 @@ public class GroupBy {
         return sort(IntComparator.of(source, columns, ascending));
     }
 
+    /**
+     * @since 2.0.0
+     */
+    public GroupBy top(int k, String sortExps, Object... params) {
+        return top(k, Sorter.parseSorters(sortExps, params));
+    }
+
+    /**
+     * @since 2.0.0
+     */
+    public GroupBy top(int k, Sorter... sorters) {
+        return sorters.length == 0 ? head(k) : top(k, IntComparator.of(source, sorters));
+    }
+
+    /**
+     * Returns a GroupBy object that will only use the first <code>k</code> elements in each group in the order
+     * defined by the sorter. The result is the same as "sort(sorter).head(k)", but only the top elements of each group
+     * are selected and sorted, instead of sorting the entire groups.
+     *
+     * @since 2.0.0
+     */
+    public GroupBy top(int k, IntComparator sorter) {
+        Objects.requireNonNull(sorter, "Null 'sorter'");
+
+        Map<Object, IntSeries> top = new LinkedHashMap<>((int) (size() / 0.75));
+
+        for (Object groupKey : getGroupKeys()) {
+            top.put(groupKey, IndexSorter.top(getGroupIndex(groupKey), k, sorter));
+        }
+
+        return new GroupBy(source, top, sorter);
+    }
+
     /**
      * Recombines groups back to a DataFrame, preserving the effects of the initial grouping, and per-group sorting,
      * truncation and other operations.
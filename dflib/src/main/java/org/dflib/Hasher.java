@@ -1,5 +1,6 @@
 package org.dflib;
 
+import org.dflib.map.ColumnHasher;
 import org.dflib.map.CombinationHash;
 import org.dflib.row.RowProxy;
 
@@ -10,11 +11,11 @@ import org.dflib.row.RowProxy;
 public interface Hasher {
 
     static Hasher of(String column) {
-        return r -> r.get(column);
+        return new ColumnHasher(column);
     }
 
     static Hasher of(int column) {
-        return r -> r.get(column);
+        return new ColumnHasher(column);
     }
 
     default Hasher and(String column) {
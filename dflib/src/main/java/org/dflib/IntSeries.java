@@ -42,6 +42,16 @@ public interface IntSeries extends Series<Integer> {
         return this;
     }
 
+    /**
+     * Returns this Series, as primitive values are already stored compactly.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    default IntSeries compactDictionary() {
+        return this;
+    }
+
     @Override
     default IntSeries compactInt(int forNull) {
         return this;
@@ -41,6 +41,16 @@ public interface LongSeries extends Series<Long> {
         return this;
     }
 
+    /**
+     * Returns this Series, as primitive values are already stored compactly.
+     *
+     * @since 2.0.0
+     */
+    @Override
+    default LongSeries compactDictionary() {
+        return this;
+    }
+
     @Override
     default LongSeries compactLong(long forNull) {
         return this;
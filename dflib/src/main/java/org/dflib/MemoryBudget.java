@@ -0,0 +1,99 @@
+package org.dflib;
+
+import org.dflib.dfb.Dfb;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A heap memory budget for the external (out-of-core) operations, like {@link org.dflib.sort.ExternalSorter} and
+ * {@link org.dflib.groupby.ExternalGroupBy}. Such operations receive their input as a sequence of DataFrame chunks
+ * (e.g., from a streaming JDBC or CSV loader), buffer the chunks until they reach the budget, and then spill them to
+ * the temp files in the DFB format, so that the total input can be much larger than the heap.
+ *
+ * <p>The budget limits the data buffered by the operation, and is compared with a rough estimate of the DataFrame size
+ * (see {@link #estimateSize(DataFrame)}). It is not a hard limit of the operation heap usage, as the indices and
+ * copies created while sorting or grouping a buffered part of the data take extra space.</p>
+ *
+ * @since 2.0.0
+ */
+public class MemoryBudget {
+
+    // rough per-value size estimates used to compare the DataFrame size with the budget
+    private static final int OBJECT_REF_BYTES = 16;
+
+    private final long bytes;
+    private final Path tempDir;
+
+    public static MemoryBudget of(long bytes) {
+        return new MemoryBudget(bytes, null);
+    }
+
+    protected MemoryBudget(long bytes, Path tempDir) {
+
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive: " + bytes);
+        }
+
+        this.bytes = bytes;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Returns a copy of this budget that would spill the data to the specified directory instead of the default
+     * system temp directory.
+     */
+    public MemoryBudget tempDir(Path tempDir) {
+        return new MemoryBudget(bytes, Objects.requireNonNull(tempDir));
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the directory for the spill files, or null if the default system temp directory should be used.
+     */
+    public Path getTempDir() {
+        return tempDir;
+    }
+
+    /**
+     * Returns a rough estimate of the heap size of the DataFrame data.
+     */
+    public long estimateSize(DataFrame df) {
+
+        long rowBytes = 0;
+        int w = df.width();
+        for (int i = 0; i < w; i++) {
+            Series<?> c = df.getColumn(i);
+            if (c instanceof IntSeries) {
+                rowBytes += Integer.BYTES;
+            } else if (c instanceof LongSeries || c instanceof DoubleSeries) {
+                rowBytes += Long.BYTES;
+            } else if (c instanceof BooleanSeries) {
+                rowBytes += 1;
+            } else {
+                rowBytes += OBJECT_REF_BYTES;
+            }
+        }
+
+        return rowBytes * df.height();
+    }
+
+    /**
+     * Checks that the DataFrame can be spilled to a file, i.e. that all its columns are of the types supported by the
+     * DFB format. Operations should call it before spilling any data, to fail early instead of in the middle of the
+     * processing.
+     *
+     * @throws IllegalArgumentException if some of the columns can't be spilled
+     */
+    public void checkSpillable(DataFrame df) {
+        try {
+            Dfb.saver().checkColumnTypes(df);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("DataFrame exceeds the memory budget of " + bytes
+                    + " bytes and can't be spilled to disk: " + e.getMessage(), e);
+        }
+    }
+}
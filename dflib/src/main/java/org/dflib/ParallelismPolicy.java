@@ -0,0 +1,62 @@
+package org.dflib;
+
+import org.dflib.exp.CostBasedParallelismPolicy;
+
+/**
+ * A policy that decides whether a set of expressions should be evaluated in parallel on the {@link Environment}
+ * thread pool. Parallel evaluation has a fixed overhead of creating, submitting and joining tasks, so it only pays off
+ * when there's enough work to split. An instance of the policy is configured via
+ * {@link Environment#setParallelismPolicy(ParallelismPolicy)}.
+ *
+ * @since 2.0.0
+ */
+public interface ParallelismPolicy {
+
+    /**
+     * Returns a policy that runs multiple expressions in parallel when the source height reaches the threshold,
+     * regardless of the expression types.
+     */
+    static ParallelismPolicy ofRowThreshold(int threshold) {
+        return (srcHeight, exps) -> exps.length > 1 && srcHeight >= threshold;
+    }
+
+    /**
+     * Returns a policy that runs expressions in parallel when their estimated combined cost over the source rows
+     * reaches the threshold. The cost of each expression is estimated from its type.
+     */
+    static ParallelismPolicy ofCost(int threshold) {
+        return new CostBasedParallelismPolicy(threshold, false);
+    }
+
+    /**
+     * Returns a policy that runs expressions in parallel when their combined cost over the source rows reaches the
+     * threshold. The cost of each expression is initially estimated from its type, and is then refined with the time
+     * measured during the actual evaluations of that expression.
+     */
+    static ParallelismPolicy ofCalibratedCost(int threshold) {
+        return new CostBasedParallelismPolicy(threshold, true);
+    }
+
+    /**
+     * Returns true if the expressions should be evaluated over the source with the given height in parallel.
+     */
+    boolean shouldRunInParallel(int srcHeight, Exp<?>... exps);
+
+    /**
+     * Returns the number of row chunks to split the evaluation of a single expression into, so that the chunks can be
+     * evaluated in parallel. Only called for the expressions that calculate each row independently of the other rows.
+     * Returning 1 (the default) means no splitting.
+     *
+     * @param maxChunks the number of chunks the thread pool can process concurrently
+     */
+    default int rowChunks(int srcHeight, int maxChunks, Exp<?> exp) {
+        return 1;
+    }
+
+    /**
+     * A callback invoked after an expression was evaluated over the source with the given height, allowing the policy
+     * to learn from the measured evaluation time. Does nothing by default.
+     */
+    default void onEvaluated(Exp<?> exp, int srcHeight, long nanos) {
+    }
+}
@@ -8,6 +8,7 @@ import org.dflib.union.SeriesUnion;
 import org.dflib.op.ReplaceOp;
 import org.dflib.series.ArraySeries;
 import org.dflib.series.ColumnMappedSeries;
+import org.dflib.series.DictionarySeries;
 import org.dflib.series.DoubleArraySeries;
 import org.dflib.series.DoubleSingleValueSeries;
 import org.dflib.series.EmptySeries;
@@ -331,6 +332,18 @@ public interface Series<T> extends Iterable<T> {
         return new ArraySeries(data);
     }
 
+    /**
+     * Returns this or equivalent Series with values encoded as int codes referencing a dictionary of distinct values.
+     * Should be used to save memory and speed up grouping, joins and comparisons for low-cardinality columns. If the
+     * Series contains values that are equal, but of different classes (e.g., {@link java.util.Date} and
+     * {@link java.sql.Date}), it is not encoded, as a dictionary can only keep one of such values.
+     *
+     * @since 2.0.0
+     */
+    default Series<T> compactDictionary() {
+        return DictionarySeries.encode(this);
+    }
+
     /**
      * Produces a primitive BooleanSeries by converting each series value to a boolean.
      *
@@ -660,6 +673,29 @@ public interface Series<T> extends Iterable<T> {
      */
     Series<T> sort(Comparator<? super T> comparator);
 
+    /**
+     * Returns a Series with the first <code>k</code> elements of this Series in the order defined by the sorters. The
+     * result is the same as "sort(sorters).head(k)", but for a <code>k</code> that is small compared to the Series
+     * size, only the top elements are selected and sorted, instead of sorting the entire Series.
+     *
+     * @since 2.0.0
+     */
+    default Series<T> top(int k, Sorter... sorters) {
+        return sorters.length == 0
+                ? head(k)
+                : select(IntComparator.of(this, sorters).topIndex(size(), k));
+    }
+
+    /**
+     * Returns a Series with the first <code>k</code> elements of this Series in the order defined by the comparator.
+     * The result is the same as "sort(comparator).head(k)", without sorting the entire Series.
+     *
+     * @since 2.0.0
+     */
+    default Series<T> top(int k, Comparator<? super T> comparator) {
+        return select(IntComparator.of(this, comparator).topIndex(size(), k));
+    }
+
     /**
      * Calculates and returns an IntSeries representing element indices from the original Series in the order dictated
      * by the comparator. This operation is useful when we want to sort another Series based on the ordering of this
@@ -1,7 +1,12 @@
 package org.dflib.agg;
 
 import org.dflib.DecimalExp;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
 import org.dflib.Series;
+import org.dflib.groupby.GroupTable;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.window.WindowRange;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -51,6 +56,98 @@ public class Average {
         return SeriesCompactor.toDoubleSeries(s).avg();
     }
 
+    /**
+     * Calculates an average of double values for each group of the provided GroupTable in a single pass over the
+     * Series, skipping nulls.
+     *
+     * @since 2.0.0
+     */
+    public static DoubleSeries ofDoubles(Series<? extends Number> s, GroupTable groups) {
+
+        DoubleValues values = DoubleValues.of(s);
+        double[] avgs = new double[groups.groupCount()];
+        int[] counts = new int[avgs.length];
+
+        int h = values.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0 && !values.isNull(i)) {
+                avgs[g] += values.getDouble(i);
+                counts[g]++;
+            }
+        }
+
+        // turn the sums into averages
+        for (int g = 0; g < avgs.length; g++) {
+            avgs[g] = avgs[g] / counts[g];
+        }
+
+        return new DoubleArraySeries(avgs);
+    }
+
+    /**
+     * Calculates an average of double values at the specified positions of the Series, skipping nulls.
+     *
+     * @since 2.0.0
+     */
+    public static double ofDoubles(Series<? extends Number> s, IntSeries positions) {
+
+        DoubleValues values = DoubleValues.of(s);
+        double sum = 0.;
+        int count = 0;
+
+        int len = positions.size();
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+            if (!values.isNull(p)) {
+                sum += values.getDouble(p);
+                count++;
+            }
+        }
+
+        return sum / count;
+    }
+
+    /**
+     * Calculates an average of double values for the window defined by the range relative to each row of the Series,
+     * skipping nulls. The underlying sum is updated incrementally as the window moves forward, using compensated
+     * summation, so the results may differ from the per-window averages in the least significant digits.
+     *
+     * @since 2.0.0
+     */
+    public static DoubleSeries ofDoubles(Series<? extends Number> s, WindowRange range) {
+
+        DoubleValues values = DoubleValues.of(s);
+        int h = values.size();
+        double[] avgs = new double[h];
+        RunningDoubleSum sum = new RunningDoubleSum();
+        int count = 0;
+        int from = 0;
+        int to = 0;
+
+        for (int i = 0; i < h; i++) {
+
+            for (int toi = range.toExclusive(i, h); to < toi; to++) {
+                if (!values.isNull(to)) {
+                    sum.add(values.getDouble(to));
+                    count++;
+                }
+            }
+
+            for (int fromi = range.fromInclusive(i); from < fromi; from++) {
+                if (!values.isNull(from)) {
+                    sum.remove(values.getDouble(from));
+                    count--;
+                }
+            }
+
+            // NaN for the windows with no values is consistent with the per-window average
+            avgs[i] = count > 0 ? sum.sum() / count : Double.NaN;
+        }
+
+        return new DoubleArraySeries(avgs);
+    }
+
     public static BigDecimal ofBigints(Series<BigInteger> s) {
         return ofBigintsNoNullChecks(SeriesCompactor.noNullsSeries(s));
     }
@@ -0,0 +1,157 @@
+package org.dflib.agg;
+
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.groupby.GroupTable;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
+
+/**
+ * Group and row position min and max calculation, shared by {@link Min} and {@link Max}. Nulls are skipped, and the
+ * groups with no values produce "0".
+ *
+ * @since 2.0.0
+ */
+class ColumnMinMax {
+
+    static IntSeries ofInts(Series<? extends Number> s, GroupTable groups, boolean max) {
+
+        IntValues values = IntValues.of(s);
+        int[] vals = new int[groups.groupCount()];
+        boolean[] seen = new boolean[vals.length];
+
+        int h = values.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0 && !values.isNull(i)) {
+                int v = values.getInt(i);
+                if (!seen[g]) {
+                    seen[g] = true;
+                    vals[g] = v;
+                } else if (max ? v > vals[g] : v < vals[g]) {
+                    vals[g] = v;
+                }
+            }
+        }
+
+        return new IntArraySeries(vals);
+    }
+
+    static LongSeries ofLongs(Series<? extends Number> s, GroupTable groups, boolean max) {
+
+        LongValues values = LongValues.of(s);
+        long[] vals = new long[groups.groupCount()];
+        boolean[] seen = new boolean[vals.length];
+
+        int h = values.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0 && !values.isNull(i)) {
+                long v = values.getLong(i);
+                if (!seen[g]) {
+                    seen[g] = true;
+                    vals[g] = v;
+                } else if (max ? v > vals[g] : v < vals[g]) {
+                    vals[g] = v;
+                }
+            }
+        }
+
+        return new LongArraySeries(vals);
+    }
+
+    static DoubleSeries ofDoubles(Series<? extends Number> s, GroupTable groups, boolean max) {
+
+        DoubleValues values = DoubleValues.of(s);
+        double[] vals = new double[groups.groupCount()];
+        boolean[] seen = new boolean[vals.length];
+
+        int h = values.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0 && !values.isNull(i)) {
+                double v = values.getDouble(i);
+                if (!seen[g]) {
+                    seen[g] = true;
+                    vals[g] = v;
+                } else if (max ? v > vals[g] : v < vals[g]) {
+                    vals[g] = v;
+                }
+            }
+        }
+
+        return new DoubleArraySeries(vals);
+    }
+
+    static int ofInts(Series<? extends Number> s, IntSeries positions, boolean max) {
+
+        IntValues values = IntValues.of(s);
+        int result = 0;
+        boolean seen = false;
+
+        int len = positions.size();
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+            if (!values.isNull(p)) {
+                int v = values.getInt(p);
+                if (!seen) {
+                    seen = true;
+                    result = v;
+                } else if (max ? v > result : v < result) {
+                    result = v;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    static long ofLongs(Series<? extends Number> s, IntSeries positions, boolean max) {
+
+        LongValues values = LongValues.of(s);
+        long result = 0L;
+        boolean seen = false;
+
+        int len = positions.size();
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+            if (!values.isNull(p)) {
+                long v = values.getLong(p);
+                if (!seen) {
+                    seen = true;
+                    result = v;
+                } else if (max ? v > result : v < result) {
+                    result = v;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    static double ofDoubles(Series<? extends Number> s, IntSeries positions, boolean max) {
+
+        DoubleValues values = DoubleValues.of(s);
+        double result = 0.;
+        boolean seen = false;
+
+        int len = positions.size();
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+            if (!values.isNull(p)) {
+                double v = values.getDouble(p);
+                if (!seen) {
+                    seen = true;
+                    result = v;
+                } else if (max ? v > result : v < result) {
+                    result = v;
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package org.dflib.agg;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.Series;
+import org.dflib.series.DoubleNullableSeries;
+
+/**
+ * A read-only view of a numeric Series as primitive double values that hides whether the values are stored in a
+ * primitive, a nullable primitive or an object Series. Shared by the column reducers, so that they all skip nulls the
+ * same way. Doesn't copy the Series data.
+ *
+ * @since 2.0.0
+ */
+final class DoubleValues {
+
+    private final DoubleSeries primitive;
+    private final BooleanSeries notNulls;
+    private final Series<? extends Number> boxed;
+
+    private DoubleValues(DoubleSeries primitive, BooleanSeries notNulls, Series<? extends Number> boxed) {
+        this.primitive = primitive;
+        this.notNulls = notNulls;
+        this.boxed = boxed;
+    }
+
+    static DoubleValues of(Series<? extends Number> s) {
+
+        if (s instanceof DoubleSeries ps) {
+            return new DoubleValues(ps, null, null);
+        }
+
+        if (s instanceof DoubleNullableSeries ns) {
+            return new DoubleValues(ns.getValues(), ns.isNotNull(), null);
+        }
+
+        return new DoubleValues(null, null, s);
+    }
+
+    int size() {
+        return boxed != null ? boxed.size() : primitive.size();
+    }
+
+    boolean isNull(int i) {
+        return notNulls != null ? !notNulls.getBool(i) : boxed != null && boxed.get(i) == null;
+    }
+
+    /**
+     * Returns a value at the specified position. The result is undefined if the value is null.
+     */
+    double getDouble(int i) {
+        return boxed != null ? boxed.get(i).doubleValue() : primitive.getDouble(i);
+    }
+}
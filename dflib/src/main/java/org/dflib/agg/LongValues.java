@@ -0,0 +1,54 @@
+package org.dflib.agg;
+
+import org.dflib.BooleanSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.LongNullableSeries;
+
+/**
+ * A read-only view of a numeric Series as primitive long values that hides whether the values are stored in a
+ * primitive, a nullable primitive or an object Series. Shared by the column reducers, so that they all skip nulls the
+ * same way. Doesn't copy the Series data.
+ *
+ * @since 2.0.0
+ */
+final class LongValues {
+
+    private final LongSeries primitive;
+    private final BooleanSeries notNulls;
+    private final Series<? extends Number> boxed;
+
+    private LongValues(LongSeries primitive, BooleanSeries notNulls, Series<? extends Number> boxed) {
+        this.primitive = primitive;
+        this.notNulls = notNulls;
+        this.boxed = boxed;
+    }
+
+    static LongValues of(Series<? extends Number> s) {
+
+        if (s instanceof LongSeries ps) {
+            return new LongValues(ps, null, null);
+        }
+
+        if (s instanceof LongNullableSeries ns) {
+            return new LongValues(ns.getValues(), ns.isNotNull(), null);
+        }
+
+        return new LongValues(null, null, s);
+    }
+
+    int size() {
+        return boxed != null ? boxed.size() : primitive.size();
+    }
+
+    boolean isNull(int i) {
+        return notNulls != null ? !notNulls.getBool(i) : boxed != null && boxed.get(i) == null;
+    }
+
+    /**
+     * Returns a value at the specified position. The result is undefined if the value is null.
+     */
+    long getLong(int i) {
+        return boxed != null ? boxed.get(i).longValue() : primitive.getLong(i);
+    }
+}
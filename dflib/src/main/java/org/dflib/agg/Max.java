@@ -1,6 +1,14 @@
 package org.dflib.agg;
 
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
+import org.dflib.groupby.GroupTable;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.LongNullableSeries;
+import org.dflib.window.WindowRange;
 
 /**
  * @since 2.0.0
@@ -84,6 +92,12 @@ public class Max {
     }
 
     public static double ofDoubles(Series<? extends Number> s) {
+
+        // nullable primitives can be scanned without unboxing
+        if (s instanceof DoubleNullableSeries ns) {
+            return SeriesCompactor.toDoubleSeries(ns).max();
+        }
+
         int size = s.size();
 
         // "0." will be returned if size == 0 or all series values are nulls
@@ -146,6 +160,11 @@ public class Max {
     }
 
     public static int ofInts(Series<? extends Number> s) {
+
+        if (s instanceof IntNullableSeries ns) {
+            return SeriesCompactor.toIntSeries(ns).max();
+        }
+
         int size = s.size();
 
         // "0" will be returned if size == 0 or all series values are nulls
@@ -177,6 +196,11 @@ public class Max {
     }
 
     public static long ofLongs(Series<? extends Number> s) {
+
+        if (s instanceof LongNullableSeries ns) {
+            return SeriesCompactor.toLongSeries(ns).max();
+        }
+
         int size = s.size();
 
         // "0L" will be returned if size == 0 or all series values are nulls
@@ -233,4 +257,97 @@ public class Max {
 
         return max;
     }
+
+    /**
+     * Finds a max int value for each group of the provided GroupTable in a single pass over the Series, skipping
+     * nulls. Returns "0" for the groups with no non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static IntSeries ofInts(Series<? extends Number> s, GroupTable groups) {
+        return ColumnMinMax.ofInts(s, groups, true);
+    }
+
+    /**
+     * Finds a max long value for each group of the provided GroupTable in a single pass over the Series, skipping
+     * nulls. Returns "0L" for the groups with no non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static LongSeries ofLongs(Series<? extends Number> s, GroupTable groups) {
+        return ColumnMinMax.ofLongs(s, groups, true);
+    }
+
+    /**
+     * Finds a max double value for each group of the provided GroupTable in a single pass over the Series, skipping
+     * nulls. Returns "0." for the groups with no non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static DoubleSeries ofDoubles(Series<? extends Number> s, GroupTable groups) {
+        return ColumnMinMax.ofDoubles(s, groups, true);
+    }
+
+    /**
+     * Finds a max int value at the specified positions of the Series, skipping nulls. Returns "0" if there are no
+     * non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static int ofInts(Series<? extends Number> s, IntSeries positions) {
+        return ColumnMinMax.ofInts(s, positions, true);
+    }
+
+    /**
+     * Finds a max long value at the specified positions of the Series, skipping nulls. Returns "0L" if there are no
+     * non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static long ofLongs(Series<? extends Number> s, IntSeries positions) {
+        return ColumnMinMax.ofLongs(s, positions, true);
+    }
+
+    /**
+     * Finds a max double value at the specified positions of the Series, skipping nulls. Returns "0." if there are no
+     * non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static double ofDoubles(Series<? extends Number> s, IntSeries positions) {
+        return ColumnMinMax.ofDoubles(s, positions, true);
+    }
+
+    /**
+     * Finds a max int value for the window defined by the range relative to each row of the Series, skipping
+     * nulls. Returns "0" for the windows with no non-null values. Each value is processed in constant amortized time,
+     * regardless of the window size.
+     *
+     * @since 2.0.0
+     */
+    public static IntSeries ofInts(Series<? extends Number> s, WindowRange range) {
+        return WindowMinMax.ofInts(s, range, true);
+    }
+
+    /**
+     * Finds a max long value for the window defined by the range relative to each row of the Series, skipping
+     * nulls. Returns "0L" for the windows with no non-null values. Each value is processed in constant amortized time,
+     * regardless of the window size.
+     *
+     * @since 2.0.0
+     */
+    public static LongSeries ofLongs(Series<? extends Number> s, WindowRange range) {
+        return WindowMinMax.ofLongs(s, range, true);
+    }
+
+    /**
+     * Finds a max double value for the window defined by the range relative to each row of the Series, skipping
+     * nulls. Returns "0." for the windows with no non-null values. Each value is processed in constant amortized time,
+     * regardless of the window size.
+     *
+     * @since 2.0.0
+     */
+    public static DoubleSeries ofDoubles(Series<? extends Number> s, WindowRange range) {
+        return WindowMinMax.ofDoubles(s, range, true);
+    }
 }
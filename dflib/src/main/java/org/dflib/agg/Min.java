@@ -1,6 +1,14 @@
 package org.dflib.agg;
 
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
+import org.dflib.groupby.GroupTable;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.LongNullableSeries;
+import org.dflib.window.WindowRange;
 
 /**
  * @since 2.0.0
@@ -82,6 +90,12 @@ public class Min {
     }
 
     public static double ofDoubles(Series<? extends Number> s) {
+
+        // nullable primitives can be scanned without unboxing
+        if (s instanceof DoubleNullableSeries ns) {
+            return SeriesCompactor.toDoubleSeries(ns).min();
+        }
+
         int size = s.size();
 
         // "0." will be returned if size == 0 or all series values are nulls
@@ -144,6 +158,11 @@ public class Min {
     }
 
     public static int ofInts(Series<? extends Number> s) {
+
+        if (s instanceof IntNullableSeries ns) {
+            return SeriesCompactor.toIntSeries(ns).min();
+        }
+
         int size = s.size();
 
         // "0" will be returned if size == 0 or all series values are nulls
@@ -176,6 +195,10 @@ public class Min {
 
     public static long ofLongs(Series<? extends Number> s) {
 
+        if (s instanceof LongNullableSeries ns) {
+            return SeriesCompactor.toLongSeries(ns).min();
+        }
+
         int size = s.size();
 
         // "0L" will be returned if size == 0 or all series values are nulls
@@ -232,4 +255,97 @@ public class Min {
 
         return min;
     }
+
+    /**
+     * Finds a min int value for each group of the provided GroupTable in a single pass over the Series, skipping
+     * nulls. Returns "0" for the groups with no non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static IntSeries ofInts(Series<? extends Number> s, GroupTable groups) {
+        return ColumnMinMax.ofInts(s, groups, false);
+    }
+
+    /**
+     * Finds a min long value for each group of the provided GroupTable in a single pass over the Series, skipping
+     * nulls. Returns "0L" for the groups with no non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static LongSeries ofLongs(Series<? extends Number> s, GroupTable groups) {
+        return ColumnMinMax.ofLongs(s, groups, false);
+    }
+
+    /**
+     * Finds a min double value for each group of the provided GroupTable in a single pass over the Series, skipping
+     * nulls. Returns "0." for the groups with no non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static DoubleSeries ofDoubles(Series<? extends Number> s, GroupTable groups) {
+        return ColumnMinMax.ofDoubles(s, groups, false);
+    }
+
+    /**
+     * Finds a min int value at the specified positions of the Series, skipping nulls. Returns "0" if there are no
+     * non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static int ofInts(Series<? extends Number> s, IntSeries positions) {
+        return ColumnMinMax.ofInts(s, positions, false);
+    }
+
+    /**
+     * Finds a min long value at the specified positions of the Series, skipping nulls. Returns "0L" if there are no
+     * non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static long ofLongs(Series<? extends Number> s, IntSeries positions) {
+        return ColumnMinMax.ofLongs(s, positions, false);
+    }
+
+    /**
+     * Finds a min double value at the specified positions of the Series, skipping nulls. Returns "0." if there are no
+     * non-null values.
+     *
+     * @since 2.0.0
+     */
+    public static double ofDoubles(Series<? extends Number> s, IntSeries positions) {
+        return ColumnMinMax.ofDoubles(s, positions, false);
+    }
+
+    /**
+     * Finds a min int value for the window defined by the range relative to each row of the Series, skipping
+     * nulls. Returns "0" for the windows with no non-null values. Each value is processed in constant amortized time,
+     * regardless of the window size.
+     *
+     * @since 2.0.0
+     */
+    public static IntSeries ofInts(Series<? extends Number> s, WindowRange range) {
+        return WindowMinMax.ofInts(s, range, false);
+    }
+
+    /**
+     * Finds a min long value for the window defined by the range relative to each row of the Series, skipping
+     * nulls. Returns "0L" for the windows with no non-null values. Each value is processed in constant amortized time,
+     * regardless of the window size.
+     *
+     * @since 2.0.0
+     */
+    public static LongSeries ofLongs(Series<? extends Number> s, WindowRange range) {
+        return WindowMinMax.ofLongs(s, range, false);
+    }
+
+    /**
+     * Finds a min double value for the window defined by the range relative to each row of the Series, skipping
+     * nulls. Returns "0." for the windows with no non-null values. Each value is processed in constant amortized time,
+     * regardless of the window size.
+     *
+     * @since 2.0.0
+     */
+    public static DoubleSeries ofDoubles(Series<? extends Number> s, WindowRange range) {
+        return WindowMinMax.ofDoubles(s, range, false);
+    }
 }
@@ -0,0 +1,65 @@
+package org.dflib.agg;
+
+/**
+ * A sum of doubles that supports removal of the previously added values, as required by sliding windows. Uses
+ * compensated summation to limit the rounding error accumulated over many additions and removals, and tracks
+ * non-finite values separately, so that they stop affecting the sum once removed.
+ *
+ * @since 2.0.0
+ */
+class RunningDoubleSum {
+
+    private double sum;
+    private double compensation;
+    private int nans;
+    private int positiveInfinities;
+    private int negativeInfinities;
+
+    void add(double d) {
+        if (Double.isFinite(d)) {
+            addFinite(d);
+        } else if (Double.isNaN(d)) {
+            nans++;
+        } else if (d > 0) {
+            positiveInfinities++;
+        } else {
+            negativeInfinities++;
+        }
+    }
+
+    void remove(double d) {
+        if (Double.isFinite(d)) {
+            addFinite(-d);
+        } else if (Double.isNaN(d)) {
+            nans--;
+        } else if (d > 0) {
+            positiveInfinities--;
+        } else {
+            negativeInfinities--;
+        }
+    }
+
+    double sum() {
+
+        if (nans > 0 || (positiveInfinities > 0 && negativeInfinities > 0)) {
+            return Double.NaN;
+        }
+
+        if (positiveInfinities > 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        if (negativeInfinities > 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        return sum + compensation;
+    }
+
+    // Neumaier variation of the Kahan summation
+    private void addFinite(double d) {
+        double t = sum + d;
+        compensation += Math.abs(sum) >= Math.abs(d) ? (sum - t) + d : (d - t) + sum;
+        sum = t;
+    }
+}
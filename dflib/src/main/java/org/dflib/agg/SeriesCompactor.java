@@ -7,21 +7,39 @@ import org.dflib.FloatSeries;
 import org.dflib.IntSeries;
 import org.dflib.LongSeries;
 import org.dflib.Series;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.LongNullableSeries;
 
 class SeriesCompactor {
 
     private static final Condition notNullExp = Exp.$col(0).isNotNull();
 
     public static IntSeries toIntSeries(Series<? extends Number> s) {
-        return (s instanceof IntSeries)
-                ? (IntSeries) s
-                : s.select(notNullExp).compactInt(Number::intValue);
+
+        if (s instanceof IntSeries is) {
+            return is;
+        }
+
+        // nullable primitives can be compacted without unboxing
+        if (s instanceof IntNullableSeries ns) {
+            return ns.getValues().select(ns.isNotNull());
+        }
+
+        return s.select(notNullExp).compactInt(Number::intValue);
     }
 
     public static LongSeries toLongSeries(Series<? extends Number> s) {
-        return (s instanceof LongSeries)
-                ? (LongSeries) s
-                : s.select(notNullExp).compactLong(Number::longValue);
+
+        if (s instanceof LongSeries ls) {
+            return ls;
+        }
+
+        if (s instanceof LongNullableSeries ns) {
+            return ns.getValues().select(ns.isNotNull());
+        }
+
+        return s.select(notNullExp).compactLong(Number::longValue);
     }
 
     public static FloatSeries toFloatSeries(Series<? extends Number> s) {
@@ -31,9 +49,16 @@ class SeriesCompactor {
     }
 
     public static DoubleSeries toDoubleSeries(Series<? extends Number> s) {
-        return (s instanceof DoubleSeries)
-                ? (DoubleSeries) s
-                : s.select(notNullExp).compactDouble(Number::doubleValue);
+
+        if (s instanceof DoubleSeries ds) {
+            return ds;
+        }
+
+        if (s instanceof DoubleNullableSeries ns) {
+            return ns.getValues().select(ns.isNotNull());
+        }
+
+        return s.select(notNullExp).compactDouble(Number::doubleValue);
     }
 
     public static <T> Series<T> noNullsSeries(Series<T> s) {
@@ -1,6 +1,13 @@
 package org.dflib.agg;
 
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
+import org.dflib.groupby.GroupTable;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.LongArraySeries;
+import org.dflib.window.WindowRange;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -26,6 +33,241 @@ public class Sum {
         return SeriesCompactor.toDoubleSeries(s).sum();
     }
 
+    /**
+     * Calculates a sum of int values for each group of the provided GroupTable in a single pass over the Series,
+     * skipping nulls.
+     *
+     * @since 2.0.0
+     */
+    public static LongSeries ofInts(Series<? extends Number> s, GroupTable groups) {
+
+        IntValues values = IntValues.of(s);
+        long[] sums = new long[groups.groupCount()];
+
+        int h = values.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0 && !values.isNull(i)) {
+                sums[g] += values.getInt(i);
+            }
+        }
+
+        return new LongArraySeries(sums);
+    }
+
+    /**
+     * Calculates a sum of long values for each group of the provided GroupTable in a single pass over the Series,
+     * skipping nulls.
+     *
+     * @since 2.0.0
+     */
+    public static LongSeries ofLongs(Series<? extends Number> s, GroupTable groups) {
+
+        LongValues values = LongValues.of(s);
+        long[] sums = new long[groups.groupCount()];
+
+        int h = values.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0 && !values.isNull(i)) {
+                sums[g] += values.getLong(i);
+            }
+        }
+
+        return new LongArraySeries(sums);
+    }
+
+    /**
+     * Calculates a sum of double values for each group of the provided GroupTable in a single pass over the Series,
+     * skipping nulls.
+     *
+     * @since 2.0.0
+     */
+    public static DoubleSeries ofDoubles(Series<? extends Number> s, GroupTable groups) {
+
+        DoubleValues values = DoubleValues.of(s);
+        double[] sums = new double[groups.groupCount()];
+
+        int h = values.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0 && !values.isNull(i)) {
+                sums[g] += values.getDouble(i);
+            }
+        }
+
+        return new DoubleArraySeries(sums);
+    }
+
+    /**
+     * Calculates a sum of int values at the specified positions of the Series, skipping nulls.
+     *
+     * @since 2.0.0
+     */
+    public static long ofInts(Series<? extends Number> s, IntSeries positions) {
+
+        IntValues values = IntValues.of(s);
+        long sum = 0;
+
+        int len = positions.size();
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+            if (!values.isNull(p)) {
+                sum += values.getInt(p);
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Calculates a sum of long values at the specified positions of the Series, skipping nulls.
+     *
+     * @since 2.0.0
+     */
+    public static long ofLongs(Series<? extends Number> s, IntSeries positions) {
+
+        LongValues values = LongValues.of(s);
+        long sum = 0;
+
+        int len = positions.size();
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+            if (!values.isNull(p)) {
+                sum += values.getLong(p);
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Calculates a sum of double values at the specified positions of the Series, skipping nulls.
+     *
+     * @since 2.0.0
+     */
+    public static double ofDoubles(Series<? extends Number> s, IntSeries positions) {
+
+        DoubleValues values = DoubleValues.of(s);
+        double sum = 0.;
+
+        int len = positions.size();
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+            if (!values.isNull(p)) {
+                sum += values.getDouble(p);
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Calculates a sum of int values for the window defined by the range relative to each row of the Series, skipping
+     * nulls. The sum is updated incrementally as the window moves forward, so each value is read at most twice.
+     *
+     * @since 2.0.0
+     */
+    public static LongSeries ofInts(Series<? extends Number> s, WindowRange range) {
+
+        IntValues values = IntValues.of(s);
+        int h = values.size();
+        long[] sums = new long[h];
+        long sum = 0;
+        int from = 0;
+        int to = 0;
+
+        for (int i = 0; i < h; i++) {
+
+            for (int toi = range.toExclusive(i, h); to < toi; to++) {
+                if (!values.isNull(to)) {
+                    sum += values.getInt(to);
+                }
+            }
+
+            for (int fromi = range.fromInclusive(i); from < fromi; from++) {
+                if (!values.isNull(from)) {
+                    sum -= values.getInt(from);
+                }
+            }
+
+            sums[i] = sum;
+        }
+
+        return new LongArraySeries(sums);
+    }
+
+    /**
+     * Calculates a sum of long values for the window defined by the range relative to each row of the Series, skipping
+     * nulls. The sum is updated incrementally as the window moves forward, so each value is read at most twice.
+     *
+     * @since 2.0.0
+     */
+    public static LongSeries ofLongs(Series<? extends Number> s, WindowRange range) {
+
+        LongValues values = LongValues.of(s);
+        int h = values.size();
+        long[] sums = new long[h];
+        long sum = 0;
+        int from = 0;
+        int to = 0;
+
+        for (int i = 0; i < h; i++) {
+
+            for (int toi = range.toExclusive(i, h); to < toi; to++) {
+                if (!values.isNull(to)) {
+                    sum += values.getLong(to);
+                }
+            }
+
+            for (int fromi = range.fromInclusive(i); from < fromi; from++) {
+                if (!values.isNull(from)) {
+                    sum -= values.getLong(from);
+                }
+            }
+
+            sums[i] = sum;
+        }
+
+        return new LongArraySeries(sums);
+    }
+
+    /**
+     * Calculates a sum of double values for the window defined by the range relative to each row of the Series,
+     * skipping nulls. The sum is updated incrementally as the window moves forward, using compensated summation, so
+     * the results may differ from the per-window sums in the least significant digits.
+     *
+     * @since 2.0.0
+     */
+    public static DoubleSeries ofDoubles(Series<? extends Number> s, WindowRange range) {
+
+        DoubleValues values = DoubleValues.of(s);
+        int h = values.size();
+        double[] sums = new double[h];
+        RunningDoubleSum sum = new RunningDoubleSum();
+        int from = 0;
+        int to = 0;
+
+        for (int i = 0; i < h; i++) {
+
+            for (int toi = range.toExclusive(i, h); to < toi; to++) {
+                if (!values.isNull(to)) {
+                    sum.add(values.getDouble(to));
+                }
+            }
+
+            for (int fromi = range.fromInclusive(i); from < fromi; from++) {
+                if (!values.isNull(from)) {
+                    sum.remove(values.getDouble(from));
+                }
+            }
+
+            sums[i] = sum.sum();
+        }
+
+        return new DoubleArraySeries(sums);
+    }
+
     public static BigDecimal ofDecimals(Series<BigDecimal> s) {
 
         int size = s.size();
@@ -0,0 +1,166 @@
+package org.dflib.agg;
+
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
+import org.dflib.window.WindowRange;
+
+/**
+ * Sliding window min and max calculation, shared by {@link Min} and {@link Max}. Keeps a "monotonic deque" of the
+ * window rows that can still become a window extreme, so each row is processed in O(1) amortized time regardless of
+ * the window size. The results are the same as those of the per-window calculation: nulls are skipped, a window
+ * with no values produces "0", and among the equal values the earliest one wins.
+ *
+ * @since 2.0.0
+ */
+class WindowMinMax {
+
+    static IntSeries ofInts(Series<? extends Number> s, WindowRange range, boolean max) {
+
+        IntValues values = IntValues.of(s);
+        int h = values.size();
+        int[] results = new int[h];
+
+        // row indices and values of the rows in the deque. Values are ascending for min and descending for max
+        int[] rows = new int[h];
+        int[] vals = new int[h];
+        int head = 0;
+        int tail = 0;
+
+        int to = 0;
+        for (int i = 0; i < h; i++) {
+
+            for (int toi = range.toExclusive(i, h); to < toi; to++) {
+
+                if (values.isNull(to)) {
+                    continue;
+                }
+
+                int v = values.getInt(to);
+
+                while (tail > head && (max ? vals[tail - 1] < v : vals[tail - 1] > v)) {
+                    tail--;
+                }
+
+                rows[tail] = to;
+                vals[tail++] = v;
+            }
+
+            int from = range.fromInclusive(i);
+            while (tail > head && rows[head] < from) {
+                head++;
+            }
+
+            results[i] = tail > head ? vals[head] : 0;
+        }
+
+        return new IntArraySeries(results);
+    }
+
+    static LongSeries ofLongs(Series<? extends Number> s, WindowRange range, boolean max) {
+
+        LongValues values = LongValues.of(s);
+        int h = values.size();
+        long[] results = new long[h];
+
+        // row indices and values of the rows in the deque. Values are ascending for min and descending for max
+        int[] rows = new int[h];
+        long[] vals = new long[h];
+        int head = 0;
+        int tail = 0;
+
+        int to = 0;
+        for (int i = 0; i < h; i++) {
+
+            for (int toi = range.toExclusive(i, h); to < toi; to++) {
+
+                if (values.isNull(to)) {
+                    continue;
+                }
+
+                long v = values.getLong(to);
+
+                while (tail > head && (max ? vals[tail - 1] < v : vals[tail - 1] > v)) {
+                    tail--;
+                }
+
+                rows[tail] = to;
+                vals[tail++] = v;
+            }
+
+            int from = range.fromInclusive(i);
+            while (tail > head && rows[head] < from) {
+                head++;
+            }
+
+            results[i] = tail > head ? vals[head] : 0L;
+        }
+
+        return new LongArraySeries(results);
+    }
+
+    static DoubleSeries ofDoubles(Series<? extends Number> s, WindowRange range, boolean max) {
+
+        DoubleValues values = DoubleValues.of(s);
+        int h = values.size();
+        double[] results = new double[h];
+
+        // row indices and values of the rows in the deque. Values are ascending for min and descending for max.
+        // NaNs are never added to the deque, as they can not replace a min or a max
+        int[] rows = new int[h];
+        double[] vals = new double[h];
+        int head = 0;
+        int tail = 0;
+
+        // the first non-null row of the window. If it is a NaN, it becomes the window result, as the per-window
+        // calculation starts with the first non-null value, and no value compares as less or greater than a NaN
+        int first = 0;
+
+        int to = 0;
+        for (int i = 0; i < h; i++) {
+
+            for (int toi = range.toExclusive(i, h); to < toi; to++) {
+
+                if (values.isNull(to)) {
+                    continue;
+                }
+
+                double v = values.getDouble(to);
+                if (Double.isNaN(v)) {
+                    continue;
+                }
+
+                while (tail > head && (max ? vals[tail - 1] < v : vals[tail - 1] > v)) {
+                    tail--;
+                }
+
+                rows[tail] = to;
+                vals[tail++] = v;
+            }
+
+            int from = range.fromInclusive(i);
+            while (tail > head && rows[head] < from) {
+                head++;
+            }
+
+            first = Math.max(first, from);
+            while (first < to && values.isNull(first)) {
+                first++;
+            }
+
+            if (first >= to) {
+                results[i] = 0.;
+            } else if (Double.isNaN(values.getDouble(first))) {
+                results[i] = Double.NaN;
+            } else {
+                results[i] = vals[head];
+            }
+        }
+
+        return new DoubleArraySeries(results);
+    }
+}
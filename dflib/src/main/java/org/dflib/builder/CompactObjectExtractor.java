@@ -18,6 +18,11 @@ public class CompactObjectExtractor<F, T> implements Extractor<F, T> {
         return this;
     }
 
+    @Override
+    public Extractor<F, T> compactDictionary() {
+        return new DictionaryExtractor<>(mapper);
+    }
+
     @Override
     public void extractAndStore(F from, ValueStore<T> to) {
         to.push(valueCompactor.get(mapper.map(from)));
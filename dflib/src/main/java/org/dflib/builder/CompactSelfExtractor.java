@@ -15,6 +15,11 @@ public class CompactSelfExtractor<T> implements Extractor<T, T> {
         return this;
     }
 
+    @Override
+    public Extractor<T, T> compactDictionary() {
+        return new DictionaryExtractor<>(v -> v);
+    }
+
     @Override
     public void extractAndStore(T from, ValueStore<T> to) {
         to.push(valueCompactor.get(from));
@@ -0,0 +1,187 @@
+package org.dflib.builder;
+
+import org.dflib.Series;
+import org.dflib.series.ArraySeries;
+import org.dflib.series.DictionarySeries;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A thread-unsafe accumulator of object values that encodes them on the fly, storing an int code per value that
+ * references a dictionary of distinct values. Produces a {@link DictionarySeries}. Values that are equal, but of
+ * different classes (e.g., {@link java.util.Date} and {@link java.sql.Date}) can't share a dictionary entry without
+ * losing one of them. So once such a value is encountered, the accumulator stops encoding and stores the values as is,
+ * producing a regular object Series.
+ *
+ * @since 2.0.0
+ */
+public class DictionaryAccum<T> implements ValueAccum<T> {
+
+    private final Map<T, Integer> codesByValue;
+    private T[] dictionary;
+    private int dictionarySize;
+
+    private int[] codes;
+    private int size;
+
+    // not null if the values are stored as is, after encountering equal values of different classes
+    private Object[] values;
+
+    public DictionaryAccum() {
+        this(10);
+    }
+
+    public DictionaryAccum(int capacity) {
+        this.codesByValue = new HashMap<>();
+        this.dictionary = (T[]) new Object[16];
+        this.codes = new int[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void push(T v) {
+
+        if (values == null) {
+            int code = encode(v);
+            if (sameClass(code, v)) {
+
+                if (size == codes.length) {
+                    expand(codes.length * 2);
+                }
+
+                codes[size++] = code;
+                return;
+            }
+
+            decode();
+        }
+
+        if (size == values.length) {
+            expand(values.length * 2);
+        }
+
+        values[size++] = v;
+    }
+
+    @Override
+    public void replace(int pos, T v) {
+
+        int code = 0;
+        if (values == null) {
+            code = encode(v);
+            if (!sameClass(code, v)) {
+                decode();
+            }
+        }
+
+        if (pos >= size) {
+
+            int capacity = values != null ? values.length : codes.length;
+            if (pos >= capacity) {
+                expand(Math.max(capacity * 2, pos + 1));
+            }
+
+            // positions skipped over are nulls
+            if (values == null) {
+                Arrays.fill(codes, size, pos, -1);
+            }
+
+            size = pos + 1;
+        }
+
+        if (values != null) {
+            values[pos] = v;
+        } else {
+            codes[pos] = code;
+        }
+    }
+
+    /**
+     * Appends an element with the code previously returned by {@link #encode(Object)}, bypassing the value lookup.
+     */
+    public void pushCode(int code) {
+
+        if (values != null) {
+            push(dictionary[code]);
+            return;
+        }
+
+        if (size == codes.length) {
+            expand(codes.length * 2);
+        }
+
+        codes[size++] = code;
+    }
+
+    @Override
+    public Series<T> toSeries() {
+
+        if (values != null) {
+            T[] data = (T[]) (values.length == size ? values : Arrays.copyOf(values, size));
+            this.values = null;
+            return new ArraySeries<>(data);
+        }
+
+        int[] codes = this.codes.length == size ? this.codes : Arrays.copyOf(this.codes, size);
+        T[] dictionary = Arrays.copyOf(this.dictionary, dictionarySize);
+
+        // making sure no one can change the series via the accum anymore
+        this.codes = null;
+
+        return new DictionarySeries<>(dictionary, codes);
+    }
+
+    /**
+     * Returns a code of the value, adding the value to the dictionary if it is not there yet. Nulls are encoded as -1.
+     * A value equal to the one already in the dictionary gets that value's code, even if it is of a different class.
+     */
+    public int encode(T v) {
+
+        if (v == null) {
+            return -1;
+        }
+
+        Integer code = codesByValue.get(v);
+        if (code != null) {
+            return code;
+        }
+
+        if (dictionarySize == dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+        }
+
+        dictionary[dictionarySize] = v;
+        codesByValue.put(v, dictionarySize);
+        return dictionarySize++;
+    }
+
+    private boolean sameClass(int code, T v) {
+        return code < 0 || dictionary[code].getClass() == v.getClass();
+    }
+
+    // switches from storing codes to storing the values as is
+    private void decode() {
+        Object[] values = new Object[codes.length];
+        for (int i = 0; i < size; i++) {
+            int c = codes[i];
+            values[i] = c < 0 ? null : dictionary[c];
+        }
+
+        this.values = values;
+        this.codes = null;
+    }
+
+    private void expand(int newCapacity) {
+        if (values != null) {
+            this.values = Arrays.copyOf(values, newCapacity);
+        } else {
+            this.codes = Arrays.copyOf(codes, newCapacity);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.dflib.builder;
+
+import org.dflib.Extractor;
+import org.dflib.ValueMapper;
+
+/**
+ * An extractor of object values that stores them dictionary-encoded, producing a
+ * {@link org.dflib.series.DictionarySeries}.
+ *
+ * @since 2.0.0
+ */
+public class DictionaryExtractor<F, T> implements Extractor<F, T> {
+
+    private final ValueMapper<F, T> mapper;
+
+    public DictionaryExtractor(ValueMapper<F, T> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Extractor<F, T> compact() {
+        return this;
+    }
+
+    @Override
+    public Extractor<F, T> compactDictionary() {
+        return this;
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<T> to) {
+        to.push(mapper.map(from));
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<T> to, int toPos) {
+        to.replace(toPos, mapper.map(from));
+    }
+
+    @Override
+    public ValueAccum<T> createAccum(int capacity) {
+        return new DictionaryAccum<>(capacity);
+    }
+
+    @Override
+    public ValueHolder<T> createHolder() {
+        return new ObjectHolder<>();
+    }
+}
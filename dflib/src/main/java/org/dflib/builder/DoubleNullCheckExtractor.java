@@ -0,0 +1,71 @@
+package org.dflib.builder;
+
+import org.dflib.BoolValueMapper;
+import org.dflib.DoubleValueMapper;
+import org.dflib.Extractor;
+import org.dflib.ValueMapper;
+
+/**
+ * An extractor of Doubles that may contain nulls, that reads a primitive value first, and then calls "nullCheck" to
+ * find out whether the value was actually null, same as the JDBC "ResultSet.wasNull()" protocol. Unlike
+ * {@link DoubleNullableExtractor}, doesn't allocate an object per value.
+ *
+ * @since 2.0.0
+ */
+public class DoubleNullCheckExtractor<F> implements Extractor<F, Double> {
+
+    private final DoubleValueMapper<F> mapper;
+    private final BoolValueMapper<F> nullCheck;
+
+    public DoubleNullCheckExtractor(DoubleValueMapper<F> mapper, BoolValueMapper<F> nullCheck) {
+        this.mapper = mapper;
+        this.nullCheck = nullCheck;
+    }
+
+    @Override
+    public Extractor<F, Double> compact() {
+        return new CompactObjectExtractor<>(boxedMapper());
+    }
+
+    @Override
+    public Extractor<F, Double> compactDictionary() {
+        return new DictionaryExtractor<>(boxedMapper());
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Double> to) {
+        double v = mapper.map(from);
+        if (nullCheck.map(from)) {
+            to.push(null);
+        } else {
+            to.pushDouble(v);
+        }
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Double> to, int toPos) {
+        double v = mapper.map(from);
+        if (nullCheck.map(from)) {
+            to.replace(toPos, null);
+        } else {
+            to.replaceDouble(toPos, v);
+        }
+    }
+
+    @Override
+    public ValueAccum<Double> createAccum(int capacity) {
+        return new DoubleNullableAccum(capacity);
+    }
+
+    @Override
+    public ValueHolder<Double> createHolder() {
+        return new ObjectHolder<>();
+    }
+
+    private ValueMapper<F, Double> boxedMapper() {
+        return f -> {
+            double v = mapper.map(f);
+            return nullCheck.map(f) ? null : v;
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package org.dflib.builder;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.Series;
+import org.dflib.series.DoubleNullableSeries;
+
+/**
+ * An accumulator of Doubles that may contain nulls, that stores them as primitive doubles and a "not null" bitmap,
+ * producing an {@link DoubleNullableSeries}, or an {@link DoubleSeries} if no nulls were encountered.
+ *
+ * @since 2.0.0
+ */
+public class DoubleNullableAccum implements ValueAccum<Double> {
+
+    private final DoubleAccum values;
+    private final BoolAccum notNulls;
+
+    public DoubleNullableAccum() {
+        this(10);
+    }
+
+    public DoubleNullableAccum(int capacity) {
+        this.values = new DoubleAccum(capacity);
+        this.notNulls = new BoolAccum(Math.max(capacity, 1));
+    }
+
+    @Override
+    public void push(Double v) {
+        if (v != null) {
+            pushDouble(v);
+        } else {
+            values.pushDouble(0.);
+            notNulls.pushBool(false);
+        }
+    }
+
+    @Override
+    public void pushDouble(double v) {
+        values.pushDouble(v);
+        notNulls.pushBool(true);
+    }
+
+    @Override
+    public void replace(int pos, Double v) {
+        if (v != null) {
+            replaceDouble(pos, v);
+        } else {
+            values.replaceDouble(pos, 0.);
+            notNulls.replaceBool(pos, false);
+        }
+    }
+
+    @Override
+    public void replaceDouble(int pos, double v) {
+        values.replaceDouble(pos, v);
+        notNulls.replaceBool(pos, true);
+    }
+
+    @Override
+    public Series<Double> toSeries() {
+        DoubleSeries values = this.values.toSeries();
+        BooleanSeries notNulls = this.notNulls.toSeries();
+        return notNulls.countFalse() > 0 ? new DoubleNullableSeries(values, notNulls) : values;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,46 @@
+package org.dflib.builder;
+
+import org.dflib.Extractor;
+import org.dflib.ValueMapper;
+
+/**
+ * @since 2.0.0
+ */
+public class DoubleNullableExtractor<F> implements Extractor<F, Double> {
+
+    private final ValueMapper<F, Double> mapper;
+
+    public DoubleNullableExtractor(ValueMapper<F, Double> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Extractor<F, Double> compact() {
+        return new CompactObjectExtractor<>(mapper);
+    }
+
+    @Override
+    public Extractor<F, Double> compactDictionary() {
+        return new DictionaryExtractor<>(mapper);
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Double> to) {
+        to.push(mapper.map(from));
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Double> to, int toPos) {
+        to.replace(toPos, mapper.map(from));
+    }
+
+    @Override
+    public ValueAccum<Double> createAccum(int capacity) {
+        return new DoubleNullableAccum(capacity);
+    }
+
+    @Override
+    public ValueHolder<Double> createHolder() {
+        return new ObjectHolder<>();
+    }
+}
@@ -0,0 +1,71 @@
+package org.dflib.builder;
+
+import org.dflib.BoolValueMapper;
+import org.dflib.Extractor;
+import org.dflib.IntValueMapper;
+import org.dflib.ValueMapper;
+
+/**
+ * An extractor of Integers that may contain nulls, that reads a primitive value first, and then calls "nullCheck" to
+ * find out whether the value was actually null, same as the JDBC "ResultSet.wasNull()" protocol. Unlike
+ * {@link IntNullableExtractor}, doesn't allocate an object per value.
+ *
+ * @since 2.0.0
+ */
+public class IntNullCheckExtractor<F> implements Extractor<F, Integer> {
+
+    private final IntValueMapper<F> mapper;
+    private final BoolValueMapper<F> nullCheck;
+
+    public IntNullCheckExtractor(IntValueMapper<F> mapper, BoolValueMapper<F> nullCheck) {
+        this.mapper = mapper;
+        this.nullCheck = nullCheck;
+    }
+
+    @Override
+    public Extractor<F, Integer> compact() {
+        return new CompactObjectExtractor<>(boxedMapper());
+    }
+
+    @Override
+    public Extractor<F, Integer> compactDictionary() {
+        return new DictionaryExtractor<>(boxedMapper());
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Integer> to) {
+        int v = mapper.map(from);
+        if (nullCheck.map(from)) {
+            to.push(null);
+        } else {
+            to.pushInt(v);
+        }
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Integer> to, int toPos) {
+        int v = mapper.map(from);
+        if (nullCheck.map(from)) {
+            to.replace(toPos, null);
+        } else {
+            to.replaceInt(toPos, v);
+        }
+    }
+
+    @Override
+    public ValueAccum<Integer> createAccum(int capacity) {
+        return new IntNullableAccum(capacity);
+    }
+
+    @Override
+    public ValueHolder<Integer> createHolder() {
+        return new ObjectHolder<>();
+    }
+
+    private ValueMapper<F, Integer> boxedMapper() {
+        return f -> {
+            int v = mapper.map(f);
+            return nullCheck.map(f) ? null : v;
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package org.dflib.builder;
+
+import org.dflib.BooleanSeries;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.series.IntNullableSeries;
+
+/**
+ * An accumulator of Integers that may contain nulls, that stores them as primitive ints and a "not null" bitmap,
+ * producing an {@link IntNullableSeries}, or an {@link IntSeries} if no nulls were encountered.
+ *
+ * @since 2.0.0
+ */
+public class IntNullableAccum implements ValueAccum<Integer> {
+
+    private final IntAccum values;
+    private final BoolAccum notNulls;
+
+    public IntNullableAccum() {
+        this(10);
+    }
+
+    public IntNullableAccum(int capacity) {
+        this.values = new IntAccum(capacity);
+        this.notNulls = new BoolAccum(Math.max(capacity, 1));
+    }
+
+    @Override
+    public void push(Integer v) {
+        if (v != null) {
+            pushInt(v);
+        } else {
+            values.pushInt(0);
+            notNulls.pushBool(false);
+        }
+    }
+
+    @Override
+    public void pushInt(int v) {
+        values.pushInt(v);
+        notNulls.pushBool(true);
+    }
+
+    @Override
+    public void replace(int pos, Integer v) {
+        if (v != null) {
+            replaceInt(pos, v);
+        } else {
+            values.replaceInt(pos, 0);
+            notNulls.replaceBool(pos, false);
+        }
+    }
+
+    @Override
+    public void replaceInt(int pos, int v) {
+        values.replaceInt(pos, v);
+        notNulls.replaceBool(pos, true);
+    }
+
+    @Override
+    public Series<Integer> toSeries() {
+        IntSeries values = this.values.toSeries();
+        BooleanSeries notNulls = this.notNulls.toSeries();
+        return notNulls.countFalse() > 0 ? new IntNullableSeries(values, notNulls) : values;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,46 @@
+package org.dflib.builder;
+
+import org.dflib.Extractor;
+import org.dflib.ValueMapper;
+
+/**
+ * @since 2.0.0
+ */
+public class IntNullableExtractor<F> implements Extractor<F, Integer> {
+
+    private final ValueMapper<F, Integer> mapper;
+
+    public IntNullableExtractor(ValueMapper<F, Integer> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Extractor<F, Integer> compact() {
+        return new CompactObjectExtractor<>(mapper);
+    }
+
+    @Override
+    public Extractor<F, Integer> compactDictionary() {
+        return new DictionaryExtractor<>(mapper);
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Integer> to) {
+        to.push(mapper.map(from));
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Integer> to, int toPos) {
+        to.replace(toPos, mapper.map(from));
+    }
+
+    @Override
+    public ValueAccum<Integer> createAccum(int capacity) {
+        return new IntNullableAccum(capacity);
+    }
+
+    @Override
+    public ValueHolder<Integer> createHolder() {
+        return new ObjectHolder<>();
+    }
+}
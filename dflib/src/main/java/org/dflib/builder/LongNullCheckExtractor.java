@@ -0,0 +1,71 @@
+package org.dflib.builder;
+
+import org.dflib.BoolValueMapper;
+import org.dflib.Extractor;
+import org.dflib.LongValueMapper;
+import org.dflib.ValueMapper;
+
+/**
+ * An extractor of Longs that may contain nulls, that reads a primitive value first, and then calls "nullCheck" to
+ * find out whether the value was actually null, same as the JDBC "ResultSet.wasNull()" protocol. Unlike
+ * {@link LongNullableExtractor}, doesn't allocate an object per value.
+ *
+ * @since 2.0.0
+ */
+public class LongNullCheckExtractor<F> implements Extractor<F, Long> {
+
+    private final LongValueMapper<F> mapper;
+    private final BoolValueMapper<F> nullCheck;
+
+    public LongNullCheckExtractor(LongValueMapper<F> mapper, BoolValueMapper<F> nullCheck) {
+        this.mapper = mapper;
+        this.nullCheck = nullCheck;
+    }
+
+    @Override
+    public Extractor<F, Long> compact() {
+        return new CompactObjectExtractor<>(boxedMapper());
+    }
+
+    @Override
+    public Extractor<F, Long> compactDictionary() {
+        return new DictionaryExtractor<>(boxedMapper());
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Long> to) {
+        long v = mapper.map(from);
+        if (nullCheck.map(from)) {
+            to.push(null);
+        } else {
+            to.pushLong(v);
+        }
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Long> to, int toPos) {
+        long v = mapper.map(from);
+        if (nullCheck.map(from)) {
+            to.replace(toPos, null);
+        } else {
+            to.replaceLong(toPos, v);
+        }
+    }
+
+    @Override
+    public ValueAccum<Long> createAccum(int capacity) {
+        return new LongNullableAccum(capacity);
+    }
+
+    @Override
+    public ValueHolder<Long> createHolder() {
+        return new ObjectHolder<>();
+    }
+
+    private ValueMapper<F, Long> boxedMapper() {
+        return f -> {
+            long v = mapper.map(f);
+            return nullCheck.map(f) ? null : v;
+        };
+    }
+}
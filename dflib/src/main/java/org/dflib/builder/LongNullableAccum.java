@@ -0,0 +1,71 @@
+package org.dflib.builder;
+
+import org.dflib.BooleanSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.LongNullableSeries;
+
+/**
+ * An accumulator of Longs that may contain nulls, that stores them as primitive longs and a "not null" bitmap,
+ * producing an {@link LongNullableSeries}, or an {@link LongSeries} if no nulls were encountered.
+ *
+ * @since 2.0.0
+ */
+public class LongNullableAccum implements ValueAccum<Long> {
+
+    private final LongAccum values;
+    private final BoolAccum notNulls;
+
+    public LongNullableAccum() {
+        this(10);
+    }
+
+    public LongNullableAccum(int capacity) {
+        this.values = new LongAccum(capacity);
+        this.notNulls = new BoolAccum(Math.max(capacity, 1));
+    }
+
+    @Override
+    public void push(Long v) {
+        if (v != null) {
+            pushLong(v);
+        } else {
+            values.pushLong(0L);
+            notNulls.pushBool(false);
+        }
+    }
+
+    @Override
+    public void pushLong(long v) {
+        values.pushLong(v);
+        notNulls.pushBool(true);
+    }
+
+    @Override
+    public void replace(int pos, Long v) {
+        if (v != null) {
+            replaceLong(pos, v);
+        } else {
+            values.replaceLong(pos, 0L);
+            notNulls.replaceBool(pos, false);
+        }
+    }
+
+    @Override
+    public void replaceLong(int pos, long v) {
+        values.replaceLong(pos, v);
+        notNulls.replaceBool(pos, true);
+    }
+
+    @Override
+    public Series<Long> toSeries() {
+        LongSeries values = this.values.toSeries();
+        BooleanSeries notNulls = this.notNulls.toSeries();
+        return notNulls.countFalse() > 0 ? new LongNullableSeries(values, notNulls) : values;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+}
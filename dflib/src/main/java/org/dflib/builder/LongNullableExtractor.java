@@ -0,0 +1,46 @@
+package org.dflib.builder;
+
+import org.dflib.Extractor;
+import org.dflib.ValueMapper;
+
+/**
+ * @since 2.0.0
+ */
+public class LongNullableExtractor<F> implements Extractor<F, Long> {
+
+    private final ValueMapper<F, Long> mapper;
+
+    public LongNullableExtractor(ValueMapper<F, Long> mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Extractor<F, Long> compact() {
+        return new CompactObjectExtractor<>(mapper);
+    }
+
+    @Override
+    public Extractor<F, Long> compactDictionary() {
+        return new DictionaryExtractor<>(mapper);
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Long> to) {
+        to.push(mapper.map(from));
+    }
+
+    @Override
+    public void extractAndStore(F from, ValueStore<Long> to, int toPos) {
+        to.replace(toPos, mapper.map(from));
+    }
+
+    @Override
+    public ValueAccum<Long> createAccum(int capacity) {
+        return new LongNullableAccum(capacity);
+    }
+
+    @Override
+    public ValueHolder<Long> createHolder() {
+        return new ObjectHolder<>();
+    }
+}
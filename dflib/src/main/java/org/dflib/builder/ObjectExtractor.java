@@ -16,6 +16,11 @@ public class ObjectExtractor<F, T> implements Extractor<F, T> {
         return new CompactObjectExtractor(mapper);
     }
 
+    @Override
+    public Extractor<F, T> compactDictionary() {
+        return new DictionaryExtractor<>(mapper);
+    }
+
     @Override
     public void extractAndStore(F from, ValueStore<T> to) {
         to.push(mapper.map(from));
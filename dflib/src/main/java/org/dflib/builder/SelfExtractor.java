@@ -9,6 +9,11 @@ public class SelfExtractor<T> implements Extractor<T, T> {
         return new CompactSelfExtractor();
     }
 
+    @Override
+    public Extractor<T, T> compactDictionary() {
+        return new DictionaryExtractor<>(v -> v);
+    }
+
     @Override
     public void extractAndStore(T from, ValueStore<T> to) {
         to.push(from);
@@ -0,0 +1,49 @@
+package org.dflib.dfb;
+
+import org.dflib.DataFrame;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * An entry point to save and load DataFrames in DFB, a native DFLib binary columnar format. DFB files are intended
+ * for a fast reload of the intermediate data between processing steps or across processes. The loaded columns are
+ * read without parsing. Numeric columns can also be memory-mapped instead of being copied to the heap, if the loader
+ * is given an {@link org.dflib.series.OffHeapArena} (see {@link DfbLoader#arena(org.dflib.series.OffHeapArena)}).
+ *
+ * @since 2.0.0
+ */
+public class Dfb {
+
+    public static DataFrame load(File file) {
+        return loader().load(file);
+    }
+
+    public static DataFrame load(Path filePath) {
+        return loader().load(filePath);
+    }
+
+    public static DataFrame load(String filePath) {
+        return loader().load(filePath);
+    }
+
+    public static DfbLoader loader() {
+        return new DfbLoader();
+    }
+
+    public static void save(DataFrame df, File file) {
+        saver().save(df, file);
+    }
+
+    public static void save(DataFrame df, Path filePath) {
+        saver().save(df, filePath);
+    }
+
+    public static void save(DataFrame df, String filePath) {
+        saver().save(df, filePath);
+    }
+
+    public static DfbSaver saver() {
+        return new DfbSaver();
+    }
+}
@@ -0,0 +1,74 @@
+package org.dflib.dfb;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.LongNullableSeries;
+
+import java.time.LocalDate;
+
+/**
+ * Column storage types of the DFB format.
+ *
+ * @since 2.0.0
+ */
+enum DfbColumnType {
+
+    INT(1), LONG(2), DOUBLE(3), BOOLEAN(4), STRING(5), DATE(6);
+
+    final byte id;
+
+    DfbColumnType(int id) {
+        this.id = (byte) id;
+    }
+
+    static DfbColumnType ofId(byte id) {
+        for (DfbColumnType t : values()) {
+            if (t.id == id) {
+                return t;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown DFB column type: " + id);
+    }
+
+    static DfbColumnType of(String label, Series<?> s) {
+
+        if (s instanceof IntSeries || s instanceof IntNullableSeries) {
+            return INT;
+        } else if (s instanceof LongSeries || s instanceof LongNullableSeries) {
+            return LONG;
+        } else if (s instanceof DoubleSeries || s instanceof DoubleNullableSeries) {
+            return DOUBLE;
+        } else if (s instanceof BooleanSeries) {
+            return BOOLEAN;
+        }
+
+        Class<?> type = s.getInferredType();
+        if (type == Integer.class) {
+            return INT;
+        } else if (type == Long.class) {
+            return LONG;
+        } else if (type == Double.class) {
+            return DOUBLE;
+        } else if (type == Boolean.class) {
+            return BOOLEAN;
+        } else if (type == String.class) {
+            return STRING;
+        } else if (type == LocalDate.class) {
+            return DATE;
+        }
+
+        // a column with all nulls
+        if (type == Object.class && s.isNull().countFalse() == 0) {
+            return STRING;
+        }
+
+        throw new IllegalArgumentException("Column '" + label + "' of type " + type.getName()
+                + " can't be saved in DFB format. Supported value types are Integer, Long, Double, Boolean, String and LocalDate");
+    }
+}
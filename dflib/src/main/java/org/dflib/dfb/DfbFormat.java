@@ -0,0 +1,53 @@
+package org.dflib.dfb;
+
+/**
+ * Layout constants of the DFB files. A file starts with a header, followed by the column blocks, each aligned at 8
+ * bytes. All numbers are little-endian. The header is structured as follows:
+ *
+ * <pre>
+ * byte[4]  magic "DFB1"
+ * int      format version
+ * int      height
+ * int      width
+ * (for each column)
+ *   int     label length in bytes
+ *   byte[]  UTF-8 label
+ *   byte    column type
+ *   byte    flags
+ *   long    block offset
+ *   long    block length
+ * </pre>
+ *
+ * A column block starts with a "not null" bitmap, if the column has nulls, followed by the values. Primitives are
+ * stored as arrays of fixed-size numbers, booleans as a bitmap, dates as epoch day longs. Strings are
+ * dictionary-encoded: a block contains the dictionary and an array of int codes, with -1 in place of nulls.
+ *
+ * @since 2.0.0
+ */
+final class DfbFormat {
+
+    static final byte[] MAGIC = {'D', 'F', 'B', '1'};
+    static final int VERSION = 1;
+
+    static final byte FLAG_HAS_NULLS = 1;
+
+    // magic, version, height, width
+    static final int HEADER_PREFIX_SIZE = 16;
+
+    // type, flags, offset, length
+    static final int COLUMN_HEADER_FIXED_SIZE = 18;
+
+    // dictionary byte length, dictionary size and a reserved int
+    static final int DICTIONARY_HEADER_SIZE = 16;
+
+    private DfbFormat() {
+    }
+
+    static int padding(long position) {
+        return (int) ((8 - (position & 7)) & 7);
+    }
+
+    static int bitmapWords(int height) {
+        return (int) (((long) height + 63) >>> 6);
+    }
+}
@@ -0,0 +1,283 @@
+package org.dflib.dfb;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.BooleanBitsetSeries;
+import org.dflib.series.DictionarySeries;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.LongArraySeries;
+import org.dflib.series.LongNullableSeries;
+import org.dflib.series.OffHeapArena;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Loads DataFrames from the DFB binary columnar files. If an {@link OffHeapArena} is provided, int, long and double
+ * columns are memory-mapped, and their data is paged in by the OS on demand, so loading is nearly instant regardless of
+ * the file size. Otherwise, all columns are read to the heap. Booleans, dates and dictionary-encoded strings are always
+ * read to the heap.
+ *
+ * @since 2.0.0
+ */
+public class DfbLoader {
+
+    private static final int BATCH_SIZE = 8192;
+
+    private OffHeapArena arena;
+
+    /**
+     * Sets an arena that will own the memory-mapped int, long and double columns. Closing the arena invalidates the
+     * loaded DataFrame. If not set, those columns are read to the heap, and the loaded DataFrame holds no file mappings.
+     *
+     * @return this loader instance
+     */
+    public DfbLoader arena(OffHeapArena arena) {
+        this.arena = arena;
+        return this;
+    }
+
+    public DataFrame load(File file) {
+        return load(file.toPath());
+    }
+
+    public DataFrame load(String filePath) {
+        return load(Path.of(filePath));
+    }
+
+    public DataFrame load(Path filePath) {
+
+        // mapped regions stay valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return doLoad(channel);
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading DFB from " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    private DataFrame doLoad(FileChannel channel) throws IOException {
+
+        ByteBuffer prefix = read(channel, 0, DfbFormat.HEADER_PREFIX_SIZE);
+
+        byte[] magic = new byte[DfbFormat.MAGIC.length];
+        prefix.get(magic);
+        if (!Arrays.equals(magic, DfbFormat.MAGIC)) {
+            throw new RuntimeException("Not a DFB file");
+        }
+
+        int version = prefix.getInt();
+        if (version != DfbFormat.VERSION) {
+            throw new RuntimeException("Unsupported DFB format version: " + version);
+        }
+
+        int h = prefix.getInt();
+        int w = prefix.getInt();
+
+        String[] labels = new String[w];
+        Series<?>[] columns = new Series[w];
+
+        long pos = DfbFormat.HEADER_PREFIX_SIZE;
+        for (int i = 0; i < w; i++) {
+            int labelLen = read(channel, pos, Integer.BYTES).getInt();
+            pos += Integer.BYTES;
+
+            ByteBuffer column = read(channel, pos, labelLen + DfbFormat.COLUMN_HEADER_FIXED_SIZE);
+            pos += labelLen + DfbFormat.COLUMN_HEADER_FIXED_SIZE;
+
+            byte[] label = new byte[labelLen];
+            column.get(label);
+            labels[i] = new String(label, StandardCharsets.UTF_8);
+
+            DfbColumnType type = DfbColumnType.ofId(column.get());
+            byte flags = column.get();
+            long offset = column.getLong();
+
+            columns[i] = readColumn(channel, type, flags, offset, h);
+        }
+
+        return DataFrame.byColumn(Index.of(labels)).of(columns);
+    }
+
+    private Series<?> readColumn(
+            FileChannel channel,
+            DfbColumnType type,
+            byte flags,
+            long offset,
+            int h) throws IOException {
+
+        long pos = offset;
+        BooleanSeries notNulls = null;
+        if ((flags & DfbFormat.FLAG_HAS_NULLS) != 0) {
+            notNulls = readBitmap(channel, pos, h);
+            pos += (long) Long.BYTES * DfbFormat.bitmapWords(h);
+        }
+
+        switch (type) {
+            case INT: {
+                IntSeries values = arena != null ? arena.mapInt(channel, pos, h) : readIntSeries(channel, pos, h);
+                return notNulls != null ? new IntNullableSeries(values, notNulls) : values;
+            }
+            case LONG: {
+                LongSeries values = arena != null ? arena.mapLong(channel, pos, h) : readLongSeries(channel, pos, h);
+                return notNulls != null ? new LongNullableSeries(values, notNulls) : values;
+            }
+            case DOUBLE: {
+                DoubleSeries values = arena != null ? arena.mapDouble(channel, pos, h) : readDoubleSeries(channel, pos, h);
+                return notNulls != null ? new DoubleNullableSeries(values, notNulls) : values;
+            }
+            case BOOLEAN: {
+                BooleanSeries values = readBitmap(channel, pos, h);
+                return notNulls != null ? withNulls(values, notNulls) : values;
+            }
+            case DATE:
+                return readDates(channel, pos, h, notNulls);
+            case STRING:
+                return readStrings(channel, pos, h);
+            default:
+                throw new IllegalStateException("Unexpected column type: " + type);
+        }
+    }
+
+    private static Series<Boolean> withNulls(BooleanSeries values, BooleanSeries notNulls) {
+
+        int h = values.size();
+        Boolean[] data = new Boolean[h];
+        for (int i = 0; i < h; i++) {
+            if (notNulls.getBool(i)) {
+                data[i] = values.getBool(i);
+            }
+        }
+
+        return Series.of(data);
+    }
+
+    private static IntSeries readIntSeries(FileChannel channel, long pos, int h) throws IOException {
+        int[] values = new int[h];
+        readInts(channel, pos, values);
+        return new IntArraySeries(values);
+    }
+
+    private static LongSeries readLongSeries(FileChannel channel, long pos, int h) throws IOException {
+        long[] values = new long[h];
+        readLongs(channel, pos, values);
+        return new LongArraySeries(values);
+    }
+
+    private static DoubleSeries readDoubleSeries(FileChannel channel, long pos, int h) throws IOException {
+        double[] values = new double[h];
+        readDoubles(channel, pos, values);
+        return new DoubleArraySeries(values);
+    }
+
+    private static BooleanSeries readBitmap(FileChannel channel, long pos, int h) throws IOException {
+        long[] words = new long[DfbFormat.bitmapWords(h)];
+        readLongs(channel, pos, words);
+        return new BooleanBitsetSeries(words, h);
+    }
+
+    private static Series<LocalDate> readDates(FileChannel channel, long pos, int h, BooleanSeries notNulls) throws IOException {
+
+        long[] days = new long[h];
+        readLongs(channel, pos, days);
+
+        LocalDate[] dates = new LocalDate[h];
+        for (int i = 0; i < h; i++) {
+            if (notNulls == null || notNulls.getBool(i)) {
+                dates[i] = LocalDate.ofEpochDay(days[i]);
+            }
+        }
+
+        return Series.of(dates);
+    }
+
+    private static Series<String> readStrings(FileChannel channel, long pos, int h) throws IOException {
+
+        ByteBuffer dictionaryHeader = read(channel, pos, DfbFormat.DICTIONARY_HEADER_SIZE);
+        long dictionaryBytes = dictionaryHeader.getLong();
+        int dictionarySize = dictionaryHeader.getInt();
+        pos += DfbFormat.DICTIONARY_HEADER_SIZE;
+
+        if (dictionaryBytes > Integer.MAX_VALUE) {
+            throw new RuntimeException("String dictionary is too large: " + dictionaryBytes + " bytes");
+        }
+
+        ByteBuffer entries = read(channel, pos, (int) dictionaryBytes);
+        String[] dictionary = new String[dictionarySize];
+        for (int i = 0; i < dictionarySize; i++) {
+            byte[] bytes = new byte[entries.getInt()];
+            entries.get(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        pos += dictionaryBytes;
+        pos += DfbFormat.padding(pos);
+
+        int[] codes = new int[h];
+        readInts(channel, pos, codes);
+        return new DictionarySeries<>(dictionary, codes);
+    }
+
+    private static void readInts(FileChannel channel, long pos, int[] to) throws IOException {
+        ByteBuffer batch = ByteBuffer.allocate(BATCH_SIZE * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < to.length; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, to.length - i);
+            batch.clear().limit(n * Integer.BYTES);
+            readFully(channel, pos + (long) i * Integer.BYTES, batch);
+            batch.flip();
+            batch.asIntBuffer().get(to, i, n);
+        }
+    }
+
+    private static void readLongs(FileChannel channel, long pos, long[] to) throws IOException {
+        ByteBuffer batch = ByteBuffer.allocate(BATCH_SIZE * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < to.length; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, to.length - i);
+            batch.clear().limit(n * Long.BYTES);
+            readFully(channel, pos + (long) i * Long.BYTES, batch);
+            batch.flip();
+            batch.asLongBuffer().get(to, i, n);
+        }
+    }
+
+    private static void readDoubles(FileChannel channel, long pos, double[] to) throws IOException {
+        ByteBuffer batch = ByteBuffer.allocate(BATCH_SIZE * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < to.length; i += BATCH_SIZE) {
+            int n = Math.min(BATCH_SIZE, to.length - i);
+            batch.clear().limit(n * Double.BYTES);
+            readFully(channel, pos + (long) i * Double.BYTES, batch);
+            batch.flip();
+            batch.asDoubleBuffer().get(to, i, n);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long pos, int len) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(len).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, pos, buffer);
+        return buffer.flip();
+    }
+
+    private static void readFully(FileChannel channel, long pos, ByteBuffer to) throws IOException {
+        while (to.hasRemaining()) {
+            if (channel.read(to, pos + to.position()) < 0) {
+                throw new EOFException("Unexpected end of DFB file");
+            }
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package org.dflib.dfb;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.LongNullableSeries;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saves DataFrames in the DFB binary columnar format that can be loaded back by {@link DfbLoader} without parsing.
+ *
+ * @since 2.0.0
+ */
+public class DfbSaver {
+
+    private boolean createMissingDirs;
+
+    /**
+     * Instructs the saver to create any missing directories in the file path.
+     *
+     * @return this saver instance
+     */
+    public DfbSaver createMissingDirs() {
+        this.createMissingDirs = true;
+        return this;
+    }
+
+    public void save(DataFrame df, File file) {
+        save(df, file.toPath());
+    }
+
+    public void save(DataFrame df, String fileName) {
+        save(df, Path.of(fileName));
+    }
+
+    /**
+     * Checks that all DataFrame columns can be saved in the DFB format, throwing an IllegalArgumentException for the
+     * first column that can't.
+     */
+    public void checkColumnTypes(DataFrame df) {
+        columnTypes(df);
+    }
+
+    public void save(DataFrame df, Path filePath) {
+
+        // resolve column types before creating the file, to fail early on unsupported columns
+        DfbColumnType[] types = columnTypes(df);
+
+        try {
+            if (createMissingDirs) {
+                Path dir = filePath.toAbsolutePath().getParent();
+                if (dir != null) {
+                    Files.createDirectories(dir);
+                }
+            }
+
+            try (FileChannel channel = FileChannel.open(
+                    filePath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE)) {
+
+                doSave(df, types, channel);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing DFB to " + filePath + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static DfbColumnType[] columnTypes(DataFrame df) {
+        Index index = df.getColumnsIndex();
+        int w = index.size();
+        DfbColumnType[] types = new DfbColumnType[w];
+        for (int i = 0; i < w; i++) {
+            types[i] = DfbColumnType.of(index.get(i), df.getColumn(i));
+        }
+
+        return types;
+    }
+
+    private void doSave(DataFrame df, DfbColumnType[] types, FileChannel channel) throws IOException {
+
+        Index index = df.getColumnsIndex();
+        int w = index.size();
+        int h = df.height();
+
+        byte[][] labels = new byte[w][];
+        long headerSize = DfbFormat.HEADER_PREFIX_SIZE;
+        for (int i = 0; i < w; i++) {
+            labels[i] = index.get(i).getBytes(StandardCharsets.UTF_8);
+            headerSize += Integer.BYTES + labels[i].length + DfbFormat.COLUMN_HEADER_FIXED_SIZE;
+        }
+
+        // the header size is known upfront, so the columns are written first, and the header with the column offsets
+        // is written at the end
+        byte[] flags = new byte[w];
+        long[] offsets = new long[w];
+        long[] lengths = new long[w];
+
+        DfbWriter out = new DfbWriter(channel, headerSize + DfbFormat.padding(headerSize));
+        for (int i = 0; i < w; i++) {
+            offsets[i] = out.position();
+            flags[i] = writeColumn(out, types[i], df.getColumn(i));
+            out.align();
+            lengths[i] = out.position() - offsets[i];
+        }
+        out.flush();
+
+        DfbWriter header = new DfbWriter(channel, 0);
+        header.putBytes(DfbFormat.MAGIC);
+        header.putInt(DfbFormat.VERSION);
+        header.putInt(h);
+        header.putInt(w);
+
+        for (int i = 0; i < w; i++) {
+            header.putInt(labels[i].length);
+            header.putBytes(labels[i]);
+            header.putByte(types[i].id);
+            header.putByte(flags[i]);
+            header.putLong(offsets[i]);
+            header.putLong(lengths[i]);
+        }
+        header.flush();
+    }
+
+    private byte writeColumn(DfbWriter out, DfbColumnType type, Series<?> s) throws IOException {
+
+        boolean hasNulls = hasNulls(s);
+        if (hasNulls) {
+            writeBitmap(out, s.isNotNull());
+        }
+
+        switch (type) {
+            case INT:
+                writeInts(out, s);
+                break;
+            case LONG:
+                writeLongs(out, s);
+                break;
+            case DOUBLE:
+                writeDoubles(out, s);
+                break;
+            case BOOLEAN:
+                writeBitmap(out, s.compactBool());
+                break;
+            case DATE:
+                writeDates(out, s);
+                break;
+            case STRING:
+                writeStrings(out, s);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected column type: " + type);
+        }
+
+        return hasNulls ? DfbFormat.FLAG_HAS_NULLS : 0;
+    }
+
+    private static boolean hasNulls(Series<?> s) {
+
+        // primitive Series can't have nulls
+        if (s instanceof IntSeries || s instanceof LongSeries || s instanceof DoubleSeries || s instanceof BooleanSeries) {
+            return false;
+        }
+
+        return s.isNotNull().countFalse() > 0;
+    }
+
+    private static void writeBitmap(DfbWriter out, BooleanSeries bits) throws IOException {
+
+        int h = bits.size();
+        int words = DfbFormat.bitmapWords(h);
+
+        for (int w = 0; w < words; w++) {
+            long word = 0L;
+            int from = w << 6;
+            int len = Math.min(64, h - from);
+
+            for (int j = 0; j < len; j++) {
+                if (bits.getBool(from + j)) {
+                    word |= 1L << j;
+                }
+            }
+
+            out.putLong(word);
+        }
+    }
+
+    private static void writeInts(DfbWriter out, Series<?> s) throws IOException {
+
+        // the values at null positions of the nullable Series are undefined, but they are masked by the bitmap
+        if (s instanceof IntNullableSeries ns) {
+            s = ns.getValues();
+        }
+
+        int h = s.size();
+
+        if (s instanceof IntSeries ints) {
+            for (int i = 0; i < h; i++) {
+                out.putInt(ints.getInt(i));
+            }
+        } else {
+
+            // read the boxed values one by one instead of compacting the Series, as it may be a lazy view that would
+            // otherwise be copied on heap
+            for (int i = 0; i < h; i++) {
+                Integer v = (Integer) s.get(i);
+                out.putInt(v != null ? v : 0);
+            }
+        }
+    }
+
+    private static void writeLongs(DfbWriter out, Series<?> s) throws IOException {
+
+        if (s instanceof LongNullableSeries ns) {
+            s = ns.getValues();
+        }
+
+        int h = s.size();
+
+        if (s instanceof LongSeries longs) {
+            for (int i = 0; i < h; i++) {
+                out.putLong(longs.getLong(i));
+            }
+        } else {
+            for (int i = 0; i < h; i++) {
+                Long v = (Long) s.get(i);
+                out.putLong(v != null ? v : 0L);
+            }
+        }
+    }
+
+    private static void writeDoubles(DfbWriter out, Series<?> s) throws IOException {
+
+        if (s instanceof DoubleNullableSeries ns) {
+            s = ns.getValues();
+        }
+
+        int h = s.size();
+
+        if (s instanceof DoubleSeries doubles) {
+            for (int i = 0; i < h; i++) {
+                out.putDouble(doubles.getDouble(i));
+            }
+        } else {
+            for (int i = 0; i < h; i++) {
+                Double v = (Double) s.get(i);
+                out.putDouble(v != null ? v : 0.);
+            }
+        }
+    }
+
+    private static void writeDates(DfbWriter out, Series<?> s) throws IOException {
+
+        int h = s.size();
+        for (int i = 0; i < h; i++) {
+            LocalDate d = (LocalDate) s.get(i);
+            out.putLong(d != null ? d.toEpochDay() : 0L);
+        }
+    }
+
+    private static void writeStrings(DfbWriter out, Series<?> s) throws IOException {
+
+        int h = s.size();
+        int[] codes = new int[h];
+        Map<Object, Integer> codesByValue = new HashMap<>();
+        List<byte[]> dictionary = new ArrayList<>();
+        long dictionaryBytes = 0L;
+
+        for (int i = 0; i < h; i++) {
+            Object v = s.get(i);
+            if (v == null) {
+                codes[i] = -1;
+                continue;
+            }
+
+            Integer code = codesByValue.get(v);
+            if (code == null) {
+                byte[] bytes = ((String) v).getBytes(StandardCharsets.UTF_8);
+                code = dictionary.size();
+                codesByValue.put(v, code);
+                dictionary.add(bytes);
+                dictionaryBytes += Integer.BYTES + bytes.length;
+            }
+
+            codes[i] = code;
+        }
+
+        out.putLong(dictionaryBytes);
+        out.putInt(dictionary.size());
+        out.putInt(0);
+
+        for (byte[] bytes : dictionary) {
+            out.putInt(bytes.length);
+            out.putBytes(bytes);
+        }
+
+        out.align();
+        for (int c : codes) {
+            out.putInt(c);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.dflib.dfb;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * A buffered little-endian writer of the DFB file blocks.
+ *
+ * @since 2.0.0
+ */
+class DfbWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long position;
+
+    DfbWriter(FileChannel channel, long position) {
+        this.channel = channel;
+        this.position = position;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    long position() {
+        return position + buffer.position();
+    }
+
+    void putByte(byte b) throws IOException {
+        ensureCapacity(Byte.BYTES);
+        buffer.put(b);
+    }
+
+    void putInt(int i) throws IOException {
+        ensureCapacity(Integer.BYTES);
+        buffer.putInt(i);
+    }
+
+    void putLong(long l) throws IOException {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong(l);
+    }
+
+    void putDouble(double d) throws IOException {
+        ensureCapacity(Double.BYTES);
+        buffer.putDouble(d);
+    }
+
+    void putBytes(byte[] bytes) throws IOException {
+        int len = bytes.length;
+        for (int written = 0; written < len; ) {
+            ensureCapacity(1);
+            int n = Math.min(len - written, buffer.remaining());
+            buffer.put(bytes, written, n);
+            written += n;
+        }
+    }
+
+    /**
+     * Pads the output with zeros up to the next position that is a multiple of 8, so that the mapped primitive blocks
+     * are aligned.
+     */
+    void align() throws IOException {
+        int padding = DfbFormat.padding(position());
+        for (int i = 0; i < padding; i++) {
+            putByte((byte) 0);
+        }
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+
+        buffer.clear();
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
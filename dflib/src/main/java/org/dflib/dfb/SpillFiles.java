@@ -0,0 +1,89 @@
+package org.dflib.dfb;
+
+import org.dflib.DataFrame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A set of temporary DFB files used by the external operations to spill the parts of their data to disk. Each file
+ * is read back to the heap once, and is deleted right after that. Closing the set deletes the files that were never
+ * read, e.g. when the operation fails or is abandoned.
+ *
+ * @since 2.0.0
+ */
+public class SpillFiles implements AutoCloseable {
+
+    private final Path dir;
+    private final Set<Path> files;
+
+    /**
+     * @param dir a directory for the spill files, or null to use the default system temp directory
+     */
+    public SpillFiles(Path dir) {
+        this.dir = dir;
+        this.files = new LinkedHashSet<>();
+    }
+
+    /**
+     * Saves the DataFrame to a new spill file, returning the file path.
+     */
+    public Path write(DataFrame df) {
+
+        Path file;
+        try {
+            file = dir != null
+                    ? Files.createTempFile(dir, "dflib-spill", ".dfb")
+                    : Files.createTempFile("dflib-spill", ".dfb");
+        } catch (IOException e) {
+            throw new RuntimeException("Error creating a spill file: " + e.getMessage(), e);
+        }
+
+        files.add(file);
+        Dfb.save(df, file);
+        return file;
+    }
+
+    /**
+     * Loads a DataFrame from a spill file previously created by this object to the heap, and deletes the file.
+     */
+    public DataFrame read(Path file) {
+
+        if (!files.remove(file)) {
+            throw new IllegalArgumentException("Not a spill file of this set, or already read: " + file);
+        }
+
+        try {
+            return Dfb.load(file);
+        } finally {
+            delete(file);
+        }
+    }
+
+    /**
+     * Returns the number of files that were written, but not read yet.
+     */
+    public int size() {
+        return files.size();
+    }
+
+    @Override
+    public void close() {
+        for (Path f : files) {
+            delete(f);
+        }
+
+        files.clear();
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            file.toFile().deleteOnExit();
+        }
+    }
+}
@@ -2,11 +2,12 @@ package org.dflib.exp;
 
 import org.dflib.DataFrame;
 import org.dflib.Exp;
+import org.dflib.IntSeries;
 import org.dflib.Series;
 
 import java.util.Objects;
 
-public class AsExp<T> implements Exp<T>  {
+public class AsExp<T> implements Exp<T>, RowWiseExp {
 
     protected final Exp<T> delegate;
     protected final String name;
@@ -16,6 +17,11 @@ public class AsExp<T> implements Exp<T>  {
         this.delegate = delegate;
     }
 
+    @Override
+    public boolean isRowWise() {
+        return RowWiseExp.isRowWise(delegate);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -53,6 +59,16 @@ public class AsExp<T> implements Exp<T>  {
         return delegate.reduce(df);
     }
 
+    @Override
+    public T reduce(DataFrame df, IntSeries positions) {
+        return delegate.reduce(df, positions);
+    }
+
+    @Override
+    public T reduce(DataFrame df, int fromInclusive, int toExclusive) {
+        return delegate.reduce(df, fromInclusive, toExclusive);
+    }
+
     @Override
     public Exp<T> as(String name) {
         return Objects.equals(name, this.name) ? this : new AsExp<>(name, delegate);
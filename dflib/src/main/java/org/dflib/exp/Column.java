@@ -1,6 +1,7 @@
 package org.dflib.exp;
 
 import org.dflib.DataFrame;
+import org.dflib.IntSeries;
 import org.dflib.Series;
 import org.dflib.Exp;
 
@@ -10,7 +11,7 @@ import java.util.Objects;
  * An expression that evaluates to a named or a positional column from a DataFrame. In case of Series, it evaluates to
  * the Series itself.
  */
-public class Column<T> implements Exp<T> {
+public class Column<T> implements Exp<T>, RowWiseExp {
 
     protected final int position;
     protected final String name;
@@ -32,6 +33,11 @@ public class Column<T> implements Exp<T> {
         this.position = position;
     }
 
+    @Override
+    public boolean isRowWise() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -103,6 +109,16 @@ public class Column<T> implements Exp<T> {
         return eval(s).first();
     }
 
+    @Override
+    public T reduce(DataFrame df, IntSeries positions) {
+        return positions.size() > 0 ? eval(df).get(positions.getInt(0)) : null;
+    }
+
+    @Override
+    public T reduce(DataFrame df, int fromInclusive, int toExclusive) {
+        return fromInclusive < toExclusive ? eval(df).get(fromInclusive) : null;
+    }
+
     static boolean shouldQuoteName(String name) {
         if (name == null || name.isEmpty()) {
             return false;
@@ -0,0 +1,121 @@
+package org.dflib.exp;
+
+import org.dflib.Exp;
+import org.dflib.ParallelismPolicy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link ParallelismPolicy} that compares an estimated cost of evaluating the expressions against a threshold. The
+ * cost of an expression per row is expressed in abstract units, with a unit being roughly the time it takes to
+ * perform a primitive numeric operation (~1ns). So with a threshold of 5000, two integer expressions would run in
+ * parallel over 2500 rows, while String expressions would reach the threshold much sooner. When calibration is
+ * enabled, the per-row cost is taken from the actual evaluation times of the expression in nanoseconds, if available.
+ *
+ * @since 2.0.0
+ */
+public class CostBasedParallelismPolicy implements ParallelismPolicy {
+
+    // Timing short runs is not reliable
+    private static final int MIN_CALIBRATION_HEIGHT = 1000;
+
+    // Limit the memory used by calibration if the app generates lots of distinct expressions
+    private static final int MAX_CALIBRATED_EXPS = 1000;
+
+    private final int threshold;
+    private final ConcurrentMap<String, Double> calibratedCosts;
+
+    public CostBasedParallelismPolicy(int threshold, boolean calibrating) {
+        this.threshold = threshold;
+        this.calibratedCosts = calibrating ? new ConcurrentHashMap<>() : null;
+    }
+
+    @Override
+    public boolean shouldRunInParallel(int srcHeight, Exp<?>... exps) {
+
+        // expressions are parallelized relative to each other, so there's nothing to split for a single expression
+        if (exps.length < 2) {
+            return false;
+        }
+
+        double cost = 0;
+        for (Exp<?> e : exps) {
+            cost += rowCost(e);
+        }
+
+        return cost * srcHeight >= threshold;
+    }
+
+    @Override
+    public int rowChunks(int srcHeight, int maxChunks, Exp<?> exp) {
+
+        // each chunk must be worth a separate task
+        double chunks = rowCost(exp) * srcHeight / threshold;
+        return (int) Math.max(1, Math.min(maxChunks, chunks));
+    }
+
+    @Override
+    public void onEvaluated(Exp<?> exp, int srcHeight, long nanos) {
+
+        if (calibratedCosts == null || srcHeight < MIN_CALIBRATION_HEIGHT) {
+            return;
+        }
+
+        double cost = nanos / (double) srcHeight;
+        String key = exp.toQL();
+
+        // smoothing the measured values to reduce the effect of JIT warmup, GC pauses, etc.
+        if (calibratedCosts.size() < MAX_CALIBRATED_EXPS) {
+            calibratedCosts.merge(key, cost, (c1, c2) -> c1 * 0.75 + c2 * 0.25);
+        } else {
+            calibratedCosts.computeIfPresent(key, (k, c1) -> c1 * 0.75 + cost * 0.25);
+        }
+    }
+
+    /**
+     * Returns a cost of evaluating an expression per row.
+     */
+    public double rowCost(Exp<?> exp) {
+
+        if (calibratedCosts != null) {
+            Double calibrated = calibratedCosts.get(exp.toQL());
+            if (calibrated != null) {
+                return calibrated;
+            }
+        }
+
+        return estimatedRowCost(exp);
+    }
+
+    protected double estimatedRowCost(Exp<?> exp) {
+
+        // column references and scalars are resolved without iterating over the rows
+        if (exp instanceof Column || exp instanceof ScalarExp) {
+            return 0.;
+        }
+
+        Class<?> type = exp.getType();
+
+        if (type == Integer.class
+                || type == Long.class
+                || type == Double.class
+                || type == Float.class
+                || type == Boolean.class) {
+            return 1.;
+        }
+
+        if (type == String.class) {
+            return 20.;
+        }
+
+        if (type == BigDecimal.class || type == BigInteger.class || Temporal.class.isAssignableFrom(type)) {
+            return 10.;
+        }
+
+        return 5.;
+    }
+}
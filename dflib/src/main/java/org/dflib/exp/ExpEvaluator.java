@@ -4,13 +4,19 @@ import org.dflib.DataFrame;
 import org.dflib.Environment;
 import org.dflib.Exp;
 import org.dflib.GroupBy;
+import org.dflib.IntSeries;
+import org.dflib.ParallelismPolicy;
 import org.dflib.Series;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.builder.ValueAccum;
+import org.dflib.exp.agg.GroupReduceExp;
+import org.dflib.groupby.GroupTable;
 import org.dflib.series.SingleValueSeries;
 
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -21,11 +27,14 @@ import java.util.function.Function;
 public class ExpEvaluator {
 
     /**
-     * Evaluates multiple expressions over a given DataFrame, parallelizing evaluation if deemed necessary.
+     * Evaluates multiple expressions over a given DataFrame, parallelizing evaluation if deemed necessary. Multiple
+     * expressions may be evaluated in parallel with each other, while a single expression that calculates each row
+     * independently may be evaluated in parallel over chunks of rows.
      */
     public static Series<?>[] eval(DataFrame df, Exp<?>... exps) {
         return run(
                 e -> e.eval(df),
+                df,
                 df.height(),
                 exps);
     }
@@ -33,28 +42,47 @@ public class ExpEvaluator {
     public static Series<?>[] reduce(DataFrame df, Exp<?>... exps) {
         return run(
                 e -> new SingleValueSeries<>(e.reduce(df), 1),
+                null,
                 df.height(),
                 exps);
     }
 
     public static Series<?>[] reduce(GroupBy groupBy, Exp<?>... exps) {
         int gbH = groupBy.size();
+        GroupTable groupTable = columnarGroupTable(groupBy, exps);
+
         return run(
                 e -> {
-                    // TODO: primitives support for performance
+
+                    // reduce all groups at once directly from the source columns, if the expression supports it
+                    if (groupTable != null && e instanceof GroupReduceExp<?> ge) {
+                        Series<?> reduced = ge.reduceGroups(groupBy.getSource(), groupTable);
+                        if (reduced != null) {
+                            return reduced;
+                        }
+                    }
+
                     ValueAccum<Object> accum = new ObjectAccum<>(gbH);
 
+                    // the aggregating expressions can reduce each group directly from the source columns using the
+                    // group row positions. Others are given a group DataFrame
+                    if (e instanceof GroupReduceExp) {
+                        DataFrame source = groupBy.getSource();
+                        for (Object key : groupBy.getGroupKeys()) {
+                            accum.push(e.reduce(source, groupBy.getGroupIndex(key)));
+                        }
+
+                        return accum.toSeries();
+                    }
+
                     // if aggH == 0, there will be no group keys, and the result will be empty
                     for (Object key : groupBy.getGroupKeys()) {
 
                         // Note that "getGroup(key)" lazily triggers DataFrame resolution for that group key. When run
                         // in parallel, it may resolve multiple times for the same key. Hopefully, this is not a problem,
                         // as producing indexed columns is fast, and only one copy of the "group" DataFrame is seen by
-                        // the reduce expressions.
-
-                        // TODO: One level below, IndexedSeries.materialize() within each group DataFrame has a
-                        //  synchronization lock, so while it doesn't resolve multiple times, it may result in thread
-                        //  contention (presumably, only for the columns referenced by the aggregating expressions).
+                        // the reduce expressions. One level below, the group columns are materialized without locking
+                        // as well, so the parallel tasks never wait for each other.
 
                         DataFrame group = groupBy.getGroup(key);
                         accum.push(e.reduce(group));
@@ -62,46 +90,162 @@ public class ExpEvaluator {
 
                     return accum.toSeries();
                 },
+                null,
                 groupBy.getSource().height(),
                 exps);
     }
 
-    private static Series<?>[] run(Function<Exp<?>, Series<?>> seriesMaker, int srcHeight, Exp<?>... exps) {
+    /**
+     * Creates a table with a group id for each source row of the GroupBy to be reduced in one pass by
+     * {@link GroupReduceExp} expressions. Returns null if none of the expressions can do that, or if the GroupBy rows
+     * can't be represented as such a table, i.e. when some source rows are included in more than one group, or when
+     * the rows within a group are not in the source order (e.g., after sorting a GroupBy). Reducing such rows in the
+     * source order would change the result of order-sensitive aggregations like "first" or a floating point "sum".
+     */
+    private static GroupTable columnarGroupTable(GroupBy groupBy, Exp<?>... exps) {
+
+        boolean hasGroupReduceExps = false;
+        for (Exp<?> e : exps) {
+            if (e instanceof GroupReduceExp) {
+                hasGroupReduceExps = true;
+                break;
+            }
+        }
+
+        if (!hasGroupReduceExps) {
+            return null;
+        }
+
+        int[] rowGroups = new int[groupBy.getSource().height()];
+        Arrays.fill(rowGroups, -1);
+
+        int g = 0;
+        for (Object key : groupBy.getGroupKeys()) {
+
+            IntSeries index = groupBy.getGroupIndex(key);
+            int len = index.size();
+            int prev = -1;
+
+            for (int i = 0; i < len; i++) {
+                int row = index.getInt(i);
+                if (row <= prev || rowGroups[row] >= 0) {
+                    return null;
+                }
+
+                rowGroups[row] = g;
+                prev = row;
+            }
+
+            g++;
+        }
+
+        return new GroupTable(rowGroups, g);
+    }
+
+    /**
+     * @param chunkableSource a DataFrame, over which row-wise expressions can be evaluated in chunks, or null if the
+     *                        seriesMaker is not a plain expression evaluation
+     */
+    private static Series<?>[] run(
+            Function<Exp<?>, Series<?>> seriesMaker,
+            DataFrame chunkableSource,
+            int srcHeight,
+            Exp<?>... exps) {
 
         int w = exps.length;
         Series<?>[] result = new Series[w];
 
-        if (shouldRunInParallel(w, srcHeight)) {
-            ExecutorService pool = Environment.commonEnv().threadPool();
+        Environment env = Environment.commonEnv();
+        ParallelismPolicy policy = env.parallelismPolicy();
+
+        if (policy.shouldRunInParallel(srcHeight, exps)) {
+            ExecutorService pool = env.threadPool();
             Future<Series<?>>[] tasks = new Future[w];
 
             for (int i = 0; i < w; i++) {
                 Exp<?> exp = exps[i];
-                tasks[i] = pool.submit(() -> seriesMaker.apply(exp));
+                tasks[i] = pool.submit(() -> evalAndMeasure(seriesMaker, exp, srcHeight, policy));
             }
 
             for (int i = 0; i < w; i++) {
-                try {
-                    result[i] = tasks[i].get();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
+                result[i] = get(tasks[i]);
             }
         } else {
+
+            // Splitting into chunks is only done when the expressions are evaluated sequentially. Otherwise, we'd be
+            // submitting and waiting for the chunk tasks from inside the pool tasks, that may block the pool
             for (int i = 0; i < w; i++) {
-                result[i] = seriesMaker.apply(exps[i]);
+                Exp<?> exp = exps[i];
+                int chunks = chunkableSource != null && RowWiseExp.isRowWise(exp)
+                        ? policy.rowChunks(srcHeight, env.threadPoolParallelism(), exp)
+                        : 1;
+
+                result[i] = chunks > 1
+                        ? evalInChunks(env.threadPool(), chunkableSource, exp, chunks, policy)
+                        : evalAndMeasure(seriesMaker, exp, srcHeight, policy);
             }
         }
 
         return result;
     }
 
-    private static boolean shouldRunInParallel(int resultWidth, int srcHeight) {
+    private static Series<?> evalInChunks(
+            ExecutorService pool,
+            DataFrame df,
+            Exp<?> exp,
+            int chunks,
+            ParallelismPolicy policy) {
+
+        int h = df.height();
+        int chunkSize = (h + chunks - 1) / chunks;
+        int chunkCount = (h + chunkSize - 1) / chunkSize;
+
+        Future<Series<?>>[] tasks = new Future[chunkCount];
+        AtomicLong nanos = new AtomicLong();
+
+        for (int i = 0; i < chunkCount; i++) {
+            int from = i * chunkSize;
+            int to = Math.min(h, from + chunkSize);
+
+            tasks[i] = pool.submit(() -> {
+                long t0 = System.nanoTime();
 
-        // 1. don't parallelize single-column operations
-        // 2. don't parallelize short DataFrames, as sequential calculations are fast enough vs the overhead of
-        // creating, submitting and joining tasks
+                // materializing within the task, as the expression results may be lazy
+                Series<?> chunk = exp.eval(df.rowsRange(from, to).select()).materialize();
 
-        return resultWidth > 1 || srcHeight >= Environment.commonEnv().parallelExecThreshold();
+                nanos.addAndGet(System.nanoTime() - t0);
+                return chunk;
+            });
+        }
+
+        Series<?>[] results = new Series[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            results[i] = get(tasks[i]);
+        }
+
+        // reporting the total time of all chunks, i.e., the time it would take to evaluate the expression sequentially
+        policy.onEvaluated(exp, h, nanos.get());
+
+        return Series.union(results);
+    }
+
+    private static <T> T get(Future<T> task) {
+        try {
+            return task.get();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Series<?> evalAndMeasure(
+            Function<Exp<?>, Series<?>> seriesMaker,
+            Exp<?> exp,
+            int srcHeight,
+            ParallelismPolicy policy) {
+
+        long t0 = System.nanoTime();
+        Series<?> result = seriesMaker.apply(exp);
+        policy.onEvaluated(exp, srcHeight, System.nanoTime() - t0);
+        return result;
     }
 }
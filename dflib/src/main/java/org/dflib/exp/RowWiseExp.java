@@ -0,0 +1,25 @@
+package org.dflib.exp;
+
+import org.dflib.Exp;
+
+/**
+ * An optional interface of expressions that may calculate the value of each row only from the values in that row.
+ * Such expressions produce the same results whether evaluated over a whole DataFrame or over its parts, so their
+ * evaluation can be split into row chunks processed in parallel.
+ *
+ * @since 2.0.0
+ */
+public interface RowWiseExp {
+
+    /**
+     * Returns true if the provided expression calculates each row independently of the other rows.
+     */
+    static boolean isRowWise(Exp<?> exp) {
+        return exp instanceof RowWiseExp rw && rw.isRowWise();
+    }
+
+    /**
+     * Returns true if this expression and all its arguments calculate each row independently of the other rows.
+     */
+    boolean isRowWise();
+}
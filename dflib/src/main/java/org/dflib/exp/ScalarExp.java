@@ -11,7 +11,7 @@ import java.util.Objects;
  *
  * @since 2.0.0
  */
-public class ScalarExp<T> implements Exp<T> {
+public class ScalarExp<T> implements Exp<T>, RowWiseExp {
 
     private final Class<T> type;
     protected final T value;
@@ -29,6 +29,11 @@ public class ScalarExp<T> implements Exp<T> {
         this.type = Objects.requireNonNull(type);
     }
 
+    @Override
+    public boolean isRowWise() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -2,12 +2,17 @@ package org.dflib.exp.agg;
 
 import org.dflib.Condition;
 import org.dflib.DataFrame;
+import org.dflib.IntSeries;
 import org.dflib.NumExp;
 import org.dflib.Series;
 import org.dflib.exp.Exp0;
+import org.dflib.groupby.GroupTable;
+import org.dflib.series.IntArraySeries;
+import org.dflib.window.WindowRange;
 
 
-public class CountExp extends Exp0<Integer> implements NumExp<Integer> {
+public class CountExp extends Exp0<Integer>
+        implements NumExp<Integer>, GroupReduceExp<Integer>, WindowReduceExp<Integer> {
 
     private static final CountExp instance = new CountExp(null);
 
@@ -41,4 +46,49 @@ public class CountExp extends Exp0<Integer> implements NumExp<Integer> {
     public Integer reduce(Series<?> s) {
         return filter != null ? filter.eval(s).countTrue() : s.size();
     }
+
+    @Override
+    public Integer reduce(DataFrame df, IntSeries positions) {
+        return filter != null ? reduce(df.rows(positions).select()) : positions.size();
+    }
+
+    @Override
+    public Integer reduce(DataFrame df, int fromInclusive, int toExclusive) {
+        return filter != null ? reduce(df.rowsRange(fromInclusive, toExclusive).select()) : toExclusive - fromInclusive;
+    }
+
+    @Override
+    public IntSeries reduceGroups(DataFrame source, GroupTable groups) {
+
+        if (filter != null) {
+            return null;
+        }
+
+        int[] counts = new int[groups.groupCount()];
+        int h = groups.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0) {
+                counts[g]++;
+            }
+        }
+
+        return new IntArraySeries(counts);
+    }
+
+    @Override
+    public IntSeries reduceWindows(DataFrame source, WindowRange range) {
+
+        if (filter != null) {
+            return null;
+        }
+
+        int h = source.height();
+        int[] counts = new int[h];
+        for (int i = 0; i < h; i++) {
+            counts[i] = range.toExclusive(i, h) - range.fromInclusive(i);
+        }
+
+        return new IntArraySeries(counts);
+    }
 }
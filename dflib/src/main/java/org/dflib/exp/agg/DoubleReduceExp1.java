@@ -4,24 +4,70 @@ import org.dflib.Condition;
 import org.dflib.DataFrame;
 import org.dflib.DoubleSeries;
 import org.dflib.Exp;
+import org.dflib.IntSeries;
 import org.dflib.NumExp;
 import org.dflib.Series;
+import org.dflib.exp.Column;
 import org.dflib.exp.Exp1;
+import org.dflib.groupby.GroupTable;
 import org.dflib.series.DoubleSingleValueSeries;
+import org.dflib.window.WindowRange;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
  * @since 2.0.0
  */
-public class DoubleReduceExp1<F> extends Exp1<F, Double> implements NumExp<Double> {
+public class DoubleReduceExp1<F> extends Exp1<F, Double>
+        implements NumExp<Double>, GroupReduceExp<Double>, WindowReduceExp<Double> {
 
     private final Function<Series<F>, Double> op;
+    private final BiFunction<Series<F>, GroupTable, DoubleSeries> groupOp;
+    private final BiFunction<Series<F>, WindowRange, DoubleSeries> windowOp;
+    private final BiFunction<Series<F>, IntSeries, Double> positionsOp;
     private final Condition filter;
 
     public DoubleReduceExp1(String opName, Exp<F> exp, Function<Series<F>, Double> op, Condition filter) {
+        this(opName, exp, op, null, filter);
+    }
+
+    /**
+     * @param groupOp an optional operation that reduces all groups of a Series in one pass, producing the same
+     *                result as "op" applied to each group separately
+     */
+    public DoubleReduceExp1(
+            String opName,
+            Exp<F> exp,
+            Function<Series<F>, Double> op,
+            BiFunction<Series<F>, GroupTable, DoubleSeries> groupOp,
+            Condition filter) {
+
+        this(opName, exp, op, groupOp, null, null, filter);
+    }
+
+    /**
+     * @param groupOp     an optional operation that reduces all groups of a Series in one pass, producing the same
+     *                    result as "op" applied to each group separately
+     * @param windowOp    an optional operation that reduces all sliding windows of a Series in one pass, producing
+     *                    the same result as "op" applied to each window separately
+     * @param positionsOp an optional operation that reduces the values at the specified positions of a Series,
+     *                    producing the same result as "op" applied to a Series of those values
+     */
+    public DoubleReduceExp1(
+            String opName,
+            Exp<F> exp,
+            Function<Series<F>, Double> op,
+            BiFunction<Series<F>, GroupTable, DoubleSeries> groupOp,
+            BiFunction<Series<F>, WindowRange, DoubleSeries> windowOp,
+            BiFunction<Series<F>, IntSeries, Double> positionsOp,
+            Condition filter) {
+
         super(opName, Double.class, exp);
         this.op = op;
+        this.groupOp = groupOp;
+        this.windowOp = windowOp;
+        this.positionsOp = positionsOp;
         this.filter = filter;
     }
 
@@ -48,4 +94,36 @@ public class DoubleReduceExp1<F> extends Exp1<F, Double> implements NumExp<Doubl
         //  E.g. "DoubleSeries.avg()" is faster than "AggregatorFunctions.averageDouble()"
         return op.apply(exp.eval(filter != null ? s.select(filter) : s));
     }
+
+    @Override
+    public Double reduce(DataFrame df, IntSeries positions) {
+        return positionsOp != null && filter == null && exp instanceof Column
+                ? positionsOp.apply(exp.eval(df), positions)
+                : reduce(df.rows(positions).select());
+    }
+
+    @Override
+    public Double reduce(DataFrame df, int fromInclusive, int toExclusive) {
+
+        // a range of a column is a cheap view, so any "op" can be applied to it directly
+        return filter == null && exp instanceof Column
+                ? op.apply(exp.eval(df).selectRange(fromInclusive, toExclusive))
+                : reduce(df.rowsRange(fromInclusive, toExclusive).select());
+    }
+
+    @Override
+    public DoubleSeries reduceGroups(DataFrame source, GroupTable groups) {
+        return groupOp != null && filter == null && exp instanceof Column
+                ? groupOp.apply(exp.eval(source), groups)
+                : null;
+    }
+
+    @Override
+    public DoubleSeries reduceWindows(DataFrame source, WindowRange range) {
+
+        // same as with the groups, only a column can be evaluated over the entire source and then split into windows
+        return windowOp != null && filter == null && exp instanceof Column
+                ? windowOp.apply(exp.eval(source), range)
+                : null;
+    }
 }
@@ -3,13 +3,19 @@ package org.dflib.exp.agg;
 import org.dflib.Condition;
 import org.dflib.DataFrame;
 import org.dflib.Exp;
+import org.dflib.IntSeries;
 import org.dflib.Series;
+import org.dflib.exp.Column;
 import org.dflib.exp.Exp1;
+import org.dflib.groupby.GroupTable;
+import org.dflib.window.WindowRange;
+
+import java.util.Arrays;
 
 /**
  * @since 2.0.0
  */
-public class FirstExp<T> extends Exp1<T, T> {
+public class FirstExp<T> extends Exp1<T, T> implements GroupReduceExp<T>, WindowReduceExp<T> {
 
     private final Condition filter;
 
@@ -38,6 +44,20 @@ public class FirstExp<T> extends Exp1<T, T> {
         return exp.eval(prefilter(df)).first();
     }
 
+    @Override
+    public T reduce(DataFrame df, IntSeries positions) {
+        return filter == null && exp instanceof Column
+                ? positions.size() > 0 ? exp.eval(df).get(positions.getInt(0)) : null
+                : reduce(df.rows(positions).select());
+    }
+
+    @Override
+    public T reduce(DataFrame df, int fromInclusive, int toExclusive) {
+        return filter == null && exp instanceof Column
+                ? fromInclusive < toExclusive ? exp.eval(df).get(fromInclusive) : null
+                : reduce(df.rowsRange(fromInclusive, toExclusive).select());
+    }
+
     private DataFrame prefilter(DataFrame df) {
         if (filter == null) {
             return df;
@@ -53,4 +73,43 @@ public class FirstExp<T> extends Exp1<T, T> {
         int index = filter.firstMatch(s);
         return index < 0 ? s.select() : s.select(index);
     }
+
+    @Override
+    public Series<T> reduceGroups(DataFrame source, GroupTable groups) {
+
+        if (filter != null || !(exp instanceof Column)) {
+            return null;
+        }
+
+        // "-1" would select a null for an empty group
+        int[] rows = new int[groups.groupCount()];
+        Arrays.fill(rows, -1);
+
+        int h = groups.size();
+        for (int i = 0; i < h; i++) {
+            int g = groups.rowGroup(i);
+            if (g >= 0 && rows[g] < 0) {
+                rows[g] = i;
+            }
+        }
+
+        return exp.eval(source).select(rows);
+    }
+
+    @Override
+    public Series<T> reduceWindows(DataFrame source, WindowRange range) {
+
+        if (filter != null || !(exp instanceof Column)) {
+            return null;
+        }
+
+        // a window always includes its own row, so it is never empty
+        int h = source.height();
+        int[] rows = new int[h];
+        for (int i = 0; i < h; i++) {
+            rows[i] = range.fromInclusive(i);
+        }
+
+        return exp.eval(source).select(rows);
+    }
 }
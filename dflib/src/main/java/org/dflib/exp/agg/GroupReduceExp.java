@@ -0,0 +1,23 @@
+package org.dflib.exp.agg;
+
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.Series;
+import org.dflib.groupby.GroupTable;
+
+/**
+ * An aggregating expression that can reduce all groups of a grouped DataFrame at once, reading the source columns
+ * directly instead of reducing a separate DataFrame per group.
+ *
+ * @since 2.0.0
+ */
+public interface GroupReduceExp<T> extends Exp<T> {
+
+    /**
+     * Reduces each group of the source DataFrame rows to a single value, returning a Series with a value per group in
+     * the group id order. Returns null if this expression can not be calculated directly over the source, so the
+     * caller must fall back to reducing each group DataFrame individually. The table is expected to have the rows of
+     * each group in the source order.
+     */
+    Series<T> reduceGroups(DataFrame source, GroupTable groups);
+}
@@ -6,22 +6,67 @@ import org.dflib.Exp;
 import org.dflib.IntSeries;
 import org.dflib.NumExp;
 import org.dflib.Series;
+import org.dflib.exp.Column;
 import org.dflib.exp.Exp1;
+import org.dflib.groupby.GroupTable;
 import org.dflib.series.IntSingleValueSeries;
+import org.dflib.window.WindowRange;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
  * @since 2.0.0
  */
-public class IntReduceExp1<F> extends Exp1<F, Integer> implements NumExp<Integer> {
+public class IntReduceExp1<F> extends Exp1<F, Integer>
+        implements NumExp<Integer>, GroupReduceExp<Integer>, WindowReduceExp<Integer> {
 
     private final Function<Series<F>, Integer> op;
+    private final BiFunction<Series<F>, GroupTable, IntSeries> groupOp;
+    private final BiFunction<Series<F>, WindowRange, IntSeries> windowOp;
+    private final BiFunction<Series<F>, IntSeries, Integer> positionsOp;
     private final Condition filter;
 
     public IntReduceExp1(String opName, Exp<F> exp, Function<Series<F>, Integer> op, Condition filter) {
+        this(opName, exp, op, null, filter);
+    }
+
+    /**
+     * @param groupOp an optional operation that reduces all groups of a Series in one pass, producing the same
+     *                result as "op" applied to each group separately
+     */
+    public IntReduceExp1(
+            String opName,
+            Exp<F> exp,
+            Function<Series<F>, Integer> op,
+            BiFunction<Series<F>, GroupTable, IntSeries> groupOp,
+            Condition filter) {
+
+        this(opName, exp, op, groupOp, null, null, filter);
+    }
+
+    /**
+     * @param groupOp     an optional operation that reduces all groups of a Series in one pass, producing the same
+     *                    result as "op" applied to each group separately
+     * @param windowOp    an optional operation that reduces all sliding windows of a Series in one pass, producing
+     *                    the same result as "op" applied to each window separately
+     * @param positionsOp an optional operation that reduces the values at the specified positions of a Series,
+     *                    producing the same result as "op" applied to a Series of those values
+     */
+    public IntReduceExp1(
+            String opName,
+            Exp<F> exp,
+            Function<Series<F>, Integer> op,
+            BiFunction<Series<F>, GroupTable, IntSeries> groupOp,
+            BiFunction<Series<F>, WindowRange, IntSeries> windowOp,
+            BiFunction<Series<F>, IntSeries, Integer> positionsOp,
+            Condition filter) {
+
         super(opName, Integer.class, exp);
         this.op = op;
+        this.groupOp = groupOp;
+        this.windowOp = windowOp;
+        this.positionsOp = positionsOp;
         this.filter = filter;
     }
 
@@ -48,4 +93,39 @@ public class IntReduceExp1<F> extends Exp1<F, Integer> implements NumExp<Integer
         //  E.g. "DoubleSeries.avg()" is faster than "AggregatorFunctions.averageDouble()"
         return op.apply(exp.eval(filter != null ? s.select(filter) : s));
     }
+
+    @Override
+    public Integer reduce(DataFrame df, IntSeries positions) {
+        return positionsOp != null && filter == null && exp instanceof Column
+                ? positionsOp.apply(exp.eval(df), positions)
+                : reduce(df.rows(positions).select());
+    }
+
+    @Override
+    public Integer reduce(DataFrame df, int fromInclusive, int toExclusive) {
+
+        // a range of a column is a cheap view, so any "op" can be applied to it directly
+        return filter == null && exp instanceof Column
+                ? op.apply(exp.eval(df).selectRange(fromInclusive, toExclusive))
+                : reduce(df.rowsRange(fromInclusive, toExclusive).select());
+    }
+
+    @Override
+    public IntSeries reduceGroups(DataFrame source, GroupTable groups) {
+
+        // only a column can be evaluated over the entire source and then split into groups, as other expressions
+        // (and filters) may depend on the rows around them
+        return groupOp != null && filter == null && exp instanceof Column
+                ? groupOp.apply(exp.eval(source), groups)
+                : null;
+    }
+
+    @Override
+    public IntSeries reduceWindows(DataFrame source, WindowRange range) {
+
+        // same as with the groups, only a column can be evaluated over the entire source and then split into windows
+        return windowOp != null && filter == null && exp instanceof Column
+                ? windowOp.apply(exp.eval(source), range)
+                : null;
+    }
 }
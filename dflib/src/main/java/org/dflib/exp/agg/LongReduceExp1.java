@@ -3,25 +3,71 @@ package org.dflib.exp.agg;
 import org.dflib.Condition;
 import org.dflib.DataFrame;
 import org.dflib.Exp;
+import org.dflib.IntSeries;
 import org.dflib.LongSeries;
 import org.dflib.NumExp;
 import org.dflib.Series;
+import org.dflib.exp.Column;
 import org.dflib.exp.Exp1;
+import org.dflib.groupby.GroupTable;
 import org.dflib.series.LongSingleValueSeries;
+import org.dflib.window.WindowRange;
 
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
  * @since 2.0.0
  */
-public class LongReduceExp1<F> extends Exp1<F, Long> implements NumExp<Long> {
+public class LongReduceExp1<F> extends Exp1<F, Long>
+        implements NumExp<Long>, GroupReduceExp<Long>, WindowReduceExp<Long> {
 
     private final Function<Series<F>, Long> op;
+    private final BiFunction<Series<F>, GroupTable, LongSeries> groupOp;
+    private final BiFunction<Series<F>, WindowRange, LongSeries> windowOp;
+    private final BiFunction<Series<F>, IntSeries, Long> positionsOp;
     private final Condition filter;
 
     public LongReduceExp1(String opName, Exp<F> exp, Function<Series<F>, Long> op, Condition filter) {
+        this(opName, exp, op, null, filter);
+    }
+
+    /**
+     * @param groupOp an optional operation that reduces all groups of a Series in one pass, producing the same
+     *                result as "op" applied to each group separately
+     */
+    public LongReduceExp1(
+            String opName,
+            Exp<F> exp,
+            Function<Series<F>, Long> op,
+            BiFunction<Series<F>, GroupTable, LongSeries> groupOp,
+            Condition filter) {
+
+        this(opName, exp, op, groupOp, null, null, filter);
+    }
+
+    /**
+     * @param groupOp     an optional operation that reduces all groups of a Series in one pass, producing the same
+     *                    result as "op" applied to each group separately
+     * @param windowOp    an optional operation that reduces all sliding windows of a Series in one pass, producing
+     *                    the same result as "op" applied to each window separately
+     * @param positionsOp an optional operation that reduces the values at the specified positions of a Series,
+     *                    producing the same result as "op" applied to a Series of those values
+     */
+    public LongReduceExp1(
+            String opName,
+            Exp<F> exp,
+            Function<Series<F>, Long> op,
+            BiFunction<Series<F>, GroupTable, LongSeries> groupOp,
+            BiFunction<Series<F>, WindowRange, LongSeries> windowOp,
+            BiFunction<Series<F>, IntSeries, Long> positionsOp,
+            Condition filter) {
+
         super(opName, Long.class, exp);
         this.op = op;
+        this.groupOp = groupOp;
+        this.windowOp = windowOp;
+        this.positionsOp = positionsOp;
         this.filter = filter;
     }
 
@@ -48,4 +94,36 @@ public class LongReduceExp1<F> extends Exp1<F, Long> implements NumExp<Long> {
         //  E.g. "DoubleSeries.avg()" is faster than "AggregatorFunctions.averageDouble()"
         return op.apply(exp.eval(filter != null ? s.select(filter) : s));
     }
+
+    @Override
+    public Long reduce(DataFrame df, IntSeries positions) {
+        return positionsOp != null && filter == null && exp instanceof Column
+                ? positionsOp.apply(exp.eval(df), positions)
+                : reduce(df.rows(positions).select());
+    }
+
+    @Override
+    public Long reduce(DataFrame df, int fromInclusive, int toExclusive) {
+
+        // a range of a column is a cheap view, so any "op" can be applied to it directly
+        return filter == null && exp instanceof Column
+                ? op.apply(exp.eval(df).selectRange(fromInclusive, toExclusive))
+                : reduce(df.rowsRange(fromInclusive, toExclusive).select());
+    }
+
+    @Override
+    public LongSeries reduceGroups(DataFrame source, GroupTable groups) {
+        return groupOp != null && filter == null && exp instanceof Column
+                ? groupOp.apply(exp.eval(source), groups)
+                : null;
+    }
+
+    @Override
+    public LongSeries reduceWindows(DataFrame source, WindowRange range) {
+
+        // same as with the groups, only a column can be evaluated over the entire source and then split into windows
+        return windowOp != null && filter == null && exp instanceof Column
+                ? windowOp.apply(exp.eval(source), range)
+                : null;
+    }
 }
@@ -3,7 +3,9 @@ package org.dflib.exp.agg;
 import org.dflib.Condition;
 import org.dflib.DataFrame;
 import org.dflib.Exp;
+import org.dflib.IntSeries;
 import org.dflib.Series;
+import org.dflib.exp.Column;
 import org.dflib.exp.Exp1;
 
 import java.util.function.Function;
@@ -43,4 +45,18 @@ public class ReduceExp1<F, T> extends Exp1<F, T> {
     public T reduce(Series<?> s) {
         return op.apply(exp.eval(filter != null ? s.select(filter) : s));
     }
+
+    @Override
+    public T reduce(DataFrame df, IntSeries positions) {
+        return filter == null && exp instanceof Column
+                ? op.apply(exp.eval(df).select(positions))
+                : reduce(df.rows(positions).select());
+    }
+
+    @Override
+    public T reduce(DataFrame df, int fromInclusive, int toExclusive) {
+        return filter == null && exp instanceof Column
+                ? op.apply(exp.eval(df).selectRange(fromInclusive, toExclusive))
+                : reduce(df.rowsRange(fromInclusive, toExclusive).select());
+    }
 }
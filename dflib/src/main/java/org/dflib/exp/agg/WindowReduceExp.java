@@ -0,0 +1,22 @@
+package org.dflib.exp.agg;
+
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.Series;
+import org.dflib.window.WindowRange;
+
+/**
+ * An aggregating expression that can reduce all the sliding windows of a DataFrame at once, updating the aggregated
+ * value incrementally as the window moves forward, instead of reducing a separate DataFrame per row.
+ *
+ * @since 2.0.0
+ */
+public interface WindowReduceExp<T> extends Exp<T> {
+
+    /**
+     * Reduces the window defined by the range relative to each source row to a single value, returning a Series of the
+     * same height as the source. Returns null if this expression can not be calculated incrementally, so the caller
+     * must fall back to reducing each window DataFrame individually.
+     */
+    Series<T> reduceWindows(DataFrame source, WindowRange range);
+}
@@ -6,8 +6,9 @@ import org.dflib.DataFrame;
 import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.exp.ExpN;
+import org.dflib.exp.RowWiseExp;
 
-public class AndCondition extends ExpN<Boolean> implements Condition {
+public class AndCondition extends ExpN<Boolean> implements Condition, RowWiseExp {
 
     static Condition[] combine(Exp<?>[] partsLeft, Exp<?>... partsRight) {
         Condition[] combined = new Condition[partsLeft.length + partsRight.length];
@@ -23,6 +24,17 @@ public class AndCondition extends ExpN<Boolean> implements Condition {
         this.conditionArgs = args;
     }
 
+    @Override
+    public boolean isRowWise() {
+        for (Exp<?> a : args) {
+            if (!RowWiseExp.isRowWise(a)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public Condition and(Condition exp) {
         // flatten AND
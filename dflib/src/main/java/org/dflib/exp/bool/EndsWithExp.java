@@ -5,13 +5,14 @@ import org.dflib.Condition;
 import org.dflib.DataFrame;
 import org.dflib.Exp;
 import org.dflib.Series;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.Objects;
 
 /**
  * @since 2.0.0
  */
-public class EndsWithExp implements Condition {
+public class EndsWithExp implements Condition, RowWiseExp {
 
     public static Condition of(Exp<?> exp, String prefix) {
         Objects.requireNonNull(prefix, "Null 'prefix'");
@@ -26,6 +27,11 @@ public class EndsWithExp implements Condition {
         this.suffix = suffix;
     }
 
+    @Override
+    public boolean isRowWise() {
+        return RowWiseExp.isRowWise(exp);
+    }
+
     @Override
     public BooleanSeries eval(DataFrame df) {
         return doEval(exp.eval(df));
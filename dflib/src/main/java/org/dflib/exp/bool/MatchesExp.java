@@ -5,6 +5,7 @@ import org.dflib.Condition;
 import org.dflib.DataFrame;
 import org.dflib.Exp;
 import org.dflib.Series;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -12,7 +13,7 @@ import java.util.regex.Pattern;
 /**
  * @since 2.0.0
  */
-public class MatchesExp implements Condition {
+public class MatchesExp implements Condition, RowWiseExp {
 
     public static Condition of(Exp<?> exp, String regex) {
         Objects.requireNonNull(regex, "Null 'regex'");
@@ -29,6 +30,11 @@ public class MatchesExp implements Condition {
         this.pattern = Pattern.compile(regex);
     }
 
+    @Override
+    public boolean isRowWise() {
+        return RowWiseExp.isRowWise(exp);
+    }
+
     @Override
     public BooleanSeries eval(DataFrame df) {
         return doEval(exp.eval(df));
@@ -4,10 +4,11 @@ import org.dflib.BooleanSeries;
 import org.dflib.Condition;
 import org.dflib.DataFrame;
 import org.dflib.Series;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.Objects;
 
-public class NotCondition implements Condition {
+public class NotCondition implements Condition, RowWiseExp {
 
     private final Condition exp;
 
@@ -15,6 +16,11 @@ public class NotCondition implements Condition {
         this.exp = exp;
     }
 
+    @Override
+    public boolean isRowWise() {
+        return RowWiseExp.isRowWise(exp);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
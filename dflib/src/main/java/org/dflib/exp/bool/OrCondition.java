@@ -3,11 +3,13 @@ package org.dflib.exp.bool;
 import org.dflib.BooleanSeries;
 import org.dflib.Condition;
 import org.dflib.DataFrame;
+import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.exp.ExpN;
+import org.dflib.exp.RowWiseExp;
 
 
-public class OrCondition extends ExpN<Boolean> implements Condition {
+public class OrCondition extends ExpN<Boolean> implements Condition, RowWiseExp {
 
     private final Condition[] conditionArgs;
 
@@ -16,6 +18,17 @@ public class OrCondition extends ExpN<Boolean> implements Condition {
         this.conditionArgs = args;
     }
 
+    @Override
+    public boolean isRowWise() {
+        for (Exp<?> a : args) {
+            if (!RowWiseExp.isRowWise(a)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public Condition or(Condition exp) {
         // flatten OR
@@ -12,10 +12,14 @@ import java.util.function.Function;
 public class DateExp1<F> extends MapExp1<F, LocalDate> implements DateExp {
 
     public static <F> DateExp1<F> mapVal(String opName, Exp<F> exp, Function<F, LocalDate> op) {
-        return new DateExp1<>(opName, exp, valToSeries(op));
+        return new DateExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public DateExp1(String opName, Exp<F> exp, Function<Series<F>, Series<LocalDate>> op) {
-        super(opName, LocalDate.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected DateExp1(String opName, Exp<F> exp, Function<Series<F>, Series<LocalDate>> op, boolean rowWiseOp) {
+        super(opName, LocalDate.class, exp, op, rowWiseOp);
     }
 }
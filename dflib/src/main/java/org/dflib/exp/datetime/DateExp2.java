@@ -14,10 +14,14 @@ import java.util.function.BiFunction;
 public class DateExp2<L, R> extends MapExp2<L, R, LocalDate> implements DateExp {
 
     public static <L, R> DateExp2<L, R> mapVal(String opName, Exp<L> left, Exp<R> right, BiFunction<L, R, LocalDate> op) {
-        return new DateExp2<>(opName, left, right, valToSeries(op));
+        return new DateExp2<>(opName, left, right, valToSeries(op), true);
     }
 
     public DateExp2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<LocalDate>> op) {
-        super(opName, LocalDate.class, left, right, op);
+        this(opName, left, right, op, false);
+    }
+
+    protected DateExp2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<LocalDate>> op, boolean rowWiseOp) {
+        super(opName, LocalDate.class, left, right, op, rowWiseOp);
     }
 }
@@ -11,10 +11,14 @@ import java.util.function.Function;
 public class DateTimeExp1<F> extends MapExp1<F, LocalDateTime> implements DateTimeExp {
 
     public static <F> DateTimeExp1<F> mapVal(String opName, Exp<F> exp, Function<F, LocalDateTime> op) {
-        return new DateTimeExp1<>(opName, exp, valToSeries(op));
+        return new DateTimeExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public DateTimeExp1(String opName, Exp<F> exp, Function<Series<F>, Series<LocalDateTime>> op) {
-        super(opName, LocalDateTime.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected DateTimeExp1(String opName, Exp<F> exp, Function<Series<F>, Series<LocalDateTime>> op, boolean rowWiseOp) {
+        super(opName, LocalDateTime.class, exp, op, rowWiseOp);
     }
 }
@@ -14,10 +14,14 @@ import java.util.function.BiFunction;
 public class DateTimeExp2<L, R> extends MapExp2<L, R, LocalDateTime> implements DateTimeExp {
 
     public static <L, R> DateTimeExp2<L, R> mapVal(String opName, Exp<L> left, Exp<R> right, BiFunction<L, R, LocalDateTime> op) {
-        return new DateTimeExp2<>(opName, left, right, valToSeries(op));
+        return new DateTimeExp2<>(opName, left, right, valToSeries(op), true);
     }
 
     public DateTimeExp2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<LocalDateTime>> op) {
-        super(opName, LocalDateTime.class, left, right, op);
+        this(opName, left, right, op, false);
+    }
+
+    protected DateTimeExp2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<LocalDateTime>> op, boolean rowWiseOp) {
+        super(opName, LocalDateTime.class, left, right, op, rowWiseOp);
     }
 }
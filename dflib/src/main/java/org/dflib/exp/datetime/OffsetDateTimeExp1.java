@@ -14,10 +14,14 @@ import java.util.function.Function;
 public class OffsetDateTimeExp1<F> extends MapExp1<F, OffsetDateTime> implements OffsetDateTimeExp {
 
     public static <F> OffsetDateTimeExp1<F> mapVal(String opName, Exp<F> exp, Function<F, OffsetDateTime> op) {
-        return new OffsetDateTimeExp1<>(opName, exp, valToSeries(op));
+        return new OffsetDateTimeExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public OffsetDateTimeExp1(String opName, Exp<F> exp, Function<Series<F>, Series<OffsetDateTime>> op) {
-        super(opName, OffsetDateTime.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected OffsetDateTimeExp1(String opName, Exp<F> exp, Function<Series<F>, Series<OffsetDateTime>> op, boolean rowWiseOp) {
+        super(opName, OffsetDateTime.class, exp, op, rowWiseOp);
     }
 }
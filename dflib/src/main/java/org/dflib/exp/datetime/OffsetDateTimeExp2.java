@@ -14,10 +14,14 @@ import java.util.function.BiFunction;
 public class OffsetDateTimeExp2<L, R> extends MapExp2<L, R, OffsetDateTime> implements OffsetDateTimeExp {
 
     public static <L, R> OffsetDateTimeExp2<L, R> mapVal(String opName, Exp<L> left, Exp<R> right, BiFunction<L, R, OffsetDateTime> op) {
-        return new OffsetDateTimeExp2<>(opName, left, right, valToSeries(op));
+        return new OffsetDateTimeExp2<>(opName, left, right, valToSeries(op), true);
     }
 
     public OffsetDateTimeExp2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<OffsetDateTime>> op) {
-        super(opName, OffsetDateTime.class, left, right, op);
+        this(opName, left, right, op, false);
+    }
+
+    protected OffsetDateTimeExp2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<OffsetDateTime>> op, boolean rowWiseOp) {
+        super(opName, OffsetDateTime.class, left, right, op, rowWiseOp);
     }
 }
@@ -12,10 +12,14 @@ import java.util.function.Function;
 public class TimeExp1<F> extends MapExp1<F, LocalTime> implements TimeExp {
 
     public static <F> TimeExp1<F> mapVal(String opName, Exp<F> exp, Function<F, LocalTime> op) {
-        return new TimeExp1<>(opName, exp, valToSeries(op));
+        return new TimeExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public TimeExp1(String opName, Exp<F> exp, Function<Series<F>, Series<LocalTime>> op) {
-        super(opName, LocalTime.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected TimeExp1(String opName, Exp<F> exp, Function<Series<F>, Series<LocalTime>> op, boolean rowWiseOp) {
+        super(opName, LocalTime.class, exp, op, rowWiseOp);
     }
 }
@@ -14,10 +14,14 @@ import java.util.function.BiFunction;
 public class TimeExp2<L, R> extends MapExp2<L, R, LocalTime> implements TimeExp {
 
     public static <L, R> TimeExp2<L, R> mapVal(String opName, Exp<L> left, Exp<R> right, BiFunction<L, R, LocalTime> op) {
-        return new TimeExp2<>(opName, left, right, valToSeries(op));
+        return new TimeExp2<>(opName, left, right, valToSeries(op), true);
     }
 
     public TimeExp2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<LocalTime>> op) {
-        super(opName, LocalTime.class, left, right, op);
+        this(opName, left, right, op, false);
+    }
+
+    protected TimeExp2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<LocalTime>> op, boolean rowWiseOp) {
+        super(opName, LocalTime.class, left, right, op, rowWiseOp);
     }
 }
@@ -7,23 +7,24 @@ import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.builder.BoolBuilder;
 import org.dflib.exp.Exp1;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 
-public class MapCondition1<F> extends Exp1<F, Boolean> implements Condition {
+public class MapCondition1<F> extends Exp1<F, Boolean> implements Condition, RowWiseExp {
 
     public static <F> MapCondition1<F> map(String opName, Exp<F> exp, Function<Series<F>, BooleanSeries> op) {
         return new MapCondition1<>(opName, exp, op);
     }
 
     public static <F> MapCondition1<F> mapValWithNulls(String opName, Exp<F> exp, Predicate<F> predicate) {
-        return new MapCondition1<>(opName, exp, valToSeriesWithNulls(predicate));
+        return new MapCondition1<>(opName, exp, valToSeriesWithNulls(predicate), true);
     }
 
     public static <F> MapCondition1<F> mapVal(String opName, Exp<F> exp, Predicate<F> predicate) {
-        return new MapCondition1<>(opName, exp, valToSeries(predicate));
+        return new MapCondition1<>(opName, exp, valToSeries(predicate), true);
     }
 
     protected static <F> Function<Series<F>, BooleanSeries> valToSeriesWithNulls(Predicate<F> predicate) {
@@ -41,10 +42,26 @@ public class MapCondition1<F> extends Exp1<F, Boolean> implements Condition {
     }
 
     private final Function<Series<F>, BooleanSeries> op;
+    private final boolean rowWiseOp;
 
     protected MapCondition1(String opName, Exp<F> exp, Function<Series<F>, BooleanSeries> op) {
+        this(opName, exp, op, false);
+    }
+
+    /**
+     * @param rowWiseOp whether the "op" calculates each result value only from the argument values at the same
+     *                  position, so the expression may be evaluated over the parts of a DataFrame separately
+     * @since 2.0.0
+     */
+    protected MapCondition1(String opName, Exp<F> exp, Function<Series<F>, BooleanSeries> op, boolean rowWiseOp) {
         super(opName, Boolean.class, exp);
         this.op = op;
+        this.rowWiseOp = rowWiseOp;
+    }
+
+    @Override
+    public boolean isRowWise() {
+        return rowWiseOp && RowWiseExp.isRowWise(exp);
     }
 
     @Override
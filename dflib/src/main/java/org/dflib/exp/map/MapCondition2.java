@@ -7,6 +7,7 @@ import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.builder.BoolBuilder;
 import org.dflib.exp.Exp2;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -14,7 +15,7 @@ import java.util.function.BiPredicate;
 /**
  * @since 2.0.0
  */
-public class MapCondition2<L, R> extends Exp2<L, R, Boolean> implements Condition {
+public class MapCondition2<L, R> extends Exp2<L, R, Boolean> implements Condition, RowWiseExp {
 
     public static <L, R> MapCondition2<L, R> map(
             String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, BooleanSeries> op) {
@@ -22,14 +23,14 @@ public class MapCondition2<L, R> extends Exp2<L, R, Boolean> implements Conditio
     }
 
     public static <L, R> MapCondition2<L, R> mapVal(String opName, Exp<L> left, Exp<R> right, BiPredicate<L, R> predicate) {
-        return new MapCondition2<>(opName, left, right, valToSeries(predicate));
+        return new MapCondition2<>(opName, left, right, valToSeries(predicate), true);
     }
 
     /**
      * @since 2.0.0
      */
     public static <L, R> MapCondition2<L, R> mapValWithNulls(String opName, Exp<L> left, Exp<R> right, BiPredicate<L, R> predicate) {
-        return new MapCondition2<>(opName, left, right, valToSeriesWithNulls(predicate));
+        return new MapCondition2<>(opName, left, right, valToSeriesWithNulls(predicate), true);
     }
 
     protected static <L, R> BiFunction<Series<L>, Series<R>, BooleanSeries> valToSeriesWithNulls(BiPredicate<L, R> predicate) {
@@ -45,10 +46,26 @@ public class MapCondition2<L, R> extends Exp2<L, R, Boolean> implements Conditio
     }
 
     private final BiFunction<Series<L>, Series<R>, BooleanSeries> op;
+    private final boolean rowWiseOp;
 
     protected MapCondition2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, BooleanSeries> op) {
+        this(opName, left, right, op, false);
+    }
+
+    /**
+     * @param rowWiseOp whether the "op" calculates each result value only from the argument values at the same
+     *                  position, so the expression may be evaluated over the parts of a DataFrame separately
+     * @since 2.0.0
+     */
+    protected MapCondition2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, BooleanSeries> op, boolean rowWiseOp) {
         super(opName, Boolean.class, left, right);
         this.op = op;
+        this.rowWiseOp = rowWiseOp;
+    }
+
+    @Override
+    public boolean isRowWise() {
+        return rowWiseOp && RowWiseExp.isRowWise(left) && RowWiseExp.isRowWise(right);
     }
 
     @Override
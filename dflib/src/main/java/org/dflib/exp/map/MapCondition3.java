@@ -7,10 +7,11 @@ import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.builder.BoolBuilder;
 import org.dflib.exp.Exp3;
+import org.dflib.exp.RowWiseExp;
 import org.dflib.f.Function3;
 import org.dflib.f.Predicate3;
 
-public class MapCondition3<One, Two, Three> extends Exp3<One, Two, Three, Boolean> implements Condition {
+public class MapCondition3<One, Two, Three> extends Exp3<One, Two, Three, Boolean> implements Condition, RowWiseExp {
 
     public static <One, Two, Three>
     MapCondition3<One, Two, Three> map(
@@ -31,7 +32,7 @@ public class MapCondition3<One, Two, Three> extends Exp3<One, Two, Three, Boolea
             Exp<Two> two,
             Exp<Three> three,
             Predicate3<One, Two, Three> predicate) {
-        return new MapCondition3<>(opName1, opName2, one, two, three, valToSeries(predicate));
+        return new MapCondition3<>(opName1, opName2, one, two, three, valToSeries(predicate), true);
     }
 
     protected static <One, Two, Three>
@@ -45,6 +46,7 @@ public class MapCondition3<One, Two, Three> extends Exp3<One, Two, Three, Boolea
     }
 
     private final Function3<Series<One>, Series<Two>, Series<Three>, BooleanSeries> op;
+    private final boolean rowWiseOp;
 
     protected MapCondition3(
             String opName1,
@@ -53,8 +55,33 @@ public class MapCondition3<One, Two, Three> extends Exp3<One, Two, Three, Boolea
             Exp<Two> two,
             Exp<Three> three,
             Function3<Series<One>, Series<Two>, Series<Three>, BooleanSeries> op) {
+        this(opName1, opName2, one, two, three, op, false);
+    }
+
+    /**
+     * @param rowWiseOp whether the "op" calculates each result value only from the argument values at the same
+     *                  position, so the expression may be evaluated over the parts of a DataFrame separately
+     * @since 2.0.0
+     */
+    protected MapCondition3(
+            String opName1,
+            String opName2,
+            Exp<One> one,
+            Exp<Two> two,
+            Exp<Three> three,
+            Function3<Series<One>, Series<Two>, Series<Three>, BooleanSeries> op,
+            boolean rowWiseOp) {
         super(opName1, opName2, Boolean.class, one, two, three);
         this.op = op;
+        this.rowWiseOp = rowWiseOp;
+    }
+
+    @Override
+    public boolean isRowWise() {
+        return rowWiseOp
+                && RowWiseExp.isRowWise(one)
+                && RowWiseExp.isRowWise(two)
+                && RowWiseExp.isRowWise(three);
     }
 
     @Override
@@ -4,6 +4,7 @@ import org.dflib.DataFrame;
 import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.exp.Exp1;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.function.Function;
 
@@ -11,7 +12,7 @@ import java.util.function.Function;
  * A unary expression that evaluates parent expression first, and passes the result to a mapping function to
  * produce the final result.
  */
-public class MapExp1<F, T> extends Exp1<F, T> {
+public class MapExp1<F, T> extends Exp1<F, T> implements RowWiseExp {
 
     public static <F, T> MapExp1<F, T> map(String opName, Class<T> type, Exp<F> exp, Function<Series<F>, Series<T>> op) {
         return new MapExp1<>(opName, type, exp, op);
@@ -19,11 +20,11 @@ public class MapExp1<F, T> extends Exp1<F, T> {
 
 
     public static <F, T> MapExp1<F, T> mapValWithNulls(String opName, Class<T> type, Exp<F> exp, Function<F, T> op) {
-        return new MapExp1<>(opName, type, exp, valToSeriesWithNulls(op));
+        return new MapExp1<>(opName, type, exp, valToSeriesWithNulls(op), true);
     }
 
     public static <F, T> MapExp1<F, T> mapVal(String opName, Class<T> type, Exp<F> exp, Function<F, T> op) {
-        return new MapExp1<>(opName, type, exp, valToSeries(op));
+        return new MapExp1<>(opName, type, exp, valToSeries(op), true);
     }
 
     protected static <F, T> Function<Series<F>, Series<T>> valToSeriesWithNulls(Function<F, T> op) {
@@ -35,10 +36,26 @@ public class MapExp1<F, T> extends Exp1<F, T> {
     }
 
     private final Function<Series<F>, Series<T>> op;
+    private final boolean rowWiseOp;
 
     protected MapExp1(String opName, Class<T> type, Exp<F> exp, Function<Series<F>, Series<T>> op) {
+        this(opName, type, exp, op, false);
+    }
+
+    /**
+     * @param rowWiseOp whether the "op" calculates each result value only from the argument values at the same
+     *                  position, so the expression may be evaluated over the parts of a DataFrame separately
+     * @since 2.0.0
+     */
+    protected MapExp1(String opName, Class<T> type, Exp<F> exp, Function<Series<F>, Series<T>> op, boolean rowWiseOp) {
         super(opName, type, exp);
         this.op = op;
+        this.rowWiseOp = rowWiseOp;
+    }
+
+    @Override
+    public boolean isRowWise() {
+        return rowWiseOp && RowWiseExp.isRowWise(exp);
     }
 
     @Override
@@ -5,11 +5,12 @@ import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.exp.Exp2;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.function.BiFunction;
 
 
-public class MapExp2<L, R, T> extends Exp2<L, R, T> {
+public class MapExp2<L, R, T> extends Exp2<L, R, T> implements RowWiseExp {
 
     public static <L, R, T> MapExp2<L, R, T> map(
             String opName, Class<T> type, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<T>> op) {
@@ -17,14 +18,14 @@ public class MapExp2<L, R, T> extends Exp2<L, R, T> {
     }
 
     public static <L, R, T> MapExp2<L, R, T> mapVal(String opName, Class<T> type, Exp<L> left, Exp<R> right, BiFunction<L, R, T> op) {
-        return new MapExp2<>(opName, type, left, right, valToSeries(op));
+        return new MapExp2<>(opName, type, left, right, valToSeries(op), true);
     }
 
     /**
      * @since 2.0.0
      */
     public static <L, R, T> MapExp2<L, R, T> mapValWithNulls(String opName, Class<T> type, Exp<L> left, Exp<R> right, BiFunction<L, R, T> op) {
-        return new MapExp2<>(opName, type, left, right, valToSeriesWithNulls(op));
+        return new MapExp2<>(opName, type, left, right, valToSeriesWithNulls(op), true);
     }
 
     protected static <L, R, T> BiFunction<Series<L>, Series<R>, Series<T>> valToSeriesWithNulls(BiFunction<L, R, T> op) {
@@ -53,10 +54,26 @@ public class MapExp2<L, R, T> extends Exp2<L, R, T> {
     }
 
     private final BiFunction<Series<L>, Series<R>, Series<T>> op;
+    private final boolean rowWiseOp;
 
     protected MapExp2(String opName, Class<T> type, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<T>> op) {
+        this(opName, type, left, right, op, false);
+    }
+
+    /**
+     * @param rowWiseOp whether the "op" calculates each result value only from the argument values at the same
+     *                  position, so the expression may be evaluated over the parts of a DataFrame separately
+     * @since 2.0.0
+     */
+    protected MapExp2(String opName, Class<T> type, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<T>> op, boolean rowWiseOp) {
         super(opName, type, left, right);
         this.op = op;
+        this.rowWiseOp = rowWiseOp;
+    }
+
+    @Override
+    public boolean isRowWise() {
+        return rowWiseOp && RowWiseExp.isRowWise(left) && RowWiseExp.isRowWise(right);
     }
 
     @Override
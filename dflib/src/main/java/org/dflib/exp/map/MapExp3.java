@@ -5,12 +5,13 @@ import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.exp.Exp3;
+import org.dflib.exp.RowWiseExp;
 import org.dflib.f.Function3;
 
 /**
  * @since 2.0.0
  */
-public class MapExp3<One, Two, Three, T> extends Exp3<One, Two, Three, T> {
+public class MapExp3<One, Two, Three, T> extends Exp3<One, Two, Three, T> implements RowWiseExp {
 
     public static <One, Two, Three, T> MapExp3<One, Two, Three, T> map(
             String opName1,
@@ -31,7 +32,7 @@ public class MapExp3<One, Two, Three, T> extends Exp3<One, Two, Three, T> {
             Exp<Two> two,
             Exp<Three> three,
             Function3<One, Two, Three, T> op) {
-        return new MapExp3<>(opName1, opName2, type, one, two, three, valToSeries(op));
+        return new MapExp3<>(opName1, opName2, type, one, two, three, valToSeries(op), true);
     }
 
     protected static <One, Two, Three, T> Function3<Series<One>, Series<Two>, Series<Three>, Series<T>> valToSeries(Function3<One, Two, Three, T> op) {
@@ -50,6 +51,7 @@ public class MapExp3<One, Two, Three, T> extends Exp3<One, Two, Three, T> {
     }
 
     private final Function3<Series<One>, Series<Two>, Series<Three>, Series<T>> op;
+    private final boolean rowWiseOp;
 
     protected MapExp3(
             String opName1,
@@ -58,8 +60,33 @@ public class MapExp3<One, Two, Three, T> extends Exp3<One, Two, Three, T> {
             Exp<Two> two,
             Exp<Three> three,
             Function3<Series<One>, Series<Two>, Series<Three>, Series<T>> op) {
+        this(opName1, opName2, type, one, two, three, op, false);
+    }
+
+    /**
+     * @param rowWiseOp whether the "op" calculates each result value only from the argument values at the same
+     *                  position, so the expression may be evaluated over the parts of a DataFrame separately
+     * @since 2.0.0
+     */
+    protected MapExp3(
+            String opName1,
+            String opName2,
+            Class<T> type, Exp<One> one,
+            Exp<Two> two,
+            Exp<Three> three,
+            Function3<Series<One>, Series<Two>, Series<Three>, Series<T>> op,
+            boolean rowWiseOp) {
         super(opName1, opName2, type, one, two, three);
         this.op = op;
+        this.rowWiseOp = rowWiseOp;
+    }
+
+    @Override
+    public boolean isRowWise() {
+        return rowWiseOp
+                && RowWiseExp.isRowWise(one)
+                && RowWiseExp.isRowWise(two)
+                && RowWiseExp.isRowWise(three);
     }
 
     @Override
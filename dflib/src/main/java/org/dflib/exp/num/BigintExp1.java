@@ -19,11 +19,15 @@ public class BigintExp1<F> extends MapExp1<F, BigInteger> implements NumExp<BigI
     }
 
     public static <F> BigintExp1<F> mapVal(String opName, Exp<F> exp, Function<F, BigInteger> op) {
-        return new BigintExp1<>(opName, exp, valToSeries(op));
+        return new BigintExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public BigintExp1(String opName, Exp<F> exp, Function<Series<F>, Series<BigInteger>> op) {
-        super(opName, BigInteger.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected BigintExp1(String opName, Exp<F> exp, Function<Series<F>, Series<BigInteger>> op, boolean rowWiseOp) {
+        super(opName, BigInteger.class, exp, op, rowWiseOp);
     }
 
     @Override
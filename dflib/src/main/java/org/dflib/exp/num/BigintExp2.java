@@ -14,7 +14,7 @@ import java.util.function.BiFunction;
 public class BigintExp2<R> extends MapExp2<BigInteger, R, BigInteger> implements NumExp<BigInteger> {
 
     public static <R> BigintExp2 mapVal(String opName, Exp<BigInteger> left, Exp<R> right, BiFunction<BigInteger, R, BigInteger> op) {
-        return new BigintExp2(opName, left, right, valToSeries(op));
+        return new BigintExp2(opName, left, right, valToSeries(op), true);
     }
 
     protected BigintExp2(
@@ -22,7 +22,16 @@ public class BigintExp2<R> extends MapExp2<BigInteger, R, BigInteger> implements
             Exp<BigInteger> left,
             Exp<R> right,
             BiFunction<Series<BigInteger>, Series<R>, Series<BigInteger>> op) {
-        super(opName, BigInteger.class, left, right, op);
+        this(opName, left, right, op, false);
+    }
+
+    protected BigintExp2(
+            String opName,
+            Exp<BigInteger> left,
+            Exp<R> right,
+            BiFunction<Series<BigInteger>, Series<R>, Series<BigInteger>> op,
+            boolean rowWiseOp) {
+        super(opName, BigInteger.class, left, right, op, rowWiseOp);
     }
 
     @Override
@@ -17,10 +17,14 @@ public class DecimalExp1<F> extends MapExp1<F, BigDecimal> implements DecimalExp
     }
 
     public static <F> DecimalExp1<F> mapVal(String opName, Exp<F> exp, Function<F, BigDecimal> op) {
-        return new DecimalExp1<>(opName, exp, valToSeries(op));
+        return new DecimalExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public DecimalExp1(String opName, Exp<F> exp, Function<Series<F>, Series<BigDecimal>> op) {
-        super(opName, BigDecimal.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected DecimalExp1(String opName, Exp<F> exp, Function<Series<F>, Series<BigDecimal>> op, boolean rowWiseOp) {
+        super(opName, BigDecimal.class, exp, op, rowWiseOp);
     }
 }
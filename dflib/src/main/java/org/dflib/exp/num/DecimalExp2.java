@@ -11,7 +11,7 @@ import java.util.function.BiFunction;
 public class DecimalExp2<R> extends MapExp2<BigDecimal, R, BigDecimal> implements DecimalExp {
 
     public static <R> DecimalExp2 mapVal(String opName, Exp<BigDecimal> left, Exp<R> right, BiFunction<BigDecimal, R, BigDecimal> op) {
-        return new DecimalExp2(opName, left, right, valToSeries(op));
+        return new DecimalExp2(opName, left, right, valToSeries(op), true);
     }
 
     protected DecimalExp2(
@@ -19,6 +19,15 @@ public class DecimalExp2<R> extends MapExp2<BigDecimal, R, BigDecimal> implement
             Exp<BigDecimal> left,
             Exp<R> right,
             BiFunction<Series<BigDecimal>, Series<R>, Series<BigDecimal>> op) {
-        super(opName, BigDecimal.class, left, right, op);
+        this(opName, left, right, op, false);
+    }
+
+    protected DecimalExp2(
+            String opName,
+            Exp<BigDecimal> left,
+            Exp<R> right,
+            BiFunction<Series<BigDecimal>, Series<R>, Series<BigDecimal>> op,
+            boolean rowWiseOp) {
+        super(opName, BigDecimal.class, left, right, op, rowWiseOp);
     }
 }
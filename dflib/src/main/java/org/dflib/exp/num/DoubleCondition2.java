@@ -18,7 +18,7 @@ public class DoubleCondition2 extends MapCondition2<Double, Double> {
             Exp<Double> right,
             BiPredicate<Double, Double> op,
             BiFunction<DoubleSeries, DoubleSeries, BooleanSeries> primitiveOp) {
-        return new DoubleCondition2(opName, left, right, valToSeries(op), primitiveOp);
+        return new DoubleCondition2(opName, left, right, valToSeries(op), primitiveOp, true);
     }
 
     private final BiFunction<DoubleSeries, DoubleSeries, BooleanSeries> primitiveOp;
@@ -29,15 +29,34 @@ public class DoubleCondition2 extends MapCondition2<Double, Double> {
             Exp<Double> right,
             BiFunction<Series<Double>, Series<Double>, BooleanSeries> op,
             BiFunction<DoubleSeries, DoubleSeries, BooleanSeries> primitiveOp) {
+        this(opName, left, right, op, primitiveOp, false);
+    }
 
-        super(opName, left, right, op);
+    protected DoubleCondition2(
+            String opName,
+            Exp<Double> left,
+            Exp<Double> right,
+            BiFunction<Series<Double>, Series<Double>, BooleanSeries> op,
+            BiFunction<DoubleSeries, DoubleSeries, BooleanSeries> primitiveOp,
+            boolean rowWiseOp) {
+
+        super(opName, left, right, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
     @Override
     protected BooleanSeries doEval(Series<Double> left, Series<Double> right) {
-        return (left instanceof DoubleSeries && right instanceof DoubleSeries)
-                ? primitiveOp.apply((DoubleSeries) left, (DoubleSeries) right)
-                : super.doEval(left, right);
+
+        if (left instanceof DoubleSeries ld && right instanceof DoubleSeries rd) {
+            return primitiveOp.apply(ld, rd);
+        }
+
+        if (NullableOperands.isDouble(left) && NullableOperands.isDouble(right)) {
+            return primitiveOp
+                    .apply(NullableOperands.doubleValues(left), NullableOperands.doubleValues(right))
+                    .and(NullableOperands.notNulls(left, right));
+        }
+
+        return super.doEval(left, right);
     }
 }
@@ -18,7 +18,7 @@ public class DoubleCondition3 extends MapCondition3<Double, Double, Double> {
             Exp<Double> three,
             Predicate3<Double, Double, Double> op,
             Function3<DoubleSeries, DoubleSeries, DoubleSeries, BooleanSeries> primitiveOp) {
-        return new DoubleCondition3(opName1, opName2, one, two, three, valToSeries(op), primitiveOp);
+        return new DoubleCondition3(opName1, opName2, one, two, three, valToSeries(op), primitiveOp, true);
     }
 
     private final Function3<DoubleSeries, DoubleSeries, DoubleSeries, BooleanSeries> primitiveOp;
@@ -31,8 +31,20 @@ public class DoubleCondition3 extends MapCondition3<Double, Double, Double> {
             Exp<Double> three,
             Function3<Series<Double>, Series<Double>, Series<Double>, BooleanSeries> op,
             Function3<DoubleSeries, DoubleSeries, DoubleSeries, BooleanSeries> primitiveOp) {
+        this(opName1, opName2, one, two, three, op, primitiveOp, false);
+    }
+
+    protected DoubleCondition3(
+            String opName1,
+            String opName2,
+            Exp<Double> one,
+            Exp<Double> two,
+            Exp<Double> three,
+            Function3<Series<Double>, Series<Double>, Series<Double>, BooleanSeries> op,
+            Function3<DoubleSeries, DoubleSeries, DoubleSeries, BooleanSeries> primitiveOp,
+            boolean rowWiseOp) {
 
-        super(opName1, opName2, one, two, three, op);
+        super(opName1, opName2, one, two, three, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
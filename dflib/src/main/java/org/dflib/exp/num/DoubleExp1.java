@@ -16,11 +16,15 @@ public class DoubleExp1<F> extends MapExp1<F, Double> implements NumExp<Double>
     }
 
     public static <F> DoubleExp1<F> mapVal(String opName, Exp<F> exp, Function<F, Double> op) {
-        return new DoubleExp1<>(opName, exp, valToSeries(op));
+        return new DoubleExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public DoubleExp1(String opName, Exp<F> exp, Function<Series<F>, Series<Double>> op) {
-        super(opName, Double.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected DoubleExp1(String opName, Exp<F> exp, Function<Series<F>, Series<Double>> op, boolean rowWiseOp) {
+        super(opName, Double.class, exp, op, rowWiseOp);
     }
 
     @Override
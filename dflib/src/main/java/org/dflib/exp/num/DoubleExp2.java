@@ -5,6 +5,7 @@ import org.dflib.Exp;
 import org.dflib.NumExp;
 import org.dflib.Series;
 import org.dflib.exp.map.MapExp2;
+import org.dflib.series.DoubleNullableSeries;
 
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -18,7 +19,7 @@ public class DoubleExp2 extends MapExp2<Double, Double, Double> implements NumEx
             Exp<Double> right,
             BiFunction<Double, Double, Double> op,
             BinaryOperator<DoubleSeries> primitiveOp) {
-        return new DoubleExp2(opName, left, right, valToSeries(op), primitiveOp);
+        return new DoubleExp2(opName, left, right, valToSeries(op), primitiveOp, true);
     }
 
     private final BinaryOperator<DoubleSeries> primitiveOp;
@@ -29,16 +30,35 @@ public class DoubleExp2 extends MapExp2<Double, Double, Double> implements NumEx
             Exp<Double> right,
             BiFunction<Series<Double>, Series<Double>, Series<Double>> op,
             BinaryOperator<DoubleSeries> primitiveOp) {
+        this(opName, left, right, op, primitiveOp, false);
+    }
+
+    protected DoubleExp2(
+            String opName,
+            Exp<Double> left,
+            Exp<Double> right,
+            BiFunction<Series<Double>, Series<Double>, Series<Double>> op,
+            BinaryOperator<DoubleSeries> primitiveOp,
+            boolean rowWiseOp) {
 
-        super(opName, Double.class, left, right, op);
+        super(opName, Double.class, left, right, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
     @Override
     protected Series<Double> doEval(Series<Double> ls, Series<Double> rs) {
-        return (ls instanceof DoubleSeries && rs instanceof DoubleSeries)
-                ? primitiveOp.apply((DoubleSeries) ls, (DoubleSeries) rs)
-                : super.doEval(ls, rs);
+
+        if (ls instanceof DoubleSeries ld && rs instanceof DoubleSeries rd) {
+            return primitiveOp.apply(ld, rd);
+        }
+
+        if (NullableOperands.isDouble(ls) && NullableOperands.isDouble(rs)) {
+            return new DoubleNullableSeries(
+                    primitiveOp.apply(NullableOperands.doubleValues(ls), NullableOperands.doubleValues(rs)),
+                    NullableOperands.notNulls(ls, rs));
+        }
+
+        return super.doEval(ls, rs);
     }
 
     @Override
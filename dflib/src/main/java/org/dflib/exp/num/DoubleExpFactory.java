@@ -114,22 +114,26 @@ public class DoubleExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Double> sum(Exp<? extends Number> exp, Condition filter) {
-        return new DoubleReduceExp1<>("sum", exp, Sum::ofDoubles, filter);
+        return new DoubleReduceExp1<>("sum", exp,
+                Sum::ofDoubles, Sum::ofDoubles, Sum::ofDoubles, Sum::ofDoubles, filter);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp, Condition filter) {
-        return new DoubleReduceExp1<>("min", exp, Min::ofDoubles, filter);
+        return new DoubleReduceExp1<>("min", exp,
+                Min::ofDoubles, Min::ofDoubles, Min::ofDoubles, Min::ofDoubles, filter);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp, Condition filter) {
-        return new DoubleReduceExp1<>("max", exp, Max::ofDoubles, filter);
+        return new DoubleReduceExp1<>("max", exp,
+                Max::ofDoubles, Max::ofDoubles, Max::ofDoubles, Max::ofDoubles, filter);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp, Condition filter) {
-        return new DoubleReduceExp1<>("avg", exp, Average::ofDoubles, filter);
+        return new DoubleReduceExp1<>("avg", exp,
+                Average::ofDoubles, Average::ofDoubles, Average::ofDoubles, Average::ofDoubles, filter);
     }
 
     @Override
@@ -20,7 +20,7 @@ public class FloatCondition2 extends MapCondition2<Float, Float> {
             Exp<Float> right,
             BiPredicate<Float, Float> op,
             BiFunction<FloatSeries, FloatSeries, BooleanSeries> primitiveOp) {
-        return new FloatCondition2(opName, left, right, valToSeries(op), primitiveOp);
+        return new FloatCondition2(opName, left, right, valToSeries(op), primitiveOp, true);
     }
 
     private final BiFunction<FloatSeries, FloatSeries, BooleanSeries> primitiveOp;
@@ -31,8 +31,18 @@ public class FloatCondition2 extends MapCondition2<Float, Float> {
             Exp<Float> right,
             BiFunction<Series<Float>, Series<Float>, BooleanSeries> op,
             BiFunction<FloatSeries, FloatSeries, BooleanSeries> primitiveOp) {
+        this(opName, left, right, op, primitiveOp, false);
+    }
+
+    protected FloatCondition2(
+            String opName,
+            Exp<Float> left,
+            Exp<Float> right,
+            BiFunction<Series<Float>, Series<Float>, BooleanSeries> op,
+            BiFunction<FloatSeries, FloatSeries, BooleanSeries> primitiveOp,
+            boolean rowWiseOp) {
 
-        super(opName, left, right, op);
+        super(opName, left, right, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
@@ -21,7 +21,7 @@ public class FloatCondition3 extends MapCondition3<Float, Float, Float> {
             Exp<Float> three,
             Predicate3<Float, Float, Float> op,
             Function3<FloatSeries, FloatSeries, FloatSeries, BooleanSeries> primitiveOp) {
-        return new FloatCondition3(opName1, opName2, one, two, three, valToSeries(op), primitiveOp);
+        return new FloatCondition3(opName1, opName2, one, two, three, valToSeries(op), primitiveOp, true);
     }
 
     private final Function3<FloatSeries, FloatSeries, FloatSeries, BooleanSeries> primitiveOp;
@@ -34,8 +34,20 @@ public class FloatCondition3 extends MapCondition3<Float, Float, Float> {
             Exp<Float> three,
             Function3<Series<Float>, Series<Float>, Series<Float>, BooleanSeries> op,
             Function3<FloatSeries, FloatSeries, FloatSeries, BooleanSeries> primitiveOp) {
+        this(opName1, opName2, one, two, three, op, primitiveOp, false);
+    }
+
+    protected FloatCondition3(
+            String opName1,
+            String opName2,
+            Exp<Float> one,
+            Exp<Float> two,
+            Exp<Float> three,
+            Function3<Series<Float>, Series<Float>, Series<Float>, BooleanSeries> op,
+            Function3<FloatSeries, FloatSeries, FloatSeries, BooleanSeries> primitiveOp,
+            boolean rowWiseOp) {
 
-        super(opName1, opName2, one, two, three, op);
+        super(opName1, opName2, one, two, three, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
@@ -17,11 +17,15 @@ public class FloatExp1<F> extends MapExp1<F, Float> implements NumExp<Float> {
     }
 
     public static <F> FloatExp1<F> mapVal(String opName, Exp<F> exp, Function<F, Float> op) {
-        return new FloatExp1<>(opName, exp, valToSeries(op));
+        return new FloatExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public FloatExp1(String opName, Exp<F> exp, Function<Series<F>, Series<Float>> op) {
-        super(opName, Float.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected FloatExp1(String opName, Exp<F> exp, Function<Series<F>, Series<Float>> op, boolean rowWiseOp) {
+        super(opName, Float.class, exp, op, rowWiseOp);
     }
 
     @Override
@@ -18,7 +18,7 @@ public class FloatExp2 extends MapExp2<Float, Float, Float> implements NumExp<Fl
             Exp<Float> right,
             BiFunction<Float, Float, Float> op,
             BinaryOperator<FloatSeries> primitiveOp) {
-        return new FloatExp2(opName, left, right, valToSeries(op), primitiveOp);
+        return new FloatExp2(opName, left, right, valToSeries(op), primitiveOp, true);
     }
 
     private final BinaryOperator<FloatSeries> primitiveOp;
@@ -29,8 +29,18 @@ public class FloatExp2 extends MapExp2<Float, Float, Float> implements NumExp<Fl
             Exp<Float> right,
             BiFunction<Series<Float>, Series<Float>, Series<Float>> op,
             BinaryOperator<FloatSeries> primitiveOp) {
+        this(opName, left, right, op, primitiveOp, false);
+    }
+
+    protected FloatExp2(
+            String opName,
+            Exp<Float> left,
+            Exp<Float> right,
+            BiFunction<Series<Float>, Series<Float>, Series<Float>> op,
+            BinaryOperator<FloatSeries> primitiveOp,
+            boolean rowWiseOp) {
 
-        super(opName, Float.class, left, right, op);
+        super(opName, Float.class, left, right, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
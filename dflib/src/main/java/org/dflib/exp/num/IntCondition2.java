@@ -18,7 +18,7 @@ public class IntCondition2 extends MapCondition2<Integer, Integer> {
             Exp<Integer> right,
             BiPredicate<Integer, Integer> op,
             BiFunction<IntSeries, IntSeries, BooleanSeries> primitiveOp) {
-        return new IntCondition2(opName, left, right, valToSeries(op), primitiveOp);
+        return new IntCondition2(opName, left, right, valToSeries(op), primitiveOp, true);
     }
 
     private final BiFunction<IntSeries, IntSeries, BooleanSeries> primitiveOp;
@@ -29,15 +29,35 @@ public class IntCondition2 extends MapCondition2<Integer, Integer> {
             Exp<Integer> right,
             BiFunction<Series<Integer>, Series<Integer>, BooleanSeries> op,
             BiFunction<IntSeries, IntSeries, BooleanSeries> primitiveOp) {
+        this(opName, left, right, op, primitiveOp, false);
+    }
 
-        super(opName, left, right, op);
+    protected IntCondition2(
+            String opName,
+            Exp<Integer> left,
+            Exp<Integer> right,
+            BiFunction<Series<Integer>, Series<Integer>, BooleanSeries> op,
+            BiFunction<IntSeries, IntSeries, BooleanSeries> primitiveOp,
+            boolean rowWiseOp) {
+
+        super(opName, left, right, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
     @Override
     protected BooleanSeries doEval(Series<Integer> left, Series<Integer> right) {
-        return (left instanceof IntSeries && right instanceof IntSeries)
-                ? primitiveOp.apply((IntSeries) left, (IntSeries) right)
-                : super.doEval(left, right);
+
+        if (left instanceof IntSeries li && right instanceof IntSeries ri) {
+            return primitiveOp.apply(li, ri);
+        }
+
+        // comparisons with nulls are false
+        if (NullableOperands.isInt(left) && NullableOperands.isInt(right)) {
+            return primitiveOp
+                    .apply(NullableOperands.intValues(left), NullableOperands.intValues(right))
+                    .and(NullableOperands.notNulls(left, right));
+        }
+
+        return super.doEval(left, right);
     }
 }
@@ -18,7 +18,7 @@ public class IntCondition3 extends MapCondition3<Integer, Integer, Integer> {
             Exp<Integer> three,
             Predicate3<Integer, Integer, Integer> op,
             Function3<IntSeries, IntSeries, IntSeries, BooleanSeries> primitiveOp) {
-        return new IntCondition3(opName1, opName2, one, two, three, valToSeries(op), primitiveOp);
+        return new IntCondition3(opName1, opName2, one, two, three, valToSeries(op), primitiveOp, true);
     }
 
     private final Function3<IntSeries, IntSeries, IntSeries, BooleanSeries> primitiveOp;
@@ -31,8 +31,20 @@ public class IntCondition3 extends MapCondition3<Integer, Integer, Integer> {
             Exp<Integer> three,
             Function3<Series<Integer>, Series<Integer>, Series<Integer>, BooleanSeries> op,
             Function3<IntSeries, IntSeries, IntSeries, BooleanSeries> primitiveOp) {
+        this(opName1, opName2, one, two, three, op, primitiveOp, false);
+    }
+
+    protected IntCondition3(
+            String opName1,
+            String opName2,
+            Exp<Integer> one,
+            Exp<Integer> two,
+            Exp<Integer> three,
+            Function3<Series<Integer>, Series<Integer>, Series<Integer>, BooleanSeries> op,
+            Function3<IntSeries, IntSeries, IntSeries, BooleanSeries> primitiveOp,
+            boolean rowWiseOp) {
 
-        super(opName1, opName2, one, two, three, op);
+        super(opName1, opName2, one, two, three, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
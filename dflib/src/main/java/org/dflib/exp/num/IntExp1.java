@@ -16,11 +16,15 @@ public class IntExp1<F> extends MapExp1<F, Integer> implements NumExp<Integer> {
     }
 
     public static <F> IntExp1<F> mapVal(String opName, Exp<F> exp, Function<F, Integer> op) {
-        return new IntExp1<>(opName, exp, valToSeries(op));
+        return new IntExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public IntExp1(String opName, Exp<F> exp, Function<Series<F>, Series<Integer>> op) {
-        super(opName, Integer.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected IntExp1(String opName, Exp<F> exp, Function<Series<F>, Series<Integer>> op, boolean rowWiseOp) {
+        super(opName, Integer.class, exp, op, rowWiseOp);
     }
 
     @Override
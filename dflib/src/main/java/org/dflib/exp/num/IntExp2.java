@@ -6,6 +6,7 @@ import org.dflib.Exp;
 import org.dflib.IntSeries;
 import org.dflib.NumExp;
 import org.dflib.Series;
+import org.dflib.series.IntNullableSeries;
 
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -19,7 +20,7 @@ public class IntExp2 extends MapExp2<Integer, Integer, Integer> implements NumEx
             Exp<Integer> right,
             BiFunction<Integer, Integer, Integer> op,
             BinaryOperator<IntSeries> primitiveOp) {
-        return new IntExp2(opName, left, right, valToSeries(op), primitiveOp);
+        return new IntExp2(opName, left, right, valToSeries(op), primitiveOp, true);
     }
 
     private final BinaryOperator<IntSeries> primitiveOp;
@@ -30,16 +31,38 @@ public class IntExp2 extends MapExp2<Integer, Integer, Integer> implements NumEx
             Exp<Integer> right,
             BiFunction<Series<Integer>, Series<Integer>, Series<Integer>> op,
             BinaryOperator<IntSeries> primitiveOp) {
+        this(opName, left, right, op, primitiveOp, false);
+    }
 
-        super(opName, Integer.class, left, right, op);
+    protected IntExp2(
+            String opName,
+            Exp<Integer> left,
+            Exp<Integer> right,
+            BiFunction<Series<Integer>, Series<Integer>, Series<Integer>> op,
+            BinaryOperator<IntSeries> primitiveOp,
+            boolean rowWiseOp) {
+
+        super(opName, Integer.class, left, right, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
     @Override
     protected Series<Integer> doEval(Series<Integer> ls, Series<Integer> rs) {
-        return (ls instanceof IntSeries && rs instanceof IntSeries)
-                ? primitiveOp.apply((IntSeries) ls, (IntSeries) rs)
-                : super.doEval(ls, rs);
+
+        if (ls instanceof IntSeries li && rs instanceof IntSeries ri) {
+            return primitiveOp.apply(li, ri);
+        }
+
+        if (NullableOperands.isInt(ls) && NullableOperands.isInt(rs)) {
+
+            // right-side nulls are replaced with 1 to avoid division by zero in the positions that will be
+            // nulls in the result anyway
+            return new IntNullableSeries(
+                    primitiveOp.apply(NullableOperands.intValues(ls), NullableOperands.intValues(rs, 1)),
+                    NullableOperands.notNulls(ls, rs));
+        }
+
+        return super.doEval(ls, rs);
     }
 
     @Override
@@ -96,22 +96,26 @@ public class IntExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Long> sum(Exp<? extends Number> exp, Condition filter) {
-        return new LongReduceExp1<>("sum", exp, Sum::ofInts, filter);
+        return new LongReduceExp1<>("sum", exp,
+                Sum::ofInts, Sum::ofInts, Sum::ofInts, Sum::ofInts, filter);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp, Condition filter) {
-        return new IntReduceExp1<>("min", exp, Min::ofInts, filter);
+        return new IntReduceExp1<>("min", exp,
+                Min::ofInts, Min::ofInts, Min::ofInts, Min::ofInts, filter);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp, Condition filter) {
-        return new IntReduceExp1<>("max", exp, Max::ofInts, filter);
+        return new IntReduceExp1<>("max", exp,
+                Max::ofInts, Max::ofInts, Max::ofInts, Max::ofInts, filter);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp, Condition filter) {
-        return new DoubleReduceExp1<>("avg", exp, Average::ofDoubles, filter);
+        return new DoubleReduceExp1<>("avg", exp,
+                Average::ofDoubles, Average::ofDoubles, Average::ofDoubles, Average::ofDoubles, filter);
     }
 
     @Override
@@ -19,7 +19,7 @@ public class LongCondition2 extends MapCondition2<Long, Long> {
             Exp<Long> right,
             BiPredicate<Long, Long> op,
             BiFunction<LongSeries, LongSeries, BooleanSeries> primitiveOp) {
-        return new LongCondition2(opName, left, right, valToSeries(op), primitiveOp);
+        return new LongCondition2(opName, left, right, valToSeries(op), primitiveOp, true);
     }
 
     private final BiFunction<LongSeries, LongSeries, BooleanSeries> primitiveOp;
@@ -30,15 +30,34 @@ public class LongCondition2 extends MapCondition2<Long, Long> {
             Exp<Long> right,
             BiFunction<Series<Long>, Series<Long>, BooleanSeries> op,
             BiFunction<LongSeries, LongSeries, BooleanSeries> primitiveOp) {
+        this(opName, left, right, op, primitiveOp, false);
+    }
 
-        super(opName, left, right, op);
+    protected LongCondition2(
+            String opName,
+            Exp<Long> left,
+            Exp<Long> right,
+            BiFunction<Series<Long>, Series<Long>, BooleanSeries> op,
+            BiFunction<LongSeries, LongSeries, BooleanSeries> primitiveOp,
+            boolean rowWiseOp) {
+
+        super(opName, left, right, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
     @Override
     protected BooleanSeries doEval(Series<Long> left, Series<Long> right) {
-        return (left instanceof LongSeries && right instanceof LongSeries)
-                ? primitiveOp.apply((LongSeries) left, (LongSeries) right)
-                : super.doEval(left, right);
+
+        if (left instanceof LongSeries ll && right instanceof LongSeries rl) {
+            return primitiveOp.apply(ll, rl);
+        }
+
+        if (NullableOperands.isLong(left) && NullableOperands.isLong(right)) {
+            return primitiveOp
+                    .apply(NullableOperands.longValues(left), NullableOperands.longValues(right))
+                    .and(NullableOperands.notNulls(left, right));
+        }
+
+        return super.doEval(left, right);
     }
 }
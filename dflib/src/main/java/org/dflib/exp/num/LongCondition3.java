@@ -18,7 +18,7 @@ public class LongCondition3 extends MapCondition3<Long, Long, Long> {
             Exp<Long> three,
             Predicate3<Long, Long, Long> op,
             Function3<LongSeries, LongSeries, LongSeries, BooleanSeries> primitiveOp) {
-        return new LongCondition3(opName1, opName2, one, two, three, valToSeries(op), primitiveOp);
+        return new LongCondition3(opName1, opName2, one, two, three, valToSeries(op), primitiveOp, true);
     }
 
     private final Function3<LongSeries, LongSeries, LongSeries, BooleanSeries> primitiveOp;
@@ -31,8 +31,20 @@ public class LongCondition3 extends MapCondition3<Long, Long, Long> {
             Exp<Long> three,
             Function3<Series<Long>, Series<Long>, Series<Long>, BooleanSeries> op,
             Function3<LongSeries, LongSeries, LongSeries, BooleanSeries> primitiveOp) {
+        this(opName1, opName2, one, two, three, op, primitiveOp, false);
+    }
+
+    protected LongCondition3(
+            String opName1,
+            String opName2,
+            Exp<Long> one,
+            Exp<Long> two,
+            Exp<Long> three,
+            Function3<Series<Long>, Series<Long>, Series<Long>, BooleanSeries> op,
+            Function3<LongSeries, LongSeries, LongSeries, BooleanSeries> primitiveOp,
+            boolean rowWiseOp) {
 
-        super(opName1, opName2, one, two, three, op);
+        super(opName1, opName2, one, two, three, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
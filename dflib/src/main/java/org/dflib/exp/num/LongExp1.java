@@ -16,11 +16,15 @@ public class LongExp1<F> extends MapExp1<F, Long> implements NumExp<Long> {
     }
 
     public static <F> LongExp1<F> mapVal(String opName, Exp<F> exp, Function<F, Long> op) {
-        return new LongExp1<>(opName, exp, valToSeries(op));
+        return new LongExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public LongExp1(String opName, Exp<F> exp, Function<Series<F>, Series<Long>> op) {
-        super(opName, Long.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected LongExp1(String opName, Exp<F> exp, Function<Series<F>, Series<Long>> op, boolean rowWiseOp) {
+        super(opName, Long.class, exp, op, rowWiseOp);
     }
 
     @Override
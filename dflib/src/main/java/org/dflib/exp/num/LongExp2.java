@@ -6,6 +6,7 @@ import org.dflib.Exp;
 import org.dflib.LongSeries;
 import org.dflib.NumExp;
 import org.dflib.Series;
+import org.dflib.series.LongNullableSeries;
 
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
@@ -19,7 +20,7 @@ public class LongExp2 extends MapExp2<Long, Long, Long> implements NumExp<Long>
             Exp<Long> right,
             BiFunction<Long, Long, Long> op,
             BinaryOperator<LongSeries> primitiveOp) {
-        return new LongExp2(opName, left, right, valToSeries(op), primitiveOp);
+        return new LongExp2(opName, left, right, valToSeries(op), primitiveOp, true);
     }
 
     private final BinaryOperator<LongSeries> primitiveOp;
@@ -30,16 +31,38 @@ public class LongExp2 extends MapExp2<Long, Long, Long> implements NumExp<Long>
             Exp<Long> right,
             BiFunction<Series<Long>, Series<Long>, Series<Long>> op,
             BinaryOperator<LongSeries> primitiveOp) {
+        this(opName, left, right, op, primitiveOp, false);
+    }
 
-        super(opName, Long.class, left, right, op);
+    protected LongExp2(
+            String opName,
+            Exp<Long> left,
+            Exp<Long> right,
+            BiFunction<Series<Long>, Series<Long>, Series<Long>> op,
+            BinaryOperator<LongSeries> primitiveOp,
+            boolean rowWiseOp) {
+
+        super(opName, Long.class, left, right, op, rowWiseOp);
         this.primitiveOp = primitiveOp;
     }
 
     @Override
     protected Series<Long> doEval(Series<Long> left, Series<Long> right) {
-        return (left instanceof LongSeries && right instanceof LongSeries)
-                ? primitiveOp.apply((LongSeries) left, (LongSeries) right)
-                : super.doEval(left, right);
+
+        if (left instanceof LongSeries ll && right instanceof LongSeries rl) {
+            return primitiveOp.apply(ll, rl);
+        }
+
+        if (NullableOperands.isLong(left) && NullableOperands.isLong(right)) {
+
+            // right-side nulls are replaced with 1 to avoid division by zero in the positions that will be
+            // nulls in the result anyway
+            return new LongNullableSeries(
+                    primitiveOp.apply(NullableOperands.longValues(left), NullableOperands.longValues(right, 1L)),
+                    NullableOperands.notNulls(left, right));
+        }
+
+        return super.doEval(left, right);
     }
 
     @Override
@@ -95,22 +95,26 @@ public class LongExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Long> sum(Exp<? extends Number> exp, Condition filter) {
-        return new LongReduceExp1<>("sum", exp, Sum::ofLongs, filter);
+        return new LongReduceExp1<>("sum", exp,
+                Sum::ofLongs, Sum::ofLongs, Sum::ofLongs, Sum::ofLongs, filter);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp, Condition filter) {
-        return new LongReduceExp1<>("min", exp, Min::ofLongs, filter);
+        return new LongReduceExp1<>("min", exp,
+                Min::ofLongs, Min::ofLongs, Min::ofLongs, Min::ofLongs, filter);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp, Condition filter) {
-        return new LongReduceExp1<>("max", exp, Max::ofLongs, filter);
+        return new LongReduceExp1<>("max", exp,
+                Max::ofLongs, Max::ofLongs, Max::ofLongs, Max::ofLongs, filter);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp, Condition filter) {
-        return new DoubleReduceExp1<>("avg", exp, Average::ofDoubles, filter);
+        return new DoubleReduceExp1<>("avg", exp,
+                Average::ofDoubles, Average::ofDoubles, Average::ofDoubles, Average::ofDoubles, filter);
     }
 
     @Override
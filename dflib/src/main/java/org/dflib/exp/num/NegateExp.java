@@ -15,7 +15,7 @@ import java.util.function.UnaryOperator;
 public class NegateExp<N extends Number> extends MapExp1<N, N> implements NumExp<N> {
 
     public NegateExp(Class<N> type, Exp<N> exp, UnaryOperator<N> op) {
-        super("-", type, exp, valToSeries(op));
+        super("-", type, exp, valToSeries(op), true);
     }
 
     @Override
@@ -0,0 +1,75 @@
+package org.dflib.exp.num;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.LongNullableSeries;
+
+/**
+ * Helps to evaluate primitive numeric operations with the operands that are either primitive Series, or nullable
+ * primitive Series. The operation is applied to the primitive values, and the nulls are then restored from the
+ * combined "not null" bitmaps of the operands.
+ *
+ * @since 2.0.0
+ */
+final class NullableOperands {
+
+    private NullableOperands() {
+    }
+
+    static boolean isInt(Series<?> s) {
+        return s instanceof IntSeries || s instanceof IntNullableSeries;
+    }
+
+    static boolean isLong(Series<?> s) {
+        return s instanceof LongSeries || s instanceof LongNullableSeries;
+    }
+
+    static boolean isDouble(Series<?> s) {
+        return s instanceof DoubleSeries || s instanceof DoubleNullableSeries;
+    }
+
+    static IntSeries intValues(Series<Integer> s) {
+        return s instanceof IntNullableSeries ns ? ns.getValues() : (IntSeries) s;
+    }
+
+    static IntSeries intValues(Series<Integer> s, int forNull) {
+        return s instanceof IntNullableSeries ns ? ns.fillNullsInt(forNull) : (IntSeries) s;
+    }
+
+    static LongSeries longValues(Series<Long> s) {
+        return s instanceof LongNullableSeries ns ? ns.getValues() : (LongSeries) s;
+    }
+
+    static LongSeries longValues(Series<Long> s, long forNull) {
+        return s instanceof LongNullableSeries ns ? ns.fillNullsLong(forNull) : (LongSeries) s;
+    }
+
+    static DoubleSeries doubleValues(Series<Double> s) {
+        return s instanceof DoubleNullableSeries ns ? ns.getValues() : (DoubleSeries) s;
+    }
+
+    /**
+     * Returns a bitmap of positions where neither of the operands is null. Expects at least one of the operands to be
+     * a nullable primitive Series.
+     */
+    static BooleanSeries notNulls(Series<?> left, Series<?> right) {
+
+        boolean leftNullable = isNullable(left);
+        boolean rightNullable = isNullable(right);
+
+        if (leftNullable && rightNullable) {
+            return left.isNotNull().and(right.isNotNull());
+        }
+
+        return leftNullable ? left.isNotNull() : right.isNotNull();
+    }
+
+    private static boolean isNullable(Series<?> s) {
+        return s instanceof IntNullableSeries || s instanceof LongNullableSeries || s instanceof DoubleNullableSeries;
+    }
+}
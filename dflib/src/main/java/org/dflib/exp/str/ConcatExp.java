@@ -6,11 +6,12 @@ import org.dflib.Series;
 import org.dflib.StrExp;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.exp.ExpN;
+import org.dflib.exp.RowWiseExp;
 
 import static org.dflib.Exp.$val;
 
 
-public class ConcatExp extends ExpN<String> implements StrExp {
+public class ConcatExp extends ExpN<String> implements StrExp, RowWiseExp {
 
     public static StrExp of(Object... valuesOrExps) {
 
@@ -41,6 +42,17 @@ public class ConcatExp extends ExpN<String> implements StrExp {
         super("concat", String.class, args);
     }
 
+    @Override
+    public boolean isRowWise() {
+        for (Exp<?> a : args) {
+            if (!RowWiseExp.isRowWise(a)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
 
     @Override
     public Series<String> eval(Series<?> s) {
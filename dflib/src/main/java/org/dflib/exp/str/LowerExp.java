@@ -4,13 +4,14 @@ import org.dflib.DataFrame;
 import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.StrExp;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.Objects;
 
 /**
  * @since 2.0.0
  */
-public class LowerExp implements StrExp {
+public class LowerExp implements StrExp, RowWiseExp {
 
     public static StrExp of(Exp<?> exp) {
         return new LowerExp(exp);
@@ -22,6 +23,11 @@ public class LowerExp implements StrExp {
         this.exp = exp;
     }
 
+    @Override
+    public boolean isRowWise() {
+        return RowWiseExp.isRowWise(exp);
+    }
+
     @Override
     public Series<String> eval(DataFrame df) {
         return doEval(exp.eval(df));
@@ -11,10 +11,14 @@ import java.util.function.Function;
 public class StrExp1<F> extends MapExp1<F, String> implements StrExp {
 
     public static <F> StrExp1<F> mapVal(String opName, Exp<F> exp, Function<F, String> op) {
-        return new StrExp1<>(opName, exp, valToSeries(op));
+        return new StrExp1<>(opName, exp, valToSeries(op), true);
     }
 
     public StrExp1(String opName, Exp<F> exp, Function<Series<F>, Series<String>> op) {
-        super(opName, String.class, exp, op);
+        this(opName, exp, op, false);
+    }
+
+    protected StrExp1(String opName, Exp<F> exp, Function<Series<F>, Series<String>> op, boolean rowWiseOp) {
+        super(opName, String.class, exp, op, rowWiseOp);
     }
 }
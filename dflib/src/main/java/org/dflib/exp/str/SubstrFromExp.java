@@ -4,13 +4,14 @@ import org.dflib.DataFrame;
 import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.StrExp;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.Objects;
 
 /**
  * @since 2.0.0
  */
-public class SubstrFromExp implements StrExp {
+public class SubstrFromExp implements StrExp, RowWiseExp {
 
     public static StrExp of(Exp<?> exp, int fromInclusive) {
         return (fromInclusive == 0) ? exp.castAsStr() : new SubstrFromExp(exp, fromInclusive);
@@ -24,6 +25,11 @@ public class SubstrFromExp implements StrExp {
         this.fromInclusive = fromInclusive;
     }
 
+    @Override
+    public boolean isRowWise() {
+        return RowWiseExp.isRowWise(exp);
+    }
+
     @Override
     public Series<String> eval(DataFrame df) {
         return doEval(exp.eval(df));
@@ -4,13 +4,14 @@ import org.dflib.DataFrame;
 import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.StrExp;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.Objects;
 
 /**
  * @since 2.0.0
  */
-public class SubstrFromLenExp implements StrExp {
+public class SubstrFromLenExp implements StrExp, RowWiseExp {
 
     public static StrExp of(Exp<?> exp, int fromInclusive, int len) {
         if (len < 0) {
@@ -32,6 +33,11 @@ public class SubstrFromLenExp implements StrExp {
         this.len = len;
     }
 
+    @Override
+    public boolean isRowWise() {
+        return RowWiseExp.isRowWise(exp);
+    }
+
     @Override
     public Series<String> eval(DataFrame df) {
         return doEval(exp.eval(df));
@@ -4,13 +4,14 @@ import org.dflib.DataFrame;
 import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.StrExp;
+import org.dflib.exp.RowWiseExp;
 
 import java.util.Objects;
 
 /**
  * @since 2.0.0
  */
-public class UpperExp implements StrExp {
+public class UpperExp implements StrExp, RowWiseExp {
 
     public static StrExp of(Exp<?> exp) {
         return new UpperExp(exp);
@@ -22,6 +23,11 @@ public class UpperExp implements StrExp {
         this.exp = exp;
     }
 
+    @Override
+    public boolean isRowWise() {
+        return RowWiseExp.isRowWise(exp);
+    }
+
     @Override
     public Series<String> eval(DataFrame df) {
         return doEval(exp.eval(df));
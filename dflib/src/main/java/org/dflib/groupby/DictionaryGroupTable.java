@@ -0,0 +1,100 @@
+package org.dflib.groupby;
+
+import org.dflib.series.DictionarySeries;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link GroupTable} over a {@link DictionarySeries}. Group ids are assigned to the dictionary codes, so the values
+ * are never hashed or compared while grouping. Null values are not assigned to any group, which is consistent with
+ * the {@link Grouper} behavior.
+ *
+ * @since 2.0.0
+ */
+public class DictionaryGroupTable extends GroupTable {
+
+    private final DictionarySeries<?> values;
+
+    // group id for each dictionary code, or -1 for the codes not present in the Series
+    private final int[] codeGroups;
+
+    // dictionary code for each group id
+    private final int[] groupCodes;
+
+    // lazily created index for the key lookups
+    private Map<Object, Integer> groupIds;
+
+    protected DictionaryGroupTable(int[] rowGroups, DictionarySeries<?> values, int[] codeGroups, int[] groupCodes, int groupCount) {
+        super(rowGroups, groupCount);
+        this.values = values;
+        this.codeGroups = codeGroups;
+        this.groupCodes = groupCodes;
+    }
+
+    public static DictionaryGroupTable of(DictionarySeries<?> values) {
+
+        int len = values.size();
+        int[] rowGroups = new int[len];
+
+        int[] codeGroups = new int[values.getDictionarySize()];
+        Arrays.fill(codeGroups, -1);
+
+        int[] groupCodes = new int[codeGroups.length];
+        int groupCount = 0;
+
+        for (int i = 0; i < len; i++) {
+
+            int c = values.getCode(i);
+            if (c < 0) {
+                rowGroups[i] = -1;
+                continue;
+            }
+
+            int g = codeGroups[c];
+            if (g < 0) {
+                g = groupCount++;
+                codeGroups[c] = g;
+                groupCodes[g] = c;
+            }
+
+            rowGroups[i] = g;
+        }
+
+        return new DictionaryGroupTable(rowGroups, values, codeGroups, groupCodes, groupCount);
+    }
+
+    /**
+     * Returns a group id for the dictionary code, or -1 if the code is not present in the table.
+     */
+    public int groupOfCode(int code) {
+        return code < 0 ? -1 : codeGroups[code];
+    }
+
+    /**
+     * Returns a group id for the key, or -1 if the key is not present in the table.
+     */
+    public int groupOf(Object key) {
+
+        if (groupIds == null) {
+            int gc = groupCount();
+            Map<Object, Integer> groupIds = new HashMap<>((int) (1 + gc / 0.75));
+            for (int g = 0; g < gc; g++) {
+                groupIds.put(groupKey(g), g);
+            }
+
+            this.groupIds = groupIds;
+        }
+
+        Integer g = groupIds.get(key);
+        return g != null ? g : -1;
+    }
+
+    /**
+     * Returns a key of a given group.
+     */
+    public Object groupKey(int group) {
+        return values.getDictionaryValue(groupCodes[group]);
+    }
+}
@@ -0,0 +1,313 @@
+package org.dflib.groupby;
+
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Exp;
+import org.dflib.Hasher;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.MemoryBudget;
+import org.dflib.Series;
+import org.dflib.builder.IntAccum;
+import org.dflib.dfb.SpillFiles;
+import org.dflib.map.ColumnHasher;
+import org.dflib.map.MultiColumnHasher;
+import org.dflib.row.RowProxy;
+import org.dflib.series.LongArraySeries;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.dflib.Exp.$long;
+
+/**
+ * An external "GROUP BY" of the data that doesn't fit in the heap. The data is added as a sequence of DataFrame chunks
+ * with the same columns (e.g., from a chunked JDBC loader). The chunks are buffered until they reach half of the
+ * {@link MemoryBudget}, and then the buffered rows are hash-partitioned by the group key, and each partition is
+ * appended to its own set of DFB spill files. All rows of a given group end up in the same partition, so when all the
+ * data is added, the partitions are read back one at a time, and grouped and aggregated separately. A partition that
+ * is still larger than the budget is split again with a different hash, up to a few levels deep. If all the data fits
+ * in the budget, it is grouped in memory without spilling.
+ *
+ * <p>The result is the same as that of {@link org.dflib.GroupBy#agg(Exp[])} called on the whole data, including the
+ * order of groups. The aggregated result itself must fit in the heap. Columns must be of the types supported by the
+ * {@link org.dflib.dfb.Dfb} format. Partitions are calculated from the key columns directly if the hasher is made of
+ * column references (e.g. <code>Hasher.of("a").and("b")</code>), or by calling the hasher for each row otherwise.
+ * An instance can only be used for a single aggregation.</p>
+ *
+ * @since 2.0.0
+ */
+public class ExternalGroupBy implements AutoCloseable {
+
+    // the number of partitions the data is split into on each level
+    static final int FAN_OUT = 16;
+
+    // the max number of times a partition that exceeds the budget is split again. If the data is so skewed that a
+    // partition is still too large after that (e.g. a single huge group), it is aggregated in memory regardless
+    static final int MAX_DEPTH = 3;
+
+    // a label that is unlikely to clash with the source columns
+    private static final String ROW_COLUMN = "__dflib_row";
+
+    private final MemoryBudget budget;
+    private final Hasher hasher;
+    private final SpillFiles files;
+
+    private final List<DataFrame> buffer;
+    private long bufferBytes;
+    private Index columns;
+
+    private Partition[] partitions;
+    private long spilledRows;
+    private boolean aggregated;
+
+    public ExternalGroupBy(MemoryBudget budget, Hasher hasher) {
+        this.budget = Objects.requireNonNull(budget, "Null 'budget'");
+        this.hasher = Objects.requireNonNull(hasher, "Null 'hasher'");
+        this.files = new SpillFiles(budget.getTempDir());
+        this.buffer = new ArrayList<>();
+    }
+
+    /**
+     * Adds a chunk of data to group. The chunk may be spilled to disk together with the previously added chunks, if
+     * their total size exceeds the budget.
+     *
+     * @return this instance
+     */
+    public ExternalGroupBy add(DataFrame chunk) {
+
+        if (aggregated) {
+            throw new IllegalStateException("The data is already aggregated");
+        }
+
+        if (columns == null) {
+            columns = chunk.getColumnsIndex();
+        } else if (!columns.equals(chunk.getColumnsIndex())) {
+            throw new IllegalArgumentException("Chunk columns " + chunk.getColumnsIndex()
+                    + " do not match the columns of the previous chunks: " + columns);
+        }
+
+        if (chunk.height() == 0) {
+            return this;
+        }
+
+        buffer.add(chunk);
+        bufferBytes += budget.estimateSize(chunk);
+
+        // the other half of the budget is reserved for the partitioned copies of the buffer
+        if (bufferBytes >= budget.getBytes() / 2) {
+            spillBuffer();
+        }
+
+        return this;
+    }
+
+    public DataFrame agg(String aggregatingExps, Object... params) {
+        return agg(Exp.parseExps(aggregatingExps, params));
+    }
+
+    /**
+     * Aggregates the groups of all the added data. Deletes all the spill files when done.
+     */
+    public DataFrame agg(Exp<?>... aggregatingExps) {
+
+        if (aggregated) {
+            throw new IllegalStateException("The data is already aggregated");
+        }
+
+        aggregated = true;
+
+        try {
+            if (partitions == null) {
+                DataFrame df = DataFrame.union(buffer);
+                buffer.clear();
+                return df.group(hasher).agg(aggregatingExps);
+            }
+
+            if (!buffer.isEmpty()) {
+                spillBuffer();
+            }
+
+            // the source row number of the first row of each group is carried over to restore the group order at the end
+            int len = aggregatingExps.length;
+            Exp<?>[] exps = Arrays.copyOf(aggregatingExps, len + 1);
+            exps[len] = $long(ROW_COLUMN).first().as(ROW_COLUMN);
+
+            List<DataFrame> results = new ArrayList<>();
+            for (Partition p : partitions) {
+                aggPartition(p, 0, exps, results);
+            }
+
+            return DataFrame.union(results)
+                    .sort(ROW_COLUMN, true)
+                    .colsExcept(ROW_COLUMN).select();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Deletes the spill files that are still on disk. Should be called if the instance is abandoned before
+     * {@link #agg(Exp[])} is called.
+     */
+    @Override
+    public void close() {
+        buffer.clear();
+        partitions = null;
+        files.close();
+    }
+
+    private void spillBuffer() {
+
+        DataFrame df = DataFrame.union(buffer);
+        buffer.clear();
+        bufferBytes = 0;
+
+        if (partitions == null) {
+            budget.checkSpillable(df);
+            partitions = newPartitions();
+        }
+
+        // row numbers within the whole data, used to restore the group order
+        int h = df.height();
+        long[] rows = new long[h];
+        for (int i = 0; i < h; i++) {
+            rows[i] = spilledRows + i;
+        }
+
+        spilledRows += h;
+        spill(df.cols(ROW_COLUMN).merge(new LongArraySeries(rows)), partitions, 0);
+    }
+
+    private void aggPartition(Partition p, int depth, Exp<?>[] exps, List<DataFrame> results) {
+
+        // half of the budget is left for the group index and the aggregation results
+        if (p.bytes > budget.getBytes() / 2 && depth < MAX_DEPTH) {
+
+            Partition[] split = newPartitions();
+            for (Path block : p.blocks) {
+                spill(files.read(block), split, depth + 1);
+            }
+            p.blocks.clear();
+
+            for (Partition sp : split) {
+                aggPartition(sp, depth + 1, exps, results);
+            }
+
+            return;
+        }
+
+        if (p.blocks.isEmpty()) {
+            return;
+        }
+
+        List<DataFrame> blocks = new ArrayList<>(p.blocks.size());
+        for (Path block : p.blocks) {
+            blocks.add(files.read(block));
+        }
+        p.blocks.clear();
+
+        results.add(DataFrame.union(blocks).group(hasher).agg(exps).materialize());
+    }
+
+    private void spill(DataFrame df, Partition[] partitions, int depth) {
+
+        int h = df.height();
+        int[] hashes = hashes(df);
+
+        IntAccum[] indices = new IntAccum[partitions.length];
+        for (int i = 0; i < h; i++) {
+            int p = partition(hashes[i], depth, partitions.length);
+            if (indices[p] == null) {
+                indices[p] = new IntAccum();
+            }
+
+            indices[p].pushInt(i);
+        }
+
+        for (int i = 0; i < partitions.length; i++) {
+            if (indices[i] != null) {
+                DataFrame part = df.rows(indices[i].toSeries()).select();
+                partitions[i].blocks.add(files.write(part));
+                partitions[i].bytes += budget.estimateSize(part);
+            }
+        }
+    }
+
+    // calculates the row hashes of the group keys. Equal keys must produce equal hashes even if they come from the
+    // Series of different types (e.g. an IntSeries in one chunk and a Series<Integer> in another), so the primitive
+    // values are hashed the same way as their boxed counterparts
+    private int[] hashes(DataFrame df) {
+
+        int h = df.height();
+        int[] hashes = new int[h];
+
+        if (hasher instanceof ColumnHasher ch) {
+            hashColumn(ch.column(df), hashes);
+        } else if (hasher instanceof MultiColumnHasher mh) {
+            for (Series<?> c : mh.columns(df)) {
+                hashColumn(c, hashes);
+            }
+        } else {
+            int i = 0;
+            for (RowProxy r : df) {
+                hashes[i++] = Objects.hashCode(hasher.map(r));
+            }
+        }
+
+        return hashes;
+    }
+
+    private static void hashColumn(Series<?> column, int[] hashes) {
+
+        int h = hashes.length;
+
+        if (column instanceof IntSeries is) {
+            for (int i = 0; i < h; i++) {
+                hashes[i] = 31 * hashes[i] + Integer.hashCode(is.getInt(i));
+            }
+        } else if (column instanceof LongSeries ls) {
+            for (int i = 0; i < h; i++) {
+                hashes[i] = 31 * hashes[i] + Long.hashCode(ls.getLong(i));
+            }
+        } else if (column instanceof DoubleSeries ds) {
+            for (int i = 0; i < h; i++) {
+                hashes[i] = 31 * hashes[i] + Double.hashCode(ds.getDouble(i));
+            }
+        } else {
+            for (int i = 0; i < h; i++) {
+                hashes[i] = 31 * hashes[i] + Objects.hashCode(column.get(i));
+            }
+        }
+    }
+
+    // mixes the hash with the partitioning level, so that the rows of a single partition are spread over all the
+    // partitions of the next level
+    private static int partition(int hash, int depth, int partitions) {
+        int x = hash ^ (depth * 0x9E3779B9);
+        x ^= x >>> 16;
+        x *= 0x85EBCA6B;
+        x ^= x >>> 13;
+        x *= 0xC2B2AE35;
+        x ^= x >>> 16;
+        return Math.floorMod(x, partitions);
+    }
+
+    private static Partition[] newPartitions() {
+        Partition[] partitions = new Partition[FAN_OUT];
+        for (int i = 0; i < FAN_OUT; i++) {
+            partitions[i] = new Partition();
+        }
+
+        return partitions;
+    }
+
+    private static class Partition {
+        final List<Path> blocks = new ArrayList<>();
+        long bytes;
+    }
+}
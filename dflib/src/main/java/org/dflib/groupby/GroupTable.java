@@ -0,0 +1,142 @@
+package org.dflib.groupby;
+
+import org.dflib.IntSeries;
+import org.dflib.series.IntArrayRangeSeries;
+
+/**
+ * A compact representation of a grouping of Series values. Each distinct value is assigned a dense "group id", and the
+ * row positions of each group are stored contiguously in a single shared array. Rows that do not belong to any group
+ * (e.g., rows with null keys) have a group id of -1. Subclasses provide lookup of group ids by key, and typically
+ * assign ids in the order of the key first appearance. Per-group row positions are calculated lazily on first access,
+ * so the instances should not be shared between threads without external synchronization.
+ *
+ * @since 2.0.0
+ */
+public class GroupTable {
+
+    private final int[] rowGroups;
+    private final int groupCount;
+
+    // row positions sorted by group id (stable within each group), and per-group start offsets in that array. Lazily
+    // calculated, as some tables are only used for group id lookups
+    private int[] groupRows;
+    private int[] groupOffsets;
+
+    public GroupTable(int[] rowGroups, int groupCount) {
+        this.rowGroups = rowGroups;
+        this.groupCount = groupCount;
+    }
+
+    /**
+     * Calculates a well-distributed int hash of an int value, suitable for power-of-two open-addressing tables.
+     */
+    public static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns a power-of-two table capacity large enough to keep the load factor at or below 0.5 for the given
+     * number of entries.
+     */
+    protected static int tableCapacity(int entries) {
+        int capacity = 16;
+        while (capacity < entries * 2) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    /**
+     * Returns the number of distinct groups.
+     */
+    public int groupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Returns the number of rows in the grouped Series.
+     */
+    public int size() {
+        return rowGroups.length;
+    }
+
+    /**
+     * Returns a group id of a given row, or -1 if the row does not belong to any group.
+     */
+    public int rowGroup(int row) {
+        return rowGroups[row];
+    }
+
+    /**
+     * Returns the number of rows in a given group.
+     */
+    public int groupSize(int group) {
+        int[] offsets = groupOffsets();
+        return offsets[group + 1] - offsets[group];
+    }
+
+    /**
+     * Returns a row position of the Nth row of a given group.
+     */
+    public int groupRow(int group, int n) {
+        return groupRows()[groupOffsets()[group] + n];
+    }
+
+    /**
+     * Returns row positions of a given group as an IntSeries. The Series is a view of the shared internal array,
+     * so no data copying is involved.
+     */
+    public IntSeries groupIndex(int group) {
+        int[] offsets = groupOffsets();
+        int offset = offsets[group];
+        return new IntArrayRangeSeries(groupRows(), offset, offsets[group + 1] - offset);
+    }
+
+    private int[] groupOffsets() {
+        if (groupOffsets == null) {
+            sortRows();
+        }
+
+        return groupOffsets;
+    }
+
+    private int[] groupRows() {
+        if (groupRows == null) {
+            sortRows();
+        }
+
+        return groupRows;
+    }
+
+    // counting sort of row positions by group id
+    private void sortRows() {
+
+        int[] offsets = new int[groupCount + 1];
+        for (int g : rowGroups) {
+            if (g >= 0) {
+                offsets[g + 1]++;
+            }
+        }
+
+        for (int g = 0; g < groupCount; g++) {
+            offsets[g + 1] += offsets[g];
+        }
+
+        int len = rowGroups.length;
+        int[] rows = new int[offsets[groupCount]];
+        int[] next = new int[groupCount];
+        System.arraycopy(offsets, 0, next, 0, groupCount);
+
+        for (int i = 0; i < len; i++) {
+            int g = rowGroups[i];
+            if (g >= 0) {
+                rows[next[g]++] = i;
+            }
+        }
+
+        this.groupRows = rows;
+        this.groupOffsets = offsets;
+    }
+}
@@ -3,9 +3,14 @@ package org.dflib.groupby;
 import org.dflib.DataFrame;
 import org.dflib.GroupBy;
 import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
 import org.dflib.builder.IntAccum;
 import org.dflib.Hasher;
+import org.dflib.map.ColumnHasher;
+import org.dflib.map.MultiColumnHasher;
 import org.dflib.row.RowProxy;
+import org.dflib.series.DictionarySeries;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -19,9 +24,88 @@ public class Grouper {
         this.hasher = Objects.requireNonNull(hasher, "Null 'hasher'");
     }
 
-    @SuppressWarnings("unchecked")
     public GroupBy group(DataFrame df) {
 
+        if (hasher instanceof ColumnHasher ch) {
+            return groupByColumn(df, ch.column(df));
+        }
+
+        if (hasher instanceof MultiColumnHasher mh) {
+            return groupByColumns(df, mh);
+        }
+
+        return groupByRows(df);
+    }
+
+    /**
+     * Groups a DataFrame by the values of a single column, assigning group ids via a hash table that doesn't require
+     * per-row allocations (and for primitive columns, doesn't box the values, and for dictionary-encoded columns,
+     * doesn't hash the values at all). Group row indices are then produced in a single counting sort pass.
+     */
+    private GroupBy groupByColumn(DataFrame df, Series<?> column) {
+
+        Map<Object, IntSeries> groups;
+
+        if (column instanceof IntSeries is) {
+            IntGroupTable table = IntGroupTable.of(is);
+            int gc = table.groupCount();
+
+            groups = new LinkedHashMap<>((int) (1 + gc / 0.75));
+            for (int g = 0; g < gc; g++) {
+                groups.put(table.groupKey(g), table.groupIndex(g));
+            }
+        } else if (column instanceof LongSeries ls) {
+            LongGroupTable table = LongGroupTable.of(ls);
+            int gc = table.groupCount();
+
+            groups = new LinkedHashMap<>((int) (1 + gc / 0.75));
+            for (int g = 0; g < gc; g++) {
+                groups.put(table.groupKey(g), table.groupIndex(g));
+            }
+        } else if (column instanceof DictionarySeries<?> ds) {
+            DictionaryGroupTable table = DictionaryGroupTable.of(ds);
+            int gc = table.groupCount();
+
+            groups = new LinkedHashMap<>((int) (1 + gc / 0.75));
+            for (int g = 0; g < gc; g++) {
+                groups.put(table.groupKey(g), table.groupIndex(g));
+            }
+        } else {
+
+            // null keys are skipped by the table, same as in "groupByRows"
+            ObjectGroupTable table = ObjectGroupTable.of(column);
+            int gc = table.groupCount();
+
+            groups = new LinkedHashMap<>((int) (1 + gc / 0.75));
+            for (int g = 0; g < gc; g++) {
+                groups.put(table.groupKey(g), table.groupIndex(g));
+            }
+        }
+
+        return new GroupBy(df, groups, null);
+    }
+
+    /**
+     * Groups a DataFrame by the values of multiple columns, calculating composite keys from column values without
+     * creating a key object per row. Group keys are still the same combination objects as produced by the hasher.
+     */
+    private GroupBy groupByColumns(DataFrame df, MultiColumnHasher hasher) {
+
+        Series<?>[] columns = hasher.columns(df);
+        MultiColumnGroupTable table = MultiColumnGroupTable.of(columns);
+        int gc = table.groupCount();
+
+        Map<Object, IntSeries> groups = new LinkedHashMap<>((int) (1 + gc / 0.75));
+        for (int g = 0; g < gc; g++) {
+            groups.put(hasher.key(columns, table.groupRow(g, 0)), table.groupIndex(g));
+        }
+
+        return new GroupBy(df, groups, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private GroupBy groupByRows(DataFrame df) {
+
         // Intentionally using generics-free map to be able to reset the internal object and avoid copying the map
         Map groups = new LinkedHashMap();
 
@@ -0,0 +1,118 @@
+package org.dflib.groupby;
+
+import org.dflib.IntSeries;
+
+import java.util.Arrays;
+
+/**
+ * A {@link GroupTable} over an {@link IntSeries}, backed by a primitive open-addressing hash table.
+ *
+ * @since 2.0.0
+ */
+public class IntGroupTable extends GroupTable {
+
+    // group keys indexed by group id
+    private final int[] keys;
+
+    // open-addressing table storing "group id + 1" (so that zero indicates an empty slot)
+    private final int[] slots;
+    private final int mask;
+
+    protected IntGroupTable(int[] rowGroups, int[] keys, int groupCount, int[] slots) {
+        super(rowGroups, groupCount);
+        this.keys = keys;
+        this.slots = slots;
+        this.mask = slots.length - 1;
+    }
+
+    public static IntGroupTable of(IntSeries values) {
+
+        int len = values.size();
+        int[] rowGroups = new int[len];
+
+        int[] keys = new int[16];
+        int[] slots = new int[tableCapacity(keys.length)];
+        int mask = slots.length - 1;
+        int groupCount = 0;
+
+        for (int i = 0; i < len; i++) {
+
+            int key = values.getInt(i);
+            int slot = mix(key) & mask;
+
+            while (true) {
+                int g = slots[slot] - 1;
+
+                if (g < 0) {
+
+                    if (groupCount == keys.length) {
+                        keys = Arrays.copyOf(keys, groupCount * 2);
+                        slots = rehash(keys, groupCount, tableCapacity(keys.length));
+                        mask = slots.length - 1;
+
+                        // find a free slot in the new table
+                        slot = mix(key) & mask;
+                        while (slots[slot] != 0) {
+                            slot = (slot + 1) & mask;
+                        }
+                    }
+
+                    keys[groupCount] = key;
+                    slots[slot] = groupCount + 1;
+                    rowGroups[i] = groupCount++;
+                    break;
+                }
+
+                if (keys[g] == key) {
+                    rowGroups[i] = g;
+                    break;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        return new IntGroupTable(rowGroups, keys, groupCount, slots);
+    }
+
+    private static int[] rehash(int[] keys, int groupCount, int capacity) {
+
+        int[] slots = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int g = 0; g < groupCount; g++) {
+            int slot = mix(keys[g]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            slots[slot] = g + 1;
+        }
+
+        return slots;
+    }
+
+    /**
+     * Returns a group id for the key, or -1 if the key is not present in the table.
+     */
+    public int groupOf(int key) {
+
+        int slot = mix(key) & mask;
+
+        while (true) {
+            int g = slots[slot] - 1;
+            if (g < 0 || keys[g] == key) {
+                return g;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Returns a key of a given group.
+     */
+    public int groupKey(int group) {
+        return keys[group];
+    }
+}
@@ -0,0 +1,122 @@
+package org.dflib.groupby;
+
+import org.dflib.LongSeries;
+
+import java.util.Arrays;
+
+/**
+ * A {@link GroupTable} over a {@link LongSeries}, backed by a primitive open-addressing hash table.
+ *
+ * @since 2.0.0
+ */
+public class LongGroupTable extends GroupTable {
+
+    // group keys indexed by group id
+    private final long[] keys;
+
+    // open-addressing table storing "group id + 1" (so that zero indicates an empty slot)
+    private final int[] slots;
+    private final int mask;
+
+    protected LongGroupTable(int[] rowGroups, long[] keys, int groupCount, int[] slots) {
+        super(rowGroups, groupCount);
+        this.keys = keys;
+        this.slots = slots;
+        this.mask = slots.length - 1;
+    }
+
+    public static LongGroupTable of(LongSeries values) {
+
+        int len = values.size();
+        int[] rowGroups = new int[len];
+
+        long[] keys = new long[16];
+        int[] slots = new int[tableCapacity(keys.length)];
+        int mask = slots.length - 1;
+        int groupCount = 0;
+
+        for (int i = 0; i < len; i++) {
+
+            long key = values.getLong(i);
+            int slot = mix(hash(key)) & mask;
+
+            while (true) {
+                int g = slots[slot] - 1;
+
+                if (g < 0) {
+
+                    if (groupCount == keys.length) {
+                        keys = Arrays.copyOf(keys, groupCount * 2);
+                        slots = rehash(keys, groupCount, tableCapacity(keys.length));
+                        mask = slots.length - 1;
+
+                        // find a free slot in the new table
+                        slot = mix(hash(key)) & mask;
+                        while (slots[slot] != 0) {
+                            slot = (slot + 1) & mask;
+                        }
+                    }
+
+                    keys[groupCount] = key;
+                    slots[slot] = groupCount + 1;
+                    rowGroups[i] = groupCount++;
+                    break;
+                }
+
+                if (keys[g] == key) {
+                    rowGroups[i] = g;
+                    break;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        return new LongGroupTable(rowGroups, keys, groupCount, slots);
+    }
+
+    private static int[] rehash(long[] keys, int groupCount, int capacity) {
+
+        int[] slots = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int g = 0; g < groupCount; g++) {
+            int slot = mix(hash(keys[g])) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            slots[slot] = g + 1;
+        }
+
+        return slots;
+    }
+
+    private static int hash(long value) {
+        return (int) (value ^ (value >>> 32));
+    }
+
+    /**
+     * Returns a group id for the key, or -1 if the key is not present in the table.
+     */
+    public int groupOf(long key) {
+
+        int slot = mix(hash(key)) & mask;
+
+        while (true) {
+            int g = slots[slot] - 1;
+            if (g < 0 || keys[g] == key) {
+                return g;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Returns a key of a given group.
+     */
+    public long groupKey(int group) {
+        return keys[group];
+    }
+}
@@ -0,0 +1,171 @@
+package org.dflib.groupby;
+
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.LongArraySeries;
+
+/**
+ * A {@link GroupTable} over multiple Series of the same size, grouping the rows by the combination of the values in
+ * those Series. Instead of creating a composite key object per row, each column values are first encoded as dense
+ * int codes, and then the codes are combined column by column into packed long keys, that are again densified via a
+ * primitive hash table. Unlike single-column tables, nulls are treated as regular values and do participate in
+ * grouping, consistent with the multi-column {@link org.dflib.Hasher} behavior.
+ *
+ * @since 2.0.0
+ */
+public class MultiColumnGroupTable extends GroupTable {
+
+    // per-column value tables
+    private final GroupTable[] columnTables;
+
+    // per-column "combination" tables, starting with the second column
+    private final LongGroupTable[] combinationTables;
+
+    protected MultiColumnGroupTable(
+            int[] rowGroups,
+            int groupCount,
+            GroupTable[] columnTables,
+            LongGroupTable[] combinationTables) {
+
+        super(rowGroups, groupCount);
+        this.columnTables = columnTables;
+        this.combinationTables = combinationTables;
+    }
+
+    public static MultiColumnGroupTable of(Series<?>... columns) {
+
+        int w = columns.length;
+        if (w < 2) {
+            throw new IllegalArgumentException("At least two columns expected, got " + w);
+        }
+
+        int h = columns[0].size();
+
+        GroupTable[] columnTables = new GroupTable[w];
+        LongGroupTable[] combinationTables = new LongGroupTable[w - 1];
+
+        columnTables[0] = columnTable(columns[0]);
+        int[] codes = codes(columnTables[0]);
+
+        long[] packed = new long[h];
+        for (int c = 1; c < w; c++) {
+
+            GroupTable columnTable = columnTable(columns[c]);
+            columnTables[c] = columnTable;
+
+            // "+ 1" accounts for the null code
+            long radix = columnTable.groupCount() + 1;
+            for (int i = 0; i < h; i++) {
+                packed[i] = codes[i] * radix + code(columnTable, columnTable.rowGroup(i));
+            }
+
+            // both the previous codes and the column codes are below Integer.MAX_VALUE, so the packed keys never
+            // overflow, and we can keep combining any number of columns
+            LongGroupTable combinationTable = LongGroupTable.of(new LongArraySeries(packed));
+            combinationTables[c - 1] = combinationTable;
+            codes = codes(combinationTable);
+        }
+
+        return new MultiColumnGroupTable(codes, combinationTables[w - 2].groupCount(), columnTables, combinationTables);
+    }
+
+    private static GroupTable columnTable(Series<?> column) {
+
+        if (column instanceof IntSeries is) {
+            return IntGroupTable.of(is);
+        }
+
+        if (column instanceof LongSeries ls) {
+            return LongGroupTable.of(ls);
+        }
+
+        return ObjectGroupTable.of(column);
+    }
+
+    private static int[] codes(GroupTable table) {
+
+        int h = table.size();
+        int[] codes = new int[h];
+        for (int i = 0; i < h; i++) {
+            codes[i] = code(table, table.rowGroup(i));
+        }
+
+        return codes;
+    }
+
+    // converts a column group id to a code, with nulls (-1 group) encoded as the group count
+    private static int code(GroupTable table, int group) {
+        return group >= 0 ? group : table.groupCount();
+    }
+
+    /**
+     * Returns a group id for each row of the provided columns, or -1 for the rows whose value combination is not
+     * present in this table. The columns must match the columns of this table in number, and their values are compared
+     * with the value equality.
+     */
+    public int[] groupsOf(Series<?>... columns) {
+
+        int w = columns.length;
+        if (w != columnTables.length) {
+            throw new IllegalArgumentException("Expected " + columnTables.length + " columns, got " + w);
+        }
+
+        int h = columns[0].size();
+        int[] groups = new int[h];
+
+        lookupCodes(columnTables[0], columns[0], groups);
+
+        int[] columnCodes = new int[h];
+        for (int c = 1; c < w; c++) {
+
+            GroupTable columnTable = columnTables[c];
+            LongGroupTable combinationTable = combinationTables[c - 1];
+
+            lookupCodes(columnTable, columns[c], columnCodes);
+
+            long radix = columnTable.groupCount() + 1;
+            for (int i = 0; i < h; i++) {
+                groups[i] = groups[i] >= 0 && columnCodes[i] >= 0
+                        ? combinationTable.groupOf(groups[i] * radix + columnCodes[i])
+                        : -1;
+            }
+        }
+
+        return groups;
+    }
+
+    // calculates value codes of the column in the table, using -1 for the values not present in the table
+    private static void lookupCodes(GroupTable table, Series<?> column, int[] codes) {
+
+        int h = codes.length;
+
+        if (table instanceof IntGroupTable it) {
+            if (column instanceof IntSeries is) {
+                for (int i = 0; i < h; i++) {
+                    codes[i] = it.groupOf(is.getInt(i));
+                }
+            } else {
+                for (int i = 0; i < h; i++) {
+                    codes[i] = column.get(i) instanceof Integer v ? it.groupOf(v) : -1;
+                }
+            }
+        } else if (table instanceof LongGroupTable lt) {
+            if (column instanceof LongSeries ls) {
+                for (int i = 0; i < h; i++) {
+                    codes[i] = lt.groupOf(ls.getLong(i));
+                }
+            } else {
+                for (int i = 0; i < h; i++) {
+                    codes[i] = column.get(i) instanceof Long v ? lt.groupOf(v) : -1;
+                }
+            }
+        } else {
+            ObjectGroupTable ot = (ObjectGroupTable) table;
+            for (int i = 0; i < h; i++) {
+                Object v = column.get(i);
+                codes[i] = v != null ? ot.groupOf(v) : ot.groupCount();
+            }
+        }
+    }
+}
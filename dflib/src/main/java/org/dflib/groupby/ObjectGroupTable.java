@@ -0,0 +1,70 @@
+package org.dflib.groupby;
+
+import org.dflib.Series;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link GroupTable} over a Series of arbitrary objects, whose grouping is based on the value equality. Null values
+ * are not assigned to any group, which is consistent with the {@link Grouper} behavior.
+ *
+ * @since 2.0.0
+ */
+public class ObjectGroupTable extends GroupTable {
+
+    private final Map<Object, Integer> groupIds;
+    private final List<Object> keys;
+
+    protected ObjectGroupTable(int[] rowGroups, Map<Object, Integer> groupIds, List<Object> keys) {
+        super(rowGroups, keys.size());
+        this.groupIds = groupIds;
+        this.keys = keys;
+    }
+
+    public static ObjectGroupTable of(Series<?> values) {
+
+        int len = values.size();
+        int[] rowGroups = new int[len];
+
+        Map<Object, Integer> groupIds = new HashMap<>();
+        List<Object> keys = new ArrayList<>();
+
+        for (int i = 0; i < len; i++) {
+
+            Object key = values.get(i);
+            if (key == null) {
+                rowGroups[i] = -1;
+                continue;
+            }
+
+            Integer g = groupIds.get(key);
+            if (g == null) {
+                g = keys.size();
+                groupIds.put(key, g);
+                keys.add(key);
+            }
+
+            rowGroups[i] = g;
+        }
+
+        return new ObjectGroupTable(rowGroups, groupIds, keys);
+    }
+
+    /**
+     * Returns a group id for the key, or -1 if the key is not present in the table.
+     */
+    public int groupOf(Object key) {
+        Integer g = groupIds.get(key);
+        return g != null ? g : -1;
+    }
+
+    /**
+     * Returns a key of a given group.
+     */
+    public Object groupKey(int group) {
+        return keys.get(group);
+    }
+}
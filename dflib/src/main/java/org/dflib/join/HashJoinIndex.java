@@ -0,0 +1,295 @@
+package org.dflib.join;
+
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.groupby.DictionaryGroupTable;
+import org.dflib.groupby.GroupTable;
+import org.dflib.groupby.IntGroupTable;
+import org.dflib.groupby.LongGroupTable;
+import org.dflib.groupby.ObjectGroupTable;
+import org.dflib.series.DictionarySeries;
+import org.dflib.series.IntArraySeries;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A hash join state made of a grouping of the "build" side keys and a matching build side group id for each row of
+ * the "probe" side. Produces the same row selectors as the generic {@link HashJoiner} algorithm. When the keys on both
+ * sides are primitive int or long Series, the build side is indexed with a primitive hash table, never boxing the keys.
+ *
+ * @since 2.0.0
+ */
+class HashJoinIndex {
+
+    private final GroupTable buildTable;
+
+    // a matching build side group id for each probe side row, or -1 if there's no match
+    private final int[] probeGroups;
+
+    HashJoinIndex(GroupTable buildTable, int[] probeGroups) {
+        this.buildTable = buildTable;
+        this.probeGroups = probeGroups;
+    }
+
+    /**
+     * Returns a join index for the two sides with primitive keys, or null if either of the key Series is not
+     * primitive, or the two are of different types.
+     */
+    static HashJoinIndex ofPrimitive(Series<?> probeKeys, Series<?> buildKeys) {
+
+        if (probeKeys instanceof IntSeries pi && buildKeys instanceof IntSeries bi) {
+            IntGroupTable table = IntGroupTable.of(bi);
+
+            int h = pi.size();
+            int[] probeGroups = new int[h];
+            for (int i = 0; i < h; i++) {
+                probeGroups[i] = table.groupOf(pi.getInt(i));
+            }
+
+            return new HashJoinIndex(table, probeGroups);
+        }
+
+        if (probeKeys instanceof LongSeries pl && buildKeys instanceof LongSeries bl) {
+            LongGroupTable table = LongGroupTable.of(bl);
+
+            int h = pl.size();
+            int[] probeGroups = new int[h];
+            for (int i = 0; i < h; i++) {
+                probeGroups[i] = table.groupOf(pl.getLong(i));
+            }
+
+            return new HashJoinIndex(table, probeGroups);
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns a join index for the two sides, where either side keys are dictionary-encoded, or null if neither side
+     * is. Dictionary-encoded build side is grouped by codes, and each distinct probe side value is looked up only
+     * once. When both sides share the same dictionary, the values are not hashed at all.
+     */
+    static HashJoinIndex ofDictionary(Series<?> probeKeys, Series<?> buildKeys) {
+
+        if (buildKeys instanceof DictionarySeries<?> bd) {
+            DictionaryGroupTable table = DictionaryGroupTable.of(bd);
+
+            if (probeKeys instanceof DictionarySeries<?> pd) {
+                int[] probeGroups = pd.sharesDictionary(bd)
+                        ? probeGroupsByCode(pd, table::groupOfCode)
+                        : probeGroupsByCode(pd, c -> table.groupOf(pd.getDictionaryValue(c)));
+
+                return new HashJoinIndex(table, probeGroups);
+            }
+
+            int h = probeKeys.size();
+            int[] probeGroups = new int[h];
+            for (int i = 0; i < h; i++) {
+                probeGroups[i] = table.groupOf(probeKeys.get(i));
+            }
+
+            return new HashJoinIndex(table, probeGroups);
+        }
+
+        if (probeKeys instanceof DictionarySeries<?> pd) {
+            ObjectGroupTable table = ObjectGroupTable.of(buildKeys);
+            return new HashJoinIndex(table, probeGroupsByCode(pd, c -> table.groupOf(pd.getDictionaryValue(c))));
+        }
+
+        return null;
+    }
+
+    private static int[] probeGroupsByCode(DictionarySeries<?> probeKeys, IntUnaryOperator codeToGroup) {
+
+        // a build side group of each probe side code, offset by 1, so that zero indicates an unresolved code
+        int[] codeGroups = new int[probeKeys.getDictionarySize()];
+
+        int h = probeKeys.size();
+        int[] probeGroups = new int[h];
+        for (int i = 0; i < h; i++) {
+
+            int c = probeKeys.getCode(i);
+            if (c < 0) {
+                probeGroups[i] = -1;
+                continue;
+            }
+
+            int g = codeGroups[c];
+            if (g == 0) {
+                g = codeToGroup.applyAsInt(c) + 1;
+                codeGroups[c] = g;
+            }
+
+            probeGroups[i] = g - 1;
+        }
+
+        return probeGroups;
+    }
+
+    /**
+     * Returns a join index for the two sides with primitive or dictionary-encoded keys, or null if the keys require
+     * the generic algorithm.
+     */
+    static HashJoinIndex ofSpecialized(Series<?> probeKeys, Series<?> buildKeys) {
+        HashJoinIndex primitive = ofPrimitive(probeKeys, buildKeys);
+        return primitive != null ? primitive : ofDictionary(probeKeys, buildKeys);
+    }
+
+    /**
+     * Returns a join index for the two sides with keys of any type.
+     */
+    static HashJoinIndex of(Series<?> probeKeys, Series<?> buildKeys) {
+
+        HashJoinIndex specialized = ofSpecialized(probeKeys, buildKeys);
+        if (specialized != null) {
+            return specialized;
+        }
+
+        ObjectGroupTable table = ObjectGroupTable.of(buildKeys);
+
+        int h = probeKeys.size();
+        int[] probeGroups = new int[h];
+        for (int i = 0; i < h; i++) {
+            probeGroups[i] = table.groupOf(probeKeys.get(i));
+        }
+
+        return new HashJoinIndex(table, probeGroups);
+    }
+
+    GroupTable buildTable() {
+        return buildTable;
+    }
+
+    int[] probeGroups() {
+        return probeGroups;
+    }
+
+    /**
+     * Returns a two-element array of probe and build side row selectors, containing only the matching rows.
+     */
+    IntSeries[] innerJoin() {
+
+        int h = probeGroups.length;
+
+        int len = 0;
+        for (int i = 0; i < h; i++) {
+            int g = probeGroups[i];
+            if (g >= 0) {
+                len += buildTable.groupSize(g);
+            }
+        }
+
+        int[] pi = new int[len];
+        int[] bi = new int[len];
+
+        int k = 0;
+        for (int i = 0; i < h; i++) {
+            int g = probeGroups[i];
+            if (g >= 0) {
+                int js = buildTable.groupSize(g);
+                for (int j = 0; j < js; j++) {
+                    pi[k] = i;
+                    bi[k++] = buildTable.groupRow(g, j);
+                }
+            }
+        }
+
+        return new IntSeries[]{new IntArraySeries(pi), new IntArraySeries(bi)};
+    }
+
+    /**
+     * Returns a two-element array of probe and build side row selectors, containing all probe side rows, and using
+     * -1 for the build side of the rows with no match.
+     */
+    IntSeries[] probeOuterJoin() {
+
+        int h = probeGroups.length;
+
+        int len = 0;
+        for (int i = 0; i < h; i++) {
+            int g = probeGroups[i];
+            len += g >= 0 ? buildTable.groupSize(g) : 1;
+        }
+
+        int[] pi = new int[len];
+        int[] bi = new int[len];
+        fillProbeOuter(pi, bi);
+
+        return new IntSeries[]{new IntArraySeries(pi), new IntArraySeries(bi)};
+    }
+
+    /**
+     * Returns a two-element array of probe and build side row selectors, containing all rows from both sides,
+     * using -1 for the rows with no match on the opposite side. Unmatched build side rows are appended at the end,
+     * in the order of their key first appearance. Build side rows with null keys are excluded.
+     */
+    IntSeries[] fullJoin() {
+
+        int h = probeGroups.length;
+        int gc = buildTable.groupCount();
+        boolean[] seenGroups = new boolean[gc];
+
+        int len = 0;
+        for (int i = 0; i < h; i++) {
+            int g = probeGroups[i];
+            if (g >= 0) {
+                len += buildTable.groupSize(g);
+                seenGroups[g] = true;
+            } else {
+                len++;
+            }
+        }
+
+        for (int g = 0; g < gc; g++) {
+            if (!seenGroups[g]) {
+                len += buildTable.groupSize(g);
+            }
+        }
+
+        int[] pi = new int[len];
+        int[] bi = new int[len];
+
+        int k = fillProbeOuter(pi, bi);
+
+        // add missing build side rows. Group ids are not guaranteed to follow the order of the key first appearance,
+        // so walking the build side rows to preserve that order
+        int bh = buildTable.size();
+        for (int r = 0; r < bh; r++) {
+            int g = buildTable.rowGroup(r);
+            if (g >= 0 && !seenGroups[g]) {
+                seenGroups[g] = true;
+
+                int js = buildTable.groupSize(g);
+                for (int j = 0; j < js; j++) {
+                    pi[k] = -1;
+                    bi[k++] = buildTable.groupRow(g, j);
+                }
+            }
+        }
+
+        return new IntSeries[]{new IntArraySeries(pi), new IntArraySeries(bi)};
+    }
+
+    private int fillProbeOuter(int[] pi, int[] bi) {
+
+        int h = probeGroups.length;
+
+        int k = 0;
+        for (int i = 0; i < h; i++) {
+            int g = probeGroups[i];
+            if (g >= 0) {
+                int js = buildTable.groupSize(g);
+                for (int j = 0; j < js; j++) {
+                    pi[k] = i;
+                    bi[k++] = buildTable.groupRow(g, j);
+                }
+            } else {
+                pi[k] = i;
+                bi[k++] = -1;
+            }
+        }
+
+        return k;
+    }
+}
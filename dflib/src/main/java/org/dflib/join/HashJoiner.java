@@ -1,23 +1,37 @@
 package org.dflib.join;
 
 import org.dflib.DataFrame;
+import org.dflib.Environment;
 import org.dflib.GroupBy;
 import org.dflib.Hasher;
 import org.dflib.IntSeries;
 import org.dflib.JoinType;
+import org.dflib.Series;
 import org.dflib.builder.IntAccum;
+import org.dflib.builder.ObjectAccum;
+import org.dflib.groupby.MultiColumnGroupTable;
+import org.dflib.map.ColumnHasher;
+import org.dflib.map.MultiColumnHasher;
 import org.dflib.row.RowProxy;
+import org.dflib.series.DictionarySeries;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * A DataFrame joiner using <a href="https://en.wikipedia.org/wiki/Hash_join">"hash join"</a> algorithm. It requires
  * two custom "hash" functions for the rows on the left and the right sides of the join, each producing values, whose
- * equality can be used as a join condition. Should theoretically have O(N + M) performance.
+ * equality can be used as a join condition. Should theoretically have O(N + M) performance. When both sides are
+ * joined on single primitive int or long columns, a specialized algorithm is used that avoids key boxing. Joins of
+ * DataFrames taller than {@link Environment#parallelExecThreshold()} and large enough to fill at least two partitions
+ * of {@value #MIN_PARTITION_ROWS} rows are partitioned by key hash and run in parallel.
  */
 public class HashJoiner extends ConditionalJoiner {
 
+    // the min number of combined rows on both sides of the join per parallel partition
+    private static final int MIN_PARTITION_ROWS = 10_000;
+
     private final Hasher leftHasher;
     private final Hasher rightHasher;
 
@@ -34,6 +48,11 @@ public class HashJoiner extends ConditionalJoiner {
     @Override
     protected IntSeries[] innerJoin(DataFrame lf, DataFrame rf) {
 
+        HashJoinIndex index = index(lf, leftHasher, rf, rightHasher);
+        if (index != null) {
+            return index.innerJoin();
+        }
+
         IntAccum li = new IntAccum();
         IntAccum ri = new IntAccum();
 
@@ -62,6 +81,11 @@ public class HashJoiner extends ConditionalJoiner {
     @Override
     protected IntSeries[] leftJoin(DataFrame lf, DataFrame rf) {
 
+        HashJoinIndex index = index(lf, leftHasher, rf, rightHasher);
+        if (index != null) {
+            return index.probeOuterJoin();
+        }
+
         IntAccum li = new IntAccum();
         IntAccum ri = new IntAccum();
 
@@ -93,6 +117,13 @@ public class HashJoiner extends ConditionalJoiner {
     @Override
     protected IntSeries[] rightJoin(DataFrame lf, DataFrame rf) {
 
+        // the right side is the "probe" side here, so need to swap the selectors
+        HashJoinIndex index = index(rf, rightHasher, lf, leftHasher);
+        if (index != null) {
+            IntSeries[] selectors = index.probeOuterJoin();
+            return new IntSeries[]{selectors[1], selectors[0]};
+        }
+
         IntAccum li = new IntAccum();
         IntAccum ri = new IntAccum();
 
@@ -124,6 +155,11 @@ public class HashJoiner extends ConditionalJoiner {
     @Override
     protected IntSeries[] fullJoin(DataFrame lf, DataFrame rf) {
 
+        HashJoinIndex index = index(lf, leftHasher, rf, rightHasher);
+        if (index != null) {
+            return index.fullJoin();
+        }
+
         IntAccum li = new IntAccum();
         IntAccum ri = new IntAccum();
 
@@ -166,4 +202,72 @@ public class HashJoiner extends ConditionalJoiner {
 
         return new IntSeries[]{li.toSeries(), ri.toSeries()};
     }
+
+    /**
+     * Returns a specialized join index for the two sides, or null if the join should be performed via the generic
+     * algorithm. Multi-column joins use composite keys calculated from the columns, large joins are partitioned and
+     * run in parallel, joins on primitive columns avoid key boxing, and joins on dictionary-encoded columns
+     * avoid hashing each key.
+     */
+    private HashJoinIndex index(DataFrame probeFrame, Hasher probeHasher, DataFrame buildFrame, Hasher buildHasher) {
+
+        if (probeHasher instanceof MultiColumnHasher ph
+                && buildHasher instanceof MultiColumnHasher bh
+                && ph.width() == bh.width()) {
+
+            MultiColumnGroupTable table = MultiColumnGroupTable.of(bh.columns(buildFrame));
+            return new HashJoinIndex(table, table.groupsOf(ph.columns(probeFrame)));
+        }
+
+        boolean dictionaryKeys = isDictionary(probeFrame, probeHasher) || isDictionary(buildFrame, buildHasher);
+        int partitions = dictionaryKeys ? 1 : parallelPartitions(probeFrame.height() + buildFrame.height());
+        if (partitions > 1) {
+            return new PartitionedHashJoin(Environment.commonEnv().threadPool(), partitions).index(
+                    keys(probeFrame, probeHasher),
+                    keys(buildFrame, buildHasher));
+        }
+
+        return probeHasher instanceof ColumnHasher ph && buildHasher instanceof ColumnHasher bh
+                ? HashJoinIndex.ofSpecialized(ph.column(probeFrame), bh.column(buildFrame))
+                : null;
+    }
+
+    private static int parallelPartitions(int rows) {
+
+        // a join called from a task that already runs in a pool (e.g. a parallel expression or window evaluation)
+        // stays sequential, as blocking a pool thread on the partition tasks may starve or deadlock a bounded pool
+        if (ForkJoinTask.inForkJoinPool()) {
+            return 1;
+        }
+
+        Environment env = Environment.commonEnv();
+        int parallelism = env.threadPoolParallelism();
+        if (parallelism < 2 || rows < env.parallelExecThreshold()) {
+            return 1;
+        }
+
+        // oversubscribe the pool a bit to compensate for a possible uneven key distribution between the partitions,
+        // but keep the partitions large enough to pay for the task and the key gathering overhead
+        int partitions = Math.min(Integer.highestOneBit(parallelism - 1) << 2, rows / MIN_PARTITION_ROWS);
+        return partitions > 1 ? Integer.highestOneBit(partitions) : 1;
+    }
+
+    // dictionary-encoded keys are joined by codes, which is cheaper than partitioning them
+    private static boolean isDictionary(DataFrame df, Hasher hasher) {
+        return hasher instanceof ColumnHasher ch && ch.column(df) instanceof DictionarySeries;
+    }
+
+    private static Series<?> keys(DataFrame df, Hasher hasher) {
+
+        if (hasher instanceof ColumnHasher ch) {
+            return ch.column(df);
+        }
+
+        ObjectAccum<Object> keys = new ObjectAccum<>(df.height());
+        for (RowProxy r : df) {
+            keys.push(hasher.map(r));
+        }
+
+        return keys.toSeries();
+    }
 }
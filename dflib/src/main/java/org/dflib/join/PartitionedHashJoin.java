@@ -0,0 +1,231 @@
+package org.dflib.join;
+
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.groupby.GroupTable;
+import org.dflib.series.ArraySeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A parallel "radix-partitioned" hash join algorithm. Splits the rows on both sides of the join into N partitions by
+ * the key hash, so that equal keys always end up in the same partition. Then builds and probes a hash table for each
+ * partition as a separate task in a thread pool. Partition results are combined in a single {@link HashJoinIndex} that
+ * produces the row selectors in the same order as the sequential algorithm.
+ *
+ * @since 2.0.0
+ */
+class PartitionedHashJoin {
+
+    private final ExecutorService pool;
+    private final int partitionBits;
+
+    PartitionedHashJoin(ExecutorService pool, int partitions) {
+
+        if (partitions < 2 || Integer.bitCount(partitions) != 1) {
+            throw new IllegalArgumentException("Partitions must be a power of two and at least 2: " + partitions);
+        }
+
+        this.pool = pool;
+        this.partitionBits = Integer.numberOfTrailingZeros(partitions);
+    }
+
+    HashJoinIndex index(Series<?> lazyProbeKeys, Series<?> lazyBuildKeys) {
+
+        int partitions = 1 << partitionBits;
+
+        // resolve lazy Series upfront, so that the partition tasks do not contend for their materialization
+        Series<?> probeKeys = lazyProbeKeys.materialize();
+        Series<?> buildKeys = lazyBuildKeys.materialize();
+
+        Partitioning probeParts = partition(probeKeys);
+        Partitioning buildParts = partition(buildKeys);
+
+        // 1. build and probe each partition in parallel
+        Future<PartitionJoin>[] tasks = new Future[partitions];
+        for (int p = 0; p < partitions; p++) {
+            int pf = p;
+            tasks[p] = pool.submit(() -> joinPartition(probeKeys, probeParts, buildKeys, buildParts, pf));
+        }
+
+        PartitionJoin[] joins = new PartitionJoin[partitions];
+        for (int p = 0; p < partitions; p++) {
+            joins[p] = get(tasks[p]);
+        }
+
+        // 2. assign global group ids, offsetting each partition group ids by the number of groups in the
+        // preceding partitions, and scatter them to the original row positions
+        int[] groupBase = new int[partitions];
+        int groupCount = 0;
+        for (int p = 0; p < partitions; p++) {
+            groupBase[p] = groupCount;
+            groupCount += joins[p].table.groupCount();
+        }
+
+        int[] probeGroups = new int[probeKeys.size()];
+        int[] buildGroups = new int[buildKeys.size()];
+
+        Future<?>[] scatterTasks = new Future[partitions];
+        for (int p = 0; p < partitions; p++) {
+            int pf = p;
+            scatterTasks[p] = pool.submit(() -> {
+                PartitionJoin join = joins[pf];
+                int base = groupBase[pf];
+
+                int pFrom = probeParts.offsets[pf];
+                int pLen = probeParts.offsets[pf + 1] - pFrom;
+                for (int i = 0; i < pLen; i++) {
+                    int g = join.probeGroups[i];
+                    probeGroups[probeParts.rows[pFrom + i]] = g >= 0 ? base + g : -1;
+                }
+
+                int bFrom = buildParts.offsets[pf];
+                int bLen = buildParts.offsets[pf + 1] - bFrom;
+                for (int i = 0; i < bLen; i++) {
+                    int g = join.table.rowGroup(i);
+                    buildGroups[buildParts.rows[bFrom + i]] = g >= 0 ? base + g : -1;
+                }
+            });
+        }
+
+        for (int p = 0; p < partitions; p++) {
+            get(scatterTasks[p]);
+        }
+
+        return new HashJoinIndex(new GroupTable(buildGroups, groupCount), probeGroups);
+    }
+
+    private PartitionJoin joinPartition(
+            Series<?> probeKeys,
+            Partitioning probeParts,
+            Series<?> buildKeys,
+            Partitioning buildParts,
+            int partition) {
+
+        Series<?> partitionProbeKeys = gather(probeKeys, probeParts, partition);
+        Series<?> partitionBuildKeys = gather(buildKeys, buildParts, partition);
+
+        HashJoinIndex index = HashJoinIndex.of(partitionProbeKeys, partitionBuildKeys);
+        return new PartitionJoin(index.buildTable(), index.probeGroups());
+    }
+
+    private Partitioning partition(Series<?> keys) {
+
+        int h = keys.size();
+        int shift = 32 - partitionBits;
+
+        // using the high bits of the hash for partitioning, as the low bits are used by the per-partition hash tables
+        int[] rowPartitions = new int[h];
+        if (keys instanceof IntSeries is) {
+            for (int i = 0; i < h; i++) {
+                rowPartitions[i] = GroupTable.mix(is.getInt(i)) >>> shift;
+            }
+        } else if (keys instanceof LongSeries ls) {
+            for (int i = 0; i < h; i++) {
+                rowPartitions[i] = GroupTable.mix(Long.hashCode(ls.getLong(i))) >>> shift;
+            }
+        } else {
+            // this is consistent with primitive hashing above, as Integer and Long hash codes are the same as the
+            // hashes of their primitive values
+            for (int i = 0; i < h; i++) {
+                Object key = keys.get(i);
+                rowPartitions[i] = key != null ? GroupTable.mix(key.hashCode()) >>> shift : 0;
+            }
+        }
+
+        // counting sort of rows by partition, preserving the row order within each partition
+        int partitions = 1 << partitionBits;
+        int[] offsets = new int[partitions + 1];
+        for (int p : rowPartitions) {
+            offsets[p + 1]++;
+        }
+
+        for (int p = 0; p < partitions; p++) {
+            offsets[p + 1] += offsets[p];
+        }
+
+        int[] rows = new int[h];
+        int[] next = new int[partitions];
+        System.arraycopy(offsets, 0, next, 0, partitions);
+
+        for (int i = 0; i < h; i++) {
+            rows[next[rowPartitions[i]]++] = i;
+        }
+
+        return new Partitioning(rows, offsets);
+    }
+
+    private static Series<?> gather(Series<?> keys, Partitioning parts, int partition) {
+
+        int from = parts.offsets[partition];
+        int len = parts.offsets[partition + 1] - from;
+
+        if (keys instanceof IntSeries is) {
+            int[] data = new int[len];
+            for (int i = 0; i < len; i++) {
+                data[i] = is.getInt(parts.rows[from + i]);
+            }
+            return new IntArraySeries(data);
+        }
+
+        if (keys instanceof LongSeries ls) {
+            long[] data = new long[len];
+            for (int i = 0; i < len; i++) {
+                data[i] = ls.getLong(parts.rows[from + i]);
+            }
+            return new LongArraySeries(data);
+        }
+
+        Object[] data = new Object[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = keys.get(parts.rows[from + i]);
+        }
+        return new ArraySeries<>(data);
+    }
+
+    private static <T> T get(Future<T> task) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error er) {
+                throw er;
+            }
+
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while joining partitions", e);
+        }
+    }
+
+    private static class Partitioning {
+
+        // row positions of a Series sorted by partition, and per-partition start offsets in that array
+        final int[] rows;
+        final int[] offsets;
+
+        Partitioning(int[] rows, int[] offsets) {
+            this.rows = rows;
+            this.offsets = offsets;
+        }
+    }
+
+    private static class PartitionJoin {
+
+        final GroupTable table;
+        final int[] probeGroups;
+
+        PartitionJoin(GroupTable table, int[] probeGroups) {
+            this.table = table;
+            this.probeGroups = probeGroups;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.dflib.map;
+
+import org.dflib.DataFrame;
+import org.dflib.Hasher;
+import org.dflib.Series;
+import org.dflib.row.RowProxy;
+
+/**
+ * A {@link Hasher} that uses a value of a single column as a row hash. Unlike an arbitrary lambda hasher, it exposes
+ * the column it references, allowing "group by" and "hash join" algorithms to operate on the column Series directly.
+ *
+ * @since 2.0.0
+ */
+public class ColumnHasher implements Hasher {
+
+    private final String name;
+    private final int pos;
+
+    public ColumnHasher(String name) {
+        this.name = name;
+        this.pos = -1;
+    }
+
+    public ColumnHasher(int pos) {
+        this.name = null;
+        this.pos = pos;
+    }
+
+    /**
+     * Returns a column of the DataFrame referenced by this hasher.
+     */
+    public <T> Series<T> column(DataFrame df) {
+        return name != null ? df.getColumn(name) : df.getColumn(pos);
+    }
+
+    @Override
+    public Object map(RowProxy row) {
+        return name != null ? row.get(name) : row.get(pos);
+    }
+
+    @Override
+    public Hasher and(String column) {
+        return new MultiColumnHasher(this, new ColumnHasher(column));
+    }
+
+    @Override
+    public Hasher and(int column) {
+        return new MultiColumnHasher(this, new ColumnHasher(column));
+    }
+
+    @Override
+    public Hasher and(Hasher hasher) {
+        return hasher instanceof ColumnHasher ch
+                ? new MultiColumnHasher(this, ch)
+                : Hasher.super.and(hasher);
+    }
+}
@@ -0,0 +1,99 @@
+package org.dflib.map;
+
+import org.dflib.DataFrame;
+import org.dflib.Hasher;
+import org.dflib.Series;
+import org.dflib.row.RowProxy;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Hasher} made of two or more column references, producing the same row hashes as a chain of
+ * {@link Hasher#and(String)} calls (i.e., left-nested {@link CombinationHash} objects). Exposing the columns allows
+ * "group by" and "hash join" algorithms to calculate composite keys directly from the column Series without creating
+ * a combination object per row.
+ *
+ * @since 2.0.0
+ */
+public class MultiColumnHasher implements Hasher {
+
+    private final ColumnHasher[] columns;
+
+    public MultiColumnHasher(ColumnHasher... columns) {
+        if (columns.length < 2) {
+            throw new IllegalArgumentException("At least two columns expected, got " + columns.length);
+        }
+
+        this.columns = columns;
+    }
+
+    public int width() {
+        return columns.length;
+    }
+
+    /**
+     * Returns the columns of the DataFrame referenced by this hasher.
+     */
+    public Series<?>[] columns(DataFrame df) {
+
+        int w = columns.length;
+        Series<?>[] result = new Series[w];
+        for (int i = 0; i < w; i++) {
+            result[i] = columns[i].column(df);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a hash of a given row made of the values of the columns previously obtained via
+     * {@link #columns(DataFrame)}. The hash is equal to the one returned by {@link #map(RowProxy)} for the same row.
+     */
+    public Object key(Series<?>[] columns, int row) {
+
+        Object key = columns[0].get(row);
+
+        int w = columns.length;
+        for (int i = 1; i < w; i++) {
+            key = new CombinationHash(key, columns[i].get(row));
+        }
+
+        return key;
+    }
+
+    @Override
+    public Object map(RowProxy row) {
+
+        Object key = columns[0].map(row);
+
+        int w = columns.length;
+        for (int i = 1; i < w; i++) {
+            key = new CombinationHash(key, columns[i].map(row));
+        }
+
+        return key;
+    }
+
+    @Override
+    public Hasher and(String column) {
+        return and(new ColumnHasher(column));
+    }
+
+    @Override
+    public Hasher and(int column) {
+        return and(new ColumnHasher(column));
+    }
+
+    @Override
+    public Hasher and(Hasher hasher) {
+
+        // only flattening single-column hashers, so that the nesting of the combination hashes is preserved
+        if (hasher instanceof ColumnHasher ch) {
+            ColumnHasher[] combined = Arrays.copyOf(columns, columns.length + 1);
+            combined[columns.length] = ch;
+            return new MultiColumnHasher(combined);
+        }
+
+        return Hasher.super.and(hasher);
+    }
+}
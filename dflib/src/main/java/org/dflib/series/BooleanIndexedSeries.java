@@ -6,6 +6,7 @@ import org.dflib.Series;
 import org.dflib.builder.BoolBuilder;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A lazily-resolved BooleanSeries that is a subset of another IntSeries based on an IntSeries index. Most
@@ -13,6 +14,9 @@ import java.util.Objects;
  */
 public class BooleanIndexedSeries extends BooleanBaseSeries {
 
+    private static final AtomicReferenceFieldUpdater<BooleanIndexedSeries, BooleanSeries> MATERIALIZED =
+            AtomicReferenceFieldUpdater.newUpdater(BooleanIndexedSeries.class, BooleanSeries.class, "materialized");
+
     protected volatile Raw raw;
     protected volatile BooleanSeries materialized;
 
@@ -75,18 +79,27 @@ public class BooleanIndexedSeries extends BooleanBaseSeries {
 
     @Override
     public BooleanSeries materialize() {
-        if (materialized == null) {
-            synchronized (this) {
-                if (materialized == null) {
-                    materialized = raw.materialize();
-
-                    // reset source reference, allowing to free up memory
-                    raw = null;
-                }
-            }
+
+        BooleanSeries materialized = this.materialized;
+        if (materialized != null) {
+            return materialized;
+        }
+
+        // not locking, so concurrent callers may each resolve the Series, but only the first result is published
+        Raw raw = this.raw;
+        if (raw == null) {
+            return this.materialized;
+        }
+
+        BooleanSeries resolved = raw.materialize();
+        if (MATERIALIZED.compareAndSet(this, null, resolved)) {
+
+            // reset source reference, allowing to free up memory
+            this.raw = null;
+            return resolved;
         }
 
-        return materialized;
+        return this.materialized;
     }
 
     @Override
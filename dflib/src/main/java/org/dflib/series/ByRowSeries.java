@@ -5,12 +5,17 @@ import org.dflib.Series;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.row.RowProxy;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 /**
  * A Series that is a concatenation of rows in a DataFrame.
  */
 public class ByRowSeries extends ObjectSeries<Object> {
 
-    private DataFrame source;
+    private static final AtomicReferenceFieldUpdater<ByRowSeries, Series> MATERIALIZED =
+            AtomicReferenceFieldUpdater.newUpdater(ByRowSeries.class, Series.class, "materialized");
+
+    private volatile DataFrame source;
     private final int width;
     private final int size;
 
@@ -51,18 +56,32 @@ public class ByRowSeries extends ObjectSeries<Object> {
 
     @Override
     public Series<Object> materialize() {
-        if (materialized == null) {
-            synchronized (this) {
-                if (materialized == null) {
-                    materialized = doMaterialize();
-                }
-            }
+
+        Series<Object> materialized = this.materialized;
+        if (materialized != null) {
+            return materialized;
+        }
+
+        // not locking, so concurrent callers may each resolve the Series, but only the first result is published
+        Series<Object> resolved = doMaterialize();
+        if (MATERIALIZED.compareAndSet(this, null, resolved)) {
+
+            // reset source reference, allowing to free up memory..
+            this.source = null;
+            return resolved;
         }
 
-        return materialized;
+        return this.materialized;
     }
 
     protected Series<Object> doMaterialize() {
+
+        // the source is reset after the result is published, so if it is missing, the result is already available
+        DataFrame source = this.source;
+        return source != null ? concatRows(source) : materialized;
+    }
+
+    private Series<Object> concatRows(DataFrame source) {
         ObjectAccum<Object> data = new ObjectAccum<>(size);
 
         for (RowProxy r : source) {
@@ -71,9 +90,6 @@ public class ByRowSeries extends ObjectSeries<Object> {
             }
         }
 
-        // reset source reference, allowing to free up memory..
-        source = null;
-
         return data.toSeries();
     }
 
@@ -3,10 +3,15 @@ package org.dflib.series;
 import org.dflib.Series;
 import org.dflib.ValueMapper;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 public class ColumnMappedSeries<S, T> extends ObjectSeries<T> {
 
-    private Series<S> source;
-    private ValueMapper<S, T> mapper;
+    private static final AtomicReferenceFieldUpdater<ColumnMappedSeries, Series> MATERIALIZED =
+            AtomicReferenceFieldUpdater.newUpdater(ColumnMappedSeries.class, Series.class, "materialized");
+
+    private volatile Series<S> source;
+    private volatile ValueMapper<S, T> mapper;
     private volatile Series<T> materialized;
 
     public ColumnMappedSeries(Series<S> source, ValueMapper<S, T> mapper) {
@@ -17,6 +22,7 @@ public class ColumnMappedSeries<S, T> extends ObjectSeries<T> {
 
     @Override
     public int size() {
+        Series<S> source = this.source;
         return source != null ? source.size() : materialized.size();
     }
 
@@ -32,28 +38,41 @@ public class ColumnMappedSeries<S, T> extends ObjectSeries<T> {
 
     @Override
     public Series<T> materialize() {
-        if (materialized == null) {
-            synchronized (this) {
-                if (materialized == null) {
-                    materialized = doMaterialize();
-                }
-            }
+
+        Series<T> materialized = this.materialized;
+        if (materialized != null) {
+            return materialized;
+        }
+
+        // not locking, so concurrent callers may each resolve the Series, but only the first result is published
+        Series<T> resolved = doMaterialize();
+        if (MATERIALIZED.compareAndSet(this, null, resolved)) {
+
+            // reset source reference, allowing to free up memory..
+            this.source = null;
+            this.mapper = null;
+            return resolved;
         }
 
-        return materialized;
+        return this.materialized;
     }
 
     protected ArraySeries<T> doMaterialize() {
-        Object[] data = new Object[size()];
+
+        // the source and the mapper are reset after the result is published, so if either one is missing, the result
+        // is already available
+        Series<S> source = this.source;
+        ValueMapper<S, T> mapper = this.mapper;
+        return source != null && mapper != null ? mapValues(source, mapper) : (ArraySeries<T>) materialized;
+    }
+
+    private ArraySeries<T> mapValues(Series<S> source, ValueMapper<S, T> mapper) {
+        Object[] data = new Object[source.size()];
 
         for(int i = 0; i < data.length; i++) {
             data[i] = mapper.map(source.get(i));
         }
 
-        // reset source reference, allowing to free up memory..
-        source = null;
-        mapper = null;
-
         return new ArraySeries<>((T[]) data);
     }
 
@@ -0,0 +1,600 @@
+package org.dflib.series;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.SeriesGroupBy;
+import org.dflib.builder.BoolBuilder;
+import org.dflib.builder.DictionaryAccum;
+import org.dflib.builder.IntAccum;
+import org.dflib.groupby.DictionaryGroupTable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A Series of objects stored as int codes referencing a "dictionary" of distinct values. For low-cardinality data
+ * (e.g., categories or statuses), it takes a fixed amount of memory per element regardless of the value type, and
+ * allows to group, join, count and compare elements by their codes instead of calling "equals" and "hashCode" on each
+ * value. Nulls are not stored in the dictionary and have a code of -1. The dictionary may contain values that are not
+ * referenced by any codes (e.g., after selecting a subset of elements). Values are deduplicated with "equals", so the
+ * dictionary never contains values that are equal, but of different classes (e.g., {@link java.util.Date} and
+ * {@link java.sql.Date}). Data with such values is not dictionary-encoded, and is stored in a regular Series instead.
+ *
+ * <p>Operations that take a Predicate (like "select" or "locate") evaluate it once per distinct value instead of once
+ * per element, so the predicates are expected to be free of side effects.</p>
+ *
+ * @since 2.0.0
+ */
+public class DictionarySeries<T> extends ObjectSeries<T> {
+
+    private final T[] dictionary;
+    private final int[] codes;
+    private final int offset;
+    private final int size;
+
+    public DictionarySeries(T[] dictionary, int... codes) {
+        this(dictionary, codes, 0, codes.length);
+    }
+
+    public DictionarySeries(T[] dictionary, int[] codes, int offset, int size) {
+        super(Object.class);
+        this.dictionary = Objects.requireNonNull(dictionary);
+        this.codes = Objects.requireNonNull(codes);
+        this.offset = offset;
+        this.size = size;
+    }
+
+    /**
+     * Returns a dictionary-encoded version of the Series.
+     *
+     * @throws IllegalArgumentException if the Series contains values that are equal, but of different classes
+     */
+    public static <T> DictionarySeries<T> of(Series<T> values) {
+
+        Series<T> encoded = encode(values);
+        if (encoded instanceof DictionarySeries<T> ds) {
+            return ds;
+        }
+
+        throw new IllegalArgumentException(
+                "Can't dictionary-encode a Series with values that are equal, but of different classes");
+    }
+
+    /**
+     * Returns a dictionary-encoded version of the Series, or a regular Series with the same values, if it contains
+     * values that are equal, but of different classes.
+     */
+    public static <T> Series<T> encode(Series<T> values) {
+
+        if (values instanceof DictionarySeries<T> ds) {
+            return ds;
+        }
+
+        int len = values.size();
+        DictionaryAccum<T> accum = new DictionaryAccum<>(len);
+        for (int i = 0; i < len; i++) {
+            accum.push(values.get(i));
+        }
+
+        return accum.toSeries();
+    }
+
+    /**
+     * Returns true if the dictionaries of the Series can be merged by {@link #union(DictionarySeries[])}, i.e. if
+     * there are no values in different dictionaries that are equal, but of different classes.
+     */
+    public static boolean canUnion(DictionarySeries<?>... series) {
+
+        Map<Object, Class<?>> classes = new HashMap<>();
+        for (DictionarySeries<?> s : series) {
+            for (Object v : s.dictionary) {
+                Class<?> c = classes.putIfAbsent(v, v.getClass());
+                if (c != null && c != v.getClass()) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Combines multiple dictionary-encoded Series into one longer Series, merging their dictionaries. The dictionaries
+     * must not have values that are equal, but of different classes, which can be checked with
+     * {@link #canUnion(DictionarySeries[])}.
+     */
+    public static <T> DictionarySeries<T> union(DictionarySeries<? extends T>... series) {
+
+        int len = 0;
+        boolean sameDictionary = true;
+        for (DictionarySeries<? extends T> s : series) {
+            len += s.size;
+            sameDictionary &= s.dictionary == series[0].dictionary;
+        }
+
+        int[] codes = new int[len];
+
+        if (sameDictionary) {
+            int offset = 0;
+            for (DictionarySeries<? extends T> s : series) {
+                System.arraycopy(s.codes, s.offset, codes, offset, s.size);
+                offset += s.size;
+            }
+
+            return new DictionarySeries<>((T[]) series[0].dictionary, codes);
+        }
+
+        // merge the dictionaries, translating each Series codes via a per-Series table of merged codes
+        Map<T, Integer> mergedCodes = new LinkedHashMap<>();
+        int offset = 0;
+        for (DictionarySeries<? extends T> s : series) {
+
+            int dl = s.dictionary.length;
+            int[] translated = new int[dl];
+            for (int c = 0; c < dl; c++) {
+                translated[c] = mergedCodes.computeIfAbsent(s.dictionary[c], v -> mergedCodes.size());
+            }
+
+            for (int i = 0; i < s.size; i++) {
+                int c = s.codes[s.offset + i];
+                codes[offset + i] = c < 0 ? -1 : translated[c];
+            }
+
+            offset += s.size;
+        }
+
+        T[] dictionary = (T[]) mergedCodes.keySet().toArray();
+        return new DictionarySeries<>(dictionary, codes);
+    }
+
+    /**
+     * Returns a dictionary code of the element at the specified position, or -1 if the element is null.
+     */
+    public int getCode(int index) {
+        if (index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return codes[offset + index];
+    }
+
+    /**
+     * Returns the number of values in the dictionary. All element codes are less than this number.
+     */
+    public int getDictionarySize() {
+        return dictionary.length;
+    }
+
+    /**
+     * Returns a dictionary value for the code.
+     */
+    public T getDictionaryValue(int code) {
+        return dictionary[code];
+    }
+
+    /**
+     * Returns whether this and another Series are encoded with the same dictionary, and hence their elements with the
+     * same code are equal.
+     */
+    public boolean sharesDictionary(DictionarySeries<?> other) {
+        return dictionary == other.dictionary;
+    }
+
+    /**
+     * Returns a dictionary code of the value, or -1 if the value is null or is not in the dictionary.
+     */
+    public int codeOf(Object value) {
+
+        if (value != null) {
+            int dl = dictionary.length;
+            for (int c = 0; c < dl; c++) {
+                if (value.equals(dictionary[c])) {
+                    return c;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        int c = getCode(index);
+        return c < 0 ? null : dictionary[c];
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        for (int i = 0; i < len; i++) {
+            int c = codes[offset + fromOffset + i];
+            to[toOffset + i] = c < 0 ? null : dictionary[c];
+        }
+    }
+
+    @Override
+    public Series<T> materialize() {
+        return this;
+    }
+
+    @Override
+    public Series<T> compact() {
+        return this;
+    }
+
+    @Override
+    public DictionarySeries<T> compactDictionary() {
+        return this;
+    }
+
+    @Override
+    public int position(T value) {
+
+        int c = value != null ? codeOf(value) : -1;
+        if (value != null && c < 0) {
+            return -1;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (codes[offset + i] == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public Series<T> selectRange(int fromInclusive, int toExclusive) {
+
+        if (fromInclusive == 0 && toExclusive == size) {
+            return this;
+        }
+
+        if (fromInclusive < 0 || fromInclusive > toExclusive || toExclusive > size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid range: " + fromInclusive + ".." + toExclusive);
+        }
+
+        return new DictionarySeries<>(dictionary, codes, offset + fromInclusive, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public Series<T> select(IntSeries positions) {
+
+        int len = positions.size();
+        int[] selected = new int[len];
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+
+            // let the lazy generic Series report invalid positions when resolved
+            if (p >= size) {
+                return super.select(positions);
+            }
+
+            // skipped positions (index < 0) are found in joins
+            selected[i] = p < 0 ? -1 : codes[offset + p];
+        }
+
+        return new DictionarySeries<>(dictionary, selected);
+    }
+
+    @Override
+    public Series<T> select(BooleanSeries positions) {
+
+        if (size != positions.size()) {
+            throw new IllegalArgumentException("Positions size " + positions.size() + " is not the same as this size " + size);
+        }
+
+        int[] selected = new int[positions.countTrue()];
+        for (int i = 0, j = 0; i < size; i++) {
+            if (positions.getBool(i)) {
+                selected[j++] = codes[offset + i];
+            }
+        }
+
+        return new DictionarySeries<>(dictionary, selected);
+    }
+
+    @Override
+    public Series<T> select(Predicate<T> p) {
+        return select(locate(p));
+    }
+
+    @Override
+    public BooleanSeries locate(Predicate<T> predicate) {
+        CodeMatcher<T> matcher = new CodeMatcher<>(dictionary, predicate);
+        return BoolBuilder.buildSeries(i -> matcher.test(codes[offset + i]), size);
+    }
+
+    @Override
+    public IntSeries index(Predicate<T> predicate) {
+
+        CodeMatcher<T> matcher = new CodeMatcher<>(dictionary, predicate);
+        IntAccum index = new IntAccum(size);
+
+        for (int i = 0; i < size; i++) {
+            if (matcher.test(codes[offset + i])) {
+                index.pushInt(i);
+            }
+        }
+
+        return index.toSeries();
+    }
+
+    @Override
+    public Series<T> fillNulls(T value) {
+
+        if (value == null) {
+            return this;
+        }
+
+        int[] filled = null;
+        int code = codeOf(value);
+        T[] dictionary = this.dictionary;
+
+        // an equal value of a different class can't be stored in the dictionary
+        if (code >= 0 && dictionary[code].getClass() != value.getClass()) {
+            T[] data = (T[]) new Object[size];
+            copyTo(data, 0, 0, size);
+            return new ArraySeries<>(data).fillNulls(value);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (codes[offset + i] < 0) {
+
+                if (filled == null) {
+                    filled = Arrays.copyOfRange(codes, offset, offset + size);
+
+                    if (code < 0) {
+                        code = dictionary.length;
+                        dictionary = Arrays.copyOf(dictionary, code + 1);
+                        dictionary[code] = value;
+                    }
+                }
+
+                filled[i] = code;
+            }
+        }
+
+        return filled != null ? new DictionarySeries<>(dictionary, filled) : this;
+    }
+
+    @Override
+    public Series<T> fillNullsFromSeries(Series<? extends T> values) {
+
+        Object[] data = null;
+
+        for (int i = 0; i < size; i++) {
+            if (codes[offset + i] < 0) {
+
+                if (data == null) {
+                    data = new Object[size];
+                    copyTo(data, 0, 0, size);
+                }
+
+                data[i] = values.get(i);
+            }
+        }
+
+        return data != null ? new ArraySeries<>((T[]) data) : this;
+    }
+
+    @Override
+    public Series<T> fillNullsBackwards() {
+
+        int[] filled = null;
+        int fillFrom = -1;
+
+        for (int i = 0; i < size; i++) {
+            int c = codes[offset + i];
+            if (c < 0) {
+
+                if (filled == null) {
+                    filled = Arrays.copyOfRange(codes, offset, offset + size);
+                }
+
+                if (fillFrom < 0) {
+                    fillFrom = i;
+                }
+            } else if (fillFrom >= 0) {
+                Arrays.fill(filled, fillFrom, i, c);
+                fillFrom = -1;
+            }
+        }
+
+        return filled != null ? new DictionarySeries<>(dictionary, filled) : this;
+    }
+
+    @Override
+    public Series<T> fillNullsForward() {
+
+        int[] filled = null;
+
+        // leading nulls are fine
+        for (int i = 1; i < size; i++) {
+            if (codes[offset + i] < 0) {
+
+                if (filled == null) {
+                    filled = Arrays.copyOfRange(codes, offset, offset + size);
+                }
+
+                filled[i] = filled[i - 1];
+            }
+        }
+
+        return filled != null ? new DictionarySeries<>(dictionary, filled) : this;
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        return BoolBuilder.buildSeries(i -> codes[offset + i] < 0, size);
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        return BoolBuilder.buildSeries(i -> codes[offset + i] >= 0, size);
+    }
+
+    @Override
+    public BooleanSeries in(Object... values) {
+
+        if (values == null || values.length == 0) {
+            return new FalseSeries(size);
+        }
+
+        Set<?> set = new HashSet<>(Arrays.asList(values));
+        return locate(set::contains);
+    }
+
+    @Override
+    public BooleanSeries notIn(Object... values) {
+
+        if (values == null || values.length == 0) {
+            return new TrueSeries(size);
+        }
+
+        Set<?> set = new HashSet<>(Arrays.asList(values));
+        return locate(v -> !set.contains(v));
+    }
+
+    @Override
+    public BooleanSeries eq(Series<?> s) {
+
+        if (size != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + size);
+        }
+
+        if (s instanceof DictionarySeries<?> ds && sharesDictionary(ds)) {
+            return BoolBuilder.buildSeries(i -> codes[offset + i] == ds.codes[ds.offset + i], size);
+        }
+
+        if (s instanceof SingleValueSeries && size > 0) {
+            Object value = s.get(0);
+            int code = codeOf(value);
+            return value != null && code < 0
+                    ? new FalseSeries(size)
+                    : BoolBuilder.buildSeries(i -> codes[offset + i] == code, size);
+        }
+
+        return BoolBuilder.buildSeries(i -> Objects.equals(get(i), s.get(i)), size);
+    }
+
+    @Override
+    public BooleanSeries ne(Series<?> s) {
+
+        if (size != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + size);
+        }
+
+        if (s instanceof DictionarySeries<?> ds && sharesDictionary(ds)) {
+            return BoolBuilder.buildSeries(i -> codes[offset + i] != ds.codes[ds.offset + i], size);
+        }
+
+        if (s instanceof SingleValueSeries && size > 0) {
+            Object value = s.get(0);
+            int code = codeOf(value);
+            return value != null && code < 0
+                    ? new TrueSeries(size)
+                    : BoolBuilder.buildSeries(i -> codes[offset + i] != code, size);
+        }
+
+        return BoolBuilder.buildSeries(i -> !Objects.equals(get(i), s.get(i)), size);
+    }
+
+    @Override
+    public Set<T> toSet() {
+
+        Set<T> set = new LinkedHashSet<>();
+
+        // index 0 is for nulls, "c + 1" - for the codes
+        boolean[] seen = new boolean[dictionary.length + 1];
+        for (int i = 0; i < size; i++) {
+            int c = codes[offset + i];
+            if (!seen[c + 1]) {
+                seen[c + 1] = true;
+                set.add(c < 0 ? null : dictionary[c]);
+            }
+        }
+
+        return set;
+    }
+
+    @Override
+    public Series<T> unique() {
+
+        if (size < 2) {
+            return this;
+        }
+
+        Set<T> unique = toSet();
+        return unique.size() < size ? new ArraySeries<>(unique.toArray(s -> (T[]) new Object[s])) : this;
+    }
+
+    @Override
+    public DataFrame valueCounts() {
+        return ValueCounts.valueCountsDictionary(this);
+    }
+
+    @Override
+    public SeriesGroupBy<T> group() {
+
+        DictionaryGroupTable table = DictionaryGroupTable.of(this);
+        int gc = table.groupCount();
+
+        Map<Object, IntSeries> groups = new LinkedHashMap<>((int) (1 + gc / 0.75));
+        for (int g = 0; g < gc; g++) {
+            groups.put(table.groupKey(g), table.groupIndex(g));
+        }
+
+        return new SeriesGroupBy<>(this, groups);
+    }
+
+    /**
+     * Evaluates a predicate once per distinct code, remembering the results.
+     */
+    private static class CodeMatcher<T> {
+
+        private static final byte UNKNOWN = 0;
+        private static final byte MATCH = 1;
+        private static final byte NO_MATCH = 2;
+
+        private final T[] dictionary;
+        private final Predicate<T> predicate;
+
+        // index 0 is for nulls, "c + 1" - for the codes
+        private final byte[] matches;
+
+        CodeMatcher(T[] dictionary, Predicate<T> predicate) {
+            this.dictionary = dictionary;
+            this.predicate = predicate;
+            this.matches = new byte[dictionary.length + 1];
+        }
+
+        boolean test(int code) {
+            byte m = matches[code + 1];
+            if (m == UNKNOWN) {
+                m = predicate.test(code < 0 ? null : dictionary[code]) ? MATCH : NO_MATCH;
+                matches[code + 1] = m;
+            }
+
+            return m == MATCH;
+        }
+    }
+}
@@ -150,8 +150,8 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
         double[] sorted = new double[size];
         copyToDouble(sorted, 0, 0, size);
 
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        // sorts sequentially below the parallel sort granularity
+        Arrays.parallelSort(sorted);
 
         return new DoubleArraySeries(sorted);
     }
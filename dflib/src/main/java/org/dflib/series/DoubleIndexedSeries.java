@@ -5,6 +5,7 @@ import org.dflib.IntSeries;
 import org.dflib.Series;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A lazily-resolved DoubleSeries that is a subset of another DoubleSeries based on an IntSeries index. Most
@@ -12,6 +13,9 @@ import java.util.Objects;
  */
 public class DoubleIndexedSeries extends DoubleBaseSeries {
 
+    private static final AtomicReferenceFieldUpdater<DoubleIndexedSeries, DoubleSeries> MATERIALIZED =
+            AtomicReferenceFieldUpdater.newUpdater(DoubleIndexedSeries.class, DoubleSeries.class, "materialized");
+
     protected volatile Raw raw;
     protected volatile DoubleSeries materialized;
 
@@ -93,18 +97,27 @@ public class DoubleIndexedSeries extends DoubleBaseSeries {
 
     @Override
     public DoubleSeries materialize() {
-        if (materialized == null) {
-            synchronized (this) {
-                if (materialized == null) {
-                    materialized = raw.materialize();
-
-                    // reset source reference, allowing to free up memory
-                    raw = null;
-                }
-            }
+
+        DoubleSeries materialized = this.materialized;
+        if (materialized != null) {
+            return materialized;
+        }
+
+        // not locking, so concurrent callers may each resolve the Series, but only the first result is published
+        Raw raw = this.raw;
+        if (raw == null) {
+            return this.materialized;
+        }
+
+        DoubleSeries resolved = raw.materialize();
+        if (MATERIALIZED.compareAndSet(this, null, resolved)) {
+
+            // reset source reference, allowing to free up memory
+            this.raw = null;
+            return resolved;
         }
 
-        return materialized;
+        return this.materialized;
     }
 
     protected static class Raw {
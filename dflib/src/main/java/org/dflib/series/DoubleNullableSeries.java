@@ -0,0 +1,218 @@
+package org.dflib.series;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.builder.BoolAccum;
+
+/**
+ * A Series of Doubles that may contain nulls, stored as primitive doubles with a parallel "not null" bitmap, instead of
+ * an array of Double objects. Unlike {@link DoubleSeries}, this is a regular Series of objects, so the code unaware of
+ * this class sees nulls where they are expected. The values at the null positions are undefined.
+ *
+ * @since 2.0.0
+ */
+public class DoubleNullableSeries extends ObjectSeries<Double> {
+
+    private final DoubleSeries values;
+    private final BooleanSeries notNulls;
+
+    public DoubleNullableSeries(DoubleSeries values, BooleanSeries notNulls) {
+        super(Double.class);
+
+        if (values.size() != notNulls.size()) {
+            throw new IllegalArgumentException("Values and nulls bitmap sizes are different: "
+                    + values.size() + " vs " + notNulls.size());
+        }
+
+        this.values = values;
+        this.notNulls = notNulls;
+    }
+
+    /**
+     * Returns a primitive Series of values, with undefined values at the positions of nulls.
+     */
+    public DoubleSeries getValues() {
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Double get(int index) {
+        return notNulls.getBool(index) ? values.getDouble(index) : null;
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    @Override
+    public Series<Double> materialize() {
+        DoubleSeries mValues = values.materialize();
+        BooleanSeries mNotNulls = notNulls.materialize();
+        return mValues == values && mNotNulls == notNulls ? this : new DoubleNullableSeries(mValues, mNotNulls);
+    }
+
+    @Override
+    public Series<Double> selectRange(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new DoubleNullableSeries(values.rangeDouble(fromInclusive, toExclusive), notNulls.rangeBool(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public Series<Double> select(IntSeries positions) {
+
+        int size = size();
+        int len = positions.size();
+        double[] selected = new double[len];
+        BoolAccum selectedNotNulls = new BoolAccum(len);
+
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+
+            // let the lazy generic Series report invalid positions when resolved
+            if (p >= size) {
+                return super.select(positions);
+            }
+
+            // skipped positions (index < 0) are found in joins
+            if (p >= 0 && notNulls.getBool(p)) {
+                selected[i] = values.getDouble(p);
+                selectedNotNulls.pushBool(true);
+            } else {
+                selectedNotNulls.pushBool(false);
+            }
+        }
+
+        return new DoubleNullableSeries(new DoubleArraySeries(selected), selectedNotNulls.toSeries());
+    }
+
+    @Override
+    public Series<Double> select(BooleanSeries positions) {
+        return new DoubleNullableSeries(values.select(positions), notNulls.select(positions));
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        return notNulls.not();
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        return notNulls;
+    }
+
+    @Override
+    public DoubleSeries compactDouble(double forNull) {
+        return fillNullsDouble(forNull);
+    }
+
+    @Override
+    public Series<Double> fillNulls(Double value) {
+        return value != null ? fillNullsDouble(value) : this;
+    }
+
+    /**
+     * Returns a primitive Series with the nulls replaced with the specified value.
+     */
+    public DoubleSeries fillNullsDouble(double value) {
+
+        int len = size();
+        double[] filled = new double[len];
+        for (int i = 0; i < len; i++) {
+            filled[i] = notNulls.getBool(i) ? values.getDouble(i) : value;
+        }
+
+        return new DoubleArraySeries(filled);
+    }
+
+    @Override
+    public Series<Double> fillNullsFromSeries(Series<? extends Double> values) {
+
+        int len = size();
+        double[] filled = new double[len];
+        BoolAccum filledNotNulls = new BoolAccum(len);
+        boolean hasNulls = false;
+
+        for (int i = 0; i < len; i++) {
+            if (notNulls.getBool(i)) {
+                filled[i] = this.values.getDouble(i);
+                filledNotNulls.pushBool(true);
+            } else {
+                Double v = values.get(i);
+                if (v != null) {
+                    filled[i] = v;
+                    filledNotNulls.pushBool(true);
+                } else {
+                    filledNotNulls.pushBool(false);
+                    hasNulls = true;
+                }
+            }
+        }
+
+        return hasNulls
+                ? new DoubleNullableSeries(new DoubleArraySeries(filled), filledNotNulls.toSeries())
+                : new DoubleArraySeries(filled);
+    }
+
+    @Override
+    public Series<Double> fillNullsBackwards() {
+
+        int len = size();
+        double[] filled = new double[len];
+        int last = len - 1;
+
+        // trailing nulls can't be filled
+        while (last >= 0 && !notNulls.getBool(last)) {
+            last--;
+        }
+
+        double fillWith = 0.;
+        for (int i = last; i >= 0; i--) {
+            if (notNulls.getBool(i)) {
+                fillWith = values.getDouble(i);
+            }
+
+            filled[i] = fillWith;
+        }
+
+        return last == len - 1
+                ? new DoubleArraySeries(filled)
+                : new DoubleNullableSeries(new DoubleArraySeries(filled), Series.unionBool(new TrueSeries(last + 1), new FalseSeries(len - last - 1)));
+    }
+
+    @Override
+    public Series<Double> fillNullsForward() {
+
+        int len = size();
+        double[] filled = new double[len];
+        int first = 0;
+
+        // leading nulls can't be filled
+        while (first < len && !notNulls.getBool(first)) {
+            first++;
+        }
+
+        double fillWith = 0.;
+        for (int i = first; i < len; i++) {
+            if (notNulls.getBool(i)) {
+                fillWith = values.getDouble(i);
+            }
+
+            filled[i] = fillWith;
+        }
+
+        return first == 0
+                ? new DoubleArraySeries(filled)
+                : new DoubleNullableSeries(new DoubleArraySeries(filled), Series.unionBool(new FalseSeries(first), new TrueSeries(len - first)));
+    }
+}
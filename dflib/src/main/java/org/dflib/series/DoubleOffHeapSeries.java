@@ -0,0 +1,154 @@
+package org.dflib.series;
+
+import org.dflib.DoubleSeries;
+import org.dflib.agg.CumSum;
+import org.dflib.agg.Percentiles;
+
+import java.nio.DoubleBuffer;
+
+import static org.dflib.series.OffHeapChunks.CHUNK_SIZE;
+import static org.dflib.series.OffHeapChunks.MASK;
+import static org.dflib.series.OffHeapChunks.SHIFT;
+
+/**
+ * A DoubleSeries stored outside the Java heap. Created via {@link OffHeapArena#copyDouble(DoubleSeries)}, and valid until
+ * the arena is closed.
+ *
+ * @since 2.0.0
+ */
+public class DoubleOffHeapSeries extends DoubleBaseSeries {
+
+    final OffHeapChunks<DoubleBuffer> data;
+    private final int offset;
+    private final int size;
+
+    DoubleOffHeapSeries(OffHeapChunks<DoubleBuffer> data, int offset, int size) {
+        this.data = data;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int i = offset + index;
+        return data.get()[i >>> SHIFT].get(i & MASK);
+    }
+
+    @Override
+    public void copyToDouble(double[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        DoubleBuffer[] chunks = data.get();
+        int from = offset + fromOffset;
+
+        // a single copy may span multiple chunks
+        for (int copied = 0; copied < len; ) {
+            int i = from + copied;
+            int pos = i & MASK;
+            int n = Math.min(len - copied, CHUNK_SIZE - pos);
+            chunks[i >>> SHIFT].get(pos, to, toOffset + copied, n);
+            copied += n;
+        }
+    }
+
+    @Override
+    public DoubleSeries rangeDouble(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size
+                ? this
+                : new DoubleOffHeapSeries(data, offset + fromInclusive, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public DoubleSeries materialize() {
+        return this;
+    }
+
+    @Override
+    public double max() {
+
+        if (size == 0) {
+            return 0.;
+        }
+
+        DoubleBuffer[] chunks = data.get();
+        int end = offset + size;
+        double max = chunks[offset >>> SHIFT].get(offset & MASK);
+
+        for (int i = offset + 1; i < end; i++) {
+            double in = chunks[i >>> SHIFT].get(i & MASK);
+            if (in > max) {
+                max = in;
+            }
+        }
+
+        return max;
+    }
+
+    @Override
+    public double min() {
+
+        if (size == 0) {
+            return 0.;
+        }
+
+        DoubleBuffer[] chunks = data.get();
+        int end = offset + size;
+        double min = chunks[offset >>> SHIFT].get(offset & MASK);
+
+        for (int i = offset + 1; i < end; i++) {
+            double in = chunks[i >>> SHIFT].get(i & MASK);
+            if (in < min) {
+                min = in;
+            }
+        }
+
+        return min;
+    }
+
+    @Override
+    public double sum() {
+
+        DoubleBuffer[] chunks = data.get();
+        int end = offset + size;
+        double sum = 0;
+
+        for (int i = offset; i < end; i++) {
+            sum += chunks[i >>> SHIFT].get(i & MASK);
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size;
+    }
+
+    @Override
+    public double quantile(double q) {
+        return Percentiles.ofArray(toHeapArray(), 0, size, q);
+    }
+
+    @Override
+    public DoubleSeries cumSum() {
+        double[] cumSum = CumSum.ofArray(toHeapArray(), 0, size);
+        return new DoubleArraySeries(cumSum);
+    }
+
+    private double[] toHeapArray() {
+        double[] array = new double[size];
+        copyToDouble(array, 0, 0, size);
+        return array;
+    }
+}
@@ -151,8 +151,8 @@ public abstract class FloatBaseSeries implements FloatSeries {
         float[] sorted = new float[size];
         copyToFloat(sorted, 0, 0, size);
 
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        // sorts sequentially below the parallel sort granularity
+        Arrays.parallelSort(sorted);
 
         return new FloatArraySeries(sorted);
     }
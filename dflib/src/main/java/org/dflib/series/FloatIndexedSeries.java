@@ -6,6 +6,7 @@ import org.dflib.IntSeries;
 import org.dflib.Series;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A lazily-resolved FloatSeries that is a subset of another FloatSeries based on an IntSeries index. Most
@@ -15,6 +16,9 @@ import java.util.Objects;
  */
 public class FloatIndexedSeries extends FloatBaseSeries {
 
+    private static final AtomicReferenceFieldUpdater<FloatIndexedSeries, FloatSeries> MATERIALIZED =
+            AtomicReferenceFieldUpdater.newUpdater(FloatIndexedSeries.class, FloatSeries.class, "materialized");
+
     protected volatile Raw raw;
     protected volatile FloatSeries materialized;
 
@@ -96,18 +100,27 @@ public class FloatIndexedSeries extends FloatBaseSeries {
 
     @Override
     public FloatSeries materialize() {
-        if (materialized == null) {
-            synchronized (this) {
-                if (materialized == null) {
-                    materialized = raw.materialize();
-
-                    // reset source reference, allowing to free up memory
-                    raw = null;
-                }
-            }
+
+        FloatSeries materialized = this.materialized;
+        if (materialized != null) {
+            return materialized;
+        }
+
+        // not locking, so concurrent callers may each resolve the Series, but only the first result is published
+        Raw raw = this.raw;
+        if (raw == null) {
+            return this.materialized;
+        }
+
+        FloatSeries resolved = raw.materialize();
+        if (MATERIALIZED.compareAndSet(this, null, resolved)) {
+
+            // reset source reference, allowing to free up memory
+            this.raw = null;
+            return resolved;
         }
 
-        return materialized;
+        return this.materialized;
     }
 
     protected static class Raw {
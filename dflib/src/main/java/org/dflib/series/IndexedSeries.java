@@ -5,6 +5,7 @@ import org.dflib.Series;
 import org.dflib.builder.ValueCompactor;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A lazily-resolved Series that is a subset of another Series based on an IntSeries index. Most operations are implemented
@@ -14,6 +15,9 @@ import java.util.Objects;
  */
 public class IndexedSeries<T> extends ObjectSeries<T> {
 
+    private static final AtomicReferenceFieldUpdater<IndexedSeries, Series> MATERIALIZED =
+            AtomicReferenceFieldUpdater.newUpdater(IndexedSeries.class, Series.class, "materialized");
+
     protected volatile Raw<T> raw;
     protected volatile Series<T> materialized;
     private volatile boolean materializedCompacted;
@@ -56,39 +60,51 @@ public class IndexedSeries<T> extends ObjectSeries<T> {
     @Override
     public Series<T> compact() {
 
-        if (!materializedCompacted) {
-            synchronized (this) {
-                if (!materializedCompacted) {
-                    Series<T> compact = materialized != null ? materialized.compact() : raw.compact();
+        if (materializedCompacted) {
+            return materialized;
+        }
 
-                    this.materialized = compact;
-                    this.materializedCompacted = true;
+        // not locking, so concurrent callers may each compact the Series. The results are equivalent, so it doesn't
+        // matter which one ends up being stored
+        Series<T> materialized = this.materialized;
+        Raw<T> raw = this.raw;
+        Series<T> compact = materialized != null
+                ? materialized.compact()
+                : raw != null ? raw.compact() : this.materialized.compact();
 
-                    // reset source reference, allowing to free up memory
-                    raw = null;
-                }
-            }
-        }
+        this.materialized = compact;
+        this.materializedCompacted = true;
+
+        // reset source reference, allowing to free up memory
+        this.raw = null;
 
-        return materialized;
+        return compact;
     }
 
     @Override
     public Series<T> materialize() {
-        if (materialized == null) {
-            synchronized (this) {
-                if (materialized == null) {
-                    materialized = raw.materialize();
-
-                    // reset source reference, allowing to free up memory
-                    raw = null;
-                }
-            }
+
+        Series<T> materialized = this.materialized;
+        if (materialized != null) {
+            return materialized;
         }
 
-        return materialized;
-    }
+        // not locking, so concurrent callers may each resolve the Series, but only the first result is published
+        Raw<T> raw = this.raw;
+        if (raw == null) {
+            return this.materialized;
+        }
+
+        Series<T> resolved = raw.materialize();
+        if (MATERIALIZED.compareAndSet(this, null, resolved)) {
 
+            // reset source reference, allowing to free up memory
+            this.raw = null;
+            return resolved;
+        }
+
+        return this.materialized;
+    }
 
     @Override
     public Series<T> fillNulls(T value) {
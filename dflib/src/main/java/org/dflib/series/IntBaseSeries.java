@@ -17,8 +17,8 @@ import org.dflib.builder.UniqueIntAccum;
 import org.dflib.groupby.SeriesGrouper;
 import org.dflib.map.Mapper;
 import org.dflib.sample.Sampler;
+import org.dflib.sort.IndexSorter;
 import org.dflib.sort.IntComparator;
-import org.dflib.sort.IntTimSort;
 
 import java.util.Arrays;
 import java.util.Comparator;
@@ -150,8 +150,8 @@ public abstract class IntBaseSeries implements IntSeries {
         int[] sorted = new int[size];
         copyToInt(sorted, 0, 0, size);
 
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        // sorts sequentially below the parallel sort granularity
+        Arrays.parallelSort(sorted);
 
         return new IntArraySeries(sorted);
     }
@@ -161,7 +161,7 @@ public abstract class IntBaseSeries implements IntSeries {
         int size = size();
         int[] sorted = new int[size];
         copyToInt(sorted, 0, 0, size);
-        IntTimSort.sort(sorted, comparator);
+        IndexSorter.sort(sorted, comparator);
         return new IntArraySeries(sorted);
     }
 
@@ -172,8 +172,7 @@ public abstract class IntBaseSeries implements IntSeries {
 
     @Override
     public IntSeries sortIndexInt() {
-        IntComparator comparator = (i1, i2) -> getInt(i1) - getInt(i2);
-        return comparator.sortIndex(size());
+        return IntComparator.of(this, true).sortIndex(size());
     }
 
     @Override
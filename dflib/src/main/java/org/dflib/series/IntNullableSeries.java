@@ -0,0 +1,217 @@
+package org.dflib.series;
+
+import org.dflib.BooleanSeries;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.builder.BoolAccum;
+
+/**
+ * A Series of Integers that may contain nulls, stored as primitive ints with a parallel "not null" bitmap, instead of
+ * an array of Integer objects. Unlike {@link IntSeries}, this is a regular Series of objects, so the code unaware of
+ * this class sees nulls where they are expected. The values at the null positions are undefined.
+ *
+ * @since 2.0.0
+ */
+public class IntNullableSeries extends ObjectSeries<Integer> {
+
+    private final IntSeries values;
+    private final BooleanSeries notNulls;
+
+    public IntNullableSeries(IntSeries values, BooleanSeries notNulls) {
+        super(Integer.class);
+
+        if (values.size() != notNulls.size()) {
+            throw new IllegalArgumentException("Values and nulls bitmap sizes are different: "
+                    + values.size() + " vs " + notNulls.size());
+        }
+
+        this.values = values;
+        this.notNulls = notNulls;
+    }
+
+    /**
+     * Returns a primitive Series of values, with undefined values at the positions of nulls.
+     */
+    public IntSeries getValues() {
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Integer get(int index) {
+        return notNulls.getBool(index) ? values.getInt(index) : null;
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    @Override
+    public Series<Integer> materialize() {
+        IntSeries mValues = values.materialize();
+        BooleanSeries mNotNulls = notNulls.materialize();
+        return mValues == values && mNotNulls == notNulls ? this : new IntNullableSeries(mValues, mNotNulls);
+    }
+
+    @Override
+    public Series<Integer> selectRange(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new IntNullableSeries(values.rangeInt(fromInclusive, toExclusive), notNulls.rangeBool(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public Series<Integer> select(IntSeries positions) {
+
+        int size = size();
+        int len = positions.size();
+        int[] selected = new int[len];
+        BoolAccum selectedNotNulls = new BoolAccum(len);
+
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+
+            // let the lazy generic Series report invalid positions when resolved
+            if (p >= size) {
+                return super.select(positions);
+            }
+
+            // skipped positions (index < 0) are found in joins
+            if (p >= 0 && notNulls.getBool(p)) {
+                selected[i] = values.getInt(p);
+                selectedNotNulls.pushBool(true);
+            } else {
+                selectedNotNulls.pushBool(false);
+            }
+        }
+
+        return new IntNullableSeries(new IntArraySeries(selected), selectedNotNulls.toSeries());
+    }
+
+    @Override
+    public Series<Integer> select(BooleanSeries positions) {
+        return new IntNullableSeries(values.select(positions), notNulls.select(positions));
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        return notNulls.not();
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        return notNulls;
+    }
+
+    @Override
+    public IntSeries compactInt(int forNull) {
+        return fillNullsInt(forNull);
+    }
+
+    @Override
+    public Series<Integer> fillNulls(Integer value) {
+        return value != null ? fillNullsInt(value) : this;
+    }
+
+    /**
+     * Returns a primitive Series with the nulls replaced with the specified value.
+     */
+    public IntSeries fillNullsInt(int value) {
+
+        int len = size();
+        int[] filled = new int[len];
+        for (int i = 0; i < len; i++) {
+            filled[i] = notNulls.getBool(i) ? values.getInt(i) : value;
+        }
+
+        return new IntArraySeries(filled);
+    }
+
+    @Override
+    public Series<Integer> fillNullsFromSeries(Series<? extends Integer> values) {
+
+        int len = size();
+        int[] filled = new int[len];
+        BoolAccum filledNotNulls = new BoolAccum(len);
+        boolean hasNulls = false;
+
+        for (int i = 0; i < len; i++) {
+            if (notNulls.getBool(i)) {
+                filled[i] = this.values.getInt(i);
+                filledNotNulls.pushBool(true);
+            } else {
+                Integer v = values.get(i);
+                if (v != null) {
+                    filled[i] = v;
+                    filledNotNulls.pushBool(true);
+                } else {
+                    filledNotNulls.pushBool(false);
+                    hasNulls = true;
+                }
+            }
+        }
+
+        return hasNulls
+                ? new IntNullableSeries(new IntArraySeries(filled), filledNotNulls.toSeries())
+                : new IntArraySeries(filled);
+    }
+
+    @Override
+    public Series<Integer> fillNullsBackwards() {
+
+        int len = size();
+        int[] filled = new int[len];
+        int last = len - 1;
+
+        // trailing nulls can't be filled
+        while (last >= 0 && !notNulls.getBool(last)) {
+            last--;
+        }
+
+        int fillWith = 0;
+        for (int i = last; i >= 0; i--) {
+            if (notNulls.getBool(i)) {
+                fillWith = values.getInt(i);
+            }
+
+            filled[i] = fillWith;
+        }
+
+        return last == len - 1
+                ? new IntArraySeries(filled)
+                : new IntNullableSeries(new IntArraySeries(filled), Series.unionBool(new TrueSeries(last + 1), new FalseSeries(len - last - 1)));
+    }
+
+    @Override
+    public Series<Integer> fillNullsForward() {
+
+        int len = size();
+        int[] filled = new int[len];
+        int first = 0;
+
+        // leading nulls can't be filled
+        while (first < len && !notNulls.getBool(first)) {
+            first++;
+        }
+
+        int fillWith = 0;
+        for (int i = first; i < len; i++) {
+            if (notNulls.getBool(i)) {
+                fillWith = values.getInt(i);
+            }
+
+            filled[i] = fillWith;
+        }
+
+        return first == 0
+                ? new IntArraySeries(filled)
+                : new IntNullableSeries(new IntArraySeries(filled), Series.unionBool(new FalseSeries(first), new TrueSeries(len - first)));
+    }
+}
@@ -0,0 +1,155 @@
+package org.dflib.series;
+
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.agg.CumSum;
+import org.dflib.agg.Percentiles;
+
+import java.nio.IntBuffer;
+
+import static org.dflib.series.OffHeapChunks.CHUNK_SIZE;
+import static org.dflib.series.OffHeapChunks.MASK;
+import static org.dflib.series.OffHeapChunks.SHIFT;
+
+/**
+ * An IntSeries stored outside the Java heap. Created via {@link OffHeapArena#copyInt(IntSeries)}, and valid until
+ * the arena is closed.
+ *
+ * @since 2.0.0
+ */
+public class IntOffHeapSeries extends IntBaseSeries {
+
+    final OffHeapChunks<IntBuffer> data;
+    private final int offset;
+    private final int size;
+
+    IntOffHeapSeries(OffHeapChunks<IntBuffer> data, int offset, int size) {
+        this.data = data;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getInt(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int i = offset + index;
+        return data.get()[i >>> SHIFT].get(i & MASK);
+    }
+
+    @Override
+    public void copyToInt(int[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        IntBuffer[] chunks = data.get();
+        int from = offset + fromOffset;
+
+        // a single copy may span multiple chunks
+        for (int copied = 0; copied < len; ) {
+            int i = from + copied;
+            int pos = i & MASK;
+            int n = Math.min(len - copied, CHUNK_SIZE - pos);
+            chunks[i >>> SHIFT].get(pos, to, toOffset + copied, n);
+            copied += n;
+        }
+    }
+
+    @Override
+    public IntSeries rangeInt(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size
+                ? this
+                : new IntOffHeapSeries(data, offset + fromInclusive, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public IntSeries materialize() {
+        return this;
+    }
+
+    @Override
+    public int max() {
+
+        if (size == 0) {
+            return 0;
+        }
+
+        IntBuffer[] chunks = data.get();
+        int end = offset + size;
+        int max = chunks[offset >>> SHIFT].get(offset & MASK);
+
+        for (int i = offset + 1; i < end; i++) {
+            int in = chunks[i >>> SHIFT].get(i & MASK);
+            if (in > max) {
+                max = in;
+            }
+        }
+
+        return max;
+    }
+
+    @Override
+    public int min() {
+
+        if (size == 0) {
+            return 0;
+        }
+
+        IntBuffer[] chunks = data.get();
+        int end = offset + size;
+        int min = chunks[offset >>> SHIFT].get(offset & MASK);
+
+        for (int i = offset + 1; i < end; i++) {
+            int in = chunks[i >>> SHIFT].get(i & MASK);
+            if (in < min) {
+                min = in;
+            }
+        }
+
+        return min;
+    }
+
+    @Override
+    public long sum() {
+
+        IntBuffer[] chunks = data.get();
+        int end = offset + size;
+        long sum = 0;
+
+        for (int i = offset; i < end; i++) {
+            sum += chunks[i >>> SHIFT].get(i & MASK);
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size;
+    }
+
+    @Override
+    public double quantile(double q) {
+        return Percentiles.ofArray(toHeapArray(), 0, size, q);
+    }
+
+    @Override
+    public LongSeries cumSum() {
+        long[] cumSum = CumSum.ofArray(toHeapArray(), 0, size);
+        return new LongArraySeries(cumSum);
+    }
+
+    private int[] toHeapArray() {
+        int[] array = new int[size];
+        copyToInt(array, 0, 0, size);
+        return array;
+    }
+}
@@ -153,8 +153,8 @@ public abstract class LongBaseSeries implements LongSeries {
         long[] sorted = new long[size];
         copyToLong(sorted, 0, 0, size);
 
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        // sorts sequentially below the parallel sort granularity
+        Arrays.parallelSort(sorted);
 
         return new LongArraySeries(sorted);
     }
@@ -5,6 +5,7 @@ import org.dflib.LongSeries;
 import org.dflib.Series;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A lazily-resolved LongSeries that is a subset of another IntSeries based on an IntSeries index. Most
@@ -12,6 +13,9 @@ import java.util.Objects;
  */
 public class LongIndexedSeries extends LongBaseSeries {
 
+    private static final AtomicReferenceFieldUpdater<LongIndexedSeries, LongSeries> MATERIALIZED =
+            AtomicReferenceFieldUpdater.newUpdater(LongIndexedSeries.class, LongSeries.class, "materialized");
+
     protected volatile Raw raw;
     protected volatile LongSeries materialized;
 
@@ -93,18 +97,27 @@ public class LongIndexedSeries extends LongBaseSeries {
 
     @Override
     public LongSeries materialize() {
-        if (materialized == null) {
-            synchronized (this) {
-                if (materialized == null) {
-                    materialized = raw.materialize();
-
-                    // reset source reference, allowing to free up memory
-                    raw = null;
-                }
-            }
+
+        LongSeries materialized = this.materialized;
+        if (materialized != null) {
+            return materialized;
+        }
+
+        // not locking, so concurrent callers may each resolve the Series, but only the first result is published
+        Raw raw = this.raw;
+        if (raw == null) {
+            return this.materialized;
+        }
+
+        LongSeries resolved = raw.materialize();
+        if (MATERIALIZED.compareAndSet(this, null, resolved)) {
+
+            // reset source reference, allowing to free up memory
+            this.raw = null;
+            return resolved;
         }
 
-        return materialized;
+        return this.materialized;
     }
 
     protected static class Raw {
@@ -0,0 +1,218 @@
+package org.dflib.series;
+
+import org.dflib.BooleanSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.builder.BoolAccum;
+
+/**
+ * A Series of Longs that may contain nulls, stored as primitive longs with a parallel "not null" bitmap, instead of
+ * an array of Long objects. Unlike {@link LongSeries}, this is a regular Series of objects, so the code unaware of
+ * this class sees nulls where they are expected. The values at the null positions are undefined.
+ *
+ * @since 2.0.0
+ */
+public class LongNullableSeries extends ObjectSeries<Long> {
+
+    private final LongSeries values;
+    private final BooleanSeries notNulls;
+
+    public LongNullableSeries(LongSeries values, BooleanSeries notNulls) {
+        super(Long.class);
+
+        if (values.size() != notNulls.size()) {
+            throw new IllegalArgumentException("Values and nulls bitmap sizes are different: "
+                    + values.size() + " vs " + notNulls.size());
+        }
+
+        this.values = values;
+        this.notNulls = notNulls;
+    }
+
+    /**
+     * Returns a primitive Series of values, with undefined values at the positions of nulls.
+     */
+    public LongSeries getValues() {
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Long get(int index) {
+        return notNulls.getBool(index) ? values.getLong(index) : null;
+    }
+
+    @Override
+    public void copyTo(Object[] to, int fromOffset, int toOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            to[toOffset + i] = get(fromOffset + i);
+        }
+    }
+
+    @Override
+    public Series<Long> materialize() {
+        LongSeries mValues = values.materialize();
+        BooleanSeries mNotNulls = notNulls.materialize();
+        return mValues == values && mNotNulls == notNulls ? this : new LongNullableSeries(mValues, mNotNulls);
+    }
+
+    @Override
+    public Series<Long> selectRange(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size()
+                ? this
+                : new LongNullableSeries(values.rangeLong(fromInclusive, toExclusive), notNulls.rangeBool(fromInclusive, toExclusive));
+    }
+
+    @Override
+    public Series<Long> select(IntSeries positions) {
+
+        int size = size();
+        int len = positions.size();
+        long[] selected = new long[len];
+        BoolAccum selectedNotNulls = new BoolAccum(len);
+
+        for (int i = 0; i < len; i++) {
+            int p = positions.getInt(i);
+
+            // let the lazy generic Series report invalid positions when resolved
+            if (p >= size) {
+                return super.select(positions);
+            }
+
+            // skipped positions (index < 0) are found in joins
+            if (p >= 0 && notNulls.getBool(p)) {
+                selected[i] = values.getLong(p);
+                selectedNotNulls.pushBool(true);
+            } else {
+                selectedNotNulls.pushBool(false);
+            }
+        }
+
+        return new LongNullableSeries(new LongArraySeries(selected), selectedNotNulls.toSeries());
+    }
+
+    @Override
+    public Series<Long> select(BooleanSeries positions) {
+        return new LongNullableSeries(values.select(positions), notNulls.select(positions));
+    }
+
+    @Override
+    public BooleanSeries isNull() {
+        return notNulls.not();
+    }
+
+    @Override
+    public BooleanSeries isNotNull() {
+        return notNulls;
+    }
+
+    @Override
+    public LongSeries compactLong(long forNull) {
+        return fillNullsLong(forNull);
+    }
+
+    @Override
+    public Series<Long> fillNulls(Long value) {
+        return value != null ? fillNullsLong(value) : this;
+    }
+
+    /**
+     * Returns a primitive Series with the nulls replaced with the specified value.
+     */
+    public LongSeries fillNullsLong(long value) {
+
+        int len = size();
+        long[] filled = new long[len];
+        for (int i = 0; i < len; i++) {
+            filled[i] = notNulls.getBool(i) ? values.getLong(i) : value;
+        }
+
+        return new LongArraySeries(filled);
+    }
+
+    @Override
+    public Series<Long> fillNullsFromSeries(Series<? extends Long> values) {
+
+        int len = size();
+        long[] filled = new long[len];
+        BoolAccum filledNotNulls = new BoolAccum(len);
+        boolean hasNulls = false;
+
+        for (int i = 0; i < len; i++) {
+            if (notNulls.getBool(i)) {
+                filled[i] = this.values.getLong(i);
+                filledNotNulls.pushBool(true);
+            } else {
+                Long v = values.get(i);
+                if (v != null) {
+                    filled[i] = v;
+                    filledNotNulls.pushBool(true);
+                } else {
+                    filledNotNulls.pushBool(false);
+                    hasNulls = true;
+                }
+            }
+        }
+
+        return hasNulls
+                ? new LongNullableSeries(new LongArraySeries(filled), filledNotNulls.toSeries())
+                : new LongArraySeries(filled);
+    }
+
+    @Override
+    public Series<Long> fillNullsBackwards() {
+
+        int len = size();
+        long[] filled = new long[len];
+        int last = len - 1;
+
+        // trailing nulls can't be filled
+        while (last >= 0 && !notNulls.getBool(last)) {
+            last--;
+        }
+
+        long fillWith = 0L;
+        for (int i = last; i >= 0; i--) {
+            if (notNulls.getBool(i)) {
+                fillWith = values.getLong(i);
+            }
+
+            filled[i] = fillWith;
+        }
+
+        return last == len - 1
+                ? new LongArraySeries(filled)
+                : new LongNullableSeries(new LongArraySeries(filled), Series.unionBool(new TrueSeries(last + 1), new FalseSeries(len - last - 1)));
+    }
+
+    @Override
+    public Series<Long> fillNullsForward() {
+
+        int len = size();
+        long[] filled = new long[len];
+        int first = 0;
+
+        // leading nulls can't be filled
+        while (first < len && !notNulls.getBool(first)) {
+            first++;
+        }
+
+        long fillWith = 0L;
+        for (int i = first; i < len; i++) {
+            if (notNulls.getBool(i)) {
+                fillWith = values.getLong(i);
+            }
+
+            filled[i] = fillWith;
+        }
+
+        return first == 0
+                ? new LongArraySeries(filled)
+                : new LongNullableSeries(new LongArraySeries(filled), Series.unionBool(new FalseSeries(first), new TrueSeries(len - first)));
+    }
+}
@@ -0,0 +1,154 @@
+package org.dflib.series;
+
+import org.dflib.LongSeries;
+import org.dflib.agg.CumSum;
+import org.dflib.agg.Percentiles;
+
+import java.nio.LongBuffer;
+
+import static org.dflib.series.OffHeapChunks.CHUNK_SIZE;
+import static org.dflib.series.OffHeapChunks.MASK;
+import static org.dflib.series.OffHeapChunks.SHIFT;
+
+/**
+ * A LongSeries stored outside the Java heap. Created via {@link OffHeapArena#copyLong(LongSeries)}, and valid until
+ * the arena is closed.
+ *
+ * @since 2.0.0
+ */
+public class LongOffHeapSeries extends LongBaseSeries {
+
+    final OffHeapChunks<LongBuffer> data;
+    private final int offset;
+    private final int size;
+
+    LongOffHeapSeries(OffHeapChunks<LongBuffer> data, int offset, int size) {
+        this.data = data;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getLong(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int i = offset + index;
+        return data.get()[i >>> SHIFT].get(i & MASK);
+    }
+
+    @Override
+    public void copyToLong(long[] to, int fromOffset, int toOffset, int len) {
+        if (fromOffset + len > size) {
+            throw new ArrayIndexOutOfBoundsException(fromOffset + len);
+        }
+
+        LongBuffer[] chunks = data.get();
+        int from = offset + fromOffset;
+
+        // a single copy may span multiple chunks
+        for (int copied = 0; copied < len; ) {
+            int i = from + copied;
+            int pos = i & MASK;
+            int n = Math.min(len - copied, CHUNK_SIZE - pos);
+            chunks[i >>> SHIFT].get(pos, to, toOffset + copied, n);
+            copied += n;
+        }
+    }
+
+    @Override
+    public LongSeries rangeLong(int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == size
+                ? this
+                : new LongOffHeapSeries(data, offset + fromInclusive, toExclusive - fromInclusive);
+    }
+
+    @Override
+    public LongSeries materialize() {
+        return this;
+    }
+
+    @Override
+    public long max() {
+
+        if (size == 0) {
+            return 0L;
+        }
+
+        LongBuffer[] chunks = data.get();
+        int end = offset + size;
+        long max = chunks[offset >>> SHIFT].get(offset & MASK);
+
+        for (int i = offset + 1; i < end; i++) {
+            long in = chunks[i >>> SHIFT].get(i & MASK);
+            if (in > max) {
+                max = in;
+            }
+        }
+
+        return max;
+    }
+
+    @Override
+    public long min() {
+
+        if (size == 0) {
+            return 0L;
+        }
+
+        LongBuffer[] chunks = data.get();
+        int end = offset + size;
+        long min = chunks[offset >>> SHIFT].get(offset & MASK);
+
+        for (int i = offset + 1; i < end; i++) {
+            long in = chunks[i >>> SHIFT].get(i & MASK);
+            if (in < min) {
+                min = in;
+            }
+        }
+
+        return min;
+    }
+
+    @Override
+    public long sum() {
+
+        LongBuffer[] chunks = data.get();
+        int end = offset + size;
+        long sum = 0L;
+
+        for (int i = offset; i < end; i++) {
+            sum += chunks[i >>> SHIFT].get(i & MASK);
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double avg() {
+        return sum() / (double) size;
+    }
+
+    @Override
+    public double quantile(double q) {
+        return Percentiles.ofArray(toHeapArray(), 0, size, q);
+    }
+
+    @Override
+    public LongSeries cumSum() {
+        long[] cumSum = CumSum.ofArray(toHeapArray(), 0, size);
+        return new LongArraySeries(cumSum);
+    }
+
+    private long[] toHeapArray() {
+        long[] array = new long[size];
+        copyToLong(array, 0, 0, size);
+        return array;
+    }
+}
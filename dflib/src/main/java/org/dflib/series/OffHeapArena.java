@@ -0,0 +1,256 @@
+package org.dflib.series;
+
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * A scope for the primitive Series stored outside the Java heap. Copies int, long and double Series to the native
+ * memory, reducing the heap size and the GC pressure for the large long-lived DataFrames. All the Series allocated
+ * by the arena become unusable once the arena is closed, and any attempt to read them would throw an
+ * {@link IllegalStateException}. The arena must not be closed while its Series are still being read by other threads.
+ *
+ * <p>The memory is allocated as direct NIO buffers, so the total amount is limited by the
+ * <code>-XX:MaxDirectMemorySize</code> JVM option. Closing the arena does not free the memory. It only drops the
+ * arena's references to the buffers, and the native memory (or the file mapping) is returned to the OS later, when the
+ * buffers are garbage-collected. So the arena controls when the Series stop being usable, but not when their memory is
+ * freed.</p>
+ *
+ * <p>Besides copying the heap Series, the arena can expose regions of a file as memory-mapped Series, whose data is
+ * paged in by the OS on demand.</p>
+ *
+ * @see org.dflib.DataFrame#materializeOffHeap(OffHeapArena)
+ * @since 2.0.0
+ */
+public class OffHeapArena implements AutoCloseable {
+
+    // must be a power of 2 that is smaller than the chunk size, so that the batches never cross chunk boundaries
+    private static final int BATCH_SIZE = 8192;
+
+    private final List<OffHeapChunks<?>> allocated;
+    private long allocatedBytes;
+    private boolean closed;
+
+    public static OffHeapArena open() {
+        return new OffHeapArena();
+    }
+
+    protected OffHeapArena() {
+        this.allocated = new ArrayList<>();
+    }
+
+    public synchronized boolean isOpen() {
+        return !closed;
+    }
+
+    /**
+     * Returns the total size of the native memory allocated by this arena.
+     */
+    public synchronized long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns a copy of the Series, with int, long and double values (including the values of the nullable primitive
+     * Series) moved off-heap. Other Series can't be stored outside the heap, and are simply materialized.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Series<T> copy(Series<T> s) {
+
+        if (s instanceof IntSeries is) {
+            return (Series<T>) copyInt(is);
+        } else if (s instanceof LongSeries ls) {
+            return (Series<T>) copyLong(ls);
+        } else if (s instanceof DoubleSeries ds) {
+            return (Series<T>) copyDouble(ds);
+        } else if (s instanceof IntNullableSeries ns) {
+            return (Series<T>) new IntNullableSeries(copyInt(ns.getValues()), ns.isNotNull().materialize());
+        } else if (s instanceof LongNullableSeries ns) {
+            return (Series<T>) new LongNullableSeries(copyLong(ns.getValues()), ns.isNotNull().materialize());
+        } else if (s instanceof DoubleNullableSeries ns) {
+            return (Series<T>) new DoubleNullableSeries(copyDouble(ns.getValues()), ns.isNotNull().materialize());
+        }
+
+        return s.materialize();
+    }
+
+    public IntSeries copyInt(IntSeries s) {
+
+        if (s instanceof IntOffHeapSeries os && os.data.ownedBy(this)) {
+            return s;
+        }
+
+        int len = s.size();
+        OffHeapChunks<IntBuffer> data = allocate(len, Integer.BYTES, IntBuffer[]::new, ByteBuffer::asIntBuffer);
+        IntBuffer[] chunks = data.get();
+
+        int[] batch = new int[Math.min(len, BATCH_SIZE)];
+        for (int i = 0; i < len; i += batch.length) {
+            int n = Math.min(batch.length, len - i);
+            s.copyToInt(batch, i, 0, n);
+            chunks[i >>> OffHeapChunks.SHIFT].put(i & OffHeapChunks.MASK, batch, 0, n);
+        }
+
+        return new IntOffHeapSeries(data, 0, len);
+    }
+
+    public LongSeries copyLong(LongSeries s) {
+
+        if (s instanceof LongOffHeapSeries os && os.data.ownedBy(this)) {
+            return s;
+        }
+
+        int len = s.size();
+        OffHeapChunks<LongBuffer> data = allocate(len, Long.BYTES, LongBuffer[]::new, ByteBuffer::asLongBuffer);
+        LongBuffer[] chunks = data.get();
+
+        long[] batch = new long[Math.min(len, BATCH_SIZE)];
+        for (int i = 0; i < len; i += batch.length) {
+            int n = Math.min(batch.length, len - i);
+            s.copyToLong(batch, i, 0, n);
+            chunks[i >>> OffHeapChunks.SHIFT].put(i & OffHeapChunks.MASK, batch, 0, n);
+        }
+
+        return new LongOffHeapSeries(data, 0, len);
+    }
+
+    public DoubleSeries copyDouble(DoubleSeries s) {
+
+        if (s instanceof DoubleOffHeapSeries os && os.data.ownedBy(this)) {
+            return s;
+        }
+
+        int len = s.size();
+        OffHeapChunks<DoubleBuffer> data = allocate(len, Double.BYTES, DoubleBuffer[]::new, ByteBuffer::asDoubleBuffer);
+        DoubleBuffer[] chunks = data.get();
+
+        double[] batch = new double[Math.min(len, BATCH_SIZE)];
+        for (int i = 0; i < len; i += batch.length) {
+            int n = Math.min(batch.length, len - i);
+            s.copyToDouble(batch, i, 0, n);
+            chunks[i >>> OffHeapChunks.SHIFT].put(i & OffHeapChunks.MASK, batch, 0, n);
+        }
+
+        return new DoubleOffHeapSeries(data, 0, len);
+    }
+
+    /**
+     * Returns an IntSeries of the specified size, mapped to the file region starting at the specified position. The
+     * values are expected to be stored in the little-endian byte order.
+     */
+    public IntSeries mapInt(FileChannel channel, long position, int size) {
+        OffHeapChunks<IntBuffer> data = map(channel, position, size, Integer.BYTES, IntBuffer[]::new, ByteBuffer::asIntBuffer);
+        return new IntOffHeapSeries(data, 0, size);
+    }
+
+    /**
+     * Returns a LongSeries of the specified size, mapped to the file region starting at the specified position. The
+     * values are expected to be stored in the little-endian byte order.
+     */
+    public LongSeries mapLong(FileChannel channel, long position, int size) {
+        OffHeapChunks<LongBuffer> data = map(channel, position, size, Long.BYTES, LongBuffer[]::new, ByteBuffer::asLongBuffer);
+        return new LongOffHeapSeries(data, 0, size);
+    }
+
+    /**
+     * Returns a DoubleSeries of the specified size, mapped to the file region starting at the specified position. The
+     * values are expected to be stored in the little-endian byte order.
+     */
+    public DoubleSeries mapDouble(FileChannel channel, long position, int size) {
+        OffHeapChunks<DoubleBuffer> data = map(channel, position, size, Double.BYTES, DoubleBuffer[]::new, ByteBuffer::asDoubleBuffer);
+        return new DoubleOffHeapSeries(data, 0, size);
+    }
+
+    /**
+     * Invalidates all the Series allocated by this arena, and drops the references to their buffers. The native
+     * memory is not freed by this method, but only when the buffers are garbage-collected. Calling this method more
+     * than once has no effect.
+     */
+    @Override
+    public synchronized void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        for (OffHeapChunks<?> c : allocated) {
+            c.release();
+        }
+
+        allocated.clear();
+        allocatedBytes = 0;
+    }
+
+    private synchronized <B extends Buffer> OffHeapChunks<B> allocate(
+            int size,
+            int elementBytes,
+            IntFunction<B[]> arrayFactory,
+            Function<ByteBuffer, B> viewFactory) {
+
+        if (closed) {
+            throw new IllegalStateException("Off-heap arena is closed");
+        }
+
+        int chunksCount = (int) (((long) size + OffHeapChunks.MASK) >>> OffHeapChunks.SHIFT);
+        B[] chunks = arrayFactory.apply(chunksCount);
+
+        for (int i = 0; i < chunksCount; i++) {
+            int chunkSize = Math.min(OffHeapChunks.CHUNK_SIZE, size - i * OffHeapChunks.CHUNK_SIZE);
+            ByteBuffer bytes = ByteBuffer.allocateDirect(chunkSize * elementBytes).order(ByteOrder.nativeOrder());
+            chunks[i] = viewFactory.apply(bytes);
+            allocatedBytes += (long) chunkSize * elementBytes;
+        }
+
+        OffHeapChunks<B> data = new OffHeapChunks<>(this, chunks);
+        allocated.add(data);
+        return data;
+    }
+
+    private synchronized <B extends Buffer> OffHeapChunks<B> map(
+            FileChannel channel,
+            long position,
+            int size,
+            int elementBytes,
+            IntFunction<B[]> arrayFactory,
+            Function<ByteBuffer, B> viewFactory) {
+
+        if (closed) {
+            throw new IllegalStateException("Off-heap arena is closed");
+        }
+
+        int chunksCount = (int) (((long) size + OffHeapChunks.MASK) >>> OffHeapChunks.SHIFT);
+        B[] chunks = arrayFactory.apply(chunksCount);
+
+        try {
+            for (int i = 0; i < chunksCount; i++) {
+                int chunkSize = Math.min(OffHeapChunks.CHUNK_SIZE, size - i * OffHeapChunks.CHUNK_SIZE);
+                long chunkPosition = position + (long) i * OffHeapChunks.CHUNK_SIZE * elementBytes;
+                ByteBuffer bytes = channel
+                        .map(FileChannel.MapMode.READ_ONLY, chunkPosition, (long) chunkSize * elementBytes)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                chunks[i] = viewFactory.apply(bytes);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error mapping file region at " + position + ": " + e.getMessage(), e);
+        }
+
+        OffHeapChunks<B> data = new OffHeapChunks<>(this, chunks);
+        allocated.add(data);
+        return data;
+    }
+}
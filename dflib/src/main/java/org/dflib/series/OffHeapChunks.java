@@ -0,0 +1,44 @@
+package org.dflib.series;
+
+import java.nio.Buffer;
+
+/**
+ * Off-heap storage of a single Series, split in chunks of {@link #CHUNK_SIZE} elements, each backed by a direct
+ * buffer. Chunking allows the Series to exceed the 2GB limit of a single buffer. Shared between a Series and its
+ * ranges, and detached from all of them when the owning {@link OffHeapArena} is closed. Detaching doesn't free the
+ * buffers, it only makes them unreachable through this object.
+ *
+ * @since 2.0.0
+ */
+final class OffHeapChunks<B extends Buffer> {
+
+    static final int SHIFT = 27;
+    static final int CHUNK_SIZE = 1 << SHIFT;
+    static final int MASK = CHUNK_SIZE - 1;
+
+    private final OffHeapArena arena;
+    // volatile, as the arena may be closed by a thread other than the one reading the Series
+    private volatile B[] chunks;
+
+    OffHeapChunks(OffHeapArena arena, B[] chunks) {
+        this.arena = arena;
+        this.chunks = chunks;
+    }
+
+    boolean ownedBy(OffHeapArena arena) {
+        return this.arena == arena;
+    }
+
+    B[] get() {
+        B[] chunks = this.chunks;
+        if (chunks == null) {
+            throw new IllegalStateException("Off-heap arena is closed, the Series data is no longer available");
+        }
+
+        return chunks;
+    }
+
+    void release() {
+        this.chunks = null;
+    }
+}
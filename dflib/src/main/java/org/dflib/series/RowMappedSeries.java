@@ -6,10 +6,15 @@ import org.dflib.RowToValueMapper;
 import org.dflib.builder.ValueCompactor;
 import org.dflib.row.RowProxy;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 public class RowMappedSeries<T> extends ObjectSeries<T> {
 
+    private static final AtomicReferenceFieldUpdater<RowMappedSeries, Series> MATERIALIZED =
+            AtomicReferenceFieldUpdater.newUpdater(RowMappedSeries.class, Series.class, "materialized");
+
     private volatile DataFrame source;
-    private RowToValueMapper<T> mapper;
+    private volatile RowToValueMapper<T> mapper;
     private volatile Series<T> materialized;
     private volatile boolean materializedCompacted;
 
@@ -21,6 +26,7 @@ public class RowMappedSeries<T> extends ObjectSeries<T> {
 
     @Override
     public int size() {
+        DataFrame source = this.source;
         return source != null ? source.height() : materialize().size();
     }
 
@@ -36,39 +42,59 @@ public class RowMappedSeries<T> extends ObjectSeries<T> {
 
     @Override
     public Series<T> compact() {
-        if (!materializedCompacted) {
-            synchronized (this) {
-                if (!materializedCompacted) {
 
-                    Series<T> compact = materialized != null ? materialized.compact() : doCompact();
+        if (materializedCompacted) {
+            return materialized;
+        }
+
+        // not locking, so concurrent callers may each compact the Series. The results are equivalent, so it doesn't
+        // matter which one ends up being stored
+        Series<T> materialized = this.materialized;
+        Series<T> compact = materialized != null ? materialized.compact() : doCompact();
 
-                    materializedCompacted = true;
-                    this.materialized = compact;
+        this.materialized = compact;
+        this.materializedCompacted = true;
 
-                    // reset source reference, allowing to free up memory
-                    source = null;
-                }
-            }
-        }
+        resetSource();
 
-        return materialized;
+        return compact;
     }
 
     @Override
     public Series<T> materialize() {
-        if (materialized == null) {
-            synchronized (this) {
-                if (materialized == null) {
-                    materialized = doMaterialize();
-                }
-            }
+
+        Series<T> materialized = this.materialized;
+        if (materialized != null) {
+            return materialized;
         }
 
-        return materialized;
+        // not locking, so concurrent callers may each resolve the Series, but only the first result is published
+        Series<T> resolved = doMaterialize();
+        if (MATERIALIZED.compareAndSet(this, null, resolved)) {
+            resetSource();
+            return resolved;
+        }
+
+        return this.materialized;
     }
 
     protected Series<T> doCompact() {
 
+        // the source and the mapper are reset after the result is published, so if either one is missing, the result
+        // is already available
+        DataFrame source = this.source;
+        RowToValueMapper<T> mapper = this.mapper;
+        return source != null && mapper != null ? compactRows(source, mapper) : materialized.compact();
+    }
+
+    protected Series<T> doMaterialize() {
+        DataFrame source = this.source;
+        RowToValueMapper<T> mapper = this.mapper;
+        return source != null && mapper != null ? mapRows(source, mapper) : materialized;
+    }
+
+    private Series<T> compactRows(DataFrame source, RowToValueMapper<T> mapper) {
+
         ValueCompactor<T> compactor = new ValueCompactor<>();
         Object[] data = new Object[source.height()];
 
@@ -77,14 +103,10 @@ public class RowMappedSeries<T> extends ObjectSeries<T> {
             data[i++] = compactor.get(mapper.map(row));
         }
 
-        // reset source reference, allowing to free up memory..
-        source = null;
-        mapper = null;
-
         return new ArraySeries(data);
     }
 
-    protected Series<T> doMaterialize() {
+    private Series<T> mapRows(DataFrame source, RowToValueMapper<T> mapper) {
         Object[] data = new Object[source.height()];
 
         int i = 0;
@@ -92,11 +114,13 @@ public class RowMappedSeries<T> extends ObjectSeries<T> {
             data[i++] = mapper.map(row);
         }
 
+        return new ArraySeries(data);
+    }
+
+    private void resetSource() {
         // reset source reference, allowing to free up memory..
         source = null;
         mapper = null;
-
-        return new ArraySeries(data);
     }
 
     @Override
@@ -25,4 +25,38 @@ class ValueCounts {
                 )
                 .sort(1, false);
     }
+
+    /**
+     * Counts dictionary codes instead of grouping the values. Produces the same result as
+     * {@link #valueCountsMaybeNulls(Series)}.
+     *
+     * @since 2.0.0
+     */
+    public static DataFrame valueCountsDictionary(DictionarySeries<?> series) {
+
+        int len = series.size();
+        int[] codeCounts = new int[series.getDictionarySize()];
+
+        // codes in the order of their first appearance
+        int[] codes = new int[codeCounts.length];
+        int found = 0;
+
+        for (int i = 0; i < len; i++) {
+            int c = series.getCode(i);
+            if (c >= 0 && codeCounts[c]++ == 0) {
+                codes[found++] = c;
+            }
+        }
+
+        Object[] values = new Object[found];
+        int[] counts = new int[found];
+        for (int i = 0; i < found; i++) {
+            values[i] = series.getDictionaryValue(codes[i]);
+            counts[i] = codeCounts[codes[i]];
+        }
+
+        return DataFrame.byColumn("value", "count")
+                .of(new ArraySeries<>(values), Series.ofInt(counts))
+                .sort(1, false);
+    }
 }
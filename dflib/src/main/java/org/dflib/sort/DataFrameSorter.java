@@ -34,7 +34,7 @@ public class DataFrameSorter {
     }
 
     private static IntSeries doSort(IntComparator comparator, int[] mutableIndex) {
-        IntTimSort.sort(mutableIndex, comparator);
+        IndexSorter.sort(mutableIndex, comparator);
         return new IntArraySeries(mutableIndex);
     }
 
@@ -20,6 +20,14 @@ public class ExpSorter implements Sorter {
         this.ascending = ascending;
     }
 
+    Exp<?> getExp() {
+        return exp;
+    }
+
+    boolean isAscending() {
+        return ascending;
+    }
+
     @Override
     public IntComparator eval(DataFrame df) {
         Series<?> column = exp.eval(df);
@@ -0,0 +1,399 @@
+package org.dflib.sort;
+
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.MemoryBudget;
+import org.dflib.Series;
+import org.dflib.Sorter;
+import org.dflib.dfb.SpillFiles;
+import org.dflib.series.IntArraySeries;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * An external merge sort of the data that doesn't fit in the heap. The data is added as a sequence of DataFrame chunks
+ * with the same columns (e.g., from a chunked JDBC loader). The chunks are buffered until they reach half of the
+ * {@link MemoryBudget}, and then the buffer is sorted in memory and written to disk as a sorted "run" made of
+ * fixed-size DFB blocks. When all the data is added, the runs are merged with a streaming k-way merge, that only keeps
+ * one block per run on heap, and passes the sorted rows to a consumer in chunks. If there are too many runs to merge
+ * them at once within the budget, they are merged in multiple passes. If all the data fits in the budget, it is sorted
+ * in memory without spilling.
+ *
+ * <p>The result is the same as that of {@link DataFrame#sort(Sorter...)} called on the whole data, including the order
+ * of the rows with equal sort keys. The sorters must be the expression sorters (e.g. <code>$int("a").asc()</code>),
+ * as their keys are compared across the blocks of different runs. Columns must be of the types supported by the
+ * {@link org.dflib.dfb.Dfb} format. A sorter instance can only be used for a single sort.</p>
+ *
+ * <pre>
+ * try (ExternalSorter sorter = new ExternalSorter(MemoryBudget.of(4_000_000_000L), $int("a").asc())) {
+ *     loader.loadChunks(100_000, sorter::add);
+ *     sorter.sort(100_000, df -> saver.save(df));
+ * }
+ * </pre>
+ *
+ * @since 2.0.0
+ */
+public class ExternalSorter implements AutoCloseable {
+
+    // the max number of runs merged at once. Half of the budget is split between the blocks of the runs being merged
+    static final int FAN_IN = 16;
+
+    private final MemoryBudget budget;
+    private final Sorter[] sorters;
+    private final ExpSorter[] keys;
+    private final SpillFiles files;
+
+    private final List<DataFrame> buffer;
+    private long bufferBytes;
+    private Index columns;
+
+    private final List<Deque<Path>> runs;
+    private int blockRows;
+    private boolean sorted;
+
+    public ExternalSorter(MemoryBudget budget, Sorter... sorters) {
+
+        if (sorters.length == 0) {
+            throw new IllegalArgumentException("No sorters provided");
+        }
+
+        this.budget = Objects.requireNonNull(budget, "Null 'budget'");
+        this.sorters = sorters;
+        this.keys = new ExpSorter[sorters.length];
+
+        for (int i = 0; i < sorters.length; i++) {
+            if (!(sorters[i] instanceof ExpSorter es)) {
+                throw new IllegalArgumentException("External sort only supports the expression sorters, got: " + sorters[i]);
+            }
+
+            keys[i] = es;
+        }
+
+        this.files = new SpillFiles(budget.getTempDir());
+        this.buffer = new ArrayList<>();
+        this.runs = new ArrayList<>();
+    }
+
+    /**
+     * Adds a chunk of data to sort. The chunk may be spilled to disk together with the previously added chunks, if
+     * their total size exceeds the budget.
+     *
+     * @return this sorter instance
+     */
+    public ExternalSorter add(DataFrame chunk) {
+
+        if (sorted) {
+            throw new IllegalStateException("The data is already sorted");
+        }
+
+        if (columns == null) {
+            columns = chunk.getColumnsIndex();
+        } else if (!columns.equals(chunk.getColumnsIndex())) {
+            throw new IllegalArgumentException("Chunk columns " + chunk.getColumnsIndex()
+                    + " do not match the columns of the previous chunks: " + columns);
+        }
+
+        if (chunk.height() == 0) {
+            return this;
+        }
+
+        buffer.add(chunk);
+        bufferBytes += budget.estimateSize(chunk);
+
+        // the other half of the budget is reserved for the sorted copy of the buffer
+        if (bufferBytes >= budget.getBytes() / 2) {
+            spillRun();
+        }
+
+        return this;
+    }
+
+    /**
+     * Sorts all the added data, passing it to the consumer in chunks of at most the specified number of rows. Deletes
+     * all the spill files when done.
+     */
+    public void sort(int chunkSize, Consumer<DataFrame> consumer) {
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        if (sorted) {
+            throw new IllegalStateException("The data is already sorted");
+        }
+
+        sorted = true;
+
+        try {
+            if (runs.isEmpty()) {
+                sortInMemory(chunkSize, consumer);
+                return;
+            }
+
+            if (!buffer.isEmpty()) {
+                spillRun();
+            }
+
+            List<Deque<Path>> toMerge = new ArrayList<>(runs);
+            runs.clear();
+
+            while (toMerge.size() > FAN_IN) {
+                toMerge = mergePass(toMerge);
+            }
+
+            merge(toMerge, chunkSize, consumer);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Deletes the spill files that are still on disk. Should be called if the sorter is abandoned before
+     * {@link #sort(int, Consumer)} is called.
+     */
+    @Override
+    public void close() {
+        buffer.clear();
+        runs.clear();
+        files.close();
+    }
+
+    private void sortInMemory(int chunkSize, Consumer<DataFrame> consumer) {
+
+        DataFrame df = DataFrame.union(buffer);
+        buffer.clear();
+
+        int h = df.height();
+        if (h == 0) {
+            return;
+        }
+
+        DataFrame sorted = df.rows(IntComparator.of(df, sorters).sortIndex(h)).select();
+        for (int i = 0; i < h; i += chunkSize) {
+            consumer.accept(sorted.rowsRange(i, Math.min(h, i + chunkSize)).select());
+        }
+    }
+
+    private void spillRun() {
+
+        DataFrame df = DataFrame.union(buffer);
+        buffer.clear();
+        bufferBytes = 0;
+
+        int h = df.height();
+
+        if (runs.isEmpty()) {
+            budget.checkSpillable(df);
+
+            // the size of the run blocks, so that FAN_IN blocks take about half of the budget
+            long rowBytes = Math.max(1L, budget.estimateSize(df) / h);
+            blockRows = (int) Math.max(1L, Math.min(Integer.MAX_VALUE, budget.getBytes() / 2 / FAN_IN / rowBytes));
+        }
+
+        IntSeries index = IntComparator.of(df, sorters).sortIndex(h);
+
+        Deque<Path> run = new ArrayDeque<>();
+        for (int i = 0; i < h; i += blockRows) {
+            IntSeries blockIndex = index.rangeInt(i, Math.min(h, i + blockRows));
+            run.add(files.write(df.rows(blockIndex).select()));
+        }
+
+        runs.add(run);
+    }
+
+    // merges the runs in groups of FAN_IN, producing fewer longer runs. Merging the adjacent runs preserves the order
+    // of the rows with equal keys
+    private List<Deque<Path>> mergePass(List<Deque<Path>> runs) {
+
+        int len = runs.size();
+        List<Deque<Path>> merged = new ArrayList<>((len + FAN_IN - 1) / FAN_IN);
+
+        for (int i = 0; i < len; i += FAN_IN) {
+            Deque<Path> run = new ArrayDeque<>();
+            merge(runs.subList(i, Math.min(len, i + FAN_IN)), blockRows, b -> run.add(files.write(b)));
+            merged.add(run);
+        }
+
+        return merged;
+    }
+
+    private void merge(List<Deque<Path>> runs, int chunkSize, Consumer<DataFrame> consumer) {
+
+        PriorityQueue<RunCursor> queue = new PriorityQueue<>(runs.size(), this::compare);
+
+        int len = runs.size();
+        for (int i = 0; i < len; i++) {
+            RunCursor cursor = new RunCursor(i, runs.get(i));
+            if (cursor.nextBlock()) {
+                queue.add(cursor);
+            }
+        }
+
+        MergeOutput out = new MergeOutput(chunkSize, consumer);
+        while (!queue.isEmpty()) {
+            RunCursor c = queue.poll();
+
+            // keep taking the rows from the same run while they are ahead of the other runs, bypassing the queue
+            RunCursor next = queue.peek();
+            do {
+                out.add(c.block, c.pos);
+            } while (c.next() && (next == null || compare(c, next) < 0));
+
+            if (c.hasRow()) {
+                queue.add(c);
+            }
+        }
+
+        out.flush();
+    }
+
+    private int compare(RunCursor c1, RunCursor c2) {
+
+        int w = keys.length;
+        for (int i = 0; i < w; i++) {
+            int res = keys[i].isAscending()
+                    ? compare(c1.keys[i], c1.pos, c2.keys[i], c2.pos)
+                    : compare(c2.keys[i], c2.pos, c1.keys[i], c1.pos);
+
+            if (res != 0) {
+                return res;
+            }
+        }
+
+        // rows with equal keys are taken from the earlier runs first, same as a stable in-memory sort would do
+        return Integer.compare(c1.run, c2.run);
+    }
+
+    // compares the values of two Series the same way IntComparator does, but across different Series
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compare(Series<?> s1, int i1, Series<?> s2, int i2) {
+
+        if (s1 instanceof IntSeries is1 && s2 instanceof IntSeries is2) {
+            return Integer.compare(is1.getInt(i1), is2.getInt(i2));
+        } else if (s1 instanceof LongSeries ls1 && s2 instanceof LongSeries ls2) {
+            return Long.compare(ls1.getLong(i1), ls2.getLong(i2));
+        } else if (s1 instanceof DoubleSeries ds1 && s2 instanceof DoubleSeries ds2) {
+            return Double.compare(ds1.getDouble(i1), ds2.getDouble(i2));
+        }
+
+        return IntComparators.nullsLastCompare((Comparable) s1.get(i1), (Comparable) s2.get(i2));
+    }
+
+    // a position in a run being merged, with the current block of the run loaded on heap
+    private class RunCursor {
+
+        final int run;
+        final Deque<Path> blocks;
+
+        DataFrame block;
+        Series<?>[] keys;
+        int pos;
+        int size;
+
+        RunCursor(int run, Deque<Path> blocks) {
+            this.run = run;
+            this.blocks = blocks;
+        }
+
+        boolean hasRow() {
+            return pos < size;
+        }
+
+        boolean next() {
+            return ++pos < size || nextBlock();
+        }
+
+        boolean nextBlock() {
+
+            Path file = blocks.poll();
+            if (file == null) {
+                block = null;
+                keys = null;
+                pos = size = 0;
+                return false;
+            }
+
+            block = files.read(file);
+            pos = 0;
+            size = block.height();
+
+            int w = ExternalSorter.this.keys.length;
+            keys = new Series[w];
+            for (int i = 0; i < w; i++) {
+                keys[i] = ExternalSorter.this.keys[i].getExp().eval(block);
+            }
+
+            return size > 0 || nextBlock();
+        }
+    }
+
+    // collects the merged rows as positions in the blocks they came from, and builds the output chunks from the blocks
+    // in one columnar "select", instead of copying the rows one by one
+    private static class MergeOutput {
+
+        final int chunkSize;
+        final Consumer<DataFrame> consumer;
+
+        final List<DataFrame> blocks;
+        final Map<DataFrame, Integer> offsets;
+        int[] positions;
+        int height;
+        int size;
+
+        MergeOutput(int chunkSize, Consumer<DataFrame> consumer) {
+            this.chunkSize = chunkSize;
+            this.consumer = consumer;
+            this.blocks = new ArrayList<>();
+            this.offsets = new IdentityHashMap<>();
+            this.positions = new int[Math.min(chunkSize, 1024)];
+        }
+
+        void add(DataFrame block, int pos) {
+
+            Integer offset = offsets.get(block);
+            if (offset == null) {
+                offset = height;
+                offsets.put(block, offset);
+                blocks.add(block);
+                height += block.height();
+            }
+
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, (int) Math.min(chunkSize, positions.length * 2L));
+            }
+
+            positions[size++] = offset + pos;
+            if (size == chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+
+            if (size == 0) {
+                return;
+            }
+
+            int[] index = Arrays.copyOf(positions, size);
+            consumer.accept(DataFrame.union(blocks).rows(new IntArraySeries(index)).select());
+
+            blocks.clear();
+            offsets.clear();
+            height = 0;
+            size = 0;
+        }
+    }
+}
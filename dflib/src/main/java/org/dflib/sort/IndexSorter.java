@@ -0,0 +1,340 @@
+package org.dflib.sort;
+
+import org.dflib.Environment;
+import org.dflib.IntSeries;
+import org.dflib.series.IntArraySeries;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Sorts arrays of row positions with an {@link IntComparator}, picking the algorithm based on the comparator and the
+ * array size. Comparators over primitive numeric Series are sorted with an LSD radix sort on their keys. Other
+ * comparators are sorted with {@link IntTimSort}, that is split into chunks sorted in parallel on the
+ * {@link Environment} thread pool for large arrays. All algorithms are stable, so the results are the same regardless
+ * of the algorithm chosen. Also provides a "top k" selection that avoids sorting the whole index.
+ *
+ * @since 2.0.0
+ */
+public class IndexSorter {
+
+    // below this size, radix sort passes over the bucket tables cost more than the comparisons
+    static final int MIN_RADIX_SORT_SIZE = 1 << 10;
+
+    // a minimal number of elements per parallel sort chunk, same as the granularity of "Arrays.parallelSort"
+    static final int MIN_PARALLEL_SORT_CHUNK = 1 << 13;
+
+    private static final int RADIX_BUCKETS = 256;
+
+    /**
+     * Sorts the array of row positions in place.
+     */
+    public static void sort(int[] mutableIndex, IntComparator comparator) {
+
+        int len = mutableIndex.length;
+        if (len < 2) {
+            return;
+        }
+
+        RadixKeyComparator[] keys = MultiKeyComparator.keys(comparator);
+        if (keys != null && len >= MIN_RADIX_SORT_SIZE) {
+            radixSort(mutableIndex, keys);
+            return;
+        }
+
+        int chunks = parallelChunks(len);
+        if (chunks > 1) {
+            parallelSort(mutableIndex, comparator, chunks);
+            return;
+        }
+
+        IntTimSort.sort(mutableIndex, comparator);
+    }
+
+    /**
+     * Returns the first "k" positions of the index in the comparator order. The result is the same as sorting the
+     * index and taking its "head(k)", but for a small "k", instead of sorting the whole index, the best "k" elements
+     * are selected with a bounded heap, which is O(n * log(k)). Large indices are split into chunks, whose candidates
+     * are selected in parallel on the {@link Environment} thread pool.
+     */
+    public static IntSeries top(IntSeries index, int k, IntComparator comparator) {
+
+        int len = index.size();
+
+        // for a negative "k" (that follows the "head" semantics), or when selecting a large part of the index, there's
+        // no benefit in the heap selection compared to a full sort
+        if (k < 0 || (long) k * 4 >= len) {
+            int[] sorted = index.toIntArray();
+            sort(sorted, comparator);
+            return new IntArraySeries(sorted).head(k);
+        }
+
+        if (k == 0) {
+            return new IntArraySeries();
+        }
+
+        // compares positions within the index, with ties resolved by the position itself, so the selection is stable
+        IntComparator order = (o1, o2) -> {
+            int c = comparator.compare(index.getInt(o1), index.getInt(o2));
+            return c != 0 ? c : Integer.compare(o1, o2);
+        };
+
+        int chunks = parallelChunks(len);
+        int[] candidates = chunks > 1
+                ? parallelSelectTop(len, k, order, chunks)
+                : selectTop(0, len, k, order);
+
+        IntTimSort.sort(candidates, order);
+
+        int[] top = new int[k];
+        for (int i = 0; i < k; i++) {
+            top[i] = index.getInt(candidates[i]);
+        }
+
+        return new IntArraySeries(top);
+    }
+
+    private static int parallelChunks(int len) {
+
+        Environment env = Environment.commonEnv();
+        if (len < env.parallelExecThreshold()) {
+            return 1;
+        }
+
+        return Math.min(env.threadPoolParallelism(), len / MIN_PARALLEL_SORT_CHUNK);
+    }
+
+    /**
+     * A stable LSD radix sort of the index by each of the keys, starting with the least significant key, one byte
+     * per pass. Passes where all the keys have the same byte value are skipped, which makes sorting by the
+     * values of a narrow range (e.g., timestamps) cheaper.
+     */
+    static void radixSort(int[] index, RadixKeyComparator[] keys) {
+
+        int len = index.length;
+
+        int[] src = index;
+        int[] dst = new int[len];
+        long[] srcKeys = new long[len];
+        long[] dstKeys = new long[len];
+        int[] offsets = new int[RADIX_BUCKETS];
+
+        for (int k = keys.length - 1; k >= 0; k--) {
+
+            RadixKeyComparator key = keys[k];
+            for (int i = 0; i < len; i++) {
+                srcKeys[i] = key.radixKey(src[i]);
+            }
+
+            int bytes = key.keyBytes();
+            for (int b = 0; b < bytes; b++) {
+
+                int shift = b * 8;
+
+                Arrays.fill(offsets, 0);
+                for (int i = 0; i < len; i++) {
+                    offsets[(int) (srcKeys[i] >>> shift) & 0xFF]++;
+                }
+
+                if (offsets[(int) (srcKeys[0] >>> shift) & 0xFF] == len) {
+                    continue;
+                }
+
+                // turn bucket counts into bucket start offsets
+                int offset = 0;
+                for (int d = 0; d < RADIX_BUCKETS; d++) {
+                    int count = offsets[d];
+                    offsets[d] = offset;
+                    offset += count;
+                }
+
+                for (int i = 0; i < len; i++) {
+                    int pos = offsets[(int) (srcKeys[i] >>> shift) & 0xFF]++;
+                    dst[pos] = src[i];
+                    dstKeys[pos] = srcKeys[i];
+                }
+
+                int[] swap = src;
+                src = dst;
+                dst = swap;
+
+                long[] swapKeys = srcKeys;
+                srcKeys = dstKeys;
+                dstKeys = swapKeys;
+            }
+        }
+
+        if (src != index) {
+            System.arraycopy(src, 0, index, 0, len);
+        }
+    }
+
+    /**
+     * A stable parallel merge sort. Sorts the array chunks in parallel, and then merges adjacent runs pairwise in
+     * parallel until a single run is left.
+     */
+    static void parallelSort(int[] index, IntComparator comparator, int chunks) {
+
+        int len = index.length;
+        ExecutorService pool = Environment.commonEnv().threadPool();
+
+        int[] bounds = new int[chunks + 1];
+        for (int i = 0; i <= chunks; i++) {
+            bounds[i] = (int) ((long) len * i / chunks);
+        }
+
+        Future<?>[] tasks = new Future[chunks];
+        for (int i = 0; i < chunks; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            tasks[i] = pool.submit(() -> IntTimSort.sort(index, from, to, comparator));
+        }
+
+        waitFor(tasks);
+
+        int[] src = index;
+        int[] dst = new int[len];
+        int runs = chunks;
+
+        while (runs > 1) {
+
+            int merged = (runs + 1) / 2;
+            int[] mergedBounds = new int[merged + 1];
+            Future<?>[] mergeTasks = new Future[merged];
+
+            int[] from = src;
+            int[] to = dst;
+            for (int r = 0, m = 0; r < runs; r += 2, m++) {
+                int lo = bounds[r];
+                int mid = bounds[r + 1];
+                int hi = r + 2 <= runs ? bounds[r + 2] : mid;
+
+                mergedBounds[m] = lo;
+                mergeTasks[m] = pool.submit(() -> merge(from, to, lo, mid, hi, comparator));
+            }
+
+            mergedBounds[merged] = len;
+            waitFor(mergeTasks);
+
+            src = to;
+            dst = from;
+            bounds = mergedBounds;
+            runs = merged;
+        }
+
+        if (src != index) {
+            System.arraycopy(src, 0, index, 0, len);
+        }
+    }
+
+    private static int[] parallelSelectTop(int len, int k, IntComparator order, int chunks) {
+
+        ExecutorService pool = Environment.commonEnv().threadPool();
+
+        Future<int[]>[] tasks = new Future[chunks];
+        for (int i = 0; i < chunks; i++) {
+            int from = (int) ((long) len * i / chunks);
+            int to = (int) ((long) len * (i + 1) / chunks);
+            tasks[i] = pool.submit(() -> selectTop(from, to, k, order));
+        }
+
+        int[][] chunkCandidates = new int[chunks][];
+        int size = 0;
+        for (int i = 0; i < chunks; i++) {
+            chunkCandidates[i] = get(tasks[i]);
+            size += chunkCandidates[i].length;
+        }
+
+        int[] candidates = new int[size];
+        for (int i = 0, offset = 0; i < chunks; i++) {
+            System.arraycopy(chunkCandidates[i], 0, candidates, offset, chunkCandidates[i].length);
+            offset += chunkCandidates[i].length;
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Selects the best "k" positions between "from" and "to" in no particular order, keeping them in a max-heap with
+     * the worst of the selected positions at the root.
+     */
+    private static int[] selectTop(int from, int to, int k, IntComparator order) {
+
+        int[] heap = new int[Math.min(k, to - from)];
+        int size = 0;
+
+        for (int i = from; i < to; i++) {
+            if (size < heap.length) {
+                siftUp(heap, size++, i, order);
+            } else if (order.compare(i, heap[0]) < 0) {
+                siftDown(heap, size, i, order);
+            }
+        }
+
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int pos, int x, IntComparator order) {
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (order.compare(x, heap[parent]) <= 0) {
+                break;
+            }
+
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+
+        heap[pos] = x;
+    }
+
+    // replaces the root with "x"
+    private static void siftDown(int[] heap, int size, int x, IntComparator order) {
+        int pos = 0;
+        int child;
+        while ((child = 2 * pos + 1) < size) {
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+
+            if (order.compare(x, heap[child]) >= 0) {
+                break;
+            }
+
+            heap[pos] = heap[child];
+            pos = child;
+        }
+
+        heap[pos] = x;
+    }
+
+    private static void merge(int[] src, int[] dst, int lo, int mid, int hi, IntComparator comparator) {
+
+        int i = lo;
+        int j = mid;
+        int k = lo;
+
+        // taking from the left run on ties keeps the sort stable
+        while (i < mid && j < hi) {
+            dst[k++] = comparator.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+        }
+
+        System.arraycopy(src, i, dst, k, mid - i);
+        System.arraycopy(src, j, dst, k + mid - i, hi - j);
+    }
+
+    private static void waitFor(Future<?>[] tasks) {
+        for (Future<?> t : tasks) {
+            get(t);
+        }
+    }
+
+    private static <T> T get(Future<T> task) {
+        try {
+            return task.get();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
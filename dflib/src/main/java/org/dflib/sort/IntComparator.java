@@ -9,6 +9,7 @@ import org.dflib.LongSeries;
 import org.dflib.Series;
 import org.dflib.Sorter;
 import org.dflib.series.IntArraySeries;
+import org.dflib.series.IntSequenceSeries;
 
 import java.util.Comparator;
 import java.util.Objects;
@@ -101,36 +102,28 @@ public interface IntComparator {
      * @since 2.0.0
      */
     static IntComparator of(IntSeries s, boolean ascending) {
-        return ascending
-                ? (i1, i2) -> Integer.compare(s.getInt(i1), s.getInt(i2))
-                : (i1, i2) -> Integer.compare(s.getInt(i2), s.getInt(i1));
+        return new RadixKeyComparator.IntKey(s, ascending);
     }
 
     /**
      * @since 2.0.0
      */
     static IntComparator of(LongSeries s, boolean ascending) {
-        return ascending
-                ? (i1, i2) -> Long.compare(s.getLong(i1), s.getLong(i2))
-                : (i1, i2) -> Long.compare(s.getLong(i2), s.getLong(i1));
+        return new RadixKeyComparator.LongKey(s, ascending);
     }
 
     /**
      * @since 2.0.0
      */
     static IntComparator of(FloatSeries s, boolean ascending) {
-        return ascending
-                ? (i1, i2) -> Float.compare(s.getFloat(i1), s.getFloat(i2))
-                : (i1, i2) -> Float.compare(s.getFloat(i2), s.getFloat(i1));
+        return new RadixKeyComparator.FloatKey(s, ascending);
     }
 
     /**
      * @since 2.0.0
      */
     static IntComparator of(DoubleSeries s, boolean ascending) {
-        return ascending
-                ? (i1, i2) -> Double.compare(s.getDouble(i1), s.getDouble(i2))
-                : (i1, i2) -> Double.compare(s.getDouble(i2), s.getDouble(i1));
+        return new RadixKeyComparator.DoubleKey(s, ascending);
     }
 
     /**
@@ -177,10 +170,20 @@ public interface IntComparator {
      */
     default IntSeries sortIndex(int size) {
         int[] mutableIndex = IntComparators.sequence(size);
-        IntTimSort.sort(mutableIndex, this);
+        IndexSorter.sort(mutableIndex, this);
         return new IntArraySeries(mutableIndex);
     }
 
+    /**
+     * Returns the first "k" positions in the order of this comparator. Produces the same result as
+     * "sortIndex(size).head(k)", but without sorting all the positions.
+     *
+     * @since 2.0.0
+     */
+    default IntSeries topIndex(int size, int k) {
+        return IndexSorter.top(new IntSequenceSeries(0, size), k, this);
+    }
+
     int compare(int i1, int i2);
 
     default IntComparator thenComparing(IntComparator other) {
@@ -0,0 +1,71 @@
+package org.dflib.sort;
+
+import java.util.Objects;
+
+/**
+ * A comparator that compares by multiple radix-sortable keys, so that {@link IndexSorter} can sort with it by
+ * running a radix sort for each key, starting with the least significant one.
+ *
+ * @since 2.0.0
+ */
+class MultiKeyComparator implements IntComparator {
+
+    private final RadixKeyComparator[] keys;
+
+    static IntComparator of(IntComparator first, IntComparator second) {
+        Objects.requireNonNull(second);
+
+        RadixKeyComparator[] firstKeys = keys(first);
+        RadixKeyComparator[] secondKeys = keys(second);
+
+        if (firstKeys == null || secondKeys == null) {
+            return (i1, i2) -> {
+                int res = first.compare(i1, i2);
+                return res != 0 ? res : second.compare(i1, i2);
+            };
+        }
+
+        RadixKeyComparator[] keys = new RadixKeyComparator[firstKeys.length + secondKeys.length];
+        System.arraycopy(firstKeys, 0, keys, 0, firstKeys.length);
+        System.arraycopy(secondKeys, 0, keys, firstKeys.length, secondKeys.length);
+        return new MultiKeyComparator(keys);
+    }
+
+    /**
+     * Returns radix-sortable keys of the comparator, from the most significant to the least significant, or null
+     * if the comparator can't be sorted with a radix sort.
+     */
+    static RadixKeyComparator[] keys(IntComparator comparator) {
+
+        if (comparator instanceof RadixKeyComparator rc) {
+            return new RadixKeyComparator[]{rc};
+        }
+
+        if (comparator instanceof MultiKeyComparator mc) {
+            return mc.keys;
+        }
+
+        return null;
+    }
+
+    private MultiKeyComparator(RadixKeyComparator[] keys) {
+        this.keys = keys;
+    }
+
+    @Override
+    public int compare(int i1, int i2) {
+        for (RadixKeyComparator key : keys) {
+            int res = key.compare(i1, i2);
+            if (res != 0) {
+                return res;
+            }
+        }
+
+        return 0;
+    }
+
+    @Override
+    public IntComparator thenComparing(IntComparator other) {
+        return of(this, other);
+    }
+}
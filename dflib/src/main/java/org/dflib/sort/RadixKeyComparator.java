@@ -0,0 +1,159 @@
+package org.dflib.sort;
+
+import org.dflib.DoubleSeries;
+import org.dflib.FloatSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+
+/**
+ * A comparator over a primitive numeric Series that can convert each value to an unsigned integer key with the same
+ * ordering as the comparator. This allows {@link IndexSorter} to sort by such comparators with a radix sort instead of
+ * a comparison sort.
+ *
+ * @since 2.0.0
+ */
+abstract class RadixKeyComparator implements IntComparator {
+
+    protected final boolean ascending;
+
+    protected RadixKeyComparator(boolean ascending) {
+        this.ascending = ascending;
+    }
+
+    /**
+     * Returns the number of low-order bytes in the keys produced by this comparator.
+     */
+    abstract int keyBytes();
+
+    /**
+     * Returns an unsigned key of the value at the specified position, whose order is the same as the order of this
+     * comparator.
+     */
+    abstract long radixKey(int i);
+
+    @Override
+    public IntComparator thenComparing(IntComparator other) {
+        return MultiKeyComparator.of(this, other);
+    }
+
+    static class IntKey extends RadixKeyComparator {
+
+        private final IntSeries s;
+
+        IntKey(IntSeries s, boolean ascending) {
+            super(ascending);
+            this.s = s;
+        }
+
+        @Override
+        public int compare(int i1, int i2) {
+            return ascending
+                    ? Integer.compare(s.getInt(i1), s.getInt(i2))
+                    : Integer.compare(s.getInt(i2), s.getInt(i1));
+        }
+
+        @Override
+        int keyBytes() {
+            return 4;
+        }
+
+        @Override
+        long radixKey(int i) {
+
+            // flipping the sign bit turns a signed order into an unsigned order
+            int key = s.getInt(i) ^ Integer.MIN_VALUE;
+            return (ascending ? key : ~key) & 0xFFFFFFFFL;
+        }
+    }
+
+    static class LongKey extends RadixKeyComparator {
+
+        private final LongSeries s;
+
+        LongKey(LongSeries s, boolean ascending) {
+            super(ascending);
+            this.s = s;
+        }
+
+        @Override
+        public int compare(int i1, int i2) {
+            return ascending
+                    ? Long.compare(s.getLong(i1), s.getLong(i2))
+                    : Long.compare(s.getLong(i2), s.getLong(i1));
+        }
+
+        @Override
+        int keyBytes() {
+            return 8;
+        }
+
+        @Override
+        long radixKey(int i) {
+            long key = s.getLong(i) ^ Long.MIN_VALUE;
+            return ascending ? key : ~key;
+        }
+    }
+
+    static class FloatKey extends RadixKeyComparator {
+
+        private final FloatSeries s;
+
+        FloatKey(FloatSeries s, boolean ascending) {
+            super(ascending);
+            this.s = s;
+        }
+
+        @Override
+        public int compare(int i1, int i2) {
+            return ascending
+                    ? Float.compare(s.getFloat(i1), s.getFloat(i2))
+                    : Float.compare(s.getFloat(i2), s.getFloat(i1));
+        }
+
+        @Override
+        int keyBytes() {
+            return 4;
+        }
+
+        @Override
+        long radixKey(int i) {
+
+            // "floatToIntBits" order is the same as "Float.compare" order for positive numbers. Negative numbers are
+            // flipped entirely, and positive numbers get their sign bit set, so that the unsigned key order matches
+            int bits = Float.floatToIntBits(s.getFloat(i));
+            int key = bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+            return (ascending ? key : ~key) & 0xFFFFFFFFL;
+        }
+    }
+
+    static class DoubleKey extends RadixKeyComparator {
+
+        private final DoubleSeries s;
+
+        DoubleKey(DoubleSeries s, boolean ascending) {
+            super(ascending);
+            this.s = s;
+        }
+
+        @Override
+        public int compare(int i1, int i2) {
+            return ascending
+                    ? Double.compare(s.getDouble(i1), s.getDouble(i2))
+                    : Double.compare(s.getDouble(i2), s.getDouble(i1));
+        }
+
+        @Override
+        int keyBytes() {
+            return 8;
+        }
+
+        @Override
+        long radixKey(int i) {
+
+            // same as with floats, see above
+            long bits = Double.doubleToLongBits(s.getDouble(i));
+            long key = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+            return ascending ? key : ~key;
+        }
+    }
+}
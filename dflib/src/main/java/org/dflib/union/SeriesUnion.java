@@ -7,6 +7,7 @@ import org.dflib.IntSeries;
 import org.dflib.LongSeries;
 import org.dflib.Series;
 import org.dflib.series.ArraySeries;
+import org.dflib.series.DictionarySeries;
 
 /**
  * @since 2.0.0
@@ -123,6 +124,11 @@ public class SeriesUnion {
             }
             case NONE -> {
 
+                DictionarySeries<T>[] dictionarySeries = asDictionarySeries(series);
+                if (dictionarySeries != null && DictionarySeries.canUnion(dictionarySeries)) {
+                    yield DictionarySeries.union(dictionarySeries);
+                }
+
                 T[] data = (T[]) new Object[unionHeight];
 
                 int offset = 0;
@@ -137,6 +143,22 @@ public class SeriesUnion {
         };
     }
 
+    // if all Series are dictionary-encoded, the union can be encoded as well, preserving the memory savings
+    private static <T> DictionarySeries<T>[] asDictionarySeries(Series<?>... series) {
+
+        int len = series.length;
+        DictionarySeries<T>[] dictionarySeries = new DictionarySeries[len];
+        for (int i = 0; i < len; i++) {
+            if (!(series[i] instanceof DictionarySeries ds)) {
+                return null;
+            }
+
+            dictionarySeries[i] = ds;
+        }
+
+        return dictionarySeries;
+    }
+
     static IntSeries ofInt(int unionHeight, IntSeries... series) {
         int[] data = new int[unionHeight];
 
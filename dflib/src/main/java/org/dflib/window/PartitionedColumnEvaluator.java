@@ -0,0 +1,284 @@
+package org.dflib.window;
+
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Environment;
+import org.dflib.Exp;
+import org.dflib.GroupBy;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.ParallelismPolicy;
+import org.dflib.Series;
+import org.dflib.exp.RowWiseExp;
+import org.dflib.series.ArraySeries;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Evaluates window expressions over each partition of a partitioned window, and scatters the partition results back
+ * to the source row positions. Partitions are independent of each other, so when there are enough rows, they are
+ * evaluated in parallel on the {@link Environment} thread pool, split into batches of partitions. If all partitions
+ * of an expression produce primitive Series, the result column is assembled in a primitive array.
+ *
+ * @since 2.0.0
+ */
+class PartitionedColumnEvaluator {
+
+    // split partitions into more batches than there are threads to even out the partition size differences
+    private static final int BATCHES_PER_THREAD = 4;
+
+    private final GroupBy partitions;
+    private final WindowRange range;
+
+    PartitionedColumnEvaluator(GroupBy partitions, WindowRange range) {
+        this.partitions = partitions;
+        this.range = range;
+    }
+
+    public Series<?>[] eval(Exp<?>... exps) {
+
+        int h = partitions.getSource().height();
+        int w = exps.length;
+
+        Object[] keys = partitions.getGroupKeys().toArray();
+        int len = keys.length;
+
+        IntSeries[] indices = new IntSeries[len];
+        int maxPartitionHeight = 0;
+        for (int p = 0; p < len; p++) {
+            indices[p] = partitions.getGroupIndex(keys[p]);
+            maxPartitionHeight = Math.max(maxPartitionHeight, indices[p].size());
+        }
+
+        Series<?>[][] results = new Series[len][];
+        int batches = parallelBatches(h, maxPartitionHeight, len, exps);
+
+        // 1. evaluate each partition
+        runInBatches(batches, len, (from, to) -> {
+            for (int p = from; p < to; p++) {
+                DataFrame partition = partitions.getGroup(keys[p]);
+                results[p] = WindowColumnEvaluator.of(partition, range).eval(exps);
+            }
+        });
+
+        // 2. scatter partition results to the source positions
+        ColumnScatter[] scatters = new ColumnScatter[w];
+        for (int i = 0; i < w; i++) {
+            scatters[i] = ColumnScatter.of(results, indices, i, h);
+        }
+
+        runInBatches(batches, len, (from, to) -> {
+            for (int p = from; p < to; p++) {
+                for (int i = 0; i < w; i++) {
+                    scatters[i].scatter(results[p][i], indices[p]);
+                }
+            }
+        });
+
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = scatters[i].toSeries();
+        }
+
+        return columns;
+    }
+
+    /**
+     * Returns the number of partition batches to run in parallel, or 1 for sequential evaluation.
+     */
+    private static int parallelBatches(int h, int maxPartitionHeight, int partitionCount, Exp<?>... exps) {
+
+        Environment env = Environment.commonEnv();
+        int parallelism = env.threadPoolParallelism();
+        if (partitionCount < 2 || parallelism < 2 || h < env.parallelExecThreshold()) {
+            return 1;
+        }
+
+        // a partition large enough to be evaluated in parallel on its own would submit and wait for the pool tasks
+        // from inside a pool task, potentially blocking the pool. Such partitions are better evaluated one by one
+        ParallelismPolicy policy = env.parallelismPolicy();
+        if (policy.shouldRunInParallel(maxPartitionHeight, exps)) {
+            return 1;
+        }
+
+        for (Exp<?> exp : exps) {
+            if (RowWiseExp.isRowWise(exp) && policy.rowChunks(maxPartitionHeight, parallelism, exp) > 1) {
+                return 1;
+            }
+        }
+
+        return Math.min(partitionCount, parallelism * BATCHES_PER_THREAD);
+    }
+
+    private static void runInBatches(int batches, int len, BatchTask task) {
+
+        if (batches == 1) {
+            task.run(0, len);
+            return;
+        }
+
+        ExecutorService pool = Environment.commonEnv().threadPool();
+        Future<?>[] tasks = new Future[batches];
+        for (int b = 0; b < batches; b++) {
+            int from = (int) ((long) len * b / batches);
+            int to = (int) ((long) len * (b + 1) / batches);
+            tasks[b] = pool.submit(() -> task.run(from, to));
+        }
+
+        for (Future<?> t : tasks) {
+            get(t);
+        }
+    }
+
+    private static void get(Future<?> task) {
+        try {
+            task.get();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchTask {
+        void run(int from, int to);
+    }
+
+    /**
+     * Assembles a result column from the partition results. Each partition writes to its own source positions, so
+     * multiple partitions can be scattered concurrently.
+     */
+    private static abstract class ColumnScatter {
+
+        static ColumnScatter of(Series<?>[][] results, IntSeries[] indices, int column, int h) {
+
+            // rows not included in any partition (i.e., rows with null partition keys) must be nulls in the result
+            int covered = 0;
+            boolean ints = true;
+            boolean longs = true;
+            boolean doubles = true;
+
+            int len = results.length;
+            for (int p = 0; p < len; p++) {
+                covered += indices[p].size();
+
+                Series<?> s = results[p][column];
+                ints &= s instanceof IntSeries;
+                longs &= s instanceof LongSeries;
+                doubles &= s instanceof DoubleSeries;
+            }
+
+            if (covered < h || len == 0) {
+                return new ObjectScatter(h);
+            }
+
+            if (ints) {
+                return new IntScatter(h);
+            }
+
+            if (longs) {
+                return new LongScatter(h);
+            }
+
+            return doubles ? new DoubleScatter(h) : new ObjectScatter(h);
+        }
+
+        abstract void scatter(Series<?> s, IntSeries index);
+
+        abstract Series<?> toSeries();
+    }
+
+    private static class ObjectScatter extends ColumnScatter {
+
+        private final Object[] data;
+
+        ObjectScatter(int h) {
+            this.data = new Object[h];
+        }
+
+        @Override
+        void scatter(Series<?> s, IntSeries index) {
+            int len = index.size();
+            for (int j = 0; j < len; j++) {
+                data[index.getInt(j)] = s.get(j);
+            }
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return new ArraySeries<>(data);
+        }
+    }
+
+    private static class IntScatter extends ColumnScatter {
+
+        private final int[] data;
+
+        IntScatter(int h) {
+            this.data = new int[h];
+        }
+
+        @Override
+        void scatter(Series<?> s, IntSeries index) {
+            IntSeries is = (IntSeries) s;
+            int len = index.size();
+            for (int j = 0; j < len; j++) {
+                data[index.getInt(j)] = is.getInt(j);
+            }
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return new IntArraySeries(data);
+        }
+    }
+
+    private static class LongScatter extends ColumnScatter {
+
+        private final long[] data;
+
+        LongScatter(int h) {
+            this.data = new long[h];
+        }
+
+        @Override
+        void scatter(Series<?> s, IntSeries index) {
+            LongSeries ls = (LongSeries) s;
+            int len = index.size();
+            for (int j = 0; j < len; j++) {
+                data[index.getInt(j)] = ls.getLong(j);
+            }
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return new LongArraySeries(data);
+        }
+    }
+
+    private static class DoubleScatter extends ColumnScatter {
+
+        private final double[] data;
+
+        DoubleScatter(int h) {
+            this.data = new double[h];
+        }
+
+        @Override
+        void scatter(Series<?> s, IntSeries index) {
+            DoubleSeries ds = (DoubleSeries) s;
+            int len = index.size();
+            for (int j = 0; j < len; j++) {
+                data[index.getInt(j)] = ds.getDouble(j);
+            }
+        }
+
+        @Override
+        Series<?> toSeries() {
+            return new DoubleArraySeries(data);
+        }
+    }
+}
@@ -380,37 +380,7 @@ public class Window {
                 ? source.group(partitioner).sort(sorter)
                 : source.group(partitioner);
 
-        int h = gb.getSource().height();
-        int aggW = aggregators.length;
-
-        Object[][] data = new Object[aggW][h];
-
-        for (int i = 0; i < aggW; i++) {
-            data[i] = new Object[h];
-        }
-
-        // TODO: parallelize aggregation by group key and by aggregator...
-
-        for (Object key : gb.getGroupKeys()) {
-
-            Series<?>[] gAggs = WindowColumnEvaluator.of(gb.getGroup(key), resolveRange()).eval(aggregators);
-
-            IntSeries gIndex = gb.getGroupIndex(key);
-            int ih = gIndex.size();
-            for (int i = 0; i < aggW; i++) {
-                Series<?> gAgg = gAggs[i];
-                for (int j = 0; j < ih; j++) {
-                    data[i][gIndex.getInt(j)] = gAgg.get(j);
-                }
-            }
-        }
-
-        Series<?>[] columns = new Series[aggW];
-        for (int i = 0; i < aggW; i++) {
-            columns[i] = Series.of(data[i]);
-        }
-
-        return columns;
+        return new PartitionedColumnEvaluator(gb, resolveRange()).eval(aggregators);
     }
 
     private Series<?>[] selectUnPartitioned(Exp<?>... aggregators) {
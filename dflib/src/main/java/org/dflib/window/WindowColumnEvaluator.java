@@ -5,6 +5,7 @@ import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.exp.ExpEvaluator;
+import org.dflib.exp.agg.WindowReduceExp;
 
 import java.util.Arrays;
 
@@ -64,13 +65,31 @@ abstract class WindowColumnEvaluator {
 
             Series<?>[] data = new Series[w];
             for (int i = 0; i < w; i++) {
-                ObjectAccum accum = new ObjectAccum<>(h);
                 Exp<?> exp = exps[i];
 
+                ObjectAccum accum = new ObjectAccum<>(h);
+
+                // decomposable aggregates are calculated over all the windows in one pass. Other aggregates are
+                // reduced over each window range of the source columns
+                if (exp instanceof WindowReduceExp<?> we) {
+                    Series<?> windows = we.reduceWindows(source, range);
+                    if (windows != null) {
+                        data[i] = windows;
+                        continue;
+                    }
+
+                    for (int j = 0; j < h; j++) {
+                        accum.push(exp.reduce(source, range.fromInclusive(j), range.toExclusive(j, h)));
+                    }
+
+                    data[i] = accum.toSeries();
+                    continue;
+                }
+
                 for (int j = 0; j < h; j++) {
 
-                    // TODO: (performance)  would be great if "Exp.eval" could be range-aware, so we won't need to create
-                    //  "h" DataFrames
+                    // TODO: (performance)  would be great if "Exp.eval" could be range-aware, same as "Exp.reduce", so
+                    //  we won't need to create "h" DataFrames
                     DataFrame rangeDf = range.selectRows(source, j);
 
                     // since we have a mix of per-row and aggregating expressions, we need to call "eval" instead of
@@ -81,6 +81,27 @@ public class WindowRange {
         return rowIndex - fromInclusive;
     }
 
+    /**
+     * Returns the index of the first row of the range defined relative to "rowIndex".
+     *
+     * @since 2.0.0
+     */
+    public int fromInclusive(int rowIndex) {
+        return Math.max(0, rowIndex - startOffsetInclusive);
+    }
+
+    /**
+     * Returns the index following the last row of the range defined relative to "rowIndex" in a DataFrame of the
+     * given height.
+     *
+     * @since 2.0.0
+     */
+    public int toExclusive(int rowIndex, int height) {
+
+        // avoid int overflow - only add the offset when the result is smaller than height
+        return endOffsetInclusive >= height - rowIndex ? height : rowIndex + endOffsetInclusive + 1;
+    }
+
     /**
      * Returns a slice of the DataFrame rows that are within the range defined relative to the DataFrame row index.
      */
@@ -95,14 +116,7 @@ public class WindowRange {
             throw new ArrayIndexOutOfBoundsException("Row index higher than the DataFrame height: " + rowIndex);
         }
 
-        int fromInclusive = Math.max(0, rowIndex - startOffsetInclusive);
-
-        // avoid int overflow - only add the offset when it is smaller than height
-        // TODO: still there is a range when overflow is possible when the height is close to Integer.MAX_VALUE
-        int delta = endOffsetInclusive - h;
-        int toExclusive = delta <= 0 ? Math.min(h, rowIndex + endOffsetInclusive + 1) : h;
-
-        return dataFrame.rowsRange(fromInclusive, toExclusive).select();
+        return dataFrame.rowsRange(fromInclusive(rowIndex), toExclusive(rowIndex, h)).select();
     }
 
     @Override
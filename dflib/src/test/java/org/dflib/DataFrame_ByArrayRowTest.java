@@ -35,6 +35,27 @@ public class DataFrame_ByArrayRowTest {
                 .expectRow(3, "L2", -2);
     }
 
+    @Test
+    public void nullablePrimitiveExtractors() {
+
+        // each value is followed by the "was null" flag, same as the JDBC ResultSet protocol
+        DataFrame df = DataFrame
+                .byArrayRow(
+                        Extractor.$nullableInt(a -> (Integer) a[0], a -> (Boolean) a[1]),
+                        Extractor.$nullableLong(a -> (Long) a[2], a -> (Boolean) a[3]),
+                        Extractor.$nullableDouble(a -> (Double) a[4], a -> (Boolean) a[5])
+                )
+                .columnNames("i", "l", "d")
+                .appender()
+                .append(1, false, 0L, true, 1.5, false)
+                .append(0, true, 2L, false, 0., true)
+                .toDataFrame();
+
+        new DataFrameAsserts(df, "i", "l", "d").expectHeight(2)
+                .expectRow(0, 1, null, 1.5)
+                .expectRow(1, null, 2L, null);
+    }
+
     @Test
     public void implicitExtractors() {
 
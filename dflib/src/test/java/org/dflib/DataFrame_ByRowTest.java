@@ -182,6 +182,41 @@ public class DataFrame_ByRowTest {
         assertEquals(2, idCardinality.getColumn(1).unique().size());
     }
 
+    @Test
+    public void compaction_Nullable() {
+
+        List<From> data = List.of(
+                new From("L1", -1000),
+                new From("L2", -1000),
+                new From("L3", 0),
+                new From("L4", -2001));
+
+        DataFrame df = DataFrame
+                .byRow(
+                        Extractor.<From>$nullableInt(f -> f.getI() != 0 ? f.getI() : null).compact(),
+                        Extractor.<From>$nullableLong(From::getL, f -> f.getI() == 0).compact(),
+                        Extractor.<From>$nullableDouble(From::getD, f -> f.getI() == 0).compactDictionary()
+                )
+                .columnNames("i", "l", "d")
+                .ofIterable(data);
+
+        new DataFrameAsserts(df, "i", "l", "d").expectHeight(4)
+                .expectRow(0, -1000, 9_999_999_000L, -999.99)
+                .expectRow(1, -1000, 9_999_999_000L, -999.99)
+                .expectRow(2, null, null, null)
+                .expectRow(3, -2001, 9_999_997_999L, -2000.99);
+
+        DataFrame idCardinality = df.cols().select(
+                $col("i").mapVal(System::identityHashCode),
+                $col("l").mapVal(System::identityHashCode),
+                $col("d").mapVal(System::identityHashCode));
+
+        // two shared non-null values plus a null
+        assertEquals(3, idCardinality.getColumn(0).unique().size());
+        assertEquals(3, idCardinality.getColumn(1).unique().size());
+        assertEquals(3, idCardinality.getColumn(2).unique().size());
+    }
+
     static class From {
         final String s;
         final int i;
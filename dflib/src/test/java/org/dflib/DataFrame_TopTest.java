@@ -0,0 +1,113 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.dflib.Exp.$int;
+import static org.dflib.Exp.$str;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DataFrame_TopTest {
+
+    private Environment defaultEnv;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void saveEnv() {
+        defaultEnv = Environment.commonEnv();
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setCommonEnv(defaultEnv);
+        pool.shutdown();
+    }
+
+    @Test
+    public void top() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                3, "x",
+                1, "y",
+                null, "z",
+                2, "a",
+                1, "b",
+                5, "c",
+                4, "d",
+                0, "e",
+                7, "f").top(3, $int("a").asc());
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 0, "e")
+                .expectRow(1, 1, "y")
+                .expectRow(2, 1, "b");
+    }
+
+    @Test
+    public void top_SortSpec() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                3, "x",
+                1, "y",
+                2, "a",
+                4, "d",
+                0, "e",
+                7, "f",
+                6, "g",
+                5, "h",
+                -1, "i").top(2, "a desc");
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 7, "f")
+                .expectRow(1, 6, "g");
+    }
+
+    @Test
+    public void top_NoSorters() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                3, "x",
+                1, "y",
+                2, "a").top(2);
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 3, "x")
+                .expectRow(1, 1, "y");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 1000, 9000, 20_000, 30_000, -5})
+    public void top_SameAsSortHead(int k) {
+
+        Random rnd = new Random(k);
+        int h = 20_000;
+        int[] a = new int[h];
+        String[] b = new String[h];
+        int[] ids = new int[h];
+        for (int i = 0; i < h; i++) {
+            ids[i] = i;
+            a[i] = rnd.nextInt(100);
+            b[i] = i % 7 == 0 ? null : "s" + rnd.nextInt(100);
+        }
+
+        DataFrame df = DataFrame.byColumn("a", "b", "i").of(Series.ofInt(a), Series.of(b), Series.ofInt(ids));
+        Sorter[] sorters = {$str("b").desc(), $int("a").asc()};
+
+        // compare the row ids to check that the ties are resolved in the same order as in the stable sort
+        List<Object> expected = df.sort(sorters).head(k).getColumn("i").toList();
+        assertEquals(expected, df.top(k, sorters).getColumn("i").toList());
+
+        Environment.setParallelExecThreshold(1000);
+        Environment.setThreadPool(pool);
+        assertEquals(expected, df.top(k, sorters).getColumn("i").toList());
+    }
+}
@@ -22,4 +22,25 @@ public class EnvironmentTest {
             Environment.setCommonEnv(defaultEnv);
         }
     }
+
+    @Test
+    void parallelismPolicy() {
+        ParallelismPolicy policy = ParallelismPolicy.ofRowThreshold(10);
+
+        Environment defaultEnv = Environment.commonEnv();
+        try {
+            assertNotSame(policy, Environment.commonEnv().parallelismPolicy());
+            Environment.setParallelismPolicy(policy);
+            assertSame(policy, Environment.commonEnv().parallelismPolicy());
+
+            // the custom policy must survive other settings changes
+            Environment.setParallelExecThreshold(7);
+            assertSame(policy, Environment.commonEnv().parallelismPolicy());
+
+            Environment.setParallelismPolicy(null);
+            assertNotSame(policy, Environment.commonEnv().parallelismPolicy());
+        } finally {
+            Environment.setCommonEnv(defaultEnv);
+        }
+    }
 }
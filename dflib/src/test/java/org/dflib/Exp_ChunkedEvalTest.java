@@ -0,0 +1,76 @@
+package org.dflib;
+
+import org.dflib.exp.ExpEvaluator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Exp_ChunkedEvalTest {
+
+    private Environment defaultEnv;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void saveEnv() {
+        defaultEnv = Environment.commonEnv();
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setCommonEnv(defaultEnv);
+        pool.shutdown();
+    }
+
+    @Test
+    public void eval_RowWise() {
+
+        int h = 10_001;
+        DataFrame source = DataFrame.byColumn("a", "b").of(
+                rowNums(h).map(i -> "S" + i),
+                rowNums(h).map(i -> i % 3 == 0 ? null : "x" + i));
+
+        assertSameAsSequential(source, concat($str("a").lower(), $str("b")));
+        assertSameAsSequential(source, $str("b").mapVal(String::length));
+        assertSameAsSequential(source, $str("a").endsWith("7").or($str("b").isNull()));
+    }
+
+    @Test
+    public void eval_NotRowWise() {
+
+        DataFrame source = DataFrame.byColumn("a").of(rowNums(10_000));
+
+        // must not be split in chunks, as the results depend on the preceding rows
+        assertSameAsSequential(source, $int("a").cumSum());
+        assertSameAsSequential(source, $int("a").shift(1));
+        assertSameAsSequential(source, rowNum());
+    }
+
+    private void assertSameAsSequential(DataFrame source, Exp<?> exp) {
+
+        Environment.setParallelismPolicy(ParallelismPolicy.ofRowThreshold(Integer.MAX_VALUE));
+        Series<?> sequential = ExpEvaluator.eval(source, exp)[0];
+
+        Environment.setParallelismPolicy(ParallelismPolicy.ofCost(100));
+        Environment.setThreadPool(pool);
+        Series<?> chunked = ExpEvaluator.eval(source, exp)[0];
+
+        assertEquals(sequential.size(), chunked.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i), chunked.get(i), "row: " + i);
+        }
+    }
+
+    private static Series<Integer> rowNums(int h) {
+        Integer[] data = new Integer[h];
+        for (int i = 0; i < h; i++) {
+            data[i] = i;
+        }
+        return Series.of(data);
+    }
+}
@@ -1,10 +1,13 @@
 package org.dflib;
 
+import org.dflib.map.CombinationHash;
 import org.dflib.unit.DataFrameAsserts;
+import org.dflib.unit.IntSeriesAsserts;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -78,4 +81,72 @@ public class GroupByTest {
                 .expectHeight(1)
                 .expectRow(0, 2, "y");
     }
+
+    @Test
+    public void group_IntColumn() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(1, 2, 1, 0, 1),
+                Series.of("x", "y", "z", "a", "x"));
+
+        GroupBy gb = df.group("a");
+
+        assertEquals(asList(1, 2, 0), List.copyOf(gb.getGroupKeys()));
+        new IntSeriesAsserts(gb.getGroupIndex(1)).expectData(0, 2, 4);
+        new IntSeriesAsserts(gb.getGroupIndex(2)).expectData(1);
+        new IntSeriesAsserts(gb.getGroupIndex(0)).expectData(3);
+
+        new DataFrameAsserts(gb.getGroup(1), "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 1, "z")
+                .expectRow(2, 1, "x");
+    }
+
+    @Test
+    public void group_LongColumn() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.ofLong(5_000_000_000L, 2L, 5_000_000_000L),
+                Series.of("x", "y", "z"));
+
+        GroupBy gb = df.group(0);
+
+        assertEquals(asList(5_000_000_000L, 2L), List.copyOf(gb.getGroupKeys()));
+        new IntSeriesAsserts(gb.getGroupIndex(5_000_000_000L)).expectData(0, 2);
+        new IntSeriesAsserts(gb.getGroupIndex(2L)).expectData(1);
+    }
+
+    @Test
+    public void group_StringColumn_NullKeysIgnored() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.of("x", null, "y", "x", null),
+                Series.ofInt(1, 2, 3, 4, 5));
+
+        GroupBy gb = df.group("a");
+
+        assertEquals(asList("x", "y"), List.copyOf(gb.getGroupKeys()));
+        new IntSeriesAsserts(gb.getGroupIndex("x")).expectData(0, 3);
+        new IntSeriesAsserts(gb.getGroupIndex("y")).expectData(2);
+    }
+
+    @Test
+    public void group_MultiColumn() {
+        DataFrame df = DataFrame.byColumn("a", "b", "c").of(
+                Series.ofInt(1, 2, 1, 1, 2, 1),
+                Series.of("x", "y", "x", null, "y", null),
+                Series.ofLong(3L, 3L, 3L, 3L, 4L, 3L));
+
+        GroupBy gb = df.group("a", "b", "c");
+
+        Object k0 = new CombinationHash(new CombinationHash(1, "x"), 3L);
+        Object k1 = new CombinationHash(new CombinationHash(2, "y"), 3L);
+        Object k2 = new CombinationHash(new CombinationHash(1, null), 3L);
+        Object k3 = new CombinationHash(new CombinationHash(2, "y"), 4L);
+
+        assertEquals(asList(k0, k1, k2, k3), List.copyOf(gb.getGroupKeys()));
+
+        new IntSeriesAsserts(gb.getGroupIndex(k0)).expectData(0, 2);
+        new IntSeriesAsserts(gb.getGroupIndex(k1)).expectData(1);
+        new IntSeriesAsserts(gb.getGroupIndex(k2)).expectData(3, 5);
+        new IntSeriesAsserts(gb.getGroupIndex(k3)).expectData(4);
+    }
 }
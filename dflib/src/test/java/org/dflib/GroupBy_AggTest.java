@@ -264,4 +264,82 @@ public class GroupBy_AggTest {
                 .expectRow(1, 36)
                 .expectRow(2, 34);
     }
+
+    @Test
+    public void primitiveColumns() {
+        DataFrame df1 = DataFrame.byColumn("a", "b", "c", "d").of(
+                Series.ofInt(1, 2, 1, 0, 1),
+                Series.ofInt(5, -2, 3, 4, 8),
+                Series.ofLong(5L, 6L, -7L, 8L, 9L),
+                Series.ofDouble(1.5, 2.5, 3.5, 4.5, 5.5));
+
+        DataFrame df = df1.group("a").agg(
+                $int("a").first(),
+                $int("b").sum(),
+                $int("b").min(),
+                $int("b").max(),
+                $int("b").avg(),
+                $long("c").sum(),
+                $long("c").min(),
+                $double("d").max(),
+                $double("d").avg(),
+                $col("d").last(),
+                count());
+
+        new DataFrameAsserts(df, "first(a)", "sum(b)", "min(b)", "max(b)", "avg(b)", "sum(c)", "min(c)", "max(d)", "avg(d)", "last(d)", "count")
+                .expectIntColumns(2)
+                .expectLongColumns(1, 5)
+                .expectDoubleColumns(4, 7, 8)
+                .expectHeight(3)
+                .expectRow(0, 1, 16L, 3, 8, 5.333333333333333, 7L, -7L, 5.5, 3.5, 5.5, 3)
+                .expectRow(1, 2, -2L, -2, -2, -2., 6L, 6L, 2.5, 2.5, 2.5, 1)
+                .expectRow(2, 0, 4L, 4, 4, 4., 8L, 8L, 4.5, 4.5, 4.5, 1);
+    }
+
+    @Test
+    public void primitiveColumns_Nulls() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                "x", 1,
+                "y", null,
+                "x", null,
+                "z", 4,
+                "x", 3,
+                "y", null);
+
+        DataFrame df = df1.group("a").agg(
+                $col("a"),
+                $int("b").sum(),
+                $int("b").min(),
+                $int("b").max(),
+                $int("b").avg(),
+                $col("b").first(),
+                $col("b").last().as("last"));
+
+        new DataFrameAsserts(df, "a", "sum(b)", "min(b)", "max(b)", "avg(b)", "first(b)", "last")
+                .expectHeight(3)
+                .expectRow(0, "x", 4L, 1, 3, 2., 1, 3)
+                .expectRow(1, "y", 0L, 0, 0, Double.NaN, null, null)
+                .expectRow(2, "z", 4L, 4, 4, 4., 4, 4);
+    }
+
+    @Test
+    public void sortedGroups() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                1, 1.,
+                2, 3.,
+                1, 5.,
+                1, 0.1,
+                2, 2.);
+
+        DataFrame df = df1.group("a").sort("b", false).agg(
+                $col("a"),
+                $col("b").first(),
+                $col("b").last().as("last"),
+                $double("b").sum());
+
+        new DataFrameAsserts(df, "a", "first(b)", "last", "sum(b)")
+                .expectHeight(2)
+                .expectRow(0, 1, 5., 0.1, 6.1)
+                .expectRow(1, 2, 3., 2., 5.);
+    }
 }
@@ -92,6 +92,32 @@ public class GroupBy_SelectTest {
                 .expectRow(3, 0, "a");
     }
 
+    @Test
+    public void top() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                1, "x",
+                2, "y",
+                1, "z",
+                0, "a",
+                1, "b",
+                1, "c",
+                2, "d",
+                1, "a",
+                1, "w");
+
+        DataFrame df2 = df1.group("a")
+                .top(2, $col("b").desc())
+                .select();
+
+        new DataFrameAsserts(df2, "a", "b")
+                .expectHeight(5)
+                .expectRow(0, 1, "z")
+                .expectRow(1, 1, "x")
+                .expectRow(2, 2, "y")
+                .expectRow(3, 2, "d")
+                .expectRow(4, 0, "a");
+    }
+
 
     @Test
     public void tail() {
@@ -0,0 +1,142 @@
+package org.dflib;
+
+import org.dflib.join.Join;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Join_HashParallelTest {
+
+    private Environment defaultEnv;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void saveEnv() {
+        defaultEnv = Environment.commonEnv();
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setCommonEnv(defaultEnv);
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @EnumSource(JoinType.class)
+    public void intColumns(JoinType type) {
+
+        Random rnd = new Random(1);
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(randomInts(rnd, 30000, 5000)),
+                Series.ofInt(randomInts(rnd, 30000, 10)));
+
+        DataFrame df2 = DataFrame.byColumn("c", "d").of(
+                Series.ofInt(randomInts(rnd, 20000, 7000)),
+                Series.ofInt(randomInts(rnd, 20000, 10)));
+
+        assertSameAsSequential(type, df1, df2, j -> j.on("a", "c"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(JoinType.class)
+    public void longColumns(JoinType type) {
+
+        Random rnd = new Random(2);
+        DataFrame df1 = DataFrame.byColumn("a").of(Series.ofInt(randomInts(rnd, 30000, 5000)).cumSum());
+        DataFrame df2 = DataFrame.byColumn("c").of(Series.ofInt(randomInts(rnd, 20000, 500)).cumSum());
+
+        assertSameAsSequential(type, df1, df2, j -> j.on("a", "c"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(JoinType.class)
+    public void objectColumns_Nulls(JoinType type) {
+
+        Random rnd = new Random(3);
+        DataFrame df1 = DataFrame.byColumn("a").of(Series.ofInt(randomInts(rnd, 30000, 3000)).map(i -> i % 1000 == 0 ? null : "s" + i));
+        DataFrame df2 = DataFrame.byColumn("c").of(Series.ofInt(randomInts(rnd, 20000, 3000)).map(i -> i % 1500 == 0 ? null : "s" + i));
+
+        assertSameAsSequential(type, df1, df2, j -> j.on("a", "c"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(JoinType.class)
+    public void multiColumnHash(JoinType type) {
+
+        Random rnd = new Random(4);
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(randomInts(rnd, 30000, 500)),
+                Series.ofInt(randomInts(rnd, 30000, 5)));
+
+        DataFrame df2 = DataFrame.byColumn("c", "d").of(
+                Series.ofInt(randomInts(rnd, 20000, 500)),
+                Series.ofInt(randomInts(rnd, 20000, 5)));
+
+        assertSameAsSequential(type, df1, df2, j -> j.on("a", "c").on("b", "d"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(JoinType.class)
+    public void calledFromPoolThread(JoinType type) throws Exception {
+
+        Random rnd = new Random(5);
+        DataFrame df1 = DataFrame.byColumn("a").of(Series.ofInt(randomInts(rnd, 30000, 5000)));
+        DataFrame df2 = DataFrame.byColumn("c").of(Series.ofInt(randomInts(rnd, 20000, 7000)));
+
+        Environment.setParallelExecThreshold(Integer.MAX_VALUE);
+        DataFrame sequential = new Join(type, df1, df2).on("a", "c").select();
+
+        // a single thread pool, that would be exhausted if the join waited for its own partition tasks
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        try {
+            Environment.setParallelExecThreshold(1000);
+            Environment.setThreadPool(singleThreadPool);
+            DataFrame joined = singleThreadPool.submit(() -> new Join(type, df1, df2).on("a", "c").select()).get();
+
+            assertEquals(sequential.height(), joined.height());
+            for (int j = 0; j < sequential.height(); j++) {
+                assertEquals(sequential.getColumn(0).get(j), joined.getColumn(0).get(j), "row: " + j);
+                assertEquals(sequential.getColumn(1).get(j), joined.getColumn(1).get(j), "row: " + j);
+            }
+        } finally {
+            singleThreadPool.shutdown();
+        }
+    }
+
+    private void assertSameAsSequential(JoinType type, DataFrame df1, DataFrame df2, Function<Join, Join> on) {
+
+        Environment.setParallelExecThreshold(Integer.MAX_VALUE);
+        DataFrame sequential = on.apply(new Join(type, df1, df2)).select();
+
+        Environment.setParallelExecThreshold(1000);
+        Environment.setThreadPool(pool);
+        DataFrame parallel = on.apply(new Join(type, df1, df2)).select();
+
+        assertEquals(sequential.getColumnsIndex(), parallel.getColumnsIndex());
+        assertEquals(sequential.height(), parallel.height());
+
+        int w = sequential.width();
+        int h = sequential.height();
+        for (int i = 0; i < w; i++) {
+            for (int j = 0; j < h; j++) {
+                assertEquals(sequential.getColumn(i).get(j), parallel.getColumn(i).get(j), "col: " + i + ", row: " + j);
+            }
+        }
+    }
+
+    private static int[] randomInts(Random rnd, int len, int bound) {
+        int[] ints = new int[len];
+        for (int i = 0; i < len; i++) {
+            ints[i] = rnd.nextInt(bound);
+        }
+        return ints;
+    }
+}
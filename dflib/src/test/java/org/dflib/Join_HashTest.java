@@ -4,6 +4,10 @@ import org.dflib.join.JoinIndicator;
 import org.dflib.unit.DataFrameAsserts;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public class Join_HashTest {
 
     @Test
@@ -331,4 +335,158 @@ public class Join_HashTest {
                 .expectRow(2, 2, "y", 2, "b", JoinIndicator.both)
                 .expectRow(3, null, null, 3, "c", JoinIndicator.right_only);
     }
+
+    @Test
+    public void inner_IntColumns() {
+
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(1, 2, 4, 2),
+                Series.of("x", "y", "z", "w"));
+
+        DataFrame df2 = DataFrame.byColumn("c", "d").of(
+                Series.of("a", "b", "x", "c"),
+                Series.ofInt(2, 2, 4, 3));
+
+        DataFrame df = df1.innerJoin(df2)
+                .on("a", "d")
+                .select();
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(5)
+                .expectRow(0, 2, "y", "a", 2)
+                .expectRow(1, 2, "y", "b", 2)
+                .expectRow(2, 4, "z", "x", 4)
+                .expectRow(3, 2, "w", "a", 2)
+                .expectRow(4, 2, "w", "b", 2);
+    }
+
+    @Test
+    public void left_LongColumns() {
+
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                Series.ofLong(1L, 2L, 5_000_000_000L),
+                Series.of("x", "y", "z"));
+
+        DataFrame df2 = DataFrame.byColumn("c", "d").of(
+                Series.ofLong(2L, 5_000_000_000L, 2L, 3L),
+                Series.of("a", "b", "c", "d"));
+
+        DataFrame df = df1.leftJoin(df2)
+                .on(0)
+                .select();
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(4)
+                .expectRow(0, 1L, "x", null, null)
+                .expectRow(1, 2L, "y", 2L, "a")
+                .expectRow(2, 2L, "y", 2L, "c")
+                .expectRow(3, 5_000_000_000L, "z", 5_000_000_000L, "b");
+    }
+
+    @Test
+    public void right_IntColumns() {
+
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(2, 2, 3),
+                Series.of("a", "b", "c"));
+
+        DataFrame df2 = DataFrame.byColumn("c", "d").of(
+                Series.ofInt(1, 2),
+                Series.of("x", "y"));
+
+        DataFrame df = df1.rightJoin(df2)
+                .on(0)
+                .select();
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(3)
+                .expectRow(0, null, null, 1, "x")
+                .expectRow(1, 2, "a", 2, "y")
+                .expectRow(2, 2, "b", 2, "y");
+    }
+
+    @Test
+    public void full_LongColumns() {
+
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                Series.ofLong(1L, 2L),
+                Series.of("x", "y"));
+
+        DataFrame df2 = DataFrame.byColumn("c", "d").of(
+                Series.ofLong(4L, 2L, 3L, 2L, 4L),
+                Series.of("a", "b", "c", "d", "e"));
+
+        DataFrame df = df1.fullJoin(df2)
+                .on(0)
+                .indicatorColumn("ind")
+                .select();
+
+        new DataFrameAsserts(df, "a", "b", "c", "d", "ind")
+                .expectHeight(6)
+                .expectRow(0, 1L, "x", null, null, JoinIndicator.left_only)
+                .expectRow(1, 2L, "y", 2L, "b", JoinIndicator.both)
+                .expectRow(2, 2L, "y", 2L, "d", JoinIndicator.both)
+                .expectRow(3, null, null, 4L, "a", JoinIndicator.right_only)
+                .expectRow(4, null, null, 4L, "e", JoinIndicator.right_only)
+                .expectRow(5, null, null, 3L, "c", JoinIndicator.right_only);
+    }
+
+    @Test
+    public void full_IntColumns_SameAsObjectColumns() {
+
+        Random rnd = new Random(5);
+        int[] left = new int[1000];
+        int[] right = new int[700];
+        for (int i = 0; i < left.length; i++) {
+            left[i] = rnd.nextInt(300) - 150;
+        }
+        for (int i = 0; i < right.length; i++) {
+            right[i] = rnd.nextInt(300) - 150;
+        }
+
+        IntSeries li = Series.ofInt(left);
+        IntSeries ri = Series.ofInt(right);
+
+        DataFrame primitive = DataFrame.byColumn("a").of(li)
+                .fullJoin(DataFrame.byColumn("b").of(ri))
+                .on("a", "b")
+                .select();
+
+        DataFrame boxed = DataFrame.byColumn("a").of(li.map(i -> i))
+                .fullJoin(DataFrame.byColumn("b").of(ri.map(i -> i)))
+                .on("a", "b")
+                .select();
+
+        new DataFrameAsserts(primitive, "a", "b").expectHeight(boxed.height());
+        for (int i = 0; i < boxed.height(); i++) {
+            assertEquals(boxed.get("a", i), primitive.get("a", i), "a: " + i);
+            assertEquals(boxed.get("b", i), primitive.get("b", i), "b: " + i);
+        }
+    }
+
+    @Test
+    public void multiColumnHash_Nulls() {
+
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(1, 2, 2, 2),
+                Series.of("x", null, "y", "a"));
+
+        DataFrame df2 = DataFrame.byColumn("c", "d").of(
+                Series.of(2, 2, 3, 2),
+                Series.of("a", null, "c", "z"));
+
+        DataFrame df = df1.fullJoin(df2)
+                .on("a", "c")
+                .on("b", "d")
+                .select();
+
+        new DataFrameAsserts(df, "a", "b", "c", "d")
+                .expectHeight(6)
+                .expectRow(0, 1, "x", null, null)
+                .expectRow(1, 2, null, 2, null)
+                .expectRow(2, 2, "y", null, null)
+                .expectRow(3, 2, "a", 2, "a")
+                .expectRow(4, null, null, 3, "c")
+                .expectRow(5, null, null, 2, "z");
+    }
 }
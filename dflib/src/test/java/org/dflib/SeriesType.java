@@ -3,10 +3,11 @@ package org.dflib;
 import org.dflib.series.ArrayRangeSeries;
 import org.dflib.series.ArraySeries;
 import org.dflib.series.ColumnMappedSeries;
+import org.dflib.series.DictionarySeries;
 import org.dflib.series.RangeSeries;
 
 public enum SeriesType {
-    ARRAY, COLUMN_MAPPED, RANGE, ARRAY_RANGE;
+    ARRAY, COLUMN_MAPPED, RANGE, ARRAY_RANGE, DICTIONARY, DICTIONARY_RANGE;
 
     public <T> Series<T> createSeries(T... data) {
         switch (this) {
@@ -20,6 +21,16 @@ public enum SeriesType {
                 return new RangeSeries<>(new ArraySeries<>(data), 0, data.length);
             case ARRAY_RANGE:
                 return new ArrayRangeSeries<>(Object.class, data, 0, data.length);
+            case DICTIONARY:
+                return new ArraySeries<>(data).compactDictionary();
+            case DICTIONARY_RANGE:
+
+                // a range in the middle of a larger Series, whose dictionary includes values not in the range
+                Object[] padded = new Object[data.length + 2];
+                padded[0] = "_before";
+                padded[padded.length - 1] = "_after";
+                System.arraycopy(data, 0, padded, 1, data.length);
+                return (Series<T>) new ArraySeries<>(padded).compactDictionary().selectRange(1, data.length + 1);
             default:
                 throw new IllegalStateException("Unknown series type: " + this);
         }
@@ -0,0 +1,47 @@
+package org.dflib;
+
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Comparator;
+
+import static org.dflib.Exp.$int;
+
+public class Series_TopTest {
+
+    @ParameterizedTest
+    @EnumSource(SeriesType.class)
+    public void comparator(SeriesType type) {
+        Series<String> s = type.createSeries("x", "b", "c", "a", "z", "y", "e", "d", "f").top(3, Comparator.naturalOrder());
+        new SeriesAsserts(s).expectData("a", "b", "c");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SeriesType.class)
+    public void comparator_LargeK(SeriesType type) {
+        Series<String> s = type.createSeries("x", "b", "c").top(5, Comparator.reverseOrder());
+        new SeriesAsserts(s).expectData("x", "c", "b");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SeriesType.class)
+    public void sorter(SeriesType type) {
+        Series<Integer> s = type.createSeries(5, 1, 8, 3, 9, 0, 7, 2, 6, 4).top(4, $int(0).desc());
+        new SeriesAsserts(s).expectData(9, 8, 7, 6);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SeriesType.class)
+    public void sorter_NullsLast(SeriesType type) {
+        Series<Integer> s = type.createSeries(5, 1, null, 8, 3, 9, 0, 7, 2, 6, 4).top(4, $int(0).asc());
+        new SeriesAsserts(s).expectData(0, 1, 2, 3);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SeriesType.class)
+    public void zero(SeriesType type) {
+        Series<Integer> s = type.createSeries(5, 1, 8).top(0, $int(0).asc());
+        new SeriesAsserts(s).expectData();
+    }
+}
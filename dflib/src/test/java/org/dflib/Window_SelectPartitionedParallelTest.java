@@ -0,0 +1,113 @@
+package org.dflib;
+
+import org.dflib.window.Window;
+import org.dflib.window.WindowRange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class Window_SelectPartitionedParallelTest {
+
+    private Environment defaultEnv;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void saveEnv() {
+        defaultEnv = Environment.commonEnv();
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setCommonEnv(defaultEnv);
+        pool.shutdown();
+    }
+
+    @Test
+    public void select() {
+        DataFrame df = testDf(new Random(1), false);
+
+        DataFrame parallel = assertSameAsSequential(df, w -> w.partition("p"), $int("a").sum(), $double("b").max(), $str("s").first());
+
+        assertInstanceOf(LongSeries.class, parallel.getColumn(0));
+        assertInstanceOf(DoubleSeries.class, parallel.getColumn(1));
+    }
+
+    @Test
+    public void select_SortRange() {
+        DataFrame df = testDf(new Random(2), false);
+
+        assertSameAsSequential(df,
+                w -> w.partition("p").sort($int("a").asc()).range(WindowRange.of(2, 1)),
+                $int("a").sum(),
+                $int("a").median(),
+                $double("b").avg(),
+                count(),
+                rowNum());
+    }
+
+    @Test
+    public void select_NullPartitions() {
+        DataFrame df = testDf(new Random(3), true);
+
+        DataFrame parallel = assertSameAsSequential(df, w -> w.partition("p"), $int("a").sum(), $int("a").min());
+
+        // rows with null partition keys produce nulls
+        assertNull(parallel.getColumn(0).get(0));
+        assertNull(parallel.getColumn(1).get(10));
+    }
+
+    private DataFrame assertSameAsSequential(DataFrame df, Function<Window, Window> window, Exp<?>... exps) {
+
+        Environment.setParallelExecThreshold(Integer.MAX_VALUE);
+        DataFrame sequential = window.apply(df.over()).select(exps);
+
+        Environment.setParallelExecThreshold(1000);
+        Environment.setThreadPool(pool);
+        DataFrame parallel = window.apply(df.over()).select(exps);
+
+        assertEquals(sequential.getColumnsIndex(), parallel.getColumnsIndex());
+        assertEquals(sequential.height(), parallel.height());
+
+        int w = sequential.width();
+        int h = sequential.height();
+        for (int i = 0; i < w; i++) {
+            for (int j = 0; j < h; j++) {
+                assertEquals(sequential.getColumn(i).get(j), parallel.getColumn(i).get(j), "col: " + i + ", row: " + j);
+            }
+        }
+
+        return parallel;
+    }
+
+    private static DataFrame testDf(Random rnd, boolean nullPartitions) {
+
+        int h = 5000;
+        Object[] p = new Object[h];
+        int[] a = new int[h];
+        double[] b = new double[h];
+        String[] s = new String[h];
+
+        for (int i = 0; i < h; i++) {
+            p[i] = nullPartitions && i % 10 == 0 ? null : rnd.nextInt(300);
+            a[i] = rnd.nextInt(1000);
+            b[i] = rnd.nextDouble();
+            s[i] = "s" + rnd.nextInt(50);
+        }
+
+        return DataFrame.byColumn("p", "a", "b", "s").of(
+                Series.of(p),
+                Series.ofInt(a),
+                Series.ofDouble(b),
+                Series.of(s));
+    }
+}
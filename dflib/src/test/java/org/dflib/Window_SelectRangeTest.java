@@ -161,4 +161,90 @@ public class Window_SelectRangeTest {
                 .expectRow(5, 27L, "b");
     }
 
+    @Test
+    public void sliding_MultiExp_Nulls() {
+
+        DataFrame df = DataFrame.foldByRow("val").of(1, null, 15, 2, 7);
+
+        DataFrame r = df.over().range(WindowRange.of(1, 1)).select(
+                $int("val").sum(),
+                $int("val").min(),
+                $int("val").max(),
+                $int("val").avg(),
+                count(),
+                $int("val").first(),
+                $int("val").last());
+
+        new DataFrameAsserts(r, "sum(val)", "min(val)", "max(val)", "avg(val)", "count", "first(val)", "last(val)")
+                .expectHeight(5)
+                .expectRow(0, 1L, 1, 1, 1., 2, 1, null)
+                .expectRow(1, 16L, 1, 15, 8., 3, 1, 15)
+                .expectRow(2, 17L, 2, 15, 8.5, 3, null, 2)
+                .expectRow(3, 24L, 2, 15, 8., 3, 15, 7)
+                .expectRow(4, 9L, 2, 7, 4.5, 2, 2, 7);
+    }
+
+    @Test
+    public void sliding_Doubles_NaN() {
+
+        DataFrame df = DataFrame.foldByRow("val").of(1.5, Double.NaN, 2.5, null, 0.5);
+
+        DataFrame r = df.over().range(WindowRange.of(1, 0)).select(
+                $double("val").sum(),
+                $double("val").min(),
+                $double("val").max());
+
+        new DataFrameAsserts(r, "sum(val)", "min(val)", "max(val)")
+                .expectHeight(5)
+                .expectRow(0, 1.5, 1.5, 1.5)
+                .expectRow(1, Double.NaN, 1.5, 1.5)
+                .expectRow(2, Double.NaN, Double.NaN, Double.NaN)
+                .expectRow(3, 2.5, 2.5, 2.5)
+                .expectRow(4, 0.5, 0.5, 0.5);
+    }
+
+    @Test
+    public void sliding_Filtered() {
+
+        // filtered aggregates are calculated per window
+        DataFrame r = SINGLE_COL_TEST_DF.over().range(WindowRange.of(0, 1)).select(
+                $int("val").sum($int("val").gt(10)),
+                count($int("val").gt(10)));
+
+        new DataFrameAsserts(r, "sum(val)", "count")
+                .expectHeight(4)
+                .expectRow(0, 22L, 1)
+                .expectRow(1, 37L, 2)
+                .expectRow(2, 15L, 1)
+                .expectRow(3, 0L, 0);
+    }
+
+    @Test
+    public void sliding_partition_sort() {
+        DataFrame df = DataFrame.foldByRow("label", "order", "val").of(
+                "a", 2, 1,
+                "a", 3, 22,
+                "b", 1, 15,
+                "a", 1, 2,
+                "c", 1, 77,
+                "b", 2, 12,
+                "a", 4, 5);
+
+        DataFrame r = df.over()
+                .partition("label")
+                .sort($col("order").asc())
+                .range(WindowRange.of(1, 0))
+                .select(
+                        $int("val").sum(),
+                        $int("val").max());
+
+        new DataFrameAsserts(r, "sum(val)", "max(val)").expectHeight(7)
+                .expectRow(0, 3L, 2)
+                .expectRow(1, 23L, 22)
+                .expectRow(2, 15L, 15)
+                .expectRow(3, 2L, 2)
+                .expectRow(4, 77L, 77)
+                .expectRow(5, 27L, 15)
+                .expectRow(6, 27L, 22);
+    }
 }
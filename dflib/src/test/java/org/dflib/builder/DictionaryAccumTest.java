@@ -0,0 +1,64 @@
+package org.dflib.builder;
+
+import org.dflib.Series;
+import org.dflib.series.DictionarySeries;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DictionaryAccumTest {
+
+    @Test
+    public void push() {
+        DictionaryAccum<String> accum = new DictionaryAccum<>(1);
+        accum.push("a");
+        accum.push(null);
+        accum.push("b");
+        accum.push("a");
+
+        Series<String> s = accum.toSeries();
+        assertInstanceOf(DictionarySeries.class, s);
+        new SeriesAsserts(s).expectData("a", null, "b", "a");
+    }
+
+    @Test
+    public void push_EqualValuesOfDifferentClasses() {
+        long now = System.currentTimeMillis();
+        java.sql.Date d1 = new java.sql.Date(now);
+        java.util.Date d2 = new java.util.Date(now);
+
+        DictionaryAccum<java.util.Date> accum = new DictionaryAccum<>(1);
+        accum.push(d1);
+        accum.push(null);
+        accum.push(d2);
+        accum.push(d1);
+
+        Series<java.util.Date> s = accum.toSeries();
+        assertFalse(s instanceof DictionarySeries);
+        assertSame(d1, s.get(0));
+        assertSame(null, s.get(1));
+        assertSame(d2, s.get(2));
+        assertSame(d1, s.get(3));
+    }
+
+    @Test
+    public void replace_EqualValuesOfDifferentClasses() {
+        long now = System.currentTimeMillis();
+        java.sql.Date d1 = new java.sql.Date(now);
+        java.util.Date d2 = new java.util.Date(now);
+
+        DictionaryAccum<java.util.Date> accum = new DictionaryAccum<>(1);
+        accum.replace(0, d1);
+        accum.replace(3, d2);
+
+        Series<java.util.Date> s = accum.toSeries();
+        assertFalse(s instanceof DictionarySeries);
+        assertSame(d1, s.get(0));
+        assertSame(null, s.get(1));
+        assertSame(null, s.get(2));
+        assertSame(d2, s.get(3));
+    }
+}
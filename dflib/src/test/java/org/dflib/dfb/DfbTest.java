@@ -0,0 +1,207 @@
+package org.dflib.dfb;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.builder.IntNullableAccum;
+import org.dflib.series.DictionarySeries;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.DoubleOffHeapSeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.series.IntOffHeapSeries;
+import org.dflib.series.LongArraySeries;
+import org.dflib.series.LongOffHeapSeries;
+import org.dflib.series.OffHeapArena;
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DfbTest {
+
+    @TempDir
+    static Path tempDir;
+
+    @Test
+    public void saveLoad_Primitives() {
+
+        DataFrame df = DataFrame.byColumn("i", "l", "d", "b").of(
+                Series.ofInt(1, -2, 3),
+                Series.ofLong(10L, Long.MIN_VALUE, 30L),
+                Series.ofDouble(1.5, -2.5, Double.NaN),
+                Series.ofBool(true, false, true));
+
+        Path file = tempDir.resolve("primitives.dfb");
+        Dfb.save(df, file);
+        DataFrame loaded = Dfb.load(file);
+
+        new DataFrameAsserts(loaded, "i", "l", "d", "b")
+                .expectHeight(3)
+                .expectIntColumns("i")
+                .expectLongColumns("l")
+                .expectDoubleColumns("d")
+                .expectBooleanColumns("b")
+                .expectRow(0, 1, 10L, 1.5, true)
+                .expectRow(1, -2, Long.MIN_VALUE, -2.5, false)
+                .expectRow(2, 3, 30L, Double.NaN, true);
+
+        assertInstanceOf(IntArraySeries.class, loaded.getColumn("i"));
+        assertInstanceOf(LongArraySeries.class, loaded.getColumn("l"));
+        assertInstanceOf(DoubleArraySeries.class, loaded.getColumn("d"));
+    }
+
+    @Test
+    public void saveLoad_Nulls() {
+
+        IntNullableAccum nullableInts = new IntNullableAccum();
+        nullableInts.push(null);
+        nullableInts.push(5);
+        nullableInts.push(6);
+
+        DataFrame df = DataFrame.byColumn("ni", "oi", "od", "ob", "s", "dt", "n").of(
+                nullableInts.toSeries(),
+                Series.of(1, null, 3),
+                Series.of(null, 2.5, null),
+                Series.of(true, null, false),
+                Series.of("a", null, "a"),
+                Series.of(LocalDate.of(2024, 2, 29), null, LocalDate.of(1900, 1, 1)),
+                Series.of(null, null, null));
+
+        Path file = tempDir.resolve("nulls.dfb");
+        Dfb.save(df, file);
+        DataFrame loaded = Dfb.load(file);
+
+        new DataFrameAsserts(loaded, "ni", "oi", "od", "ob", "s", "dt", "n")
+                .expectHeight(3)
+                .expectRow(0, null, 1, null, true, "a", LocalDate.of(2024, 2, 29), null)
+                .expectRow(1, 5, null, 2.5, null, null, null, null)
+                .expectRow(2, 6, 3, null, false, "a", LocalDate.of(1900, 1, 1), null);
+
+        IntNullableSeries ni = assertInstanceOf(IntNullableSeries.class, loaded.getColumn("ni"));
+        assertInstanceOf(IntArraySeries.class, ni.getValues());
+
+        DictionarySeries<?> s = assertInstanceOf(DictionarySeries.class, loaded.getColumn("s"));
+        assertEquals(1, s.getDictionarySize());
+    }
+
+    @Test
+    public void saveLoad_Empty() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(Series.ofInt(), Series.of());
+
+        Path file = tempDir.resolve("empty.dfb");
+        Dfb.save(df, file);
+        new DataFrameAsserts(Dfb.load(file), "a", "b").expectHeight(0);
+    }
+
+    @Test
+    public void saveLoad_Unicode() {
+        DataFrame df = DataFrame.byColumn("название", "b").of(
+                Series.of("добрий день", "😀"),
+                Series.ofInt(1, 2));
+
+        Path file = tempDir.resolve("unicode.dfb");
+        Dfb.save(df, file);
+
+        new DataFrameAsserts(Dfb.load(file), "название", "b")
+                .expectHeight(2)
+                .expectRow(0, "добрий день", 1)
+                .expectRow(1, "😀", 2);
+    }
+
+    @Test
+    public void save_CreateMissingDirs() {
+        DataFrame df = DataFrame.byColumn("a").of(Series.ofInt(1));
+
+        Path file = tempDir.resolve("x/y/z.dfb");
+        assertThrows(RuntimeException.class, () -> Dfb.save(df, file));
+
+        Dfb.saver().createMissingDirs().save(df, file);
+        new DataFrameAsserts(Dfb.load(file), "a").expectHeight(1).expectRow(0, 1);
+    }
+
+    @Test
+    public void save_UnsupportedType() {
+        DataFrame df = DataFrame.byColumn("a").of(Series.of(BigDecimal.ONE));
+        assertThrows(IllegalArgumentException.class, () -> Dfb.save(df, tempDir.resolve("unsupported.dfb")));
+    }
+
+    @Test
+    public void load_NotDfb() throws IOException {
+        Path file = tempDir.resolve("not.dfb");
+        Files.writeString(file, "a,b,c\n1,2,3\n4,5,6\n");
+        assertThrows(RuntimeException.class, () -> Dfb.load(file));
+    }
+
+    @Test
+    public void load_Arena() {
+        DataFrame df = DataFrame.byColumn("a", "l", "d").of(
+                Series.ofInt(1, 2, 3),
+                Series.ofLong(4L, 5L, 6L),
+                Series.ofDouble(7., 8., 9.));
+
+        Path file = tempDir.resolve("arena.dfb");
+        Dfb.save(df, file);
+
+        OffHeapArena arena = OffHeapArena.open();
+        DataFrame loaded = Dfb.loader().arena(arena).load(file);
+        new DataFrameAsserts(loaded, "a", "l", "d").expectHeight(3).expectRow(2, 3, 6L, 9.);
+
+        assertInstanceOf(IntOffHeapSeries.class, loaded.getColumn("a"));
+        assertInstanceOf(LongOffHeapSeries.class, loaded.getColumn("l"));
+        assertInstanceOf(DoubleOffHeapSeries.class, loaded.getColumn("d"));
+
+        arena.close();
+        assertThrows(IllegalStateException.class, () -> loaded.getColumn("a").get(0));
+    }
+
+    @Test
+    public void load_NoArena() throws IOException {
+
+        IntNullableAccum nullableInts = new IntNullableAccum();
+        nullableInts.push(null);
+        nullableInts.push(2);
+
+        DataFrame df = DataFrame.byColumn("i", "ni", "l", "d").of(
+                Series.ofInt(1, 2),
+                nullableInts.toSeries(),
+                Series.ofLong(3L, 4L),
+                Series.ofDouble(5., 6.));
+
+        Path file = tempDir.resolve("no-arena.dfb");
+        Dfb.save(df, file);
+        DataFrame loaded = Dfb.load(file);
+
+        // nothing in the loaded DataFrame should be backed by an arena or a file mapping
+        for (int i = 0; i < loaded.width(); i++) {
+            Series<?> c = loaded.getColumn(i);
+            Series<?> values = c instanceof IntNullableSeries ns ? ns.getValues() : c;
+            assertFalse(values instanceof IntOffHeapSeries, "Off-heap column: " + values.getClass());
+            assertFalse(values instanceof LongOffHeapSeries, "Off-heap column: " + values.getClass());
+            assertFalse(values instanceof DoubleOffHeapSeries, "Off-heap column: " + values.getClass());
+        }
+
+        // the data doesn't depend on the file
+        Files.delete(file);
+        new DataFrameAsserts(loaded, "i", "ni", "l", "d")
+                .expectHeight(2)
+                .expectRow(0, 1, null, 3L, 5.)
+                .expectRow(1, 2, 2, 4L, 6.);
+    }
+
+    @Test
+    public void save_Overwrite() {
+        Path file = tempDir.resolve("overwrite.dfb");
+
+        Dfb.save(DataFrame.byColumn("a", "b").of(Series.of("x", "y", "z"), Series.ofLong(1L, 2L, 3L)), file);
+        Dfb.save(DataFrame.byColumn("c").of(Series.ofInt(7)), file);
+
+        new DataFrameAsserts(Dfb.load(file), "c").expectHeight(1).expectRow(0, 7);
+    }
+}
@@ -0,0 +1,60 @@
+package org.dflib.exp;
+
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CostBasedParallelismPolicyTest {
+
+    @Test
+    public void shouldRunInParallel_SingleExp() {
+        CostBasedParallelismPolicy policy = new CostBasedParallelismPolicy(100, false);
+        assertFalse(policy.shouldRunInParallel(1_000_000, concat($str("a"), "x")));
+    }
+
+    @Test
+    public void shouldRunInParallel_Columns() {
+        CostBasedParallelismPolicy policy = new CostBasedParallelismPolicy(100, false);
+        assertFalse(policy.shouldRunInParallel(1_000_000, $col("a"), $int("b"), $str("c")));
+    }
+
+    @Test
+    public void shouldRunInParallel_ByType() {
+        CostBasedParallelismPolicy policy = new CostBasedParallelismPolicy(5000, false);
+
+        assertFalse(policy.shouldRunInParallel(2000, $int("a").add(1), $int("b").mul(2)));
+        assertTrue(policy.shouldRunInParallel(2500, $int("a").add(1), $int("b").mul(2)));
+
+        assertTrue(policy.shouldRunInParallel(200, concat($str("a"), "x"), concat($str("b"), "y")));
+    }
+
+    @Test
+    public void onEvaluated() {
+        CostBasedParallelismPolicy policy = new CostBasedParallelismPolicy(5000, true);
+
+        assertEquals(1., policy.rowCost($int("a").add(1)));
+
+        // too short to be trusted
+        policy.onEvaluated($int("a").add(1), 10, 1000);
+        assertEquals(1., policy.rowCost($int("a").add(1)));
+
+        policy.onEvaluated($int("a").add(1), 1000, 100_000);
+        assertEquals(100., policy.rowCost($int("a").add(1)));
+
+        policy.onEvaluated($int("a").add(1), 1000, 500_000);
+        assertEquals(200., policy.rowCost($int("a").add(1)));
+
+        assertTrue(policy.shouldRunInParallel(30, $int("a").add(1), $int("b")));
+    }
+
+    @Test
+    public void onEvaluated_NotCalibrating() {
+        CostBasedParallelismPolicy policy = new CostBasedParallelismPolicy(5000, false);
+
+        policy.onEvaluated($int("a").add(1), 1000, 100_000);
+        assertEquals(1., policy.rowCost($int("a").add(1)));
+    }
+}
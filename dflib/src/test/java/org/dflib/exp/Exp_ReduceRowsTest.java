@@ -0,0 +1,80 @@
+package org.dflib.exp;
+
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Exp_ReduceRowsTest {
+
+    static final DataFrame df = DataFrame.byColumn("i", "l", "d", "o", "s").of(
+            Series.ofInt(5, 2, 8, 1, 9, 4),
+            Series.ofLong(5L, -2L, 8L, 1L, 9L, 4L),
+            Series.ofDouble(1.5, 2.5, -0.5, 3., Double.NaN, 4.),
+            Series.of(7, null, 3, 11, null, 6),
+            Series.of("a", "b", null, "d", "e", "f"));
+
+    static Stream<Exp<?>> exps() {
+        return Stream.of(
+                $int("i").sum(),
+                $int("i").min(),
+                $int("i").max(),
+                $int("i").avg(),
+                $long("l").sum(),
+                $long("l").min(),
+                $long("l").max(),
+                $long("l").avg(),
+                $double("d").sum(),
+                $double("d").min(),
+                $double("d").max(),
+                $double("d").avg(),
+                $int("o").sum(),
+                $int("o").min(),
+                $int("o").max(),
+                $int("o").avg(),
+                $int("o").median(),
+                $str("s").first(),
+                $str("s").last(),
+                $col("s"),
+                count(),
+                count($int("i").gt(3)),
+                $int("i").sum($int("i").gt(3)),
+                $int("i").add(1).max(),
+                $int("i").sum().as("x"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("exps")
+    public void reduce_Positions(Exp<?> exp) {
+        assertReducePositions(exp, 0, 2, 4);
+        assertReducePositions(exp, 5, 1, 3);
+        assertReducePositions(exp, 4);
+        assertReducePositions(exp, 1, 1, 2);
+        assertReducePositions(exp);
+    }
+
+    @ParameterizedTest
+    @MethodSource("exps")
+    public void reduce_Range(Exp<?> exp) {
+        assertReduceRange(exp, 0, 6);
+        assertReduceRange(exp, 1, 4);
+        assertReduceRange(exp, 4, 5);
+        assertReduceRange(exp, 3, 3);
+    }
+
+    private static void assertReducePositions(Exp<?> exp, int... positions) {
+        IntSeries ps = Series.ofInt(positions);
+        assertEquals(exp.reduce(df.rows(ps).select()), exp.reduce(df, ps));
+    }
+
+    private static void assertReduceRange(Exp<?> exp, int from, int to) {
+        assertEquals(exp.reduce(df.rowsRange(from, to).select()), exp.reduce(df, from, to));
+    }
+}
@@ -0,0 +1,33 @@
+package org.dflib.exp;
+
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RowWiseExpTest {
+
+    @Test
+    public void isRowWise() {
+        assertTrue(RowWiseExp.isRowWise($col("a")));
+        assertTrue(RowWiseExp.isRowWise($val("a")));
+        assertTrue(RowWiseExp.isRowWise($str("a").lower()));
+        assertTrue(RowWiseExp.isRowWise($str("a").matches("x.*")));
+        assertTrue(RowWiseExp.isRowWise(concat($str("a"), $str("b").trim()).as("c")));
+        assertTrue(RowWiseExp.isRowWise($str("a").mapVal(String::length)));
+        assertTrue(RowWiseExp.isRowWise($str("a").mapVal($str("b"), (a, b) -> a + b)));
+        assertTrue(RowWiseExp.isRowWise($str("a").startsWith("x").and($str("b").endsWith("y")).not()));
+    }
+
+    @Test
+    public void isRowWise_False() {
+        assertFalse(RowWiseExp.isRowWise($int("a").cumSum()));
+        assertFalse(RowWiseExp.isRowWise($int("a").sum()));
+        assertFalse(RowWiseExp.isRowWise($str("a").shift(1)));
+        assertFalse(RowWiseExp.isRowWise(rowNum()));
+        assertFalse(RowWiseExp.isRowWise($str("a").map(s -> s)));
+        assertFalse(RowWiseExp.isRowWise($int("a").cumSum().mapVal(Object::toString)));
+        assertFalse(RowWiseExp.isRowWise(concat($str("a"), $str("b").shift(1))));
+    }
+}
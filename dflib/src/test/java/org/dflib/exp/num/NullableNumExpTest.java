@@ -0,0 +1,159 @@
+package org.dflib.exp.num;
+
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.Series;
+import org.dflib.builder.DoubleNullableAccum;
+import org.dflib.builder.IntNullableAccum;
+import org.dflib.series.DoubleNullableSeries;
+import org.dflib.series.IntNullableSeries;
+import org.dflib.window.WindowRange;
+import org.dflib.unit.BoolSeriesAsserts;
+import org.dflib.unit.DataFrameAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class NullableNumExpTest {
+
+    private static Series<Integer> ints(Integer... values) {
+        IntNullableAccum accum = new IntNullableAccum(values.length);
+        for (Integer v : values) {
+            accum.push(v);
+        }
+
+        return assertInstanceOf(IntNullableSeries.class, accum.toSeries());
+    }
+
+    private static Series<Double> doubles(Double... values) {
+        DoubleNullableAccum accum = new DoubleNullableAccum(values.length);
+        for (Double v : values) {
+            accum.push(v);
+        }
+
+        return assertInstanceOf(DoubleNullableSeries.class, accum.toSeries());
+    }
+
+    @Test
+    public void add() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                ints(1, null, 3, 4),
+                Series.ofInt(10, 20, 30, 40));
+
+        Series<?> s = $int("a").add($int("b")).eval(df);
+        assertInstanceOf(IntNullableSeries.class, s);
+        new SeriesAsserts(s).expectData(11, null, 33, 44);
+    }
+
+    @Test
+    public void div_NullDivisor() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(10, 20, 30),
+                ints(2, null, 5));
+
+        new SeriesAsserts($int("a").div($int("b")).eval(df)).expectData(5, null, 6);
+    }
+
+    @Test
+    public void mul_Doubles() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                doubles(1.5, null, 3.),
+                doubles(2., 4., null));
+
+        new SeriesAsserts($double("a").mul($double("b")).eval(df)).expectData(3., null, null);
+    }
+
+    @Test
+    public void gt() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                ints(1, null, 5),
+                Series.ofInt(0, 0, 6));
+
+        new BoolSeriesAsserts($int("a").gt($int("b")).eval(df)).expectData(true, false, false);
+    }
+
+    @Test
+    public void aggregates() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                ints(4, null, 1, 7),
+                doubles(null, 2.5, 0.5, null));
+
+        new DataFrameAsserts(df.cols().agg(
+                $int("a").sum(),
+                $int("a").min(),
+                $int("a").max(),
+                $double("b").avg()), "sum(a)", "min(a)", "max(a)", "avg(b)")
+                .expectHeight(1)
+                .expectRow(0, 12L, 1, 7, 1.5);
+    }
+
+    @Test
+    public void groupAggregates() {
+        DataFrame df = DataFrame.byColumn("k", "a", "b").of(
+                Series.of("x", "y", "x", "y", "x"),
+                ints(1, 2, null, 4, 5),
+                doubles(1., null, 3., null, null));
+
+        // must produce the same results as the boxed Series with the same data
+        DataFrame boxed = DataFrame.byColumn("k", "a", "b").of(
+                Series.of("x", "y", "x", "y", "x"),
+                Series.of(1, 2, null, 4, 5),
+                Series.of(1., null, 3., null, null));
+
+        Exp<?>[] aggs = {
+                $col("k"),
+                $int("a").sum(),
+                $int("a").max(),
+                $double("b").min(),
+                $double("b").avg()
+        };
+
+        DataFrame expected = boxed.group("k").agg(aggs);
+        DataFrameAsserts asserts = new DataFrameAsserts(df.group("k").agg(aggs), "k", "sum(a)", "max(a)", "min(b)", "avg(b)")
+                .expectHeight(2);
+
+        for (int i = 0; i < expected.height(); i++) {
+            Object[] row = new Object[expected.width()];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = expected.getColumn(j).get(i);
+            }
+
+            asserts.expectRow(i, row);
+        }
+    }
+
+    @Test
+    public void windowAggregates() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                ints(4, null, 1, null, 7),
+                doubles(null, 2.5, 0.5, null, 3.));
+
+        // must produce the same results as the boxed Series with the same data
+        DataFrame boxed = DataFrame.byColumn("a", "b").of(
+                Series.of(4, null, 1, null, 7),
+                Series.of(null, 2.5, 0.5, null, 3.));
+
+        Exp<?>[] aggs = {
+                $int("a").sum(),
+                $int("a").min(),
+                $int("a").max(),
+                $double("b").sum(),
+                $double("b").avg()
+        };
+
+        DataFrame expected = boxed.over().range(WindowRange.of(1, 1)).select(aggs);
+        DataFrame actual = df.over().range(WindowRange.of(1, 1)).select(aggs);
+
+        DataFrameAsserts asserts = new DataFrameAsserts(actual, expected.getColumnsIndex()).expectHeight(5);
+        for (int i = 0; i < expected.height(); i++) {
+            Object[] row = new Object[expected.width()];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = expected.getColumn(j).get(i);
+            }
+
+            asserts.expectRow(i, row);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.dflib.groupby;
+
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.Hasher;
+import org.dflib.MemoryBudget;
+import org.dflib.Series;
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExternalGroupByTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void agg() throws IOException {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                "x", 1,
+                "y", 2,
+                "x", 3,
+                "z", 4,
+                "y", 5,
+                null, 6);
+
+        DataFrame agg = agg(df, 2, MemoryBudget.of(8).tempDir(tempDir), Hasher.of("a"),
+                $col("a").first(), $int("b").sum(), count());
+
+        new DataFrameAsserts(agg, "first(a)", "sum(b)", "count")
+                .expectHeight(3)
+                .expectRow(0, "x", 4L, 2)
+                .expectRow(1, "y", 7L, 2)
+                .expectRow(2, "z", 4L, 1);
+
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void agg_Parsed() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                1, 1L,
+                2, 2L,
+                1, 3L);
+
+        DataFrame agg;
+        try (ExternalGroupBy gb = new ExternalGroupBy(MemoryBudget.of(1).tempDir(tempDir), Hasher.of("a"))) {
+            gb.add(df.rowsRange(0, 2).select());
+            gb.add(df.rowsRange(2, 3).select());
+            agg = gb.agg("first(int(a)) as a, max(long(b)) as max_b");
+        }
+
+        new DataFrameAsserts(agg, "a", "max_b")
+                .expectHeight(2)
+                .expectRow(0, 1, 3L)
+                .expectRow(1, 2, 2L);
+    }
+
+    @Test
+    public void agg_InMemory() throws IOException {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                1, 1L,
+                2, 2L,
+                1, 3L);
+
+        DataFrame agg = agg(df, 1, MemoryBudget.of(1_000_000).tempDir(tempDir), Hasher.of("a"),
+                $int("a").first(), $long("b").sum());
+
+        new DataFrameAsserts(agg, "first(a)", "sum(b)")
+                .expectHeight(2)
+                .expectRow(0, 1, 4L)
+                .expectRow(1, 2, 2L);
+
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void agg_SameAsInMemory() throws IOException {
+
+        Random rnd = new Random(7);
+        int h = 10_000;
+
+        DataFrame df = DataFrame.byColumn("k1", "k2", "v").of(
+                Series.ofInt(rnd.ints(h, 0, 30).toArray()).map(i -> "k" + i),
+                Series.ofInt(rnd.ints(h, 0, 5).toArray()),
+                Series.ofDouble(rnd.doubles(h).toArray()));
+
+        Exp<?>[] aggs = {$col("k1").first(), $int("k2").first(), $double("v").sum(), $double("v").max(), count()};
+
+        DataFrame expected = df.group("k1", "k2").agg(aggs);
+        DataFrame agg = agg(df, 1000, MemoryBudget.of(50_000).tempDir(tempDir), Hasher.of("k1").and("k2"), aggs);
+
+        assertSameData(expected, agg);
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void agg_SplitLargePartitions() throws IOException {
+
+        Random rnd = new Random(3);
+        int h = 10_000;
+
+        // a budget that is smaller than the data of a single partition
+        DataFrame df = DataFrame.byColumn("k", "v").of(
+                Series.ofLong(rnd.longs(h, 0, 1000).toArray()),
+                Series.ofInt(rnd.ints(h, 0, 100).toArray()));
+
+        Exp<?>[] aggs = {$long("k").first(), $int("v").sum(), $int("v").min()};
+
+        DataFrame expected = df.group("k").agg(aggs);
+        DataFrame agg = agg(df, 5000, MemoryBudget.of(4_000).tempDir(tempDir), Hasher.of("k"), aggs);
+
+        assertSameData(expected, agg);
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void agg_LambdaHasher() throws IOException {
+
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                1, 1,
+                2, 2,
+                3, 3,
+                4, 4,
+                5, 5);
+
+        DataFrame agg = agg(df, 2, MemoryBudget.of(1).tempDir(tempDir), r -> (Integer) r.get("a") % 2,
+                $int("a").first(), $int("b").sum());
+
+        new DataFrameAsserts(agg, "first(a)", "sum(b)")
+                .expectHeight(2)
+                .expectRow(0, 1, 9L)
+                .expectRow(1, 2, 6L);
+
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void add_UnsupportedType() {
+        try (ExternalGroupBy gb = new ExternalGroupBy(MemoryBudget.of(1).tempDir(tempDir), Hasher.of("a"))) {
+            DataFrame df = DataFrame.foldByRow("a", "b").of(
+                    1, LocalDateTime.of(2024, 1, 1, 0, 0),
+                    2, LocalDateTime.of(2024, 1, 2, 0, 0));
+
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> gb.add(df));
+            assertTrue(e.getMessage().contains("can't be spilled"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void close_DeletesSpillFiles() throws IOException {
+        try (ExternalGroupBy gb = new ExternalGroupBy(MemoryBudget.of(1).tempDir(tempDir), Hasher.of("a"))) {
+            gb.add(DataFrame.foldByRow("a").of(1, 2, 3));
+
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertTrue(files.findAny().isPresent());
+            }
+        }
+
+        assertNoSpillFiles();
+    }
+
+    private static DataFrame agg(DataFrame df, int chunkSize, MemoryBudget budget, Hasher hasher, Exp<?>... aggs) {
+        try (ExternalGroupBy gb = new ExternalGroupBy(budget, hasher)) {
+            int h = df.height();
+            for (int i = 0; i < h; i += chunkSize) {
+                gb.add(df.rowsRange(i, Math.min(h, i + chunkSize)).select());
+            }
+
+            return gb.agg(aggs);
+        }
+    }
+
+    private static void assertSameData(DataFrame expected, DataFrame actual) {
+        assertEquals(expected.getColumnsIndex(), actual.getColumnsIndex());
+        assertEquals(expected.height(), actual.height());
+        for (String c : expected.getColumnsIndex()) {
+            Series<?> ec = expected.getColumn(c);
+            Series<?> ac = actual.getColumn(c);
+            for (int i = 0; i < expected.height(); i++) {
+                assertEquals(ec.get(i), ac.get(i), "Column " + c + ", row " + i);
+            }
+        }
+    }
+
+    private void assertNoSpillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(), files.toList());
+        }
+    }
+}
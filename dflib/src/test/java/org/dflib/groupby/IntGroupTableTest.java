@@ -0,0 +1,60 @@
+package org.dflib.groupby;
+
+import org.dflib.Series;
+import org.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IntGroupTableTest {
+
+    @Test
+    public void of() {
+        IntGroupTable t = IntGroupTable.of(Series.ofInt(5, -1, 5, 0, -1, 5));
+
+        assertEquals(3, t.groupCount());
+        assertEquals(6, t.size());
+
+        assertEquals(5, t.groupKey(0));
+        assertEquals(-1, t.groupKey(1));
+        assertEquals(0, t.groupKey(2));
+
+        assertEquals(0, t.rowGroup(0));
+        assertEquals(1, t.rowGroup(1));
+        assertEquals(0, t.rowGroup(2));
+        assertEquals(2, t.rowGroup(3));
+
+        new IntSeriesAsserts(t.groupIndex(0)).expectData(0, 2, 5);
+        new IntSeriesAsserts(t.groupIndex(1)).expectData(1, 4);
+        new IntSeriesAsserts(t.groupIndex(2)).expectData(3);
+    }
+
+    @Test
+    public void groupOf() {
+        IntGroupTable t = IntGroupTable.of(Series.ofInt(5, -1, 5, 0));
+
+        assertEquals(0, t.groupOf(5));
+        assertEquals(1, t.groupOf(-1));
+        assertEquals(2, t.groupOf(0));
+        assertEquals(-1, t.groupOf(7));
+    }
+
+    @Test
+    public void of_Rehash() {
+
+        int[] values = new int[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i % 3_000) * 31;
+        }
+
+        IntGroupTable t = IntGroupTable.of(Series.ofInt(values));
+        assertEquals(3_000, t.groupCount());
+
+        for (int g = 0; g < 3_000; g++) {
+            assertEquals(g * 31, t.groupKey(g));
+            assertEquals(g, t.groupOf(g * 31));
+            assertEquals(g < 1_000 ? 4 : 3, t.groupSize(g));
+            assertEquals(g + 3_000, t.groupRow(g, 1));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.dflib.groupby;
+
+import org.dflib.Series;
+import org.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LongGroupTableTest {
+
+    @Test
+    public void of() {
+        LongGroupTable t = LongGroupTable.of(Series.ofLong(5_000_000_000L, 5L, 5_000_000_000L, 0L));
+
+        assertEquals(3, t.groupCount());
+        assertEquals(5_000_000_000L, t.groupKey(0));
+        assertEquals(5L, t.groupKey(1));
+        assertEquals(0L, t.groupKey(2));
+
+        new IntSeriesAsserts(t.groupIndex(0)).expectData(0, 2);
+        new IntSeriesAsserts(t.groupIndex(1)).expectData(1);
+        new IntSeriesAsserts(t.groupIndex(2)).expectData(3);
+
+        assertEquals(0, t.groupOf(5_000_000_000L));
+        assertEquals(-1, t.groupOf(705_032_704L));
+    }
+}
@@ -0,0 +1,44 @@
+package org.dflib.groupby;
+
+import org.dflib.Series;
+import org.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MultiColumnGroupTableTest {
+
+    @Test
+    public void of() {
+        MultiColumnGroupTable t = MultiColumnGroupTable.of(
+                Series.ofInt(1, 2, 1, 1, 2),
+                Series.of("x", null, "x", null, null));
+
+        assertEquals(3, t.groupCount());
+        assertEquals(0, t.rowGroup(0));
+        assertEquals(1, t.rowGroup(1));
+        assertEquals(0, t.rowGroup(2));
+        assertEquals(2, t.rowGroup(3));
+        assertEquals(1, t.rowGroup(4));
+
+        new IntSeriesAsserts(t.groupIndex(0)).expectData(0, 2);
+        new IntSeriesAsserts(t.groupIndex(1)).expectData(1, 4);
+        new IntSeriesAsserts(t.groupIndex(2)).expectData(3);
+    }
+
+    @Test
+    public void groupsOf() {
+        MultiColumnGroupTable t = MultiColumnGroupTable.of(
+                Series.ofInt(1, 2, 1),
+                Series.of("x", null, "y"),
+                Series.ofLong(1L, 2L, 3L));
+
+        int[] groups = t.groupsOf(
+                Series.of(2, 1, 1, 1, 5),
+                Series.of(null, "y", "x", "x", "x"),
+                Series.of(2L, 3L, 1L, 2L, 1L));
+
+        assertArrayEquals(new int[]{1, 2, 0, -1, -1}, groups);
+    }
+}
@@ -0,0 +1,35 @@
+package org.dflib.map;
+
+import org.dflib.DataFrame;
+import org.dflib.Hasher;
+import org.dflib.row.RowProxy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class MultiColumnHasherTest {
+
+    @Test
+    public void and() {
+        Hasher h = Hasher.of("a").and(1).and(Hasher.of("c"));
+        assertInstanceOf(MultiColumnHasher.class, h);
+        assertEquals(3, ((MultiColumnHasher) h).width());
+    }
+
+    @Test
+    public void mapAndKey() {
+        DataFrame df = DataFrame.foldByRow("a", "b", "c").of(
+                1, "x", null,
+                2, "y", 5L);
+
+        MultiColumnHasher h = (MultiColumnHasher) Hasher.of("a").and("b").and("c");
+        Hasher lambda = Hasher.of("a").and(r -> r.get("b")).and(r -> r.get("c"));
+
+        int i = 0;
+        for (RowProxy r : df) {
+            assertEquals(lambda.map(r), h.map(r));
+            assertEquals(lambda.map(r), h.key(h.columns(df), i++));
+        }
+    }
+}
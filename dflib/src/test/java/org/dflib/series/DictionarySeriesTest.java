@@ -0,0 +1,215 @@
+package org.dflib.series;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.SeriesGroupBy;
+import org.dflib.unit.BoolSeriesAsserts;
+import org.dflib.unit.DataFrameAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DictionarySeriesTest {
+
+    @Test
+    public void of_EqualValuesOfDifferentClasses() {
+        long now = System.currentTimeMillis();
+        Series<java.util.Date> s = Series.of(new java.sql.Date(now), new java.util.Date(now));
+        assertThrows(IllegalArgumentException.class, () -> DictionarySeries.of(s));
+    }
+
+    @Test
+    public void encode_EqualValuesOfDifferentClasses() {
+        long now = System.currentTimeMillis();
+        java.sql.Date d1 = new java.sql.Date(now);
+        java.util.Date d2 = new java.util.Date(now);
+        java.sql.Date d3 = new java.sql.Date(now + 1);
+
+        Series<java.util.Date> s = DictionarySeries.encode(Series.of(d1, d3, d1, d2, null));
+        assertFalse(s instanceof DictionarySeries);
+        assertSame(d1, s.get(0));
+        assertSame(d3, s.get(1));
+        assertSame(d1, s.get(2));
+        assertSame(d2, s.get(3));
+        assertNull(s.get(4));
+    }
+
+    @Test
+    public void union_EqualValuesOfDifferentClasses() {
+        long now = System.currentTimeMillis();
+        java.sql.Date d1 = new java.sql.Date(now);
+        java.util.Date d2 = new java.util.Date(now);
+
+        DictionarySeries<java.util.Date> s1 = DictionarySeries.of(Series.of(d1, null));
+        DictionarySeries<java.util.Date> s2 = DictionarySeries.of(Series.of(d2));
+        assertFalse(DictionarySeries.canUnion(s1, s2));
+
+        Series<java.util.Date> u = Series.union(s1, s2);
+        assertFalse(u instanceof DictionarySeries);
+        assertSame(d1, u.get(0));
+        assertNull(u.get(1));
+        assertSame(d2, u.get(2));
+    }
+
+    @Test
+    public void fillNulls_EqualValueOfDifferentClass() {
+        long now = System.currentTimeMillis();
+        java.sql.Date d1 = new java.sql.Date(now);
+        java.util.Date d2 = new java.util.Date(now);
+
+        Series<java.util.Date> s = DictionarySeries.of(Series.<java.util.Date>of(d1, null)).fillNulls(d2);
+        assertSame(d1, s.get(0));
+        assertSame(d2, s.get(1));
+    }
+
+    @Test
+    public void of() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("a", "b", null, "a", "c", "b"));
+
+        new SeriesAsserts(s).expectData("a", "b", null, "a", "c", "b");
+        assertEquals(3, s.getDictionarySize());
+        assertEquals(0, s.getCode(0));
+        assertEquals(-1, s.getCode(2));
+        assertEquals(0, s.getCode(3));
+        assertEquals(2, s.codeOf("c"));
+        assertEquals(-1, s.codeOf("x"));
+    }
+
+    @Test
+    public void compactDictionary() {
+        Series<String> s = Series.of("a", "b", "a").compactDictionary();
+        assertInstanceOf(DictionarySeries.class, s);
+        assertSame(s, s.compactDictionary());
+
+        // primitive Series are already compact
+        Series<Integer> is = Series.ofInt(1, 2, 1);
+        assertSame(is, is.compactDictionary());
+    }
+
+    @Test
+    public void select_SharesDictionary() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("a", "b", "c", "a"));
+
+        Series<String> selected = s.select(3, 1, -1);
+        new SeriesAsserts(selected).expectData("a", "b", null);
+
+        DictionarySeries<String> ds = assertInstanceOf(DictionarySeries.class, selected);
+        assertTrue(ds.sharesDictionary(s));
+    }
+
+    @Test
+    public void selectRange() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("a", "b", "c", "a"));
+
+        Series<String> range = s.selectRange(1, 4);
+        new SeriesAsserts(range).expectData("b", "c", "a");
+        assertEquals(1, ((DictionarySeries<String>) range).getCode(0));
+    }
+
+    @Test
+    public void select_Predicate() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("a", "bb", null, "a", "cc"));
+        new SeriesAsserts(s.select(v -> v != null && v.length() > 1)).expectData("bb", "cc");
+    }
+
+    @Test
+    public void eq() {
+        DictionarySeries<String> s1 = DictionarySeries.of(Series.of("a", "b", null, "c"));
+        Series<String> s2 = s1.select(0, 0, 2, 3);
+
+        new BoolSeriesAsserts(s1.eq(s2)).expectData(true, false, true, true);
+        new BoolSeriesAsserts(s1.ne(s2)).expectData(false, true, false, false);
+        new BoolSeriesAsserts(s1.eq(Series.of("a", "x", null, "c"))).expectData(true, false, true, true);
+    }
+
+    @Test
+    public void in() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("a", "b", null, "c"));
+        new BoolSeriesAsserts(s.in("a", "c")).expectData(true, false, false, true);
+        new BoolSeriesAsserts(s.notIn("a", "c")).expectData(false, true, true, false);
+    }
+
+    @Test
+    public void fillNulls() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("a", null, "b", null));
+
+        new SeriesAsserts(s.fillNulls("x")).expectData("a", "x", "b", "x");
+        new SeriesAsserts(s.fillNullsForward()).expectData("a", "a", "b", "b");
+        new SeriesAsserts(s.fillNullsBackwards()).expectData("a", "b", "b", null);
+    }
+
+    @Test
+    public void unique() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("b", "a", null, "b", "a"));
+        new SeriesAsserts(s.unique()).expectData("b", "a", null);
+        assertEquals(List.of("b", "a"), List.copyOf(s.select(0, 1, 3).toSet()));
+    }
+
+    @Test
+    public void valueCounts() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("a", "b", "a", null, "c", "a", "b"));
+
+        new DataFrameAsserts(s.valueCounts(), "value", "count")
+                .expectHeight(3)
+                .expectRow(0, "a", 3)
+                .expectRow(1, "b", 2)
+                .expectRow(2, "c", 1);
+    }
+
+    @Test
+    public void group() {
+        DictionarySeries<String> s = DictionarySeries.of(Series.of("a", "b", "a", null, "c", "a", "b"));
+
+        SeriesGroupBy<String> g = s.group();
+        assertEquals(List.of("a", "b", "c"), List.copyOf(g.getGroups()));
+        new SeriesAsserts(g.getGroupIndex("a")).expectData(0, 2, 5);
+        new SeriesAsserts(g.getGroupIndex("c")).expectData(4);
+        assertFalse(g.hasGroup(null));
+    }
+
+    @Test
+    public void union() {
+        DictionarySeries<String> s1 = DictionarySeries.of(Series.of("a", "b", null));
+        DictionarySeries<String> s2 = DictionarySeries.of(Series.of("c", "a"));
+
+        DictionarySeries<String> u = DictionarySeries.union(s1, s2);
+        new SeriesAsserts(u).expectData("a", "b", null, "c", "a");
+        assertEquals(3, u.getDictionarySize());
+
+        DictionarySeries<String> uShared = DictionarySeries.union(s1, (DictionarySeries<String>) s1.select(1, 0));
+        new SeriesAsserts(uShared).expectData("a", "b", null, "b", "a");
+        assertTrue(uShared.sharesDictionary(s1));
+
+        Series<String> su = Series.union(s1, s2);
+        assertInstanceOf(DictionarySeries.class, su);
+        new SeriesAsserts(su).expectData("a", "b", null, "c", "a");
+    }
+
+    @Test
+    public void join() {
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                DictionarySeries.of(Series.of("x", "y", "z", null)),
+                Series.ofInt(1, 2, 3, 4));
+
+        DataFrame df2 = DataFrame.byColumn("a", "c").of(
+                DictionarySeries.of(Series.of("y", "x", "y", null)),
+                Series.ofInt(10, 20, 30, 40));
+
+        DataFrame df = df1.innerJoin(df2).on("a").select();
+
+        new DataFrameAsserts(df, "a", "b", "a_", "c")
+                .expectHeight(3)
+                .expectRow(0, "x", 1, "x", 20)
+                .expectRow(1, "y", 2, "y", 10)
+                .expectRow(2, "y", 2, "y", 30);
+    }
+}
@@ -4,8 +4,16 @@ import org.dflib.Series;
 import org.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class IndexedSeriesTest {
 
@@ -66,4 +74,44 @@ public class IndexedSeriesTest {
         new SeriesAsserts(s3).expectData("A", "a", "B", "A");
         assertEquals(3, s3.map(System::identityHashCode).unique().size());
     }
+
+    @Test
+    public void materialize_Concurrent() throws Exception {
+
+        int len = 100_000;
+        int[] positions = new int[len];
+        for (int i = 0; i < len; i++) {
+            positions[i] = len - i - 1;
+        }
+
+        IndexedSeries<Integer> s = new IndexedSeries<>(Series.ofInt(positions).map(i -> i), Series.ofInt(positions));
+
+        int threads = 4;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Series<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return s.materialize();
+                }));
+            }
+
+            start.countDown();
+
+            // all callers must see the same published Series
+            Series<Integer> first = results.get(0).get();
+            for (Future<Series<Integer>> r : results) {
+                assertSame(first, r.get());
+            }
+
+            assertSame(first, s.materialize());
+            assertEquals(len, first.size());
+            assertEquals(0, first.get(0));
+            assertEquals(len - 1, first.get(len - 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package org.dflib.series;
+
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.builder.IntNullableAccum;
+import org.dflib.unit.BoolSeriesAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IntNullableSeriesTest {
+
+    private static Series<Integer> of(Integer... values) {
+        IntNullableAccum accum = new IntNullableAccum(values.length);
+        for (Integer v : values) {
+            accum.push(v);
+        }
+
+        return accum.toSeries();
+    }
+
+    @Test
+    public void accum() {
+        Series<Integer> withNulls = of(1, null, 3);
+        assertInstanceOf(IntNullableSeries.class, withNulls);
+        new SeriesAsserts(withNulls).expectData(1, null, 3);
+
+        Series<Integer> noNulls = of(1, 2, 3);
+        assertInstanceOf(IntSeries.class, noNulls);
+        new SeriesAsserts(noNulls).expectData(1, 2, 3);
+    }
+
+    @Test
+    public void new_SizeMismatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntNullableSeries(Series.ofInt(1, 2), Series.ofBool(true)));
+    }
+
+    @Test
+    public void isNull() {
+        Series<Integer> s = of(null, 2, null);
+        new BoolSeriesAsserts(s.isNull()).expectData(true, false, true);
+        new BoolSeriesAsserts(s.isNotNull()).expectData(false, true, false);
+    }
+
+    @Test
+    public void fillNulls() {
+        Series<Integer> s = of(1, null, 3, null);
+
+        Series<Integer> filled = s.fillNulls(-1);
+        assertInstanceOf(IntSeries.class, filled);
+        new SeriesAsserts(filled).expectData(1, -1, 3, -1);
+
+        assertSame(s, s.fillNulls(null));
+        new SeriesAsserts(s.fillNullsFromSeries(Series.of(10, 20, 30, null))).expectData(1, 20, 3, null);
+    }
+
+    @Test
+    public void fillNullsForward() {
+        new SeriesAsserts(of(null, 2, null, 4, null).fillNullsForward()).expectData(null, 2, 2, 4, 4);
+        assertInstanceOf(IntSeries.class, of(1, null, 3).fillNullsForward());
+    }
+
+    @Test
+    public void fillNullsBackwards() {
+        new SeriesAsserts(of(null, 2, null, 4, null).fillNullsBackwards()).expectData(2, 2, 4, 4, null);
+        assertInstanceOf(IntSeries.class, of(1, null, 3).fillNullsBackwards());
+    }
+
+    @Test
+    public void select() {
+        Series<Integer> s = of(1, null, 3, 4);
+
+        Series<Integer> selected = s.select(3, 1, -1, 0);
+        assertInstanceOf(IntNullableSeries.class, selected);
+        new SeriesAsserts(selected).expectData(4, null, null, 1);
+
+        new SeriesAsserts(s.selectRange(1, 3)).expectData(null, 3);
+        new SeriesAsserts(s.select(Series.ofBool(false, true, true, false))).expectData(null, 3);
+    }
+
+    @Test
+    public void select_OutOfBounds() {
+        Series<Integer> selected = of(1, null).select(0, 5);
+        assertThrows(ArrayIndexOutOfBoundsException.class, selected::materialize);
+    }
+}
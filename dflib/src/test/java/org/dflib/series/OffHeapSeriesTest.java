@@ -0,0 +1,141 @@
+package org.dflib.series;
+
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.builder.IntNullableAccum;
+import org.dflib.unit.DataFrameAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapSeriesTest {
+
+    @Test
+    public void copyInt() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            IntSeries s = arena.copyInt(Series.ofInt(3, -1, 7, 0));
+
+            assertInstanceOf(IntOffHeapSeries.class, s);
+            assertEquals(16, arena.getAllocatedBytes());
+            new SeriesAsserts(s).expectData(3, -1, 7, 0);
+
+            assertEquals(7, s.max());
+            assertEquals(-1, s.min());
+            assertEquals(9L, s.sum());
+            assertEquals(2.25, s.avg(), 0.0001);
+            new SeriesAsserts(s.cumSum()).expectData(3L, 2L, 9L, 9L);
+            assertSame(s, s.materialize());
+            assertSame(s, arena.copyInt(s));
+        }
+    }
+
+    @Test
+    public void copyLong() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            LongSeries s = arena.copyLong(Series.ofLong(5L, Long.MAX_VALUE, -2L));
+
+            assertInstanceOf(LongOffHeapSeries.class, s);
+            new SeriesAsserts(s).expectData(5L, Long.MAX_VALUE, -2L);
+            assertEquals(Long.MAX_VALUE, s.max());
+            assertEquals(-2L, s.min());
+        }
+    }
+
+    @Test
+    public void copyDouble() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            DoubleSeries s = arena.copyDouble(Series.ofDouble(1.5, 2.5, -4.));
+
+            assertInstanceOf(DoubleOffHeapSeries.class, s);
+            new SeriesAsserts(s).expectData(1.5, 2.5, -4.);
+            assertEquals(0., s.sum(), 0.0001);
+            assertEquals(1.5, s.quantile(0.5), 0.0001);
+        }
+    }
+
+    @Test
+    public void copy_Empty() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            IntSeries s = arena.copyInt(Series.ofInt());
+
+            assertEquals(0, s.size());
+            assertEquals(0, s.max());
+            assertEquals(0L, s.sum());
+        }
+    }
+
+    @Test
+    public void range() {
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            IntSeries s = arena.copyInt(Series.ofInt(1, 2, 3, 4, 5));
+
+            IntSeries range = s.rangeInt(1, 4);
+            assertInstanceOf(IntOffHeapSeries.class, range);
+            new SeriesAsserts(range).expectData(2, 3, 4);
+            assertEquals(9L, range.sum());
+
+            int[] copy = new int[2];
+            range.copyToInt(copy, 1, 0, 2);
+            assertArrayEquals(new int[]{3, 4}, copy);
+
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> range.getInt(3));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> range.getInt(-1));
+        }
+    }
+
+    @Test
+    public void close() {
+        OffHeapArena arena = OffHeapArena.open();
+        IntSeries s = arena.copyInt(Series.ofInt(1, 2));
+        assertTrue(arena.isOpen());
+
+        arena.close();
+        assertFalse(arena.isOpen());
+        assertEquals(0, arena.getAllocatedBytes());
+
+        assertThrows(IllegalStateException.class, () -> s.getInt(0));
+        assertThrows(IllegalStateException.class, s::sum);
+        assertThrows(IllegalStateException.class, () -> arena.copyInt(Series.ofInt(1)));
+
+        // closing twice is allowed
+        arena.close();
+    }
+
+    @Test
+    public void materializeOffHeap() {
+
+        IntNullableAccum nullable = new IntNullableAccum();
+        nullable.push(8);
+        nullable.push(null);
+
+        DataFrame df = DataFrame.byColumn("a", "b", "c", "d").of(
+                Series.ofInt(1, 2),
+                Series.ofDouble(1.5, 2.5),
+                Series.of("x", "y"),
+                nullable.toSeries());
+
+        try (OffHeapArena arena = OffHeapArena.open()) {
+            DataFrame offHeap = df.materializeOffHeap(arena);
+
+            assertInstanceOf(IntOffHeapSeries.class, offHeap.getColumn("a"));
+            assertInstanceOf(DoubleOffHeapSeries.class, offHeap.getColumn("b"));
+            IntNullableSeries d = assertInstanceOf(IntNullableSeries.class, offHeap.getColumn("d"));
+            assertInstanceOf(IntOffHeapSeries.class, d.getValues());
+
+            new DataFrameAsserts(offHeap, "a", "b", "c", "d")
+                    .expectHeight(2)
+                    .expectRow(0, 1, 1.5, "x", 8)
+                    .expectRow(1, 2, 2.5, "y", null);
+
+            new DataFrameAsserts(offHeap.cols("e").merge($int("a").add($int("a"))), "a", "b", "c", "d", "e")
+                    .expectHeight(2)
+                    .expectRow(0, 1, 1.5, "x", 8, 2)
+                    .expectRow(1, 2, 2.5, "y", null, 4);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.dflib.sort;
+
+import org.dflib.DataFrame;
+import org.dflib.MemoryBudget;
+import org.dflib.Series;
+import org.dflib.Sorter;
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.dflib.Exp.$int;
+import static org.dflib.Exp.$long;
+import static org.dflib.Exp.$str;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExternalSorterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void sort() throws IOException {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                3, "x",
+                1, "y",
+                null, "z",
+                2, null,
+                1, "w");
+
+        // each chunk becomes a separate run
+        List<DataFrame> sorted = sort(df, 1, 2, MemoryBudget.of(16).tempDir(tempDir), $int("a").asc(), $str("b").desc());
+
+        assertEquals(3, sorted.size());
+        new DataFrameAsserts(DataFrame.union(sorted), "a", "b")
+                .expectHeight(5)
+                .expectRow(0, 1, "y")
+                .expectRow(1, 1, "w")
+                .expectRow(2, 2, null)
+                .expectRow(3, 3, "x")
+                .expectRow(4, null, "z");
+
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void sort_InMemory() throws IOException {
+        DataFrame df = DataFrame.foldByRow("a").of(3, 1, 2);
+
+        List<DataFrame> sorted = sort(df, 2, 10, MemoryBudget.of(1_000_000).tempDir(tempDir), $int("a").asc());
+        new DataFrameAsserts(DataFrame.union(sorted), "a")
+                .expectHeight(3)
+                .expectRow(0, 1)
+                .expectRow(1, 2)
+                .expectRow(2, 3);
+
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void sort_Empty() {
+        List<DataFrame> sorted = new ArrayList<>();
+        try (ExternalSorter sorter = new ExternalSorter(MemoryBudget.of(16).tempDir(tempDir), $int("a").asc())) {
+            sorter.sort(10, sorted::add);
+        }
+
+        assertEquals(0, sorted.size());
+    }
+
+    @ParameterizedTest
+    // budgets that produce a few runs merged at once, and many runs merged in multiple passes
+    @ValueSource(longs = {200_000, 50_000})
+    public void sort_SameAsInMemory(long budget) throws IOException {
+
+        Random rnd = new Random(5);
+        int h = 10_000;
+
+        DataFrame df = DataFrame.byColumn("id", "i", "l", "d", "s").of(
+                Series.ofInt(rnd.ints(h, 0, 100).toArray()).map(i -> i < 10 ? null : i),
+                Series.ofInt(rnd.ints(h, 0, 100).toArray()),
+                Series.ofLong(rnd.longs(h, 0, 5).toArray()),
+                Series.ofDouble(rnd.doubles(h).toArray()),
+                Series.ofInt(rnd.ints(h, 0, 50).toArray()).map(i -> "s" + i));
+
+        // "id" is not a part of the sort keys, and allows to check that the rows with equal keys keep their order
+        Sorter[] sorters = {$int("i").desc(), $long("l").asc(), $str("s").asc()};
+
+        DataFrame expected = df.sort(sorters);
+        DataFrame sorted = DataFrame.union(sort(df, 500, 700, MemoryBudget.of(budget).tempDir(tempDir), sorters));
+
+        assertEquals(h, sorted.height());
+        for (String c : df.getColumnsIndex()) {
+            Series<?> ec = expected.getColumn(c);
+            Series<?> ac = sorted.getColumn(c);
+            for (int i = 0; i < h; i++) {
+                assertEquals(ec.get(i), ac.get(i), "Column " + c + ", row " + i);
+            }
+        }
+
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void sort_NoSorters() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSorter(MemoryBudget.of(1)));
+    }
+
+    @Test
+    public void sort_NotExpSorter() {
+        Sorter sorter = new Sorter() {
+            @Override
+            public IntComparator eval(DataFrame df) {
+                return (i1, i2) -> 0;
+            }
+
+            @Override
+            public IntComparator eval(Series<?> s) {
+                return (i1, i2) -> 0;
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> new ExternalSorter(MemoryBudget.of(1), sorter));
+    }
+
+    @Test
+    public void add_ColumnsMismatch() {
+        try (ExternalSorter sorter = new ExternalSorter(MemoryBudget.of(1_000_000).tempDir(tempDir), $int("a").asc())) {
+            sorter.add(DataFrame.foldByRow("a", "b").of(1, 2));
+            assertThrows(IllegalArgumentException.class, () -> sorter.add(DataFrame.foldByRow("a", "c").of(1, 2)));
+        }
+    }
+
+    @Test
+    public void add_AfterSort() {
+        try (ExternalSorter sorter = new ExternalSorter(MemoryBudget.of(1_000_000).tempDir(tempDir), $int("a").asc())) {
+            sorter.add(DataFrame.foldByRow("a").of(1, 2));
+            sorter.sort(10, df -> {});
+            assertThrows(IllegalStateException.class, () -> sorter.add(DataFrame.foldByRow("a").of(3)));
+        }
+    }
+
+    @Test
+    public void close_DeletesSpillFiles() throws IOException {
+        try (ExternalSorter sorter = new ExternalSorter(MemoryBudget.of(16).tempDir(tempDir), $int("a").asc())) {
+            sorter.add(DataFrame.foldByRow("a").of(3, 1, 2));
+            sorter.add(DataFrame.foldByRow("a").of(6, 5, 4));
+
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertTrue(files.findAny().isPresent());
+            }
+        }
+
+        assertNoSpillFiles();
+    }
+
+    @Test
+    public void add_UnsupportedType() {
+        try (ExternalSorter sorter = new ExternalSorter(MemoryBudget.of(1).tempDir(tempDir), $int("a").asc())) {
+            DataFrame df = DataFrame.foldByRow("a", "b").of(
+                    2, LocalDateTime.of(2024, 1, 1, 0, 0),
+                    1, LocalDateTime.of(2024, 1, 2, 0, 0));
+
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> sorter.add(df));
+            assertTrue(e.getMessage().contains("can't be spilled"), e.getMessage());
+        }
+    }
+
+    private static List<DataFrame> sort(DataFrame df, int inChunkSize, int outChunkSize, MemoryBudget budget, Sorter... sorters) {
+
+        List<DataFrame> sorted = new ArrayList<>();
+
+        try (ExternalSorter sorter = new ExternalSorter(budget, sorters)) {
+            int h = df.height();
+            for (int i = 0; i < h; i += inChunkSize) {
+                sorter.add(df.rowsRange(i, Math.min(h, i + inChunkSize)).select());
+            }
+
+            sorter.sort(outChunkSize, c -> {
+                assertTrue(c.height() <= outChunkSize);
+                sorted.add(c);
+            });
+        }
+
+        return sorted;
+    }
+
+    private void assertNoSpillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(), files.toList());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.dflib.sort;
+
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class IndexSorterTest {
+
+    private static final int LEN = 20_000;
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void radixSort_Ints(boolean ascending) {
+        Random rnd = new Random(1);
+        int[] data = new int[LEN];
+        for (int i = 0; i < LEN; i++) {
+            // mix of a narrow range with duplicates, and the extreme values
+            data[i] = i % 100 == 0 ? (rnd.nextBoolean() ? Integer.MIN_VALUE : Integer.MAX_VALUE) : rnd.nextInt(2000) - 1000;
+        }
+
+        assertSameAsTimSort(IntComparator.of(Series.ofInt(data), ascending));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void radixSort_Longs(boolean ascending) {
+        Random rnd = new Random(2);
+        long[] data = new long[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = i % 3 == 0 ? rnd.nextLong() : 1_700_000_000_000L + rnd.nextInt(100_000);
+        }
+
+        assertSameAsTimSort(IntComparator.of(Series.ofLong(data), ascending));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void radixSort_Doubles(boolean ascending) {
+        Random rnd = new Random(3);
+        double[] special = {Double.NaN, -0., 0., Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.MIN_VALUE};
+
+        double[] data = new double[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = i % 50 == 0 ? special[rnd.nextInt(special.length)] : (rnd.nextInt(1000) - 500) / 8.;
+        }
+
+        assertSameAsTimSort(IntComparator.of(Series.ofDouble(data), ascending));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void radixSort_Floats(boolean ascending) {
+        Random rnd = new Random(4);
+        float[] special = {Float.NaN, -0f, 0f, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY};
+
+        float[] data = new float[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = i % 50 == 0 ? special[rnd.nextInt(special.length)] : (rnd.nextInt(1000) - 500) / 8f;
+        }
+
+        assertSameAsTimSort(IntComparator.of(Series.ofFloat(data), ascending));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void radixSort_MultiKey(boolean ascending) {
+        Random rnd = new Random(5);
+        int[] ints = new int[LEN];
+        double[] doubles = new double[LEN];
+        for (int i = 0; i < LEN; i++) {
+            ints[i] = rnd.nextInt(20);
+            doubles[i] = rnd.nextInt(20) / 2.;
+        }
+
+        IntComparator c = IntComparator.of(Series.ofInt(ints), ascending)
+                .thenComparing(IntComparator.of(Series.ofDouble(doubles), !ascending));
+
+        assertSameAsTimSort(c);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 7})
+    public void parallelSort(int chunks) {
+        Random rnd = new Random(6);
+        String[] data = new String[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = i % 10 == 0 ? null : "s" + rnd.nextInt(500);
+        }
+
+        IntComparator c = IntComparator.of(Series.of(data), true);
+
+        int[] expected = IntComparators.sequence(LEN);
+        IntTimSort.sort(expected, c);
+
+        int[] sorted = IntComparators.sequence(LEN);
+        IndexSorter.parallelSort(sorted, c, chunks);
+
+        assertArrayEquals(expected, sorted);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 100, 2000, 4999, 5000})
+    public void top(int k) {
+        Random rnd = new Random(7);
+        String[] data = new String[LEN];
+        for (int i = 0; i < LEN; i++) {
+            data[i] = i % 10 == 0 ? null : "s" + rnd.nextInt(500);
+        }
+
+        IntComparator c = IntComparator.of(Series.of(data), false);
+        IntSeries index = Series.ofInt(IntComparators.sequence(LEN)).selectInt(i -> i % 3 != 1);
+
+        int[] sorted = index.toIntArray();
+        IntTimSort.sort(sorted, c);
+        int[] expected = Arrays.copyOf(sorted, k);
+
+        assertArrayEquals(expected, IndexSorter.top(index, k, c).toIntArray());
+    }
+
+    private static void assertSameAsTimSort(IntComparator c) {
+
+        // wrapping the comparator in a lambda hides the radix keys from the sorter
+        int[] expected = IntComparators.sequence(LEN);
+        IntTimSort.sort(expected, (i1, i2) -> c.compare(i1, i2));
+
+        int[] sorted = IntComparators.sequence(LEN);
+        IndexSorter.sort(sorted, c);
+
+        assertArrayEquals(expected, sorted);
+    }
+}
@@ -4,6 +4,7 @@ import org.dflib.DataFrame;
 import org.dflib.unit.DataFrameAsserts;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -43,6 +44,27 @@ public class WindowRangeTest {
         assertFalse(WindowRange.allFollowing.alwaysInRange(10_000));
     }
 
+    @Test
+    public void fromInclusive() {
+        WindowRange range = WindowRange.of(2, 1);
+        assertEquals(0, range.fromInclusive(0));
+        assertEquals(0, range.fromInclusive(2));
+        assertEquals(1, range.fromInclusive(3));
+        assertEquals(0, WindowRange.all.fromInclusive(10_000));
+        assertEquals(10_000, WindowRange.allFollowing.fromInclusive(10_000));
+    }
+
+    @Test
+    public void toExclusive() {
+        WindowRange range = WindowRange.of(2, 1);
+        assertEquals(2, range.toExclusive(0, 5));
+        assertEquals(4, range.toExclusive(2, 5));
+        assertEquals(5, range.toExclusive(4, 5));
+        assertEquals(5, WindowRange.all.toExclusive(0, 5));
+        assertEquals(5, WindowRange.allFollowing.toExclusive(3, 5));
+        assertEquals(4, WindowRange.allPreceding.toExclusive(3, 5));
+    }
+
     @Test
     public void selectRows() {
 